@@ -4,6 +4,7 @@ DELETE FROM CONFIGURATION;
 DELETE FROM TASK_HISTORY_EVENT;
 DELETE FROM WORKBASKET_HISTORY_EVENT;
 DELETE FROM CLASSIFICATION_HISTORY_EVENT;
+DELETE FROM HISTORY_EVENT_OUTBOX;
 DELETE FROM ATTACHMENT;
 DELETE FROM TASK;
 DELETE FROM WORKBASKET_ACCESS_LIST;
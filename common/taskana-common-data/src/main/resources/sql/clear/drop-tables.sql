@@ -3,6 +3,7 @@ DROP TABLE TASK_COMMENT;
 DROP TABLE TASK_HISTORY_EVENT;
 DROP TABLE WORKBASKET_HISTORY_EVENT;
 DROP TABLE CLASSIFICATION_HISTORY_EVENT;
+DROP TABLE HISTORY_EVENT_OUTBOX;
 DROP TABLE CONFIGURATION;
 DROP TABLE ATTACHMENT;
 DROP TABLE TASK;
@@ -2,14 +2,15 @@ package pro.taskana.common.internal.security;
 
 import static java.util.function.Predicate.not;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.security.Principal;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import javax.security.auth.Subject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,17 +25,26 @@ public class CurrentUserContextImpl implements CurrentUserContext {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(CurrentUserContextImpl.class);
   private final boolean shouldUseLowerCaseForAccessIds;
+  // Each thread only remembers the last Subject it has resolved, since a request is processed by
+  // a single thread. Subjects are compared by identity and by the number of their principals,
+  // which is cheap and doesn't require a lock shared by all threads.
+  private final ThreadLocal<ResolvedSubject<SecurityContextSnapshot>> lastSnapshot =
+      new ThreadLocal<>();
+  private final ThreadLocal<ResolvedSubject<String>> lastWsSubjectUserId = new ThreadLocal<>();
   private boolean runningOnWebSphere;
+  private Method getCallerSubjectMethod;
 
   public CurrentUserContextImpl(boolean shouldUseLowerCaseForAccessIds) {
     this.shouldUseLowerCaseForAccessIds = shouldUseLowerCaseForAccessIds;
     try {
-      Class.forName(WSSUBJECT_CLASSNAME);
+      getCallerSubjectMethod =
+          Class.forName(WSSUBJECT_CLASSNAME)
+              .getMethod(GET_CALLER_SUBJECT_METHOD, (Class<?>[]) null);
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("WSSubject detected. Assuming that Taskana runs on IBM WebSphere.");
       }
       runningOnWebSphere = true;
-    } catch (ClassNotFoundException e) {
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("No WSSubject detected. Using JAAS subject further on.");
       }
@@ -44,33 +54,52 @@ public class CurrentUserContextImpl implements CurrentUserContext {
 
   @Override
   public String getUserid() {
-    return runningOnWebSphere ? getUserIdFromWsSubject() : getUserIdFromJaasSubject();
+    return runningOnWebSphere ? getUserIdFromWsSubject() : getSnapshot().getUserId();
   }
 
   @Override
-  @SuppressWarnings("removal")
   public List<String> getGroupIds() {
+    return getSnapshot().getGroupIds();
+  }
+
+  @Override
+  public List<String> getAccessIds() {
+    if (runningOnWebSphere) {
+      List<String> accessIds = new ArrayList<>(getGroupIds());
+      accessIds.add(getUserIdFromWsSubject());
+      return accessIds;
+    }
+    return getSnapshot().getAccessIds();
+  }
+
+  /**
+   * Returns the resolved user information of the JAAS subject of the caller. The information is
+   * only resolved again if the subject of the current thread has changed.
+   *
+   * @return the resolved user information. An empty snapshot if there is no JAAS subject.
+   */
+  @SuppressWarnings("removal")
+  private SecurityContextSnapshot getSnapshot() {
     // TODO replace with Subject.current() when migrating to newer Version than 17
     Subject subject = Subject.getSubject(AccessController.getContext());
     LOGGER.trace("Subject of caller: {}", subject);
-    if (subject != null) {
-      Set<GroupPrincipal> groups = subject.getPrincipals(GroupPrincipal.class);
-      LOGGER.trace("Public groups of caller: {}", groups);
-      return groups.stream()
-          .map(Principal::getName)
-          .filter(Objects::nonNull)
-          .map(this::convertAccessId)
-          .toList();
+    if (subject == null) {
+      LOGGER.trace("No userId and groupIds found in subject!");
+      return SecurityContextSnapshot.EMPTY;
     }
-    LOGGER.trace("No groupIds found in subject!");
-    return Collections.emptyList();
+    return resolve(lastSnapshot, subject, this::createSnapshot);
   }
 
-  @Override
-  public List<String> getAccessIds() {
-    List<String> accessIds = new ArrayList<>(getGroupIds());
-    accessIds.add(getUserid());
-    return accessIds;
+  private SecurityContextSnapshot createSnapshot(Subject subject) {
+    Set<GroupPrincipal> groups = subject.getPrincipals(GroupPrincipal.class);
+    LOGGER.trace("Public groups of caller: {}", groups);
+    List<String> groupIds =
+        groups.stream()
+            .map(Principal::getName)
+            .filter(Objects::nonNull)
+            .map(this::convertAccessId)
+            .toList();
+    return new SecurityContextSnapshot(getUserIdFromJaasSubject(subject), groupIds);
   }
 
   /**
@@ -81,44 +110,13 @@ public class CurrentUserContextImpl implements CurrentUserContext {
    */
   private String getUserIdFromWsSubject() {
     try {
-      Class<?> wsSubjectClass = Class.forName(WSSUBJECT_CLASSNAME);
-      Method getCallerSubjectMethod =
-          wsSubjectClass.getMethod(GET_CALLER_SUBJECT_METHOD, (Class<?>[]) null);
       Subject callerSubject = (Subject) getCallerSubjectMethod.invoke(null, (Object[]) null);
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Subject of caller: {}", callerSubject);
       }
       if (callerSubject != null) {
-        Set<Object> publicCredentials = callerSubject.getPublicCredentials();
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug("Public credentials of caller: {}", publicCredentials);
-        }
-        return publicCredentials.stream()
-            .map(
-                // we could use CheckedFunction#wrap here, but this either requires a dependency
-                // to taskana-common or an inclusion of the class CheckedFunction in this module.
-                // The first is not possible due to a cyclic dependency.
-                // The second is not desired, since this module is a very slim security module and
-                // the inclusion of CheckedFunction and its transitive dependencies would increase
-                // the module scope and introduce inconsistency.
-                credential -> {
-                  try {
-                    return credential
-                        .getClass()
-                        .getMethod(GET_UNIQUE_SECURITY_NAME_METHOD, (Class<?>[]) null)
-                        .invoke(credential, (Object[]) null);
-                  } catch (Exception e) {
-                    throw new SecurityException("Could not retrieve principal", e);
-                  }
-                })
-            .peek(
-                o ->
-                    LOGGER.debug(
-                        "Returning the unique security name of first public credential: {}", o))
-            .map(Object::toString)
-            .map(this::convertAccessId)
-            .findFirst()
-            .orElse(null);
+        return resolve(
+            lastWsSubjectUserId, callerSubject, this::getUniqueSecurityNameOfFirstPublicCredential);
       }
     } catch (Exception e) {
       LOGGER.warn("Could not get user from WSSubject. Going ahead unauthorized.");
@@ -126,24 +124,61 @@ public class CurrentUserContextImpl implements CurrentUserContext {
     return null;
   }
 
-  @SuppressWarnings("removal")
-  private String getUserIdFromJaasSubject() {
-    // TODO replace with Subject.current() when migrating to newer Version than 17
-    Subject subject = Subject.getSubject(AccessController.getContext());
-    LOGGER.trace("Subject of caller: {}", subject);
-    if (subject != null) {
-      Set<Principal> principals = subject.getPrincipals();
-      LOGGER.trace("Public principals of caller: {}", principals);
-      return principals.stream()
-          .filter(not(GroupPrincipal.class::isInstance))
-          .map(Principal::getName)
-          .filter(Objects::nonNull)
-          .map(this::convertAccessId)
-          .findFirst()
-          .orElse(null);
+  private String getUniqueSecurityNameOfFirstPublicCredential(Subject callerSubject) {
+    Set<Object> publicCredentials = callerSubject.getPublicCredentials();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Public credentials of caller: {}", publicCredentials);
     }
-    LOGGER.trace("No userId found in subject!");
-    return null;
+    return publicCredentials.stream()
+        .map(
+            // we could use CheckedFunction#wrap here, but this either requires a dependency
+            // to taskana-common or an inclusion of the class CheckedFunction in this module.
+            // The first is not possible due to a cyclic dependency.
+            // The second is not desired, since this module is a very slim security module and
+            // the inclusion of CheckedFunction and its transitive dependencies would increase
+            // the module scope and introduce inconsistency.
+            credential -> {
+              try {
+                return credential
+                    .getClass()
+                    .getMethod(GET_UNIQUE_SECURITY_NAME_METHOD, (Class<?>[]) null)
+                    .invoke(credential, (Object[]) null);
+              } catch (Exception e) {
+                throw new SecurityException("Could not retrieve principal", e);
+              }
+            })
+        .peek(
+            o ->
+                LOGGER.debug(
+                    "Returning the unique security name of first public credential: {}", o))
+        .map(Object::toString)
+        .map(this::convertAccessId)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private String getUserIdFromJaasSubject(Subject subject) {
+    Set<Principal> principals = subject.getPrincipals();
+    LOGGER.trace("Public principals of caller: {}", principals);
+    return principals.stream()
+        .filter(not(GroupPrincipal.class::isInstance))
+        .map(Principal::getName)
+        .filter(Objects::nonNull)
+        .map(this::convertAccessId)
+        .findFirst()
+        .orElse(null);
+  }
+
+  private static <T> T resolve(
+      ThreadLocal<ResolvedSubject<T>> lastResolvedSubject,
+      Subject subject,
+      Function<Subject, T> resolver) {
+    ResolvedSubject<T> resolvedSubject = lastResolvedSubject.get();
+    if (resolvedSubject == null || !resolvedSubject.isResolutionOf(subject)) {
+      resolvedSubject = new ResolvedSubject<>(subject, resolver.apply(subject));
+      lastResolvedSubject.set(resolvedSubject);
+    }
+    return resolvedSubject.value;
   }
 
   private String convertAccessId(String accessId) {
@@ -154,4 +189,26 @@ public class CurrentUserContextImpl implements CurrentUserContext {
     LOGGER.trace("Found AccessId '{}'. Returning AccessId '{}' ", accessId, toReturn);
     return toReturn;
   }
+
+  /**
+   * The value which has been resolved for a Subject. The Subject is only weakly referenced, so
+   * that it doesn't outlive its request.
+   */
+  private static class ResolvedSubject<T> {
+
+    private final WeakReference<Subject> subject;
+    private final int numberOfPrincipals;
+    private final T value;
+
+    private ResolvedSubject(Subject subject, T value) {
+      this.subject = new WeakReference<>(subject);
+      this.numberOfPrincipals = subject.getPrincipals().size();
+      this.value = value;
+    }
+
+    private boolean isResolutionOf(Subject subject) {
+      return this.subject.get() == subject
+          && numberOfPrincipals == subject.getPrincipals().size();
+    }
+  }
 }
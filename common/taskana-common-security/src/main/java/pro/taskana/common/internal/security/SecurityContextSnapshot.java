@@ -0,0 +1,40 @@
+package pro.taskana.common.internal.security;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The immutable user information which has been resolved once from a JAAS {@linkplain
+ * javax.security.auth.Subject Subject}.
+ */
+final class SecurityContextSnapshot {
+
+  static final SecurityContextSnapshot EMPTY =
+      new SecurityContextSnapshot(null, Collections.emptyList());
+
+  private final String userId;
+  private final List<String> groupIds;
+  private final List<String> accessIds;
+
+  SecurityContextSnapshot(String userId, List<String> groupIds) {
+    this.userId = userId;
+    this.groupIds = List.copyOf(groupIds);
+    List<String> accessIds = new ArrayList<>(groupIds);
+    // the userId may be null. Therefore, List.copyOf can't be used
+    accessIds.add(userId);
+    this.accessIds = Collections.unmodifiableList(accessIds);
+  }
+
+  String getUserId() {
+    return userId;
+  }
+
+  List<String> getGroupIds() {
+    return groupIds;
+  }
+
+  List<String> getAccessIds() {
+    return accessIds;
+  }
+}
@@ -0,0 +1,59 @@
+package pro.taskana.common.internal.persistence;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.scripting.xmltags.XMLLanguageDriver;
+import org.apache.ibatis.session.Configuration;
+
+/**
+ * This LanguageDriver parses each script only once. MyBatis calls the SqlProvider of a mapper
+ * method and parses the returned script on every execution of the method. Since all SqlProviders
+ * return the same script on every call, the parsed {@linkplain SqlSource} can be reused.
+ */
+public class CachingXmlLanguageDriver extends XMLLanguageDriver {
+
+  private final Map<Class<?>, Map<String, SqlSource>> sqlSourcesByParameterType =
+      new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @Override
+  public SqlSource createSqlSource(
+      Configuration configuration, String script, Class<?> parameterType) {
+    if (parameterType == null) {
+      return super.createSqlSource(configuration, script, parameterType);
+    }
+    Map<String, SqlSource> sqlSources =
+        sqlSourcesByParameterType.computeIfAbsent(
+            parameterType, type -> new ConcurrentHashMap<>());
+    SqlSource sqlSource = sqlSources.get(script);
+    if (sqlSource != null) {
+      hits.increment();
+      return sqlSource;
+    }
+    misses.increment();
+    return sqlSources.computeIfAbsent(
+        script, s -> super.createSqlSource(configuration, s, parameterType));
+  }
+
+  public long getCacheHits() {
+    return hits.sum();
+  }
+
+  public long getCacheMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the ratio of the scripts which didn't have to be parsed again.
+   *
+   * @return the ratio between 0 and 1. 0 if no script has been requested yet.
+   */
+  public double getCacheHitRatio() {
+    long currentHits = hits.sum();
+    long requests = currentHits + misses.sum();
+    return requests == 0 ? 0 : (double) currentHits / requests;
+  }
+}
@@ -0,0 +1,192 @@
+package pro.taskana.common.internal.util;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.security.auth.Subject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Calls all registered service providers of an SPI concurrently.
+ *
+ * <p>Every call has to be answered within the configured timeout. Otherwise, the result of the
+ * provider is ignored. Each provider is protected by a bulkhead which limits the number of its
+ * concurrent calls and by a circuit breaker which skips the provider for the configured duration
+ * after the configured number of consecutive failures. The calls are executed with the JAAS
+ * {@linkplain Subject} of the caller, but outside of its transaction. Hence, only service providers
+ * which don't use the TaskanaEngine must be called this way.
+ *
+ * @param <P> the type of the service providers
+ */
+public class ConcurrentSpiInvoker<P> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentSpiInvoker.class);
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  private final List<ProviderState<P>> providers;
+  private final Duration timeout;
+  private final ExecutorService executor;
+
+  public ConcurrentSpiInvoker(
+      List<P> providers,
+      Duration timeout,
+      int maxConcurrentCalls,
+      int failureThreshold,
+      Duration openDuration) {
+    this.providers =
+        providers.stream()
+            .map(
+                provider ->
+                    new ProviderState<>(
+                        provider, maxConcurrentCalls, failureThreshold, openDuration))
+            .toList();
+    this.timeout = timeout;
+    executor =
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "taskana-spi-worker-" + THREAD_COUNT.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Calls all service providers concurrently and waits at most for the configured timeout.
+   * Providers which fail, don't answer in time, have no free capacity or whose circuit is open
+   * don't contribute a result.
+   *
+   * @param call the call of a single service provider
+   * @param <R> the type of the results
+   * @return the results of all providers which have answered in time. Null results are included.
+   */
+  @SuppressWarnings("removal")
+  public <R> List<R> invokeAll(Function<P, R> call) {
+    // TODO replace with Subject.current() when migrating to newer Version than 17
+    Subject subject = Subject.getSubject(AccessController.getContext());
+    List<Pair<ProviderState<P>, CompletableFuture<R>>> pendingCalls = new ArrayList<>();
+    for (ProviderState<P> providerState : providers) {
+      CompletableFuture<R> pendingCall = providerState.submit(call, subject, executor);
+      if (pendingCall != null) {
+        pendingCalls.add(Pair.of(providerState, pendingCall));
+      }
+    }
+
+    long deadline = System.nanoTime() + timeout.toNanos();
+    List<R> results = new ArrayList<>();
+    for (Pair<ProviderState<P>, CompletableFuture<R>> pendingCall : pendingCalls) {
+      ProviderState<P> providerState = pendingCall.getLeft();
+      try {
+        results.add(
+            pendingCall
+                .getRight()
+                .get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+        providerState.recordSuccess();
+      } catch (TimeoutException e) {
+        pendingCall.getRight().cancel(true);
+        providerState.recordFailure();
+        LOGGER.error(
+            "Service provider {} did not answer within {}. Its result is ignored.",
+            providerState.getName(),
+            timeout);
+      } catch (ExecutionException e) {
+        providerState.recordFailure();
+        LOGGER.error(
+            "Service provider {} failed. Its result is ignored.",
+            providerState.getName(),
+            e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new SystemException("Interrupted while waiting for the service providers.", e);
+      }
+    }
+    return results;
+  }
+
+  /** Stops the threads calling the service providers once their current calls have finished. */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  private static class ProviderState<P> {
+
+    private final P provider;
+    private final Semaphore bulkhead;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile Instant openUntil = Instant.MIN;
+
+    private ProviderState(
+        P provider, int maxConcurrentCalls, int failureThreshold, Duration openDuration) {
+      this.provider = provider;
+      this.bulkhead = new Semaphore(maxConcurrentCalls);
+      this.failureThreshold = failureThreshold;
+      this.openDuration = openDuration;
+    }
+
+    private String getName() {
+      return provider.getClass().getName();
+    }
+
+    @SuppressWarnings("removal")
+    private <R> CompletableFuture<R> submit(
+        Function<P, R> call, Subject subject, ExecutorService executor) {
+      if (openUntil.isAfter(Instant.now())) {
+        LOGGER.debug("Skip service provider {} because its circuit is open.", getName());
+        return null;
+      }
+      if (!bulkhead.tryAcquire()) {
+        LOGGER.warn("Skip service provider {} because it has no free capacity.", getName());
+        return null;
+      }
+      try {
+        return CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return subject == null
+                    ? call.apply(provider)
+                    : Subject.doAs(subject, (PrivilegedAction<R>) () -> call.apply(provider));
+              } finally {
+                // the permit is held until the provider has really finished
+                bulkhead.release();
+              }
+            },
+            executor);
+      } catch (RejectedExecutionException e) {
+        bulkhead.release();
+        throw new SystemException("Could not call service provider " + getName(), e);
+      }
+    }
+
+    private void recordSuccess() {
+      consecutiveFailures.set(0);
+    }
+
+    private void recordFailure() {
+      if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+        openUntil = Instant.now().plus(openDuration);
+        LOGGER.error(
+            "Service provider {} failed {} times in a row. It is skipped for {}.",
+            getName(),
+            consecutiveFailures.get(),
+            openDuration);
+      }
+    }
+  }
+}
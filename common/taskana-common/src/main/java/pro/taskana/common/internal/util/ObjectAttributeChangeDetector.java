@@ -1,9 +1,12 @@
 package pro.taskana.common.internal.util;
 
 import static java.util.function.Predicate.not;
-import static pro.taskana.common.internal.util.CheckedFunction.wrap;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -12,6 +15,18 @@ import pro.taskana.common.api.exceptions.SystemException;
 
 public class ObjectAttributeChangeDetector {
 
+  // the accessors are resolved once per class, since reflective lookups are expensive
+  private static final ClassValue<List<FieldAccessor>> FIELD_ACCESSORS =
+      new ClassValue<>() {
+        @Override
+        protected List<FieldAccessor> computeValue(Class<?> type) {
+          return ReflectionUtil.retrieveAllFields(type).stream()
+              .filter(not(field -> "customAttributes".equals(field.getName())))
+              .map(FieldAccessor::new)
+              .toList();
+        }
+      };
+
   private ObjectAttributeChangeDetector() {
     throw new IllegalStateException("Utility class");
   }
@@ -48,14 +63,14 @@ public class ObjectAttributeChangeDetector {
               oldObject.getClass().getName(), newObject.getClass().getName()));
     }
 
-    List<JSONObject> changedAttributes =
-        ReflectionUtil.retrieveAllFields(objectClass).stream()
-            .peek(field -> field.setAccessible(true))
-            .filter(not(field -> "customAttributes".equals(field.getName())))
-            .map(wrap(field -> Triplet.of(field, field.get(oldObject), field.get(newObject))))
-            .filter(not(t -> Objects.equals(t.getMiddle(), t.getRight())))
-            .map(t -> generateChangedAttribute(t.getLeft(), t.getMiddle(), t.getRight()))
-            .toList();
+    List<JSONObject> changedAttributes = new ArrayList<>();
+    for (FieldAccessor accessor : FIELD_ACCESSORS.get(objectClass)) {
+      Object oldValue = accessor.get(oldObject);
+      Object newValue = accessor.get(newObject);
+      if (!Objects.equals(oldValue, newValue)) {
+        changedAttributes.add(generateChangedAttribute(accessor.name, oldValue, newValue));
+      }
+    }
 
     JSONObject changes = new JSONObject();
     changes.put("changes", changedAttributes);
@@ -63,9 +78,9 @@ public class ObjectAttributeChangeDetector {
   }
 
   private static JSONObject generateChangedAttribute(
-      Field field, Object oldValue, Object newValue) {
+      String fieldName, Object oldValue, Object newValue) {
     JSONObject changedAttribute = new JSONObject();
-    changedAttribute.put("fieldName", field.getName());
+    changedAttribute.put("fieldName", fieldName);
     changedAttribute.put(
         "oldValue", Optional.ofNullable(oldValue).map(JSONObject::wrap).orElse(""));
     changedAttribute.put(
@@ -87,4 +102,33 @@ public class ObjectAttributeChangeDetector {
 
     return changes.toString();
   }
+
+  private static class FieldAccessor {
+
+    private final String name;
+    private final MethodHandle getter;
+
+    private FieldAccessor(Field field) {
+      name = field.getName();
+      try {
+        field.setAccessible(true);
+        getter =
+            MethodHandles.lookup()
+                .unreflectGetter(field)
+                .asType(MethodType.methodType(Object.class, Object.class));
+      } catch (IllegalAccessException e) {
+        throw new SystemException(
+            String.format("Could not access field '%s' of %s", name, field.getDeclaringClass()),
+            e);
+      }
+    }
+
+    private Object get(Object object) {
+      try {
+        return (Object) getter.invokeExact(object);
+      } catch (Throwable e) {
+        throw new SystemException(String.format("Could not read field '%s'", name), e);
+      }
+    }
+  }
 }
@@ -1,5 +1,9 @@
 package pro.taskana.common.internal.util;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.stream.IntStream;
 
 public class SqlProviderUtil {
@@ -8,9 +12,55 @@ public class SqlProviderUtil {
   public static final String OPENING_WHERE_TAG = "<where>";
   public static final String CLOSING_WHERE_TAG = "</where>";
   public static final String DB2_WITH_UR = "<if test=\"_databaseId == 'db2'\">with UR </if>";
+  // IN-lists are never padded beyond this size, since Oracle allows at most 1000 values
+  static final int MAX_IN_LIST_BUCKET_SIZE = 512;
 
   private SqlProviderUtil() {}
 
+  /**
+   * Creates the values of an IN-list for the given collection. The values are padded with
+   * {@linkplain #bucketed(Object)}. Thus, queries whose IN-lists differ only slightly in size
+   * produce the same SQL and share their prepared statement.
+   *
+   * @param collection the name of the array or collection parameter
+   * @return the foreach element which creates the values of the IN-list
+   */
+  public static String bucketedInList(String collection) {
+    return "<foreach item='item' collection='@"
+        + SqlProviderUtil.class.getName()
+        + "@bucketed("
+        + collection
+        + ")' separator=',' >#{item}</foreach>";
+  }
+
+  /**
+   * Pads the given values to the next power of two by repeating the last value. Repeating a value
+   * of an IN-list doesn't change the result of the query. Lists with more than {@value
+   * #MAX_IN_LIST_BUCKET_SIZE} values are not padded.
+   *
+   * @param values an array or a collection
+   * @return the padded values
+   */
+  public static List<Object> bucketed(Object values) {
+    List<Object> bucketedValues = new ArrayList<>();
+    if (values instanceof Collection<?> collection) {
+      bucketedValues.addAll(collection);
+    } else {
+      for (int i = 0; i < Array.getLength(values); i++) {
+        bucketedValues.add(Array.get(values, i));
+      }
+    }
+    int size = bucketedValues.size();
+    if (size > 1 && size <= MAX_IN_LIST_BUCKET_SIZE) {
+      int bucketSize = Integer.highestOneBit(size - 1) << 1;
+      Object lastValue = bucketedValues.get(size - 1);
+      while (bucketedValues.size() < bucketSize) {
+        bucketedValues.add(lastValue);
+      }
+    }
+    return bucketedValues;
+  }
+
   public static StringBuilder whereIn(String collection, String column, StringBuilder sb) {
     sb.append("<if test='")
         .append(collection)
@@ -18,9 +68,9 @@ public class SqlProviderUtil {
         .append("<choose>")
         .append("<when test='" + collection + ".length > 0'>")
         .append(column)
-        .append(" IN(<foreach item='item' collection='")
-        .append(collection)
-        .append("' separator=',' >#{item}</foreach>)")
+        .append(" IN(")
+        .append(bucketedInList(collection))
+        .append(")")
         .append("</when>")
         .append("<otherwise>0=1</otherwise>")
         .append("</choose>");
@@ -41,9 +91,9 @@ public class SqlProviderUtil {
         .append("<choose>")
         .append("<when test='" + collection + ".length > 0'>")
         .append(column)
-        .append(" NOT IN(<foreach item='item' collection='")
-        .append(collection)
-        .append("' separator=',' >#{item}</foreach>)")
+        .append(" NOT IN(")
+        .append(bucketedInList(collection))
+        .append(")")
         .append("</when>")
         .append("<otherwise>1=1</otherwise>")
         .append("</choose>");
@@ -4,10 +4,14 @@ import static java.time.temporal.ChronoUnit.DAYS;
 
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.LongStream;
 import java.util.stream.LongStream.Builder;
 import pro.taskana.common.api.CustomHoliday;
@@ -35,10 +39,16 @@ public class HolidaySchedule {
               CustomHoliday.of(26, 12) // Christmas Day
               ));
 
+  private static final int MAX_CACHED_YEARS = 200;
+
   private final boolean germanHolidaysEnabled;
   private final boolean corpusChristiEnabled;
   private final Set<CustomHoliday> customHolidays;
   private final EasterCalculator easterCalculator;
+  // the holidays of each year are determined once and shared by all threads of the engine
+  private final Map<Integer, HolidaysOfYear> holidaysByYear = new ConcurrentHashMap<>();
+  private final LongAdder cacheHits = new LongAdder();
+  private final LongAdder cacheMisses = new LongAdder();
 
   public HolidaySchedule(boolean germanHolidaysEnabled, boolean corpusChristiEnabled) {
     this(germanHolidaysEnabled, corpusChristiEnabled, Collections.emptySet());
@@ -63,14 +73,53 @@ public class HolidaySchedule {
   }
 
   public boolean isHoliday(LocalDate date) {
-    if (germanHolidaysEnabled && isGermanHoliday(date)) {
+    return holidaysOf(date.getYear()).holidays.get(date.getDayOfYear() - 1);
+  }
+
+  public boolean isGermanHoliday(LocalDate date) {
+    return holidaysOf(date.getYear()).germanHolidays.get(date.getDayOfYear() - 1);
+  }
+
+  /**
+   * Returns how often the holidays of a year were already known when a date was checked.
+   *
+   * @return the number of cache hits
+   */
+  public long getCacheHits() {
+    return cacheHits.sum();
+  }
+
+  /**
+   * Returns how often the holidays of a year had to be determined when a date was checked.
+   *
+   * @return the number of cache misses
+   */
+  public long getCacheMisses() {
+    return cacheMisses.sum();
+  }
+
+  private HolidaysOfYear holidaysOf(int year) {
+    HolidaysOfYear holidaysOfYear = holidaysByYear.get(year);
+    if (holidaysOfYear != null) {
+      cacheHits.increment();
+      return holidaysOfYear;
+    }
+    cacheMisses.increment();
+    if (holidaysByYear.size() >= MAX_CACHED_YEARS) {
+      holidaysByYear.clear();
+    }
+    return holidaysByYear.computeIfAbsent(year, HolidaysOfYear::new);
+  }
+
+  private boolean computeIsHoliday(LocalDate date) {
+    if (germanHolidaysEnabled && computeIsGermanHoliday(date)) {
       return true;
     }
     // Custom holidays that can be configured in the TaskanaConfiguration
     return customHolidays.contains(CustomHoliday.of(date.getDayOfMonth(), date.getMonthValue()));
   }
 
-  public boolean isGermanHoliday(LocalDate date) {
+  private boolean computeIsGermanHoliday(LocalDate date) {
     if (GERMAN_HOLIDAYS.contains(CustomHoliday.of(date.getDayOfMonth(), date.getMonthValue()))) {
       return true;
     }
@@ -107,6 +156,22 @@ public class HolidaySchedule {
         + "]";
   }
 
+  /** The holidays of one year, indexed by the day of the year starting at zero. */
+  private class HolidaysOfYear {
+
+    private final BitSet holidays = new BitSet(366);
+    private final BitSet germanHolidays = new BitSet(366);
+
+    private HolidaysOfYear(int year) {
+      for (LocalDate date = LocalDate.ofYearDay(year, 1);
+          date.getYear() == year;
+          date = date.plusDays(1)) {
+        holidays.set(date.getDayOfYear() - 1, computeIsHoliday(date));
+        germanHolidays.set(date.getDayOfYear() - 1, computeIsGermanHoliday(date));
+      }
+    }
+  }
+
   static class EasterCalculator {
 
     LocalDate cachedEasterDay;
@@ -118,8 +183,10 @@ public class HolidaySchedule {
      * @return the date of Easter Sunday for the given year
      */
     LocalDate getEasterSunday(int year) {
-      if (cachedEasterDay != null && cachedEasterDay.getYear() == year) {
-        return cachedEasterDay;
+      // read once, since the cache may be replaced by another thread meanwhile
+      LocalDate easterDay = cachedEasterDay;
+      if (easterDay != null && easterDay.getYear() == year) {
+        return easterDay;
       }
 
       // Algorithm for calculating the date of Easter Sunday
@@ -141,8 +208,9 @@ public class HolidaySchedule {
       int month = n / 31;
       int day = (n % 31) + 1;
 
-      cachedEasterDay = LocalDate.of(year, month, day);
-      return cachedEasterDay;
+      easterDay = LocalDate.of(year, month, day);
+      cachedEasterDay = easterDay;
+      return easterDay;
     }
   }
 }
@@ -8,21 +8,35 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
-import java.util.SortedSet;
+import java.util.concurrent.ConcurrentHashMap;
 import pro.taskana.common.api.LocalTimeInterval;
 import pro.taskana.common.api.WorkingTimeCalculator;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
-
+import pro.taskana.common.api.exceptions.SystemException;
+
+/**
+ * Calculates working time based on an index of all work slots per year.
+ *
+ * <p>The work slots of a year are computed once, together with the working time which has passed
+ * before each of them. Adding, subtracting and measuring working time is then a binary search
+ * within the affected years instead of a walk from work slot to work slot.
+ */
 public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
 
+  private static final int MAX_CACHED_YEARS = 200;
+
   private final ZoneId zoneId;
 
   private final HolidaySchedule holidaySchedule;
   private final WorkingTimeSchedule workingTimeSchedule;
+  private final boolean hasWorkingTime;
+  private final Map<Integer, WorkingTimeOfYear> workingTimeByYear = new ConcurrentHashMap<>();
 
   public WorkingTimeCalculatorImpl(
       HolidaySchedule holidaySchedule,
@@ -31,24 +45,45 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
     this.holidaySchedule = holidaySchedule;
     this.workingTimeSchedule = new WorkingTimeSchedule(workingTimeSchedule);
     this.zoneId = Objects.requireNonNull(zoneId);
+    this.hasWorkingTime =
+        Arrays.stream(DayOfWeek.values()).anyMatch(this.workingTimeSchedule::isWorkingDay);
   }
 
   @Override
   public Instant subtractWorkingTime(Instant workStart, Duration workingTime)
       throws InvalidArgumentException {
     validatePositiveDuration(workingTime);
-    ZonedDateTime workStartInTimeZone = toZonedDateTime(workStart);
-    WorkSlot workSlot = getWorkSlotOrPrevious(workStartInTimeZone);
-    return workSlot.subtractWorkingTime(workStartInTimeZone, workingTime).toInstant();
+    validateWorkingTimeExists();
+    int year = toLocalDate(workStart).getYear();
+    WorkingTimeOfYear workingTimeOfYear = workingTimeOf(year);
+    // the working time of the year which has passed at the result
+    Duration target = workingTimeOfYear.workingTimeUntil(workStart).minus(workingTime);
+    int lastSlot = workingTimeOfYear.indexOfLastSlotStartingAtOrBefore(workStart);
+    while (lastSlot < 0 || target.isNegative()) {
+      workingTimeOfYear = workingTimeOf(--year);
+      target = target.plus(workingTimeOfYear.total());
+      lastSlot = workingTimeOfYear.size() - 1;
+    }
+    return workingTimeOfYear.instantWhenReachedBackwards(target.toNanos(), lastSlot);
   }
 
   @Override
   public Instant addWorkingTime(Instant workStart, Duration workingTime)
       throws InvalidArgumentException {
     validatePositiveDuration(workingTime);
-    ZonedDateTime workStartInTimeZone = toZonedDateTime(workStart);
-    WorkSlot workSlot = getWorkSlotOrNext(workStartInTimeZone);
-    return workSlot.addWorkingTime(workStartInTimeZone, workingTime).toInstant();
+    validateWorkingTimeExists();
+    int year = toLocalDate(workStart).getYear();
+    WorkingTimeOfYear workingTimeOfYear = workingTimeOf(year);
+    // the working time of the year which has passed at the result
+    Duration target = workingTimeOfYear.workingTimeUntil(workStart).plus(workingTime);
+    int firstSlot = workingTimeOfYear.indexOfFirstSlotEndingAfter(workStart);
+    while (firstSlot == workingTimeOfYear.size()
+        || target.compareTo(workingTimeOfYear.total()) > 0) {
+      target = target.minus(workingTimeOfYear.total());
+      workingTimeOfYear = workingTimeOf(++year);
+      firstSlot = 0;
+    }
+    return workingTimeOfYear.instantWhenReached(target.toNanos(), firstSlot);
   }
 
   @Override
@@ -66,7 +101,16 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
       to = second;
     }
 
-    return calculateWorkingTime(toZonedDateTime(from), toZonedDateTime(to));
+    int fromYear = toLocalDate(from).getYear();
+    int toYear = toLocalDate(to).getYear();
+    Duration workingTime =
+        workingTimeOf(toYear)
+            .workingTimeUntil(to)
+            .minus(workingTimeOf(fromYear).workingTimeUntil(from));
+    for (int year = fromYear; year < toYear; year++) {
+      workingTime = workingTime.plus(workingTimeOf(year).total());
+    }
+    return workingTime;
   }
 
   @Override
@@ -90,29 +134,6 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
     return holidaySchedule.isGermanHoliday(toLocalDate(instant));
   }
 
-  private Duration calculateWorkingTime(ZonedDateTime from, ZonedDateTime to)
-      throws InvalidArgumentException {
-
-    WorkSlot bestMatchingWorkSlot = getWorkSlotOrNext(from);
-    ZonedDateTime earliestWorkStart = max(from, bestMatchingWorkSlot.start);
-    ZonedDateTime endOfWorkSlot = bestMatchingWorkSlot.end;
-
-    if (endOfWorkSlot.compareTo(to) >= 0) {
-      if (bestMatchingWorkSlot.start.compareTo(to) <= 0) {
-        // easy part. _from_ and _to_ are in the same work slot
-        return Duration.between(earliestWorkStart, to);
-      } else {
-        // _from_ and _to_ are before the bestMatchingWorkSlot aka between two work slots. We simply
-        // drop it
-        return Duration.ZERO;
-      }
-    } else {
-      // Take the current duration and add the working time starting after this work slot.
-      return Duration.between(earliestWorkStart, endOfWorkSlot)
-          .plus(calculateWorkingTime(endOfWorkSlot, to));
-    }
-  }
-
   private void validateNonNullInstants(Instant first, Instant second) {
     if (first == null || second == null) {
       throw new InvalidArgumentException("Neither first nor second may be null.");
@@ -125,92 +146,46 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
     }
   }
 
-  /**
-   * Returns the WorkSlot that matches best <code>currentDateTime</code>. If currentDateTime is
-   * within a WorkSlot that WorkSlot is returned, if currentDateTime is not within a WorkSlot the
-   * next WorkSlot is returned.
-   *
-   * @param currentDateTime The ZonedDateTime we want the best matching WorkSlot for. May not be
-   *     <code>null</code>.
-   * @return The WorkSlot that matches best <code>currentDateTime</code> if we want to add.
-   */
-  private WorkSlot getWorkSlotOrNext(ZonedDateTime currentDateTime) {
-    LocalDate currentDate = currentDateTime.toLocalDate();
-    // We do not work on Holidays
-    if (holidaySchedule.isHoliday(currentDate)) {
-      return getWorkSlotOrNext(getDayAfter(currentDateTime));
+  private void validateWorkingTimeExists() {
+    if (!hasWorkingTime) {
+      throw new SystemException("The working time schedule does not contain any working time.");
     }
-    SortedSet<LocalTimeInterval> workSlotsOfWorkingDay =
-        workingTimeSchedule.workSlotsFor(currentDate.getDayOfWeek());
-    // We are looking for the first workingSlot whose end is after the current time
-    Optional<LocalTimeInterval> workSlotEndingAfterCurrentTime =
-        workSlotsOfWorkingDay.stream()
-            .filter(it -> it.getEnd().isAfter(currentDateTime.toLocalTime()))
-            .findFirst();
-    return workSlotEndingAfterCurrentTime
-        .map(it -> new WorkSlot(currentDate, it))
-        .orElseGet(
-            () ->
-                // we started after the last working slot on that day, the next start time is the
-                // first working slot of the next working day.
-                getWorkSlotOrNext(getDayAfter(currentDateTime)));
   }
 
-  /**
-   * Returns the WorkSlot that matches best <code>currentDateTime</code>. If currentDateTime is
-   * within a WorkSlot that WorkSlot is returned, if currentDateTime is not within a WorkSlot the
-   * previous WorkSlot is returned.
-   *
-   * @param currentDateTime The ZonedDateTime we want the best matching WorkSlot for. May not be
-   *     <code>null</code>.
-   * @return The WorkSlot that matches best <code>currentDateTime</code> if we want to subtract.
-   */
-  private WorkSlot getWorkSlotOrPrevious(ZonedDateTime currentDateTime) {
-    LocalDate currentDate = currentDateTime.toLocalDate();
-    // We do not work on Holidays
-    if (holidaySchedule.isHoliday(currentDate)) {
-      return getWorkSlotOrPrevious(getDayBefore(currentDateTime));
+  private WorkingTimeOfYear workingTimeOf(int year) {
+    WorkingTimeOfYear workingTimeOfYear = workingTimeByYear.get(year);
+    if (workingTimeOfYear == null) {
+      if (workingTimeByYear.size() >= MAX_CACHED_YEARS) {
+        workingTimeByYear.clear();
+      }
+      workingTimeOfYear = workingTimeByYear.computeIfAbsent(year, this::indexWorkingTime);
     }
-
-    SortedSet<LocalTimeInterval> workSlotsOfWorkingDay =
-        workingTimeSchedule.workSlotsForReversed(currentDate.getDayOfWeek());
-    // We are looking for the last workingSlot whose begin is before or equals the current time
-    Optional<LocalTimeInterval> workSlotStartingBeforeCurrentTime =
-        workSlotsOfWorkingDay.stream()
-            // we use beforeOrEquals because begin is inclusive
-            .filter(it -> isBeforeOrEquals(it.getBegin(), currentDateTime))
-            .findFirst();
-    return workSlotStartingBeforeCurrentTime
-        .map(it -> new WorkSlot(currentDate, it))
-        .orElseGet(
-            () ->
-                // we started before the first working slot on that day, the next start time is the
-                // last working slot of the previous working day.
-                getWorkSlotOrPrevious(getDayBefore(currentDateTime)));
+    return workingTimeOfYear;
   }
 
-  private static boolean isBeforeOrEquals(LocalTime time, ZonedDateTime currentDateTime) {
-    return !time.isAfter(currentDateTime.toLocalTime());
-  }
-
-  private ZonedDateTime getDayAfter(ZonedDateTime current) {
-    return LocalDateTime.of(current.toLocalDate().plusDays(1), LocalTime.MIN)
-        .atZone(current.getZone());
+  private WorkingTimeOfYear indexWorkingTime(int year) {
+    List<WorkSlot> workSlots = new ArrayList<>();
+    LocalDate firstDayOfNextYear = LocalDate.ofYearDay(year + 1, 1);
+    for (LocalDate day = LocalDate.ofYearDay(year, 1);
+        day.isBefore(firstDayOfNextYear);
+        day = day.plusDays(1)) {
+      // We do not work on Holidays
+      if (!holidaySchedule.isHoliday(day)) {
+        for (LocalTimeInterval interval : workingTimeSchedule.workSlotsFor(day.getDayOfWeek())) {
+          WorkSlot workSlot = new WorkSlot(day, interval);
+          if (workSlot.start.isBefore(workSlot.end)) {
+            workSlots.add(workSlot);
+          }
+        }
+      }
+    }
+    return new WorkingTimeOfYear(workSlots);
   }
 
   private DayOfWeek toDayOfWeek(Instant instant) {
     return toLocalDate(instant).getDayOfWeek();
   }
 
-  private ZonedDateTime getDayBefore(ZonedDateTime current) {
-    return LocalDateTime.of(current.toLocalDate().minusDays(1), LocalTime.MAX)
-        .atZone(current.getZone());
-  }
-
-  private ZonedDateTime toZonedDateTime(Instant instant) {
-    return instant.atZone(zoneId);
-  }
-
   private ZonedDateTime toZonedDateTime(LocalDateTime localDateTime) {
     return localDateTime.atZone(zoneId);
   }
@@ -223,72 +198,147 @@ public class WorkingTimeCalculatorImpl implements WorkingTimeCalculator {
     return LocalDate.ofInstant(instant, zoneId);
   }
 
-  private static ZonedDateTime max(ZonedDateTime a, ZonedDateTime b) {
-    if (a.isAfter(b)) {
-      return a;
-    } else {
-      return b;
-    }
-  }
-
-  private static ZonedDateTime min(ZonedDateTime a, ZonedDateTime b) {
-    if (a.isBefore(b)) {
-      return a;
-    } else {
-      return b;
-    }
+  private static long nanosBetween(Instant from, Instant to) {
+    return (to.getEpochSecond() - from.getEpochSecond()) * 1_000_000_000L
+        + (to.getNano() - from.getNano());
   }
 
   class WorkSlot {
 
-    private final ZonedDateTime start;
-    private final ZonedDateTime end;
+    private final Instant start;
+    private final Instant end;
 
     public WorkSlot(LocalDate day, LocalTimeInterval interval) {
-      this.start = toZonedDateTime(day, interval.getBegin());
+      this.start = toZonedDateTime(day, interval.getBegin()).toInstant();
       if (interval.getEnd().equals(LocalTime.MAX)) {
-        this.end = toZonedDateTime(day.plusDays(1).atStartOfDay());
+        this.end = toZonedDateTime(day.plusDays(1).atStartOfDay()).toInstant();
       } else {
-        this.end = toZonedDateTime(day, interval.getEnd());
+        this.end = toZonedDateTime(day, interval.getEnd()).toInstant();
       }
     }
+  }
 
-    private ZonedDateTime subtractWorkingTime(ZonedDateTime workStart, Duration workingTime) {
-      // _workStart_ might be outside the working hours. We need to adjust the end accordingly.
-      ZonedDateTime latestWorkEnd = min(workStart, end);
-      Duration untilStartOfWorkSlot = Duration.between(start, latestWorkEnd);
-      if (workingTime.compareTo(untilStartOfWorkSlot) <= 0) {
-        // easy part. It is due within the same work slot
-        return latestWorkEnd.minus(workingTime);
-      } else {
-        Duration remainingWorkingTime = workingTime.minus(untilStartOfWorkSlot);
-        return previous().subtractWorkingTime(start, remainingWorkingTime);
+  /**
+   * The work slots of one year in ascending order. For each work slot the working time of the year
+   * which has passed before its start is kept in nanoseconds.
+   */
+  static class WorkingTimeOfYear {
+
+    private final Instant[] starts;
+    private final Instant[] ends;
+    private final long[] workingTimeBefore;
+    private final Duration total;
+
+    WorkingTimeOfYear(List<WorkSlot> workSlots) {
+      int size = workSlots.size();
+      starts = new Instant[size];
+      ends = new Instant[size];
+      workingTimeBefore = new long[size + 1];
+      for (int i = 0; i < size; i++) {
+        starts[i] = workSlots.get(i).start;
+        ends[i] = workSlots.get(i).end;
+        workingTimeBefore[i + 1] = workingTimeBefore[i] + nanosBetween(starts[i], ends[i]);
       }
+      total = Duration.ofNanos(workingTimeBefore[size]);
     }
 
-    private ZonedDateTime addWorkingTime(ZonedDateTime workStart, Duration workingTime) {
-      // _workStart_ might be outside the working hours. We need to adjust the start accordingly.
-      ZonedDateTime earliestWorkStart = max(workStart, start);
-      Duration untilEndOfWorkSlot = Duration.between(earliestWorkStart, end);
-      if (workingTime.compareTo(untilEndOfWorkSlot) <= 0) {
-        // easy part. It is due within the same work slot
-        return earliestWorkStart.plus(workingTime);
-      } else {
-        // we subtract the duration of the currentWorkingSlot
-        Duration remainingWorkingTime = workingTime.minus(untilEndOfWorkSlot);
-        // We continue to calculate the dueDate by starting from an workStart outside the current
-        // working slot and the remainingWorkingTime
-        return next().addWorkingTime(end, remainingWorkingTime);
+    int size() {
+      return starts.length;
+    }
+
+    Duration total() {
+      return total;
+    }
+
+    /**
+     * Returns the working time of this year which has passed at <code>instant</code>.
+     *
+     * @param instant the Instant up to which the working time is summed up
+     * @return the working time of this year before <code>instant</code>
+     */
+    Duration workingTimeUntil(Instant instant) {
+      int slot = indexOfLastSlotStartingAtOrBefore(instant);
+      if (slot < 0) {
+        return Duration.ZERO;
       }
+      Instant end = instant.isBefore(ends[slot]) ? instant : ends[slot];
+      return Duration.ofNanos(workingTimeBefore[slot] + nanosBetween(starts[slot], end));
     }
 
-    private WorkSlot previous() {
-      // We need to subtract a nanosecond because start is inclusive
-      return getWorkSlotOrPrevious(start.minusNanos(1));
+    int indexOfLastSlotStartingAtOrBefore(Instant instant) {
+      int low = 0;
+      int high = starts.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (starts[mid].compareTo(instant) <= 0) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return high;
     }
 
-    private WorkSlot next() {
-      return getWorkSlotOrNext(end);
+    int indexOfFirstSlotEndingAfter(Instant instant) {
+      int low = 0;
+      int high = ends.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (ends[mid].compareTo(instant) <= 0) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return low;
+    }
+
+    /**
+     * Returns the Instant at which <code>workingTime</code> of this year has passed, searching
+     * forwards. If that is the end of a work slot, the end is returned rather than the start of
+     * the next work slot.
+     *
+     * @param workingTime the working time of this year in nanoseconds
+     * @param firstSlot the index of the first work slot which may contain the result
+     * @return the Instant at which the working time has passed
+     */
+    Instant instantWhenReached(long workingTime, int firstSlot) {
+      // find the first slot whose end is reached at or after workingTime
+      int low = firstSlot;
+      int high = starts.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (workingTimeBefore[mid + 1] < workingTime) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return starts[low].plusNanos(workingTime - workingTimeBefore[low]);
+    }
+
+    /**
+     * Returns the Instant at which <code>workingTime</code> of this year has passed, searching
+     * backwards. If that is the start of a work slot, the start is returned rather than the end of
+     * the previous work slot.
+     *
+     * @param workingTime the working time of this year in nanoseconds
+     * @param lastSlot the index of the last work slot which may contain the result
+     * @return the Instant at which the working time has passed
+     */
+    Instant instantWhenReachedBackwards(long workingTime, int lastSlot) {
+      // find the last slot whose start is reached at or before workingTime
+      int low = 0;
+      int high = lastSlot;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (workingTimeBefore[mid] <= workingTime) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+      return starts[high].plusNanos(workingTime - workingTimeBefore[high]);
     }
   }
 }
@@ -15,7 +15,7 @@ CREATE SEQUENCE TASKANA_SCHEMA_VERSION_ID_SEQ
 
 -- The VERSION value must be equal or higher then the value of TaskanaEngineImpl.MINIMAL_TASKANA_SCHEMA_VERSION
 INSERT INTO TASKANA_SCHEMA_VERSION (ID, VERSION, CREATED)
-VALUES (TASKANA_SCHEMA_VERSION_ID_SEQ.NEXTVAL,  '7.0.0', CURRENT_TIMESTAMP);
+VALUES (TASKANA_SCHEMA_VERSION_ID_SEQ.NEXTVAL,  '8.1.0', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION
 (
@@ -335,6 +335,15 @@ CREATE TABLE CLASSIFICATION_HISTORY_EVENT
     PRIMARY KEY (ID)
 );
 
+CREATE TABLE HISTORY_EVENT_OUTBOX
+(
+    ID          VARCHAR(40) NOT NULL,
+    ENTITY_TYPE VARCHAR(32) NOT NULL,
+    CREATED     TIMESTAMP NOT NULL,
+    PAYLOAD     CLOB NULL,
+    PRIMARY KEY (ID)
+);
+
 -- USER can not be taken as table name because it is a reserved keyword.
 CREATE TABLE USER_INFO
 (
@@ -463,4 +472,8 @@ COMMIT WORK ;
 CREATE INDEX IDX_TASK_ID_HISTORY_EVENT ON TASK_HISTORY_EVENT
     (TASK_ID ASC)
     ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
-COMMIT WORK ;
\ No newline at end of file
+COMMIT WORK ;
+CREATE INDEX IDX_HIST_EVENT_OUTBOX_CREATED ON HISTORY_EVENT_OUTBOX
+    (CREATED ASC, ID ASC)
+    ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+COMMIT WORK ;
@@ -0,0 +1,19 @@
+-- this script updates the TASKANA database schema from version 7.0.0 to version 8.1.0.
+SET SCHEMA %schemaName%;
+
+INSERT INTO TASKANA_SCHEMA_VERSION (ID, VERSION, CREATED)
+VALUES (TASKANA_SCHEMA_VERSION_ID_SEQ.NEXTVAL, '8.1.0', CURRENT_TIMESTAMP);
+
+CREATE TABLE HISTORY_EVENT_OUTBOX
+(
+    ID          VARCHAR(40) NOT NULL,
+    ENTITY_TYPE VARCHAR(32) NOT NULL,
+    CREATED     TIMESTAMP NOT NULL,
+    PAYLOAD     CLOB NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE INDEX IDX_HIST_EVENT_OUTBOX_CREATED ON HISTORY_EVENT_OUTBOX
+    (CREATED ASC, ID ASC)
+    ALLOW REVERSE SCANS COLLECT SAMPLED DETAILED STATISTICS;
+COMMIT WORK ;
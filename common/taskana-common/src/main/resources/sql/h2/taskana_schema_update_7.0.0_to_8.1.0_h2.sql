@@ -0,0 +1,17 @@
+-- this script updates the TASKANA database schema from version 7.0.0 to version 8.1.0.
+
+INSERT INTO TASKANA_SCHEMA_VERSION (ID, VERSION, CREATED)
+VALUES (nextval('TASKANA_SCHEMA_VERSION_ID_SEQ'), '8.1.0', CURRENT_TIMESTAMP);
+
+CREATE TABLE HISTORY_EVENT_OUTBOX
+(
+    ID          VARCHAR(40) NOT NULL,
+    ENTITY_TYPE VARCHAR(32) NOT NULL,
+    CREATED     TIMESTAMP NOT NULL,
+    PAYLOAD     CLOB NULL,
+    PRIMARY KEY (ID)
+);
+
+CREATE INDEX IDX_HIST_EVENT_OUTBOX_CREATED ON HISTORY_EVENT_OUTBOX
+    (CREATED ASC, ID ASC);
+COMMIT WORK ;
@@ -14,7 +14,7 @@ CREATE SEQUENCE TASKANA_SCHEMA_VERSION_ID_SEQ
 
 -- The VERSION value must be equal or higher then the value of TaskanaEngineImpl.MINIMAL_TASKANA_SCHEMA_VERSION
 INSERT INTO TASKANA_SCHEMA_VERSION (ID, VERSION, CREATED)
-VALUES (TASKANA_SCHEMA_VERSION_ID_SEQ.NEXTVAL, '7.0.0', CURRENT_TIMESTAMP);
+VALUES (TASKANA_SCHEMA_VERSION_ID_SEQ.NEXTVAL, '8.1.0', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION
 (
@@ -334,6 +334,15 @@ CREATE TABLE CLASSIFICATION_HISTORY_EVENT
     CONSTRAINT CLASSIFICATION_HISTORY_EVENT_PKEY PRIMARY KEY (ID)
 );
 
+CREATE TABLE HISTORY_EVENT_OUTBOX
+(
+    ID          VARCHAR2(40) NOT NULL,
+    ENTITY_TYPE VARCHAR2(32) NOT NULL,
+    CREATED     TIMESTAMP NOT NULL,
+    PAYLOAD     CLOB NULL,
+    CONSTRAINT HISTORY_EVENT_OUTBOX_PKEY PRIMARY KEY (ID)
+);
+
 -- USER can not be taken as table name because it is a reserved keyword.
 CREATE TABLE USER_INFO
 (
@@ -460,4 +469,7 @@ CREATE INDEX IDX_OBJECT_REFERE_ACCESS_LIST ON OBJECT_REFERENCE
 COMMIT WORK ;
 CREATE INDEX IDX_TASK_ID_HISTORY_EVENT ON TASK_HISTORY_EVENT
     (TASK_ID ASC);
-COMMIT WORK ;
\ No newline at end of file
+COMMIT WORK ;
+CREATE INDEX IDX_HIST_EVENT_OUTBOX_CREATED ON HISTORY_EVENT_OUTBOX
+    (CREATED ASC, ID ASC);
+COMMIT WORK ;
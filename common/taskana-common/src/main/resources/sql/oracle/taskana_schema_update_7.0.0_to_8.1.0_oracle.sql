@@ -0,0 +1,18 @@
+-- this script updates the TASKANA database schema from version 7.0.0 to version 8.1.0.
+ALTER SESSION SET CURRENT_SCHEMA = %schemaName%;
+
+INSERT INTO TASKANA_SCHEMA_VERSION (ID, VERSION, CREATED)
+VALUES (TASKANA_SCHEMA_VERSION_ID_SEQ.NEXTVAL, '8.1.0', CURRENT_TIMESTAMP);
+
+CREATE TABLE HISTORY_EVENT_OUTBOX
+(
+    ID          VARCHAR2(40) NOT NULL,
+    ENTITY_TYPE VARCHAR2(32) NOT NULL,
+    CREATED     TIMESTAMP NOT NULL,
+    PAYLOAD     CLOB NULL,
+    CONSTRAINT HISTORY_EVENT_OUTBOX_PKEY PRIMARY KEY (ID)
+);
+
+CREATE INDEX IDX_HIST_EVENT_OUTBOX_CREATED ON HISTORY_EVENT_OUTBOX
+    (CREATED ASC, ID ASC);
+COMMIT WORK ;
@@ -18,7 +18,7 @@ CREATE SEQUENCE TASKANA_SCHEMA_VERSION_ID_SEQ
 
 -- The VERSION value must be equal or higher then the value of TaskanaEngineImpl.MINIMAL_TASKANA_SCHEMA_VERSION
 INSERT INTO TASKANA_SCHEMA_VERSION (ID, VERSION, CREATED)
-VALUES (nextval('TASKANA_SCHEMA_VERSION_ID_SEQ'), '7.0.0', CURRENT_TIMESTAMP);
+VALUES (nextval('TASKANA_SCHEMA_VERSION_ID_SEQ'), '8.1.0', CURRENT_TIMESTAMP);
 
 CREATE TABLE CLASSIFICATION
 (
@@ -327,6 +327,15 @@ CREATE TABLE CLASSIFICATION_HISTORY_EVENT
     PRIMARY KEY (ID)
 );
 
+CREATE TABLE HISTORY_EVENT_OUTBOX
+(
+    ID          VARCHAR(40) NOT NULL,
+    ENTITY_TYPE VARCHAR(32) NOT NULL,
+    CREATED     TIMESTAMP NOT NULL,
+    PAYLOAD     TEXT NULL,
+    PRIMARY KEY (ID)
+);
+
 CREATE TABLE CONFIGURATION
 (
     NAME              VARCHAR(8) NOT NULL,
@@ -458,3 +467,6 @@ COMMIT WORK ;
 CREATE INDEX IDX_TASK_ID_HISTORY_EVENT ON TASK_HISTORY_EVENT
     (TASK_ID ASC);
 COMMIT WORK ;
+CREATE INDEX IDX_HIST_EVENT_OUTBOX_CREATED ON HISTORY_EVENT_OUTBOX
+    (CREATED ASC, ID ASC);
+COMMIT WORK ;
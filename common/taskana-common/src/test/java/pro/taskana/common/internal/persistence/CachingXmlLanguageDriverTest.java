@@ -0,0 +1,37 @@
+package pro.taskana.common.internal.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.apache.ibatis.mapping.SqlSource;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+
+class CachingXmlLanguageDriverTest {
+
+  private static final String SCRIPT =
+      "<script>SELECT ID FROM TASK <where><if test='id != null'>ID = #{id}</if></where></script>";
+
+  private final Configuration configuration = new Configuration();
+  private final CachingXmlLanguageDriver languageDriver = new CachingXmlLanguageDriver();
+
+  @Test
+  void should_ReuseSqlSource_When_SameScriptIsParsedAgain() {
+    SqlSource first = languageDriver.createSqlSource(configuration, SCRIPT, Object.class);
+    SqlSource second =
+        languageDriver.createSqlSource(configuration, new String(SCRIPT), Object.class);
+
+    assertThat(second).isSameAs(first);
+    assertThat(languageDriver.getCacheHits()).isOne();
+    assertThat(languageDriver.getCacheMisses()).isOne();
+    assertThat(languageDriver.getCacheHitRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  void should_ParseScriptAgain_When_ParameterTypeDiffers() {
+    SqlSource first = languageDriver.createSqlSource(configuration, SCRIPT, Object.class);
+    SqlSource second = languageDriver.createSqlSource(configuration, SCRIPT, String.class);
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(languageDriver.getCacheHitRatio()).isZero();
+  }
+}
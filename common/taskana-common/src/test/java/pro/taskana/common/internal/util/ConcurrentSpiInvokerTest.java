@@ -0,0 +1,116 @@
+package pro.taskana.common.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentSpiInvokerTest {
+
+  private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+  @Test
+  void should_IgnoreResultOfProvider_When_ProviderDoesNotAnswerInTime() {
+    CountDownLatch neverReleased = new CountDownLatch(1);
+    Supplier<String> slowProvider =
+        () -> {
+          try {
+            neverReleased.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return "slow";
+        };
+    ConcurrentSpiInvoker<Supplier<String>> invoker =
+        new ConcurrentSpiInvoker<>(
+            List.of(() -> "fast", slowProvider), TIMEOUT, 10, 5, Duration.ofMinutes(1));
+
+    List<String> results = invoker.invokeAll(Supplier::get);
+
+    assertThat(results).containsExactly("fast");
+  }
+
+  @Test
+  void should_IgnoreResultOfProvider_When_ProviderFails() {
+    Supplier<String> failingProvider =
+        () -> {
+          throw new IllegalStateException("provider failed");
+        };
+    ConcurrentSpiInvoker<Supplier<String>> invoker =
+        new ConcurrentSpiInvoker<>(
+            List.of(failingProvider, () -> "working"), TIMEOUT, 10, 5, Duration.ofMinutes(1));
+
+    List<String> results = invoker.invokeAll(Supplier::get);
+
+    assertThat(results).containsExactly("working");
+  }
+
+  @Test
+  void should_SkipProvider_When_ItFailedConsecutivelyUpToTheFailureThreshold() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<String> failingProvider =
+        () -> {
+          calls.incrementAndGet();
+          throw new IllegalStateException("provider failed");
+        };
+    ConcurrentSpiInvoker<Supplier<String>> invoker =
+        new ConcurrentSpiInvoker<>(
+            List.of(failingProvider, () -> "working"), TIMEOUT, 10, 2, Duration.ofMinutes(1));
+
+    invoker.invokeAll(Supplier::get);
+    invoker.invokeAll(Supplier::get);
+    List<String> results = invoker.invokeAll(Supplier::get);
+
+    assertThat(calls).hasValue(2);
+    assertThat(results).containsExactly("working");
+  }
+
+  @Test
+  void should_CallProviderAgain_When_OpenDurationOfCircuitHasPassed() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<String> recoveringProvider =
+        () -> {
+          if (calls.incrementAndGet() == 1) {
+            throw new IllegalStateException("provider failed");
+          }
+          return "recovered";
+        };
+    ConcurrentSpiInvoker<Supplier<String>> invoker =
+        new ConcurrentSpiInvoker<>(
+            List.of(recoveringProvider), TIMEOUT, 10, 1, Duration.ofMillis(100));
+
+    invoker.invokeAll(Supplier::get);
+    List<String> resultsWhileOpen = invoker.invokeAll(Supplier::get);
+    Thread.sleep(200);
+    List<String> resultsAfterOpenDuration = invoker.invokeAll(Supplier::get);
+
+    assertThat(resultsWhileOpen).isEmpty();
+    assertThat(resultsAfterOpenDuration).containsExactly("recovered");
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void should_ResetConsecutiveFailures_When_ProviderAnswersSuccessfully() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<String> sometimesFailingProvider =
+        () -> {
+          if (calls.incrementAndGet() % 2 == 1) {
+            throw new IllegalStateException("provider failed");
+          }
+          return "working";
+        };
+    ConcurrentSpiInvoker<Supplier<String>> invoker =
+        new ConcurrentSpiInvoker<>(
+            List.of(sometimesFailingProvider), TIMEOUT, 10, 2, Duration.ofMinutes(1));
+
+    for (int i = 0; i < 4; i++) {
+      invoker.invokeAll(Supplier::get);
+    }
+
+    assertThat(calls).hasValue(4);
+  }
+}
@@ -0,0 +1,33 @@
+package pro.taskana.common.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SqlProviderUtilTest {
+
+  @Test
+  void should_PadValuesToNextPowerOfTwo_When_BucketingArray() {
+    String[] values = {"a", "b", "c", "d", "e"};
+
+    assertThat(SqlProviderUtil.bucketed(values))
+        .containsExactly("a", "b", "c", "d", "e", "e", "e", "e");
+  }
+
+  @Test
+  void should_KeepValues_When_SizeIsAlreadyPowerOfTwo() {
+    assertThat(SqlProviderUtil.bucketed(List.of("a", "b", "c", "d")))
+        .containsExactly("a", "b", "c", "d");
+    assertThat(SqlProviderUtil.bucketed(new int[] {1})).containsExactly(1);
+    assertThat(SqlProviderUtil.bucketed(new String[0])).isEmpty();
+  }
+
+  @Test
+  void should_NotPadValues_When_SizeExceedsMaximumBucketSize() {
+    List<String> values = Collections.nCopies(SqlProviderUtil.MAX_IN_LIST_BUCKET_SIZE + 1, "a");
+
+    assertThat(SqlProviderUtil.bucketed(values)).hasSize(values.size());
+  }
+}
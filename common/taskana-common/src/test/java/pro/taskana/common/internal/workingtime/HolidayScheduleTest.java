@@ -46,6 +46,18 @@ class HolidayScheduleTest {
     return Stream.of(year1980, year2020);
   }
 
+  @Test
+  void should_DetermineHolidaysOfYearOnlyOnce_When_CheckingSeveralDatesOfSameYear() {
+    HolidaySchedule schedule = new HolidaySchedule(true, false);
+
+    assertThat(schedule.isHoliday(LocalDate.parse("2023-01-01"))).isTrue();
+    assertThat(schedule.isHoliday(LocalDate.parse("2023-04-07"))).isTrue();
+    assertThat(schedule.isGermanHoliday(LocalDate.parse("2023-04-08"))).isFalse();
+
+    assertThat(schedule.getCacheMisses()).isEqualTo(1);
+    assertThat(schedule.getCacheHits()).isEqualTo(2);
+  }
+
   @Test
   void testGetEasterSunday() {
     EasterCalculator easterCalculator = new EasterCalculator();
@@ -463,6 +463,53 @@ class WorkingTimeCalculatorImplTest {
     }
   }
 
+  @Nested
+  class WorkingTimeAcrossYears {
+
+    private final Set<LocalTimeInterval> completeWorkDay =
+        Set.of(new LocalTimeInterval(LocalTime.MIN, LocalTime.MAX));
+
+    private final WorkingTimeCalculator cut =
+        new WorkingTimeCalculatorImpl(
+            new HolidaySchedule(true, false),
+            Map.of(
+                DayOfWeek.MONDAY, completeWorkDay,
+                DayOfWeek.TUESDAY, completeWorkDay,
+                DayOfWeek.WEDNESDAY, completeWorkDay,
+                DayOfWeek.THURSDAY, completeWorkDay,
+                DayOfWeek.FRIDAY, completeWorkDay),
+            ZoneOffset.UTC);
+
+    @Test
+    void addsWorkingTimeIntoNextYear() {
+      Instant thursdayNoon = Instant.parse("2021-12-30T12:00:00.000Z");
+
+      Instant dueDate = cut.addWorkingTime(thursdayNoon, Duration.ofHours(48));
+
+      assertThat(dueDate).isEqualTo(Instant.parse("2022-01-03T12:00:00.000Z"));
+    }
+
+    @Test
+    void subtractsWorkingTimeIntoPreviousYear() {
+      Instant mondayNoon = Instant.parse("2022-01-03T12:00:00.000Z");
+
+      Instant plannedDate = cut.subtractWorkingTime(mondayNoon, Duration.ofHours(48));
+
+      assertThat(plannedDate).isEqualTo(Instant.parse("2021-12-30T12:00:00.000Z"));
+    }
+
+    @Test
+    void calculatesWorkingTimeBetweenAcrossSeveralYears() {
+      Instant start = Instant.parse("2021-12-30T12:00:00.000Z");
+      Instant end = Instant.parse("2024-01-02T12:00:00.000Z");
+
+      Duration duration = cut.workingTimeBetween(start, end);
+
+      assertThat(cut.addWorkingTime(start, duration)).isEqualTo(end);
+      assertThat(cut.subtractWorkingTime(end, duration)).isEqualTo(start);
+    }
+  }
+
   @Nested
   class WorkingDayDetermination {
 
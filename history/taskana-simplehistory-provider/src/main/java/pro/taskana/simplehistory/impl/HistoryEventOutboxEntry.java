@@ -0,0 +1,163 @@
+package pro.taskana.simplehistory.impl;
+
+import java.time.Instant;
+import java.util.function.Supplier;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.json.JSONObject;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
+
+/**
+ * A history event which is stored in the table HISTORY_EVENT_OUTBOX until it is written to its
+ * history table. The properties of the event are stored as JSON.
+ */
+public class HistoryEventOutboxEntry {
+
+  private String id;
+  private EntityType entityType;
+  private Instant created;
+  private String payload;
+
+  public HistoryEventOutboxEntry() {}
+
+  private HistoryEventOutboxEntry(String id, EntityType entityType, Instant created, Object event) {
+    this.id = id;
+    this.entityType = entityType;
+    this.created = created;
+    this.payload = toJson(event);
+  }
+
+  public static HistoryEventOutboxEntry of(TaskHistoryEvent event) {
+    if (event.getId() == null) {
+      event.setId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT));
+    }
+    return new HistoryEventOutboxEntry(event.getId(), EntityType.TASK, event.getCreated(), event);
+  }
+
+  public static HistoryEventOutboxEntry of(WorkbasketHistoryEvent event) {
+    if (event.getId() == null) {
+      event.setId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_WORKBASKET_HISTORY_EVENT));
+    }
+    return new HistoryEventOutboxEntry(
+        event.getId(), EntityType.WORKBASKET, event.getCreated(), event);
+  }
+
+  public static HistoryEventOutboxEntry of(ClassificationHistoryEvent event) {
+    if (event.getId() == null) {
+      event.setId(
+          IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_CLASSIFICATION_HISTORY_EVENT));
+    }
+    return new HistoryEventOutboxEntry(
+        event.getId(), EntityType.CLASSIFICATION, event.getCreated(), event);
+  }
+
+  /**
+   * Restores the stored history event.
+   *
+   * @return a {@linkplain TaskHistoryEvent}, {@linkplain WorkbasketHistoryEvent} or {@linkplain
+   *     ClassificationHistoryEvent}
+   */
+  public Object toEvent() {
+    Object event = entityType.eventFactory.get();
+    MetaObject metaObject = SystemMetaObject.forObject(event);
+    JSONObject json = new JSONObject(payload);
+    for (String property : json.keySet()) {
+      if (metaObject.hasSetter(property)) {
+        Class<?> type = metaObject.getSetterType(property);
+        metaObject.setValue(property, readValue(json, property, type));
+      }
+    }
+    return event;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  public EntityType getEntityType() {
+    return entityType;
+  }
+
+  public void setEntityType(EntityType entityType) {
+    this.entityType = entityType;
+  }
+
+  public Instant getCreated() {
+    return created;
+  }
+
+  public void setCreated(Instant created) {
+    this.created = created;
+  }
+
+  public String getPayload() {
+    return payload;
+  }
+
+  public void setPayload(String payload) {
+    this.payload = payload;
+  }
+
+  @Override
+  public String toString() {
+    return "HistoryEventOutboxEntry [id="
+        + id
+        + ", entityType="
+        + entityType
+        + ", created="
+        + created
+        + ", payload="
+        + payload
+        + "]";
+  }
+
+  // the properties are read like MyBatis reads them when the event is inserted into its table
+  private static String toJson(Object event) {
+    MetaObject metaObject = SystemMetaObject.forObject(event);
+    JSONObject json = new JSONObject();
+    for (String property : metaObject.getGetterNames()) {
+      Object value = metaObject.getValue(property);
+      if (value instanceof Instant) {
+        json.put(property, value.toString());
+      } else if (value != null) {
+        json.put(property, value);
+      }
+    }
+    return json.toString();
+  }
+
+  private static Object readValue(JSONObject json, String property, Class<?> type) {
+    if (type == String.class) {
+      return json.getString(property);
+    } else if (type == Instant.class) {
+      return Instant.parse(json.getString(property));
+    } else if (type == int.class || type == Integer.class) {
+      return json.getInt(property);
+    }
+    throw new SystemException(
+        String.format(
+            "The property '%s' of type %s can't be restored from the history event outbox.",
+            property, type.getName()));
+  }
+
+  /** The kind of entity whose history event is stored. */
+  public enum EntityType {
+    TASK(TaskHistoryEvent::new),
+    WORKBASKET(WorkbasketHistoryEvent::new),
+    CLASSIFICATION(ClassificationHistoryEvent::new);
+
+    private final Supplier<Object> eventFactory;
+
+    EntityType(Supplier<Object> eventFactory) {
+      this.eventFactory = eventFactory;
+    }
+  }
+}
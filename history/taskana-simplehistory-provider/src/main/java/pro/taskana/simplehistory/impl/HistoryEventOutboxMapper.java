@@ -0,0 +1,32 @@
+package pro.taskana.simplehistory.impl;
+
+import java.util.List;
+import org.apache.ibatis.annotations.Delete;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Result;
+import org.apache.ibatis.annotations.Select;
+
+/** This class is the mybatis mapping of the history event outbox. */
+@SuppressWarnings("checkstyle:LineLength")
+public interface HistoryEventOutboxMapper {
+
+  @Insert(
+      "INSERT INTO HISTORY_EVENT_OUTBOX (ID, ENTITY_TYPE, CREATED, PAYLOAD) "
+          + "VALUES (#{entry.id}, #{entry.entityType}, #{entry.created}, #{entry.payload})")
+  void insert(@Param("entry") HistoryEventOutboxEntry entry);
+
+  @Select(
+      "<script>SELECT ID, ENTITY_TYPE, CREATED, PAYLOAD FROM HISTORY_EVENT_OUTBOX "
+          + "ORDER BY CREATED, ID "
+          + "FETCH FIRST ${limit} ROWS ONLY "
+          + "</script>")
+  @Result(property = "id", column = "ID")
+  @Result(property = "entityType", column = "ENTITY_TYPE")
+  @Result(property = "created", column = "CREATED")
+  @Result(property = "payload", column = "PAYLOAD")
+  List<HistoryEventOutboxEntry> findOldest(@Param("limit") int limit);
+
+  @Delete("DELETE FROM HISTORY_EVENT_OUTBOX WHERE ID = #{id}")
+  int deleteById(@Param("id") String id);
+}
@@ -0,0 +1,197 @@
+package pro.taskana.simplehistory.impl;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pro.taskana.TaskanaConfiguration;
+import pro.taskana.simplehistory.impl.classification.ClassificationHistoryEventMapper;
+import pro.taskana.simplehistory.impl.task.TaskHistoryEventMapper;
+import pro.taskana.simplehistory.impl.workbasket.WorkbasketHistoryEventMapper;
+import pro.taskana.spi.history.api.events.classification.ClassificationHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.workbasket.WorkbasketHistoryEvent;
+
+/**
+ * Writes history events asynchronously in batches by means of a transactional outbox.
+ *
+ * <p>The events are inserted into the table HISTORY_EVENT_OUTBOX with the connection of the
+ * operation which created them. Hence, they are committed or rolled back together with that
+ * operation. A background thread moves the stored events to their history tables with JDBC batch
+ * inserts whenever the configured maximum latency has passed. Events which are still stored when
+ * the JVM terminates are written by the next writer which is started on the same database.
+ *
+ * <p>Several writers may drain the outbox concurrently, e.g. on different nodes of a cluster. Only
+ * the writer which deletes an entry from the outbox writes its event.
+ */
+class HistoryEventWriter implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(HistoryEventWriter.class);
+
+  private final TaskanaHistoryEngineImpl taskanaHistoryEngine;
+  private final int batchSize;
+  private final long maxLatencyNanos;
+  private final CountDownLatch stopped = new CountDownLatch(1);
+  private final Thread writerThread;
+
+  HistoryEventWriter(TaskanaHistoryEngineImpl taskanaHistoryEngine) {
+    TaskanaConfiguration configuration = taskanaHistoryEngine.getConfiguration();
+    this.taskanaHistoryEngine = taskanaHistoryEngine;
+    this.batchSize = configuration.getSimpleHistoryWriteBehindBatchSize();
+    this.maxLatencyNanos = configuration.getSimpleHistoryWriteBehindMaxLatency().toNanos();
+    writerThread = new Thread(this::run, "taskana-history-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  /**
+   * Stores the given event in the outbox within the transaction of the current operation.
+   *
+   * @param entry the outbox entry of the event
+   */
+  void write(HistoryEventOutboxEntry entry) {
+    taskanaHistoryEngine.executeInTaskanaSession(
+        session -> {
+          registerOutboxMapper(session.getConfiguration());
+          session.getMapper(HistoryEventOutboxMapper.class).insert(entry);
+          return null;
+        });
+  }
+
+  /** Writes all events which were committed to the outbox before this call. */
+  void flush() {
+    try {
+      while (writeBatch() == batchSize) {
+        // continue until the outbox is drained
+      }
+    } catch (SQLException | RuntimeException e) {
+      LOGGER.error("Error while writing the history events of the outbox", e);
+    }
+  }
+
+  /** Stops the writer thread and writes all events which are stored in the outbox. */
+  @Override
+  public void close() {
+    stopped.countDown();
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    flush();
+  }
+
+  private void run() {
+    try {
+      while (!stopped.await(maxLatencyNanos, TimeUnit.NANOSECONDS)) {
+        flush();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private int writeBatch() throws SQLException {
+    List<HistoryEventOutboxEntry> entries;
+    try {
+      entries =
+          taskanaHistoryEngine.executeInBatchTransaction(
+              session -> {
+                List<HistoryEventOutboxEntry> oldest =
+                    session.getMapper(HistoryEventOutboxMapper.class).findOldest(batchSize);
+                insert(session, claim(session, oldest));
+                return oldest;
+              });
+    } catch (RuntimeException e) {
+      LOGGER.warn("Error while writing a batch of history events, writing them one by one", e);
+      entries =
+          taskanaHistoryEngine.executeInBatchTransaction(
+              session -> session.getMapper(HistoryEventOutboxMapper.class).findOldest(batchSize));
+      for (HistoryEventOutboxEntry entry : entries) {
+        writeSingle(entry);
+      }
+    }
+    return entries.size();
+  }
+
+  private void writeSingle(HistoryEventOutboxEntry entry) throws SQLException {
+    try {
+      taskanaHistoryEngine.executeInBatchTransaction(
+          session -> {
+            insert(session, claim(session, List.of(entry)));
+            return null;
+          });
+    } catch (RuntimeException e) {
+      LOGGER.error("Error while writing history event {}, discarding it", entry, e);
+      taskanaHistoryEngine.executeInBatchTransaction(
+          session -> session.getMapper(HistoryEventOutboxMapper.class).deleteById(entry.getId()));
+    }
+  }
+
+  /**
+   * Deletes the given entries from the outbox. Entries which were deleted by another writer
+   * meanwhile are skipped, since that writer writes their events.
+   */
+  private static List<HistoryEventOutboxEntry> claim(
+      SqlSession session, List<HistoryEventOutboxEntry> entries) {
+    HistoryEventOutboxMapper outboxMapper = session.getMapper(HistoryEventOutboxMapper.class);
+    entries.forEach(entry -> outboxMapper.deleteById(entry.getId()));
+    List<Integer> updateCounts = new ArrayList<>(entries.size());
+    for (BatchResult batchResult : session.flushStatements()) {
+      for (int updateCount : batchResult.getUpdateCounts()) {
+        updateCounts.add(updateCount);
+      }
+    }
+    List<HistoryEventOutboxEntry> claimed = new ArrayList<>(entries.size());
+    for (int i = 0; i < entries.size(); i++) {
+      int updateCount = updateCounts.get(i);
+      if (updateCount == 1 || updateCount == Statement.SUCCESS_NO_INFO) {
+        claimed.add(entries.get(i));
+      }
+    }
+    return claimed;
+  }
+
+  private static void insert(SqlSession session, List<HistoryEventOutboxEntry> entries) {
+    // statements are only batched as long as the same statement is executed repeatedly
+    List<Object> events = entries.stream().map(HistoryEventOutboxEntry::toEvent).toList();
+    TaskHistoryEventMapper taskHistoryEventMapper =
+        session.getMapper(TaskHistoryEventMapper.class);
+    events.stream()
+        .filter(TaskHistoryEvent.class::isInstance)
+        .map(TaskHistoryEvent.class::cast)
+        .forEach(taskHistoryEventMapper::insert);
+    WorkbasketHistoryEventMapper workbasketHistoryEventMapper =
+        session.getMapper(WorkbasketHistoryEventMapper.class);
+    events.stream()
+        .filter(WorkbasketHistoryEvent.class::isInstance)
+        .map(WorkbasketHistoryEvent.class::cast)
+        .forEach(workbasketHistoryEventMapper::insert);
+    ClassificationHistoryEventMapper classificationHistoryEventMapper =
+        session.getMapper(ClassificationHistoryEventMapper.class);
+    events.stream()
+        .filter(ClassificationHistoryEvent.class::isInstance)
+        .map(ClassificationHistoryEvent.class::cast)
+        .forEach(classificationHistoryEventMapper::insert);
+  }
+
+  private static void registerOutboxMapper(Configuration configuration) {
+    // the outbox is written with the SqlSession of the TaskanaEngine, which is only available
+    // within an API call in mode EXPLICIT
+    if (configuration.hasMapper(HistoryEventOutboxMapper.class)) {
+      return;
+    }
+    synchronized (configuration) {
+      if (!configuration.hasMapper(HistoryEventOutboxMapper.class)) {
+        configuration.addMapper(HistoryEventOutboxMapper.class);
+      }
+    }
+  }
+}
@@ -32,6 +32,7 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
   private WorkbasketHistoryEventMapper workbasketHistoryEventMapper;
   private ClassificationHistoryEventMapper classificationHistoryEventMapper;
   private UserMapper userMapper;
+  private volatile HistoryEventWriter historyEventWriter;
 
   public void initialize(TaskanaEngine taskanaEngine) {
 
@@ -50,16 +51,24 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     this.classificationHistoryEventMapper =
         this.taskanaHistoryEngine.getSqlSession().getMapper(ClassificationHistoryEventMapper.class);
     this.userMapper = taskanaHistoryEngine.getSqlSession().getMapper(UserMapper.class);
+    if (taskanaEngine.getConfiguration().isSimpleHistoryWriteBehindEnabled()) {
+      this.historyEventWriter = new HistoryEventWriter(taskanaHistoryEngine);
+    }
   }
 
   @Override
   public void create(TaskHistoryEvent event) {
+    if (event.getCreated() == null) {
+      Instant now = Instant.now();
+      event.setCreated(now);
+    }
+    HistoryEventWriter writer = historyEventWriter;
+    if (writer != null) {
+      writer.write(HistoryEventOutboxEntry.of(event));
+      return;
+    }
     try {
       taskanaHistoryEngine.openConnection();
-      if (event.getCreated() == null) {
-        Instant now = Instant.now();
-        event.setCreated(now);
-      }
       taskHistoryEventMapper.insert(event);
     } catch (SQLException e) {
       LOGGER.error("Error while inserting task history event into database", e);
@@ -70,12 +79,17 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   @Override
   public void create(WorkbasketHistoryEvent event) {
+    if (event.getCreated() == null) {
+      Instant now = Instant.now();
+      event.setCreated(now);
+    }
+    HistoryEventWriter writer = historyEventWriter;
+    if (writer != null) {
+      writer.write(HistoryEventOutboxEntry.of(event));
+      return;
+    }
     try {
       taskanaHistoryEngine.openConnection();
-      if (event.getCreated() == null) {
-        Instant now = Instant.now();
-        event.setCreated(now);
-      }
       workbasketHistoryEventMapper.insert(event);
     } catch (SQLException e) {
       LOGGER.error("Error while inserting workbasket history event into database", e);
@@ -86,12 +100,17 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
 
   @Override
   public void create(ClassificationHistoryEvent event) {
+    if (event.getCreated() == null) {
+      Instant now = Instant.now();
+      event.setCreated(now);
+    }
+    HistoryEventWriter writer = historyEventWriter;
+    if (writer != null) {
+      writer.write(HistoryEventOutboxEntry.of(event));
+      return;
+    }
     try {
       taskanaHistoryEngine.openConnection();
-      if (event.getCreated() == null) {
-        Instant now = Instant.now();
-        event.setCreated(now);
-      }
       classificationHistoryEventMapper.insert(event);
     } catch (SQLException e) {
       LOGGER.error("Error while inserting classification history event into database", e);
@@ -108,6 +127,8 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     if (taskIds == null) {
       throw new InvalidArgumentException("List of taskIds must not be null.");
     }
+    // stored events of the tasks must not be written after their deletion
+    flush();
 
     try {
       taskanaHistoryEngine.openConnection();
@@ -119,6 +140,30 @@ public class SimpleHistoryServiceImpl implements TaskanaHistory {
     }
   }
 
+  /**
+   * Writes all history events which were committed to the outbox before this call to their
+   * history tables. Returns immediately if the events are not written asynchronously.
+   */
+  public void flush() {
+    HistoryEventWriter writer = historyEventWriter;
+    if (writer != null) {
+      writer.flush();
+    }
+  }
+
+  /**
+   * Writes all history events of the outbox and stops writing them asynchronously. Events which
+   * are created afterwards are written synchronously.
+   */
+  @Override
+  public void close() {
+    HistoryEventWriter writer = historyEventWriter;
+    if (writer != null) {
+      historyEventWriter = null;
+      writer.close();
+    }
+  }
+
   public TaskHistoryEvent getTaskHistoryEvent(String historyEventId)
       throws TaskanaHistoryEventNotFoundException {
     TaskHistoryEvent resultEvent = null;
@@ -8,8 +8,10 @@ import java.util.Arrays;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Function;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
@@ -26,7 +28,9 @@ import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.OracleSqlSessionFactory;
+import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.configuration.DB;
+import pro.taskana.common.internal.persistence.CachingXmlLanguageDriver;
 import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
 import pro.taskana.common.internal.persistence.StringTypeHandler;
@@ -128,6 +132,8 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
     configuration.getTypeHandlerRegistry().register(new MapTypeHandler());
     configuration.getTypeHandlerRegistry().register(Instant.class, new InstantTypeHandler());
     configuration.getTypeHandlerRegistry().register(JdbcType.TIMESTAMP, new InstantTypeHandler());
+    // parse the scripts of the SqlProviders only once
+    configuration.setDefaultScriptingLanguage(CachingXmlLanguageDriver.class);
 
     // add mappers
     configuration.addMapper(TaskHistoryEventMapper.class);
@@ -137,6 +143,7 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
     configuration.addMapper(ClassificationHistoryEventMapper.class);
     configuration.addMapper(ClassificationHistoryQueryMapper.class);
     configuration.addMapper(UserMapper.class);
+    configuration.addMapper(HistoryEventOutboxMapper.class);
 
     SqlSessionFactory localSessionFactory;
     if (DB.ORACLE == db) {
@@ -240,6 +247,66 @@ public class TaskanaHistoryEngineImpl implements TaskanaHistoryEngine {
     return this.sessionManager;
   }
 
+  /**
+   * Opens a new SqlSession with its own database connection, which batches the executed statements
+   * until it is committed.
+   *
+   * @return the new SqlSession
+   * @throws SQLException thrown if the schema of the connection could not be set
+   */
+  SqlSession openBatchSession() throws SQLException {
+    SqlSession session = sessionManager.openSession(ExecutorType.BATCH);
+    try {
+      session.getConnection().setSchema(taskanaConfiguration.getSchemaName());
+    } catch (SQLException e) {
+      session.close();
+      throw e;
+    }
+    return session;
+  }
+
+  /**
+   * Executes the given function in a transaction of its own on a new SqlSession, which batches the
+   * executed statements. The transaction is committed if the function returns normally and rolled
+   * back otherwise. This applies to managed transactions, too.
+   *
+   * @param function a function that uses the given SqlSession and returns something of type T
+   * @param <T> any type
+   * @return the result of the function
+   * @throws SQLException thrown if the transaction could not be started, committed or rolled back
+   */
+  <T> T executeInBatchTransaction(Function<SqlSession, T> function) throws SQLException {
+    try (SqlSession session = openBatchSession()) {
+      Connection connection = session.getConnection();
+      boolean autoCommit = connection.getAutoCommit();
+      connection.setAutoCommit(false);
+      try {
+        T result = function.apply(session);
+        session.commit(true);
+        // a managed transaction ignores the commit of the session
+        connection.commit();
+        return result;
+      } catch (RuntimeException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(autoCommit);
+      }
+    }
+  }
+
+  /**
+   * Executes the given function with the SqlSession of the current API call of the TaskanaEngine.
+   * Hence, its statements are committed or rolled back together with the statements of that call.
+   *
+   * @param function a function that uses the given SqlSession and returns something of type T
+   * @param <T> any type
+   * @return the result of the function
+   */
+  <T> T executeInTaskanaSession(Function<SqlSession, T> function) {
+    return ((TaskanaEngineImpl) taskanaEngine).executeInCurrentSession(function);
+  }
+
   /**
    * creates the MyBatis transaction factory.
    *
@@ -0,0 +1,198 @@
+package acceptance.events.task;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.AbstractAccTest;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import pro.taskana.TaskanaConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.TimeInterval;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.simplehistory.impl.SimpleHistoryServiceImpl;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEvent;
+import pro.taskana.spi.history.api.events.task.TaskHistoryEventType;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+
+@ExtendWith(JaasExtension.class)
+class CreateHistoryEventsWithWriteBehindAccTest extends AbstractAccTest {
+
+  @BeforeAll
+  static void setup() throws Exception {
+    TaskanaConfiguration configuration =
+        new TaskanaConfiguration.Builder(AbstractAccTest.taskanaConfiguration)
+            .simpleHistoryWriteBehindEnabled(true)
+            .simpleHistoryWriteBehindBatchSize(10)
+            .simpleHistoryWriteBehindMaxLatency(Duration.ofMinutes(1))
+            .build();
+    initTaskanaEngine(configuration);
+  }
+
+  @Test
+  void should_WriteAllStoredEvents_When_Flushed() {
+    String taskId = IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK);
+
+    createEvents(taskId, 25);
+    historyService.flush();
+
+    assertThat(historyService.createTaskHistoryQuery().taskIdIn(taskId).count()).isEqualTo(25);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotWriteStoredEvents_When_HistoryEventsOfTaskWereDeleted() throws Exception {
+    String taskId = IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK);
+
+    createEvents(taskId, 5);
+    historyService.deleteHistoryEventsByTaskIds(List.of(taskId));
+    historyService.flush();
+
+    assertThat(historyService.createTaskHistoryQuery().taskIdIn(taskId).count()).isZero();
+  }
+
+  @Test
+  void should_WriteAllStoredEvents_When_Closed() {
+    SimpleHistoryServiceImpl closedHistoryService = new SimpleHistoryServiceImpl();
+    closedHistoryService.initialize(taskanaEngine);
+    String taskId = IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK);
+
+    createEvents(closedHistoryService, taskId, 5);
+    closedHistoryService.close();
+
+    assertThat(historyService.createTaskHistoryQuery().taskIdIn(taskId).count()).isEqualTo(5);
+  }
+
+  @Test
+  void should_WriteEventsSynchronously_When_Closed() {
+    SimpleHistoryServiceImpl closedHistoryService = new SimpleHistoryServiceImpl();
+    closedHistoryService.initialize(taskanaEngine);
+    closedHistoryService.close();
+    String taskId = IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK);
+
+    createEvents(closedHistoryService, taskId, 1);
+
+    assertThat(historyService.createTaskHistoryQuery().taskIdIn(taskId).count()).isOne();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_WriteAllStoredEvents_When_TaskanaEngineIsClosed() throws Exception {
+    TaskanaEngine closedTaskanaEngine =
+        TaskanaEngine.buildTaskanaEngine(taskanaEngine.getConfiguration());
+    TaskService closedTaskService = closedTaskanaEngine.getTaskService();
+    String taskId = "TKI:000000000000000000000000000000000000";
+    Instant before = Instant.now();
+
+    Task task = closedTaskService.getTask(taskId);
+    task.setName("nameUpdatedBeforeClose");
+    closedTaskService.updateTask(task);
+    ((TaskanaEngineImpl) closedTaskanaEngine).close();
+
+    assertThat(
+            historyService
+                .createTaskHistoryQuery()
+                .taskIdIn(taskId)
+                .createdWithin(new TimeInterval(before, null))
+                .list())
+        .extracting(TaskHistoryEvent::getEventType)
+        .containsExactly(TaskHistoryEventType.UPDATED.getName());
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_NotWriteEvents_When_OperationIsRolledBack() throws Exception {
+    String taskId = "TKI:000000000000000000000000000000000001";
+    Instant before = Instant.now();
+
+    updateTaskInTransaction(taskId, false);
+    historyService.flush();
+
+    assertThat(
+            historyService
+                .createTaskHistoryQuery()
+                .taskIdIn(taskId)
+                .createdWithin(new TimeInterval(before, null))
+                .count())
+        .isZero();
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_WriteEvents_When_OperationIsCommitted() throws Exception {
+    String taskId = "TKI:000000000000000000000000000000000002";
+    Instant before = Instant.now();
+
+    updateTaskInTransaction(taskId, true);
+    historyService.flush();
+
+    assertThat(
+            historyService
+                .createTaskHistoryQuery()
+                .taskIdIn(taskId)
+                .createdWithin(new TimeInterval(before, null))
+                .list())
+        .extracting(TaskHistoryEvent::getEventType)
+        .containsExactly(TaskHistoryEventType.UPDATED.getName());
+  }
+
+  @Test
+  void should_WriteEventsStoredByAnotherHistoryService_When_Closed() {
+    String taskId = IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK);
+    // the events stay in the outbox like the events of a JVM which terminated abnormally
+    createEvents(taskId, 3);
+
+    SimpleHistoryServiceImpl restartedHistoryService = new SimpleHistoryServiceImpl();
+    restartedHistoryService.initialize(taskanaEngine);
+    restartedHistoryService.close();
+
+    assertThat(historyService.createTaskHistoryQuery().taskIdIn(taskId).count()).isEqualTo(3);
+  }
+
+  private static void updateTaskInTransaction(String taskId, boolean commit) throws Exception {
+    TaskanaEngine explicitTaskanaEngine =
+        TaskanaEngine.buildTaskanaEngine(
+            taskanaEngine.getConfiguration(), ConnectionManagementMode.EXPLICIT);
+    try (Connection connection = taskanaEngine.getConfiguration().getDataSource().getConnection()) {
+      explicitTaskanaEngine.setConnection(connection);
+      TaskService explicitTaskService = explicitTaskanaEngine.getTaskService();
+      Task task = explicitTaskService.getTask(taskId);
+      task.setName("nameUpdatedInTransaction");
+      explicitTaskService.updateTask(task);
+      if (commit) {
+        connection.commit();
+      } else {
+        connection.rollback();
+      }
+      explicitTaskanaEngine.closeConnection();
+    } finally {
+      ((TaskanaEngineImpl) explicitTaskanaEngine).close();
+    }
+  }
+
+  private static void createEvents(String taskId, int count) {
+    createEvents(historyService, taskId, count);
+  }
+
+  private static void createEvents(SimpleHistoryServiceImpl service, String taskId, int count) {
+    for (int i = 0; i < count; i++) {
+      service.create(
+          createTaskHistoryEvent(
+              "wbKey1",
+              taskId,
+              TaskHistoryEventType.UPDATED.getName(),
+              null,
+              "someUserId",
+              "someDetails"));
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package pro.taskana.benchmarks;
+
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+import javax.security.auth.Subject;
+import javax.sql.DataSource;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import pro.taskana.TaskanaConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.security.UserPrincipal;
+import pro.taskana.sampledata.SampleDataGenerator;
+
+/**
+ * Sets up the {@linkplain TaskanaEngine} the benchmarks run against.
+ *
+ * <p>Each engine uses its own in-memory H2 database, so that benchmarks which modify data do not
+ * influence each other. The engine is configured with the <code>taskana.properties</code> of this
+ * module.
+ */
+public final class BenchmarkEnvironment {
+
+  public static final String SCHEMA_NAME = "TASKANA";
+
+  private BenchmarkEnvironment() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Creates a {@linkplain TaskanaEngine} on a new in-memory H2 database and loads the data into it.
+   *
+   * @param databaseName the name of the in-memory database
+   * @param dataLoader loads the data the benchmark needs, e.g. {@linkplain
+   *     SampleDataGenerator#generateSampleData()}
+   * @return the {@linkplain TaskanaEngine}
+   * @throws SQLException if the database schema could not be created
+   */
+  public static TaskanaEngine createTaskanaEngine(
+      String databaseName, Consumer<SampleDataGenerator> dataLoader) throws SQLException {
+    DataSource dataSource = createDataSource(databaseName);
+    TaskanaConfiguration configuration =
+        new TaskanaConfiguration.Builder(dataSource, false, SCHEMA_NAME)
+            .initTaskanaProperties()
+            .build();
+    TaskanaEngine taskanaEngine =
+        TaskanaEngine.buildTaskanaEngine(configuration, ConnectionManagementMode.AUTOCOMMIT);
+    dataLoader.accept(new SampleDataGenerator(dataSource, SCHEMA_NAME));
+    return taskanaEngine;
+  }
+
+  /**
+   * Creates a {@linkplain Subject} which authenticates the given user.
+   *
+   * @param userId the id of the user
+   * @return the {@linkplain Subject}
+   */
+  public static Subject subjectOf(String userId) {
+    Subject subject = new Subject();
+    subject.getPrincipals().add(new UserPrincipal(userId));
+    return subject;
+  }
+
+  /**
+   * Executes the given action as the user of the given {@linkplain Subject}.
+   *
+   * @param subject the {@linkplain Subject} of the user
+   * @param action the action to execute
+   * @param <T> the result type of the action
+   * @return the result of the action
+   * @throws Exception the exception the action has thrown
+   */
+  public static <T> T runAs(Subject subject, PrivilegedExceptionAction<T> action)
+      throws Exception {
+    try {
+      return Subject.doAs(subject, action);
+    } catch (PrivilegedActionException e) {
+      throw e.getException();
+    }
+  }
+
+  private static DataSource createDataSource(String databaseName) {
+    PooledDataSource dataSource =
+        new PooledDataSource(
+            Thread.currentThread().getContextClassLoader(),
+            "org.h2.Driver",
+            "jdbc:h2:mem:"
+                + databaseName
+                + ";NON_KEYWORDS=KEY,VALUE;LOCK_MODE=0;DB_CLOSE_DELAY=-1;"
+                + "INIT=CREATE SCHEMA IF NOT EXISTS "
+                + SCHEMA_NAME
+                + "\\;"
+                + "SET COLLATION DEFAULT_de_DE ",
+            "sa",
+            "sa");
+    dataSource.forceCloseAll(); // otherwise, the MyBatis pool is not initialized correctly
+    return dataSource;
+  }
+}
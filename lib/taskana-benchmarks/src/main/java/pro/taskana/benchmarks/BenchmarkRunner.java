@@ -0,0 +1,40 @@
+package pro.taskana.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks and writes the results as JSON, so that they can be compared from release
+ * to release.
+ *
+ * <p>The results are written to <code>jmh-result.json</code> in the working directory unless
+ * another file is given with <code>-rff</code>. All other JMH command line options are supported
+ * as well, e.g. a regular expression which selects the benchmarks to run: <code>
+ * java -jar target/benchmarks.jar WorkingTimeCalculator -rff workingtime.json</code>
+ */
+public final class BenchmarkRunner {
+
+  static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+  private BenchmarkRunner() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    ChainedOptionsBuilder options =
+        new OptionsBuilder().parent(commandLineOptions).resultFormat(ResultFormatType.JSON);
+    if (!commandLineOptions.getResult().hasValue()) {
+      options.result(DEFAULT_RESULT_FILE);
+    }
+    if (commandLineOptions.getIncludes().isEmpty()) {
+      options.include(BenchmarkRunner.class.getPackageName() + ".*Benchmark");
+    }
+    new Runner(options.build()).run();
+  }
+}
@@ -0,0 +1,114 @@
+package pro.taskana.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.reports.ClassificationCategoryReport;
+import pro.taskana.monitor.api.reports.ClassificationReport.DetailedClassificationReport;
+import pro.taskana.monitor.api.reports.TaskStatusReport;
+import pro.taskana.monitor.api.reports.WorkbasketReport;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.sampledata.SampleDataGenerator;
+
+/** Benchmarks the report builders of the {@linkplain MonitorService} on the monitor data. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MonitorServiceBenchmark {
+
+  private static final List<TimeIntervalColumnHeader> COLUMN_HEADERS =
+      List.of(
+          new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11),
+          new TimeIntervalColumnHeader(-10, -6),
+          new TimeIntervalColumnHeader(-5, -2),
+          new TimeIntervalColumnHeader(-1),
+          new TimeIntervalColumnHeader(0),
+          new TimeIntervalColumnHeader(1),
+          new TimeIntervalColumnHeader(2, 5),
+          new TimeIntervalColumnHeader(6, 10),
+          new TimeIntervalColumnHeader(11, Integer.MAX_VALUE));
+
+  private MonitorService monitorService;
+  private Subject subject;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    monitorService =
+        BenchmarkEnvironment.createTaskanaEngine(
+                "monitor",
+                sampleDataGenerator -> {
+                  sampleDataGenerator.clearDb();
+                  sampleDataGenerator.generateMonitorData();
+                })
+            .getMonitorService();
+    subject = BenchmarkEnvironment.subjectOf("monitor");
+  }
+
+  @Benchmark
+  public WorkbasketReport workbasketReport() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject,
+        () ->
+            monitorService
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .buildReport());
+  }
+
+  @Benchmark
+  public WorkbasketReport workbasketReportInWorkingDays() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject,
+        () ->
+            monitorService
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .inWorkingDays()
+                .buildReport());
+  }
+
+  @Benchmark
+  public ClassificationCategoryReport classificationCategoryReport() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject,
+        () ->
+            monitorService
+                .createClassificationCategoryReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .inWorkingDays()
+                .buildReport());
+  }
+
+  @Benchmark
+  public DetailedClassificationReport detailedClassificationReport() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject,
+        () ->
+            monitorService
+                .createClassificationReportBuilder()
+                .withColumnHeaders(COLUMN_HEADERS)
+                .inWorkingDays()
+                .buildDetailedReport());
+  }
+
+  @Benchmark
+  public TaskStatusReport taskStatusReport() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject, () -> monitorService.createTaskStatusReportBuilder().buildReport());
+  }
+}
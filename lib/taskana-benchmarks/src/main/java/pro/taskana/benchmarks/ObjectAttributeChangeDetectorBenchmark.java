@@ -0,0 +1,138 @@
+package pro.taskana.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.internal.models.TaskImpl;
+import pro.taskana.workbasket.api.WorkbasketCustomField;
+import pro.taskana.workbasket.api.WorkbasketType;
+import pro.taskana.workbasket.internal.models.WorkbasketImpl;
+
+/**
+ * Benchmarks the {@linkplain ObjectAttributeChangeDetector} with the entities whose updates are
+ * written to the history. The {@linkplain ReflectionObjectAttributeChangeDetector} is benchmarked
+ * as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectAttributeChangeDetectorBenchmark {
+
+  private final Instant created = Instant.parse("2024-01-01T08:00:00Z");
+
+  @Param({"CACHED", "REFLECTION"})
+  String implementation;
+
+  private BiFunction<Object, Object, String> detector;
+  private TaskImpl oldTask;
+  private TaskImpl newTask;
+  private WorkbasketImpl oldWorkbasket;
+  private WorkbasketImpl newWorkbasket;
+  private ClassificationImpl oldClassification;
+  private ClassificationImpl newClassification;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    if ("REFLECTION".equals(implementation)) {
+      detector = ReflectionObjectAttributeChangeDetector::determineChangesInAttributes;
+    } else {
+      detector = ObjectAttributeChangeDetector::determineChangesInAttributes;
+    }
+    oldTask = createTask(TaskState.READY, null, created);
+    newTask = createTask(TaskState.CLAIMED, "teamlead-1", created.plusSeconds(60));
+    oldWorkbasket = createWorkbasket("Gruppenpostkorb KSC", created);
+    newWorkbasket = createWorkbasket("Gruppenpostkorb KSC 1", created.plusSeconds(60));
+    oldClassification = createClassification(1, created);
+    newClassification = createClassification(2, created.plusSeconds(60));
+  }
+
+  @Benchmark
+  public String task() {
+    return detector.apply(oldTask, newTask);
+  }
+
+  @Benchmark
+  public String unchangedTask() {
+    return detector.apply(oldTask, oldTask);
+  }
+
+  @Benchmark
+  public String workbasket() {
+    return detector.apply(oldWorkbasket, newWorkbasket);
+  }
+
+  @Benchmark
+  public String classification() {
+    return detector.apply(oldClassification, newClassification);
+  }
+
+  private TaskImpl createTask(TaskState state, String owner, Instant modified) {
+    TaskImpl task = new TaskImpl();
+    task.setId("TKI:000000000000000000000000000000000000");
+    task.setName("Widerruf");
+    task.setCreated(created);
+    task.setModified(modified);
+    task.setState(state);
+    task.setOwner(owner);
+    task.setPriority(1);
+    task.setClassificationKey("L10000");
+    task.setWorkbasketKey("GPK_KSC");
+    task.setDomain("DOMAIN_A");
+    task.setBusinessProcessId("BPI21");
+    task.setPrimaryObjRef("00", "PASystem", "00", "VNR", "22334455");
+    for (TaskCustomField customField : TaskCustomField.values()) {
+      task.setCustomField(customField, customField.name());
+    }
+    return task;
+  }
+
+  private WorkbasketImpl createWorkbasket(String name, Instant modified) {
+    WorkbasketImpl workbasket = new WorkbasketImpl();
+    workbasket.setId("WBI:100000000000000000000000000000000001");
+    workbasket.setKey("GPK_KSC");
+    workbasket.setDomain("DOMAIN_A");
+    workbasket.setName(name);
+    workbasket.setType(WorkbasketType.GROUP);
+    workbasket.setOwner("teamlead-1");
+    workbasket.setCreated(created);
+    workbasket.setModified(modified);
+    for (WorkbasketCustomField customField : WorkbasketCustomField.values()) {
+      workbasket.setCustomField(customField, customField.name());
+    }
+    return workbasket;
+  }
+
+  private ClassificationImpl createClassification(int priority, Instant modified) {
+    ClassificationImpl classification = new ClassificationImpl();
+    classification.setId("CLI:100000000000000000000000000000000014");
+    classification.setKey("L10000");
+    classification.setDomain("DOMAIN_A");
+    classification.setName("BUZ-Leistungsfall");
+    classification.setCategory("EXTERNAL");
+    classification.setType("TASK");
+    classification.setPriority(priority);
+    classification.setServiceLevel("P1D");
+    classification.setCreated(created);
+    classification.setModified(modified);
+    return classification;
+  }
+}
@@ -0,0 +1,214 @@
+package pro.taskana.benchmarks;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import pro.taskana.common.api.LocalTimeInterval;
+import pro.taskana.common.api.WorkingTimeCalculator;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.internal.workingtime.HolidaySchedule;
+import pro.taskana.common.internal.workingtime.WorkingTimeCalculatorImpl;
+
+/**
+ * The {@linkplain WorkingTimeCalculatorImpl} as it was before the work slots were indexed per year.
+ * It walks from work slot to work slot recursively and serves as the baseline of the {@linkplain
+ * WorkingTimeCalculatorBenchmark}.
+ */
+class RecursiveWorkingTimeCalculator implements WorkingTimeCalculator {
+
+  private final ZoneId zoneId;
+  private final HolidaySchedule holidaySchedule;
+  private final Map<DayOfWeek, List<LocalTimeInterval>> workSlotsAscending =
+      new EnumMap<>(DayOfWeek.class);
+  private final Map<DayOfWeek, List<LocalTimeInterval>> workSlotsDescending =
+      new EnumMap<>(DayOfWeek.class);
+
+  RecursiveWorkingTimeCalculator(
+      HolidaySchedule holidaySchedule,
+      Map<DayOfWeek, Set<LocalTimeInterval>> workingTimeSchedule,
+      ZoneId zoneId) {
+    this.holidaySchedule = holidaySchedule;
+    this.zoneId = Objects.requireNonNull(zoneId);
+    for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+      List<LocalTimeInterval> workSlots =
+          new ArrayList<>(workingTimeSchedule.getOrDefault(dayOfWeek, Set.of()));
+      workSlots.sort(Comparator.comparing(LocalTimeInterval::getBegin));
+      workSlotsAscending.put(dayOfWeek, List.copyOf(workSlots));
+      workSlots.sort(Comparator.comparing(LocalTimeInterval::getBegin).reversed());
+      workSlotsDescending.put(dayOfWeek, List.copyOf(workSlots));
+    }
+  }
+
+  @Override
+  public Instant subtractWorkingTime(Instant workStart, Duration workingTime)
+      throws InvalidArgumentException {
+    validatePositiveDuration(workingTime);
+    ZonedDateTime workStartInTimeZone = workStart.atZone(zoneId);
+    WorkSlot workSlot = getWorkSlotOrPrevious(workStartInTimeZone);
+    return workSlot.subtractWorkingTime(workStartInTimeZone, workingTime).toInstant();
+  }
+
+  @Override
+  public Instant addWorkingTime(Instant workStart, Duration workingTime)
+      throws InvalidArgumentException {
+    validatePositiveDuration(workingTime);
+    ZonedDateTime workStartInTimeZone = workStart.atZone(zoneId);
+    WorkSlot workSlot = getWorkSlotOrNext(workStartInTimeZone);
+    return workSlot.addWorkingTime(workStartInTimeZone, workingTime).toInstant();
+  }
+
+  @Override
+  public Duration workingTimeBetween(Instant first, Instant second)
+      throws InvalidArgumentException {
+    if (first == null || second == null) {
+      throw new InvalidArgumentException("Neither first nor second may be null.");
+    }
+    if (first.isAfter(second)) {
+      return calculateWorkingTime(second.atZone(zoneId), first.atZone(zoneId));
+    }
+    return calculateWorkingTime(first.atZone(zoneId), second.atZone(zoneId));
+  }
+
+  @Override
+  public boolean isWorkingDay(Instant instant) {
+    return !workSlotsAscending.get(toLocalDate(instant).getDayOfWeek()).isEmpty()
+        && !isHoliday(instant);
+  }
+
+  @Override
+  public boolean isWeekend(Instant instant) {
+    DayOfWeek dayOfWeek = toLocalDate(instant).getDayOfWeek();
+    return dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY;
+  }
+
+  @Override
+  public boolean isHoliday(Instant instant) {
+    return holidaySchedule.isHoliday(toLocalDate(instant));
+  }
+
+  @Override
+  public boolean isGermanHoliday(Instant instant) {
+    return holidaySchedule.isGermanHoliday(toLocalDate(instant));
+  }
+
+  private Duration calculateWorkingTime(ZonedDateTime from, ZonedDateTime to) {
+    WorkSlot bestMatchingWorkSlot = getWorkSlotOrNext(from);
+    ZonedDateTime earliestWorkStart = max(from, bestMatchingWorkSlot.start);
+    ZonedDateTime endOfWorkSlot = bestMatchingWorkSlot.end;
+
+    if (endOfWorkSlot.compareTo(to) >= 0) {
+      if (bestMatchingWorkSlot.start.compareTo(to) <= 0) {
+        return Duration.between(earliestWorkStart, to);
+      } else {
+        return Duration.ZERO;
+      }
+    } else {
+      return Duration.between(earliestWorkStart, endOfWorkSlot)
+          .plus(calculateWorkingTime(endOfWorkSlot, to));
+    }
+  }
+
+  private void validatePositiveDuration(Duration workingTime) {
+    if (workingTime.isNegative()) {
+      throw new InvalidArgumentException("Duration must be zero or positive.");
+    }
+  }
+
+  private WorkSlot getWorkSlotOrNext(ZonedDateTime currentDateTime) {
+    LocalDate currentDate = currentDateTime.toLocalDate();
+    if (holidaySchedule.isHoliday(currentDate)) {
+      return getWorkSlotOrNext(getDayAfter(currentDateTime));
+    }
+    Optional<LocalTimeInterval> workSlotEndingAfterCurrentTime =
+        workSlotsAscending.get(currentDate.getDayOfWeek()).stream()
+            .filter(it -> it.getEnd().isAfter(currentDateTime.toLocalTime()))
+            .findFirst();
+    return workSlotEndingAfterCurrentTime
+        .map(it -> new WorkSlot(currentDate, it))
+        .orElseGet(() -> getWorkSlotOrNext(getDayAfter(currentDateTime)));
+  }
+
+  private WorkSlot getWorkSlotOrPrevious(ZonedDateTime currentDateTime) {
+    LocalDate currentDate = currentDateTime.toLocalDate();
+    if (holidaySchedule.isHoliday(currentDate)) {
+      return getWorkSlotOrPrevious(getDayBefore(currentDateTime));
+    }
+    Optional<LocalTimeInterval> workSlotStartingBeforeCurrentTime =
+        workSlotsDescending.get(currentDate.getDayOfWeek()).stream()
+            .filter(it -> !it.getBegin().isAfter(currentDateTime.toLocalTime()))
+            .findFirst();
+    return workSlotStartingBeforeCurrentTime
+        .map(it -> new WorkSlot(currentDate, it))
+        .orElseGet(() -> getWorkSlotOrPrevious(getDayBefore(currentDateTime)));
+  }
+
+  private ZonedDateTime getDayAfter(ZonedDateTime current) {
+    return LocalDateTime.of(current.toLocalDate().plusDays(1), LocalTime.MIN)
+        .atZone(current.getZone());
+  }
+
+  private ZonedDateTime getDayBefore(ZonedDateTime current) {
+    return LocalDateTime.of(current.toLocalDate().minusDays(1), LocalTime.MAX)
+        .atZone(current.getZone());
+  }
+
+  private LocalDate toLocalDate(Instant instant) {
+    return LocalDate.ofInstant(instant, zoneId);
+  }
+
+  private static ZonedDateTime max(ZonedDateTime a, ZonedDateTime b) {
+    return a.isAfter(b) ? a : b;
+  }
+
+  private static ZonedDateTime min(ZonedDateTime a, ZonedDateTime b) {
+    return a.isBefore(b) ? a : b;
+  }
+
+  private class WorkSlot {
+
+    private final ZonedDateTime start;
+    private final ZonedDateTime end;
+
+    private WorkSlot(LocalDate day, LocalTimeInterval interval) {
+      this.start = LocalDateTime.of(day, interval.getBegin()).atZone(zoneId);
+      if (interval.getEnd().equals(LocalTime.MAX)) {
+        this.end = day.plusDays(1).atStartOfDay().atZone(zoneId);
+      } else {
+        this.end = LocalDateTime.of(day, interval.getEnd()).atZone(zoneId);
+      }
+    }
+
+    private ZonedDateTime subtractWorkingTime(ZonedDateTime workStart, Duration workingTime) {
+      ZonedDateTime latestWorkEnd = min(workStart, end);
+      Duration untilStartOfWorkSlot = Duration.between(start, latestWorkEnd);
+      if (workingTime.compareTo(untilStartOfWorkSlot) <= 0) {
+        return latestWorkEnd.minus(workingTime);
+      }
+      // start is inclusive, hence the previous work slot ends before it
+      return getWorkSlotOrPrevious(start.minusNanos(1))
+          .subtractWorkingTime(start, workingTime.minus(untilStartOfWorkSlot));
+    }
+
+    private ZonedDateTime addWorkingTime(ZonedDateTime workStart, Duration workingTime) {
+      ZonedDateTime earliestWorkStart = max(workStart, start);
+      Duration untilEndOfWorkSlot = Duration.between(earliestWorkStart, end);
+      if (workingTime.compareTo(untilEndOfWorkSlot) <= 0) {
+        return earliestWorkStart.plus(workingTime);
+      }
+      return getWorkSlotOrNext(end).addWorkingTime(end, workingTime.minus(untilEndOfWorkSlot));
+    }
+  }
+}
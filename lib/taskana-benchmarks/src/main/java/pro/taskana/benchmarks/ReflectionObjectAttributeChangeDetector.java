@@ -0,0 +1,65 @@
+package pro.taskana.benchmarks;
+
+import static java.util.function.Predicate.not;
+import static pro.taskana.common.internal.util.CheckedFunction.wrap;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.json.JSONObject;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
+import pro.taskana.common.internal.util.ReflectionUtil;
+import pro.taskana.common.internal.util.Triplet;
+
+/**
+ * The {@linkplain ObjectAttributeChangeDetector} as it was before the field accessors were cached.
+ * It retrieves and reads the fields by reflection on every call and serves as the baseline of the
+ * {@linkplain ObjectAttributeChangeDetectorBenchmark}. Lists are not supported.
+ */
+class ReflectionObjectAttributeChangeDetector {
+
+  private ReflectionObjectAttributeChangeDetector() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  static <T> String determineChangesInAttributes(T oldObject, T newObject) {
+    if (oldObject == null || newObject == null) {
+      throw new SystemException(
+          "Null was provided as a parameter. Please provide two objects of the same type");
+    }
+    Class<?> objectClass = oldObject.getClass();
+    if (!objectClass.isAssignableFrom(newObject.getClass())) {
+      throw new SystemException(
+          String.format(
+              "The classes differ between the oldObject(%s) and newObject(%s). "
+                  + "In order to detect changes properly they should not differ.",
+              objectClass.getName(), newObject.getClass().getName()));
+    }
+
+    List<JSONObject> changedAttributes =
+        ReflectionUtil.retrieveAllFields(objectClass).stream()
+            .peek(field -> field.setAccessible(true))
+            .filter(not(field -> "customAttributes".equals(field.getName())))
+            .map(wrap(field -> Triplet.of(field, field.get(oldObject), field.get(newObject))))
+            .filter(not(t -> Objects.equals(t.getMiddle(), t.getRight())))
+            .map(t -> generateChangedAttribute(t.getLeft(), t.getMiddle(), t.getRight()))
+            .toList();
+
+    JSONObject changes = new JSONObject();
+    changes.put("changes", changedAttributes);
+    return changes.toString();
+  }
+
+  private static JSONObject generateChangedAttribute(
+      Field field, Object oldValue, Object newValue) {
+    JSONObject changedAttribute = new JSONObject();
+    changedAttribute.put("fieldName", field.getName());
+    changedAttribute.put(
+        "oldValue", Optional.ofNullable(oldValue).map(JSONObject::wrap).orElse(""));
+    changedAttribute.put(
+        "newValue", Optional.ofNullable(newValue).map(JSONObject::wrap).orElse(""));
+    return changedAttribute;
+  }
+}
@@ -0,0 +1,111 @@
+package pro.taskana.benchmarks;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.TimeInterval;
+import pro.taskana.sampledata.SampleDataGenerator;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.TaskState;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * Benchmarks the {@linkplain pro.taskana.task.api.TaskQuery TaskQuery} with the filters a task
+ * list of a client typically uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskQueryBenchmark {
+
+  @Param("2000")
+  int additionalTasks;
+
+  private TaskService taskService;
+  private Subject subject;
+  private TimeInterval nextWeek;
+
+  @Setup(Level.Trial)
+  public void setup() throws Exception {
+    taskService =
+        BenchmarkEnvironment.createTaskanaEngine(
+                "task-query", SampleDataGenerator::generateSampleData)
+            .getTaskService();
+    subject = BenchmarkEnvironment.subjectOf(TaskServiceBenchmark.USER_ID);
+    BenchmarkEnvironment.runAs(
+        subject,
+        () -> {
+          for (int i = 0; i < additionalTasks; i++) {
+            String taskId = TaskServiceBenchmark.createTask(taskService).getId();
+            if (i % 2 == 0) {
+              taskService.claim(taskId);
+            }
+          }
+          return null;
+        });
+    Instant now = Instant.now();
+    nextWeek = new TimeInterval(now, now.plus(7, ChronoUnit.DAYS));
+  }
+
+  @Benchmark
+  public List<TaskSummary> readyTasksOfWorkbasketByPriority() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject,
+        () ->
+            taskService
+                .createTaskQuery()
+                .workbasketIdIn(TaskServiceBenchmark.WORKBASKET_ID)
+                .stateIn(TaskState.READY)
+                .orderByPriority(SortDirection.DESCENDING)
+                .listPage(1, 20));
+  }
+
+  @Benchmark
+  public List<TaskSummary> claimedTasksOfOwnerByDue() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject,
+        () ->
+            taskService
+                .createTaskQuery()
+                .ownerIn(TaskServiceBenchmark.USER_ID)
+                .stateIn(TaskState.CLAIMED)
+                .orderByDue(SortDirection.ASCENDING)
+                .listPage(1, 20));
+  }
+
+  @Benchmark
+  public List<TaskSummary> tasksOfClassificationDueNextWeek() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject,
+        () ->
+            taskService
+                .createTaskQuery()
+                .classificationKeyIn("L10000")
+                .dueWithin(nextWeek)
+                .list());
+  }
+
+  @Benchmark
+  public long countReadyTasks() throws Exception {
+    return BenchmarkEnvironment.runAs(
+        subject, () -> taskService.createTaskQuery().stateIn(TaskState.READY).count());
+  }
+}
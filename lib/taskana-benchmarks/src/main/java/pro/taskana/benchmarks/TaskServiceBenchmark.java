@@ -0,0 +1,123 @@
+package pro.taskana.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.security.auth.Subject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.taskana.common.api.BulkOperationResults;
+import pro.taskana.common.api.exceptions.TaskanaException;
+import pro.taskana.sampledata.SampleDataGenerator;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.Task;
+
+/**
+ * Benchmarks the life cycle operations of the {@linkplain TaskService}.
+ *
+ * <p>The tasks which are claimed or completed are created before each invocation. These
+ * operations take milliseconds, so the overhead of the invocation level setup is negligible.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+  static final String WORKBASKET_ID = "WBI:100000000000000000000000000000000001";
+  static final String USER_ID = "teamlead-1";
+
+  @Benchmark
+  public Task createTask(TaskServiceState state) throws Exception {
+    return BenchmarkEnvironment.runAs(state.subject, () -> createTask(state.taskService));
+  }
+
+  @Benchmark
+  public Task claim(ClaimState state) throws Exception {
+    return BenchmarkEnvironment.runAs(
+        state.service.subject, () -> state.service.taskService.claim(state.taskId));
+  }
+
+  @Benchmark
+  public BulkOperationResults<String, TaskanaException> completeTasks(CompleteState state)
+      throws Exception {
+    return BenchmarkEnvironment.runAs(
+        state.service.subject, () -> state.service.taskService.completeTasks(state.taskIds));
+  }
+
+  static Task createTask(TaskService taskService) throws Exception {
+    Task task = taskService.newTask(WORKBASKET_ID);
+    task.setClassificationKey("L10000");
+    task.setPrimaryObjRef("00", "PASystem", "00", "VNR", "22334455");
+    return taskService.createTask(task);
+  }
+
+  @State(Scope.Benchmark)
+  public static class TaskServiceState {
+
+    TaskService taskService;
+    Subject subject;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+      taskService =
+          BenchmarkEnvironment.createTaskanaEngine(
+                  "task-service", SampleDataGenerator::generateSampleData)
+              .getTaskService();
+      subject = BenchmarkEnvironment.subjectOf(USER_ID);
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class ClaimState {
+
+    TaskServiceState service;
+    String taskId;
+
+    @Setup(Level.Invocation)
+    public void createReadyTask(TaskServiceState service) throws Exception {
+      this.service = service;
+      taskId =
+          BenchmarkEnvironment.runAs(service.subject, () -> createTask(service.taskService))
+              .getId();
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class CompleteState {
+
+    @Param("10")
+    int tasksPerCall;
+
+    TaskServiceState service;
+    List<String> taskIds;
+
+    @Setup(Level.Invocation)
+    public void createClaimedTasks(TaskServiceState service) throws Exception {
+      this.service = service;
+      taskIds =
+          BenchmarkEnvironment.runAs(
+              service.subject,
+              () -> {
+                List<String> ids = new ArrayList<>(tasksPerCall);
+                for (int i = 0; i < tasksPerCall; i++) {
+                  String taskId = createTask(service.taskService).getId();
+                  service.taskService.claim(taskId);
+                  ids.add(taskId);
+                }
+                return ids;
+              });
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package pro.taskana.benchmarks;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.taskana.common.api.LocalTimeInterval;
+import pro.taskana.common.api.WorkingTimeCalculator;
+import pro.taskana.common.internal.workingtime.HolidaySchedule;
+import pro.taskana.common.internal.workingtime.WorkingTimeCalculatorImpl;
+
+/**
+ * Benchmarks the {@linkplain WorkingTimeCalculatorImpl} with an office hours schedule and German
+ * public holidays, for working times from hours up to several months. The {@linkplain
+ * RecursiveWorkingTimeCalculator} is benchmarked as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkingTimeCalculatorBenchmark {
+
+  private static final int INSTANT_COUNT = 1024;
+
+  @Param({"PT4H", "PT40H", "PT400H"})
+  String workingTime;
+
+  @Param({"INDEXED", "RECURSIVE"})
+  String implementation;
+
+  private WorkingTimeCalculator calculator;
+  private Duration duration;
+  private Instant[] instants;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Map<DayOfWeek, Set<LocalTimeInterval>> schedule =
+        EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY).stream()
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    day ->
+                        Set.of(
+                            new LocalTimeInterval(LocalTime.of(8, 0), LocalTime.of(12, 0)),
+                            new LocalTimeInterval(LocalTime.of(13, 0), LocalTime.of(17, 0)))));
+    HolidaySchedule holidaySchedule = new HolidaySchedule(true, false);
+    ZoneId zoneId = ZoneId.of("Europe/Berlin");
+    if ("RECURSIVE".equals(implementation)) {
+      calculator = new RecursiveWorkingTimeCalculator(holidaySchedule, schedule, zoneId);
+    } else {
+      calculator = new WorkingTimeCalculatorImpl(holidaySchedule, schedule, zoneId);
+    }
+    duration = Duration.parse(workingTime);
+
+    Random random = new Random(42);
+    Instant start = Instant.parse("2024-01-01T00:00:00Z");
+    long range = ChronoUnit.SECONDS.between(start, Instant.parse("2026-01-01T00:00:00Z"));
+    instants = new Instant[INSTANT_COUNT];
+    for (int i = 0; i < INSTANT_COUNT; i++) {
+      instants[i] = start.plusSeconds((long) (random.nextDouble() * range));
+    }
+  }
+
+  @Benchmark
+  public Instant addWorkingTime() {
+    return calculator.addWorkingTime(nextInstant(), duration);
+  }
+
+  @Benchmark
+  public Instant subtractWorkingTime() {
+    return calculator.subtractWorkingTime(nextInstant(), duration);
+  }
+
+  @Benchmark
+  public Duration workingTimeBetween() {
+    Instant first = nextInstant();
+    return calculator.workingTimeBetween(first, first.plus(duration.multipliedBy(3)));
+  }
+
+  private Instant nextInstant() {
+    index = (index + 1) & (INSTANT_COUNT - 1);
+    return instants[index];
+  }
+}
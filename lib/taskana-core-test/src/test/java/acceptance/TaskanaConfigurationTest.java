@@ -103,6 +103,7 @@ class TaskanaConfigurationTest {
       assertThat(configuration.getClassificationTypes()).isEqualTo(Collections.emptyList());
       assertThat(configuration.getClassificationCategoriesByType())
           .isEqualTo(Collections.emptyMap());
+      assertThat(configuration.getClassificationCacheExpiration()).isEqualTo(Duration.ZERO);
       // working time configuration
       assertThat(configuration.getWorkingTimeSchedule()).isEqualTo(defaultWorkingTimeSchedule);
       assertThat(configuration.getWorkingTimeScheduleTimeZone())
@@ -113,6 +114,10 @@ class TaskanaConfigurationTest {
       // history configuration
       assertThat(configuration.isDeleteHistoryEventsOnTaskDeletionEnabled()).isFalse();
       assertThat(configuration.getLogHistoryLoggerName()).isNull();
+      assertThat(configuration.isSimpleHistoryWriteBehindEnabled()).isFalse();
+      assertThat(configuration.getSimpleHistoryWriteBehindBatchSize()).isEqualTo(100);
+      assertThat(configuration.getSimpleHistoryWriteBehindMaxLatency())
+          .isEqualTo(Duration.ofSeconds(1));
       // job configuration
       assertThat(configuration.isJobSchedulerEnabled()).isTrue();
       assertThat(configuration.getJobSchedulerInitialStartDelay()).isEqualTo(0);
@@ -141,10 +146,24 @@ class TaskanaConfigurationTest {
           .isEqualTo(Instant.parse("2023-01-01T23:00:00Z"));
       assertThat(configuration.getUserRefreshJobRunEvery()).isEqualTo(Duration.ofDays(1));
       assertThat(configuration.getCustomJobs()).isEqualTo(Collections.emptySet());
+      assertThat(configuration.getTaskUpdatePriorityJobPoolSize()).isEqualTo(1);
+      assertThat(configuration.getTaskUpdatePriorityJobPartitions()).isEqualTo(1);
+      assertThat(configuration.getJobRunnerPoolSize()).isEqualTo(1);
       // user configuration
       assertThat(configuration.isAddAdditionalUserInfo()).isFalse();
       assertThat(configuration.getMinimalPermissionsToAssignDomains())
           .isEqualTo(Collections.emptySet());
+      assertThat(configuration.getWorkbasketPermissionCacheExpiration()).isEqualTo(Duration.ZERO);
+      assertThat(configuration.getWorkbasketCacheExpiration()).isEqualTo(Duration.ZERO);
+      // service provider configuration
+      assertThat(configuration.getSpiTimeout()).isEqualTo(Duration.ZERO);
+      assertThat(configuration.getSpiMaxConcurrentCalls()).isEqualTo(10);
+      assertThat(configuration.getSpiCircuitBreakerFailureThreshold()).isEqualTo(5);
+      assertThat(configuration.getSpiCircuitBreakerOpenDuration())
+          .isEqualTo(Duration.ofSeconds(30));
+      // monitor configuration
+      assertThat(configuration.getReportAggregateRefreshInterval()).isEqualTo(Duration.ZERO);
+      assertThat(configuration.isUseSkipLockedForSelectAndClaim()).isFalse();
     }
 
     @Test
@@ -177,6 +196,8 @@ class TaskanaConfigurationTest {
               Map.ofEntries(
                   Map.entry("TASK", List.of("EXTERNAL", "MANUAL", "AUTOMATIC", "PROCESS")),
                   Map.entry("DOCUMENT", List.of("EXTERNAL"))));
+      assertThat(configuration.getClassificationCacheExpiration())
+          .isEqualTo(Duration.ofMinutes(5));
       // working time configuration
       //
       // assertThat(configuration.getWorkingTimeSchedule()).isEqualTo(defaultWorkingTimeSchedule);
@@ -188,6 +209,10 @@ class TaskanaConfigurationTest {
       // history configuration
       assertThat(configuration.isDeleteHistoryEventsOnTaskDeletionEnabled()).isTrue();
       assertThat(configuration.getLogHistoryLoggerName()).isEqualTo("AUDIT");
+      assertThat(configuration.isSimpleHistoryWriteBehindEnabled()).isTrue();
+      assertThat(configuration.getSimpleHistoryWriteBehindBatchSize()).isEqualTo(200);
+      assertThat(configuration.getSimpleHistoryWriteBehindMaxLatency())
+          .isEqualTo(Duration.ofMillis(200));
       // job configuration
       assertThat(configuration.isJobSchedulerEnabled()).isFalse();
       assertThat(configuration.getJobSchedulerInitialStartDelay()).isEqualTo(30);
@@ -216,10 +241,26 @@ class TaskanaConfigurationTest {
           .isEqualTo(Instant.parse("2018-07-25T08:00:00Z"));
       assertThat(configuration.getUserRefreshJobRunEvery()).isEqualTo(Duration.ofDays(4));
       assertThat(configuration.getCustomJobs()).isEqualTo(Set.of("A", "B", "C"));
+      assertThat(configuration.getTaskUpdatePriorityJobPoolSize()).isEqualTo(4);
+      assertThat(configuration.getTaskUpdatePriorityJobPartitions()).isEqualTo(16);
+      assertThat(configuration.getJobRunnerPoolSize()).isEqualTo(6);
       // user configuration
       assertThat(configuration.isAddAdditionalUserInfo()).isTrue();
       assertThat(configuration.getMinimalPermissionsToAssignDomains())
           .isEqualTo(Set.of(WorkbasketPermission.READ, WorkbasketPermission.OPEN));
+      assertThat(configuration.getWorkbasketPermissionCacheExpiration())
+          .isEqualTo(Duration.ofSeconds(10));
+      assertThat(configuration.getWorkbasketCacheExpiration()).isEqualTo(Duration.ofMinutes(2));
+      // service provider configuration
+      assertThat(configuration.getSpiTimeout()).isEqualTo(Duration.ofMillis(500));
+      assertThat(configuration.getSpiMaxConcurrentCalls()).isEqualTo(20);
+      assertThat(configuration.getSpiCircuitBreakerFailureThreshold()).isEqualTo(3);
+      assertThat(configuration.getSpiCircuitBreakerOpenDuration())
+          .isEqualTo(Duration.ofMinutes(1));
+      // monitor configuration
+      assertThat(configuration.getReportAggregateRefreshInterval())
+          .isEqualTo(Duration.ofSeconds(30));
+      assertThat(configuration.isUseSkipLockedForSelectAndClaim()).isTrue();
       assertThat(configuration.getProperties())
           .contains(
               Map.entry("my_custom_property1", "my_custom_value1"),
@@ -250,6 +291,7 @@ class TaskanaConfigurationTest {
       List<String> expectedClassificationTypes = List.of("TYPE_A", "TYPE_B");
       Map<String, List<String>> expectedClassificationCategories =
           Map.of("TYPE_A", List.of("CATEGORY_A"), "TYPE_B", List.of("CATEGORY_B"));
+      Duration expectedClassificationCacheExpiration = Duration.ofMinutes(1);
       // working time configuration
       boolean expectedUseDetailedWorkingTimeCalculation = false;
       Map<DayOfWeek, Set<LocalTimeInterval>> expectedWorkingTimeSchedule =
@@ -261,6 +303,9 @@ class TaskanaConfigurationTest {
       // history configuration
       boolean expectedDeleteHistoryEventsOnTaskDeletionEnabled = true;
       String expectedLogHistoryLoggerName = "LOGGER_NAME";
+      boolean expectedSimpleHistoryWriteBehindEnabled = true;
+      int expectedSimpleHistoryWriteBehindBatchSize = 250;
+      Duration expectedSimpleHistoryWriteBehindMaxLatency = Duration.ofMillis(500);
       // job configuration
       boolean expectedJobSchedulerEnabled = false;
       long expectedJobSchedulerInitialStartDelay = 15;
@@ -291,13 +336,26 @@ class TaskanaConfigurationTest {
       Instant expectedUserRefreshJobFirstRun = Instant.MIN.plus(2, ChronoUnit.DAYS);
       Duration expectedUserRefreshJobRunEvery = Duration.ofDays(5);
       Duration expectedUserRefreshJobLockExpirationPeriod = Duration.ofDays(2);
+      int expectedJobRunnerPoolSize = 4;
+      int expectedTaskUpdatePriorityJobPoolSize = 3;
+      int expectedTaskUpdatePriorityJobPartitions = 8;
       Set<String> expectedJobSchedulerCustomJobs = Set.of("Job_A", "Job_B");
       // user configuration
       boolean expectedAddAdditionalUserInfo = true;
       Set<WorkbasketPermission> expectedMinimalPermissionsToAssignDomains =
           Set.of(WorkbasketPermission.CUSTOM_2);
+      Duration expectedWorkbasketPermissionCacheExpiration = Duration.ofSeconds(30);
+      Duration expectedWorkbasketCacheExpiration = Duration.ofMinutes(1);
+      // service provider configuration
+      Duration expectedSpiTimeout = Duration.ofSeconds(2);
+      int expectedSpiMaxConcurrentCalls = 4;
+      int expectedSpiCircuitBreakerFailureThreshold = 8;
+      Duration expectedSpiCircuitBreakerOpenDuration = Duration.ofSeconds(45);
+      // monitor configuration
+      Duration expectedReportAggregateRefreshInterval = Duration.ofMinutes(5);
       // database configuration
       boolean expectedUseSpecificDb2Taskquery = false;
+      boolean expectedUseSkipLockedForSelectAndClaim = true;
 
       // when
       TaskanaConfiguration configuration =
@@ -314,6 +372,7 @@ class TaskanaConfigurationTest {
               // classification configuration
               .classificationTypes(expectedClassificationTypes)
               .classificationCategoriesByType(expectedClassificationCategories)
+              .classificationCacheExpiration(expectedClassificationCacheExpiration)
               // working time configuration
               .useWorkingTimeCalculation(expectedUseDetailedWorkingTimeCalculation)
               .workingTimeSchedule(expectedWorkingTimeSchedule)
@@ -326,6 +385,9 @@ class TaskanaConfigurationTest {
               .deleteHistoryEventsOnTaskDeletionEnabled(
                   expectedDeleteHistoryEventsOnTaskDeletionEnabled)
               .logHistoryLoggerName(expectedLogHistoryLoggerName)
+              .simpleHistoryWriteBehindEnabled(expectedSimpleHistoryWriteBehindEnabled)
+              .simpleHistoryWriteBehindBatchSize(expectedSimpleHistoryWriteBehindBatchSize)
+              .simpleHistoryWriteBehindMaxLatency(expectedSimpleHistoryWriteBehindMaxLatency)
               // job configuration
               .jobSchedulerEnabled(expectedJobSchedulerEnabled)
               .jobSchedulerInitialStartDelay(expectedJobSchedulerInitialStartDelay)
@@ -361,11 +423,24 @@ class TaskanaConfigurationTest {
               .userRefreshJobFirstRun(expectedUserRefreshJobFirstRun)
               .userRefreshJobRunEvery(expectedUserRefreshJobRunEvery)
               .userRefreshJobLockExpirationPeriod(expectedUserRefreshJobLockExpirationPeriod)
+              .jobRunnerPoolSize(expectedJobRunnerPoolSize)
+              .taskUpdatePriorityJobPoolSize(expectedTaskUpdatePriorityJobPoolSize)
+              .taskUpdatePriorityJobPartitions(expectedTaskUpdatePriorityJobPartitions)
               .customJobs(expectedJobSchedulerCustomJobs)
               // user configuration
               .addAdditionalUserInfo(expectedAddAdditionalUserInfo)
               .minimalPermissionsToAssignDomains(expectedMinimalPermissionsToAssignDomains)
+              .workbasketPermissionCacheExpiration(expectedWorkbasketPermissionCacheExpiration)
+              .workbasketCacheExpiration(expectedWorkbasketCacheExpiration)
+              // service provider configuration
+              .spiTimeout(expectedSpiTimeout)
+              .spiMaxConcurrentCalls(expectedSpiMaxConcurrentCalls)
+              .spiCircuitBreakerFailureThreshold(expectedSpiCircuitBreakerFailureThreshold)
+              .spiCircuitBreakerOpenDuration(expectedSpiCircuitBreakerOpenDuration)
+              // monitor configuration
+              .reportAggregateRefreshInterval(expectedReportAggregateRefreshInterval)
               .useSpecificDb2Taskquery(expectedUseSpecificDb2Taskquery)
+              .useSkipLockedForSelectAndClaim(expectedUseSkipLockedForSelectAndClaim)
               .build();
 
       // then
@@ -384,6 +459,8 @@ class TaskanaConfigurationTest {
       assertThat(configuration.getClassificationTypes()).isEqualTo(expectedClassificationTypes);
       assertThat(configuration.getClassificationCategoriesByType())
           .isEqualTo(expectedClassificationCategories);
+      assertThat(configuration.getClassificationCacheExpiration())
+          .isEqualTo(expectedClassificationCacheExpiration);
       // working time configuration
       assertThat(configuration.isUseWorkingTimeCalculation())
           .isEqualTo(expectedUseDetailedWorkingTimeCalculation);
@@ -399,6 +476,12 @@ class TaskanaConfigurationTest {
       assertThat(configuration.isDeleteHistoryEventsOnTaskDeletionEnabled())
           .isEqualTo(expectedDeleteHistoryEventsOnTaskDeletionEnabled);
       assertThat(configuration.getLogHistoryLoggerName()).isEqualTo(expectedLogHistoryLoggerName);
+      assertThat(configuration.isSimpleHistoryWriteBehindEnabled())
+          .isEqualTo(expectedSimpleHistoryWriteBehindEnabled);
+      assertThat(configuration.getSimpleHistoryWriteBehindBatchSize())
+          .isEqualTo(expectedSimpleHistoryWriteBehindBatchSize);
+      assertThat(configuration.getSimpleHistoryWriteBehindMaxLatency())
+          .isEqualTo(expectedSimpleHistoryWriteBehindMaxLatency);
       // job configuration
       assertThat(configuration.isJobSchedulerEnabled()).isEqualTo(expectedJobSchedulerEnabled);
       assertThat(configuration.getJobSchedulerInitialStartDelay())
@@ -440,10 +523,32 @@ class TaskanaConfigurationTest {
       assertThat(configuration.getUserRefreshJobRunEvery())
           .isEqualTo(expectedUserRefreshJobRunEvery);
       assertThat(configuration.getCustomJobs()).isEqualTo(expectedJobSchedulerCustomJobs);
+      assertThat(configuration.getTaskUpdatePriorityJobPoolSize())
+          .isEqualTo(expectedTaskUpdatePriorityJobPoolSize);
+      assertThat(configuration.getTaskUpdatePriorityJobPartitions())
+          .isEqualTo(expectedTaskUpdatePriorityJobPartitions);
+      assertThat(configuration.getJobRunnerPoolSize()).isEqualTo(expectedJobRunnerPoolSize);
       // user configuration
       assertThat(configuration.isAddAdditionalUserInfo()).isEqualTo(expectedAddAdditionalUserInfo);
       assertThat(configuration.getMinimalPermissionsToAssignDomains())
           .isEqualTo(expectedMinimalPermissionsToAssignDomains);
+      assertThat(configuration.getWorkbasketPermissionCacheExpiration())
+          .isEqualTo(expectedWorkbasketPermissionCacheExpiration);
+      assertThat(configuration.getWorkbasketCacheExpiration())
+          .isEqualTo(expectedWorkbasketCacheExpiration);
+      // service provider configuration
+      assertThat(configuration.getSpiTimeout()).isEqualTo(expectedSpiTimeout);
+      assertThat(configuration.getSpiMaxConcurrentCalls())
+          .isEqualTo(expectedSpiMaxConcurrentCalls);
+      assertThat(configuration.getSpiCircuitBreakerFailureThreshold())
+          .isEqualTo(expectedSpiCircuitBreakerFailureThreshold);
+      assertThat(configuration.getSpiCircuitBreakerOpenDuration())
+          .isEqualTo(expectedSpiCircuitBreakerOpenDuration);
+      // monitor configuration
+      assertThat(configuration.getReportAggregateRefreshInterval())
+          .isEqualTo(expectedReportAggregateRefreshInterval);
+      assertThat(configuration.isUseSkipLockedForSelectAndClaim())
+          .isEqualTo(expectedUseSkipLockedForSelectAndClaim);
     }
 
     @Test
@@ -460,6 +565,7 @@ class TaskanaConfigurationTest {
               .classificationTypes(List.of("typeA", "typeB"))
               .classificationCategoriesByType(
                   Map.of("typeA", List.of("categoryA"), "typeB", List.of("categoryB")))
+              .classificationCacheExpiration(Duration.ofMinutes(1))
               // working time configuration
               .useWorkingTimeCalculation(false)
               .workingTimeSchedule(
@@ -473,6 +579,9 @@ class TaskanaConfigurationTest {
               // history configuration
               .deleteHistoryEventsOnTaskDeletionEnabled(true)
               .logHistoryLoggerName("LOGGER_NAME")
+              .simpleHistoryWriteBehindEnabled(true)
+              .simpleHistoryWriteBehindBatchSize(250)
+              .simpleHistoryWriteBehindMaxLatency(Duration.ofMillis(500))
               // job configuration
               .jobSchedulerEnabled(false)
               .jobSchedulerInitialStartDelay(15)
@@ -503,12 +612,25 @@ class TaskanaConfigurationTest {
               .userRefreshJobFirstRun(Instant.MIN.plus(2, ChronoUnit.DAYS))
               .userRefreshJobRunEvery(Duration.ofDays(5))
               .userRefreshJobLockExpirationPeriod(Duration.ofDays(8))
+              .jobRunnerPoolSize(3)
+              .taskUpdatePriorityJobPoolSize(2)
+              .taskUpdatePriorityJobPartitions(5)
               .customJobs(Set.of("Job_A", "Job_B"))
               // user configuration
               .addAdditionalUserInfo(true)
               .minimalPermissionsToAssignDomains(Set.of(WorkbasketPermission.CUSTOM_2))
               // database configuration
+              .workbasketPermissionCacheExpiration(Duration.ofSeconds(5))
+              .workbasketCacheExpiration(Duration.ofMinutes(1))
+              // service provider configuration
+              .spiTimeout(Duration.ofSeconds(1))
+              .spiMaxConcurrentCalls(3)
+              .spiCircuitBreakerFailureThreshold(2)
+              .spiCircuitBreakerOpenDuration(Duration.ofMinutes(2))
+              // monitor configuration
+              .reportAggregateRefreshInterval(Duration.ofSeconds(10))
               .useSpecificDb2Taskquery(false)
+              .useSkipLockedForSelectAndClaim(true)
               .build();
 
       TaskanaConfiguration copyConfiguration = new Builder(configuration).build();
@@ -807,6 +929,23 @@ class TaskanaConfigurationTest {
               "Parameter jobBatchSize (taskana.jobs.batchSize) must be a positive integer");
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void should_ThrowInvalidArgumentEx_When_JobRunnerPoolSizeIsNotPositive(int jobRunnerPoolSize) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .jobRunnerPoolSize(jobRunnerPoolSize);
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter jobRunnerPoolSize (taskana.jobs.runner.poolSize)"
+                  + " must be a positive integer");
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {-1, 0})
     void should_ThrowInvalidArgumentEx_When_MaxNumberOfJobRetriesIsNotPositive(
@@ -893,6 +1032,42 @@ class TaskanaConfigurationTest {
                   + " must be a positive integer");
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void should_ThrowInvalidArgumentEx_When_TaskUpdatePriorityJobPoolSizeIsNotPositive(
+        int priorityJobPoolSize) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .taskUpdatePriorityJobPoolSize(priorityJobPoolSize);
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter taskUpdatePriorityJobPoolSize (taskana.jobs.priority.task.poolSize)"
+                  + " must be a positive integer");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0, 257})
+    void should_ThrowInvalidArgumentEx_When_TaskUpdatePriorityJobPartitionsAreOutOfRange(
+        int priorityJobPartitions) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .taskUpdatePriorityJobPartitions(priorityJobPartitions);
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter taskUpdatePriorityJobPartitions (taskana.jobs.priority.task.partitions)"
+                  + " must be an integer between 1 and 256");
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"P-1D", "P0D"})
     void should_ThrowInvalidArgumentEx_When_TaskPriorityUpdatePriorityJobRunEveryIsNotPositive(
@@ -911,6 +1086,175 @@ class TaskanaConfigurationTest {
                   + " must be a positive duration");
     }
 
+    @Test
+    void should_ThrowInvalidArgumentEx_When_ClassificationCacheExpirationIsNegative() {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .classificationCacheExpiration(Duration.ofSeconds(-1));
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter classificationCacheExpiration "
+                  + "(taskana.classification.cacheExpiration) must not be negative");
+    }
+
+    @Test
+    void should_ThrowInvalidArgumentEx_When_WorkbasketPermissionCacheExpirationIsNegative() {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .workbasketPermissionCacheExpiration(Duration.ofSeconds(-1));
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter workbasketPermissionCacheExpiration "
+                  + "(taskana.user.workbasketPermissionCacheExpiration) must not be negative");
+    }
+
+    @Test
+    void should_ThrowInvalidArgumentEx_When_WorkbasketCacheExpirationIsNegative() {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .workbasketCacheExpiration(Duration.ofSeconds(-1));
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter workbasketCacheExpiration "
+                  + "(taskana.workbasket.cacheExpiration) must not be negative");
+    }
+
+    @Test
+    void should_ThrowInvalidArgumentEx_When_SpiTimeoutIsNegative() {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .spiTimeout(Duration.ofSeconds(-1));
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter spiTimeout (taskana.spi.timeout) must not be negative");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void should_ThrowInvalidArgumentEx_When_SpiMaxConcurrentCallsIsNotPositive(
+        int maxConcurrentCalls) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .spiMaxConcurrentCalls(maxConcurrentCalls);
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter spiMaxConcurrentCalls (taskana.spi.maxConcurrentCalls)"
+                  + " must be a positive integer");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void should_ThrowInvalidArgumentEx_When_SpiCircuitBreakerFailureThresholdIsNotPositive(
+        int failureThreshold) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .spiCircuitBreakerFailureThreshold(failureThreshold);
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter spiCircuitBreakerFailureThreshold "
+                  + "(taskana.spi.circuitBreaker.failureThreshold) must be a positive integer");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"PT0S", "PT-1S"})
+    void should_ThrowInvalidArgumentEx_When_SpiCircuitBreakerOpenDurationIsNotPositive(
+        String openDuration) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .spiCircuitBreakerOpenDuration(Duration.parse(openDuration));
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter spiCircuitBreakerOpenDuration "
+                  + "(taskana.spi.circuitBreaker.openDuration) must be a positive duration");
+    }
+
+    @Test
+    void should_ThrowInvalidArgumentEx_When_ReportAggregateRefreshIntervalIsNegative() {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .reportAggregateRefreshInterval(Duration.ofSeconds(-1));
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter reportAggregateRefreshInterval "
+                  + "(taskana.monitor.reportAggregate.refreshInterval) must not be negative");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void should_ThrowInvalidArgumentEx_When_SimpleHistoryWriteBehindBatchSizeIsNotPositive(
+        int batchSize) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .simpleHistoryWriteBehindBatchSize(batchSize);
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter simpleHistoryWriteBehindBatchSize "
+                  + "(taskana.history.simple.writeBehind.batchSize) must be a positive integer");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"PT-1S", "PT0S"})
+    void should_ThrowInvalidArgumentEx_When_SimpleHistoryWriteBehindMaxLatencyIsNotPositive(
+        String maxLatency) {
+      TaskanaConfiguration.Builder builder =
+          new TaskanaConfiguration.Builder(
+                  TestContainerExtension.createDataSourceForH2(), false, "TASKANA")
+              .simpleHistoryWriteBehindMaxLatency(Duration.parse(maxLatency));
+
+      ThrowingCallable call = builder::build;
+
+      assertThatThrownBy(call)
+          .isInstanceOf(InvalidArgumentException.class)
+          .hasMessageContaining(
+              "Parameter simpleHistoryWriteBehindMaxLatency "
+                  + "(taskana.history.simple.writeBehind.maxLatency) must be a positive duration");
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"P-1D", "P0D"})
     void should_ThrowInvalidArgumentEx_When_UserRefreshJobRunEveryIsNotPositive(
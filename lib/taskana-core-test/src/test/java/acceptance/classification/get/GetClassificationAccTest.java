@@ -12,14 +12,25 @@ import static pro.taskana.classification.api.ClassificationCustomField.CUSTOM_7;
 import static pro.taskana.classification.api.ClassificationCustomField.CUSTOM_8;
 import static pro.taskana.common.api.SharedConstants.MASTER_DOMAIN;
 
+import java.sql.Connection;
+import java.time.Duration;
 import java.time.Instant;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import pro.taskana.TaskanaConfiguration.Builder;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.Classification;
+import pro.taskana.classification.internal.ClassificationCache;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.testapi.DefaultTestEntities;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
 import pro.taskana.testapi.TaskanaInject;
 import pro.taskana.testapi.TaskanaIntegrationTest;
 import pro.taskana.testapi.builder.ClassificationBuilder;
@@ -159,4 +170,124 @@ class GetClassificationAccTest {
     assertThat(classification.getDomain()).isEqualTo(MASTER_DOMAIN);
     assertThat(classification.getKey()).isEqualTo(classificationWithAllProperties.getKey());
   }
+
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  class WithClassificationCache implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngineImpl taskanaEngine;
+    @TaskanaInject ClassificationService classificationService;
+
+    ClassificationCache classificationCache;
+    Classification classification;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder.classificationCacheExpiration(Duration.ofMinutes(5));
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @BeforeAll
+    void setup() throws Exception {
+      classificationCache = taskanaEngine.getClassificationCache();
+      classification =
+          DefaultTestEntities.defaultTestClassification().buildAndStore(classificationService);
+    }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_ReadClassificationFromCache_When_ClassificationIsRequestedAgain()
+        throws Exception {
+      classificationService.getClassification(classification.getId());
+      long hits = classificationCache.getHits();
+
+      Classification result = classificationService.getClassification(classification.getId());
+
+      assertThat(classificationCache.getHits()).isEqualTo(hits + 1);
+      assertThat(result).isEqualTo(classification);
+    }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_ReadClassificationFromCache_When_KeyAndDomainAreRequestedAgain()
+        throws Exception {
+      classificationService.getClassification(classification.getKey(), "WrongDomain");
+      long hits = classificationCache.getHits();
+
+      Classification result =
+          classificationService.getClassification(classification.getKey(), "WrongDomain");
+
+      assertThat(classificationCache.getHits()).isEqualTo(hits + 1);
+      assertThat(result.getDomain()).isEqualTo(MASTER_DOMAIN);
+    }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_NotChangeCachedClassification_When_ReturnedClassificationIsModified()
+        throws Exception {
+      classificationService.getClassification(classification.getId()).setName("modified");
+
+      Classification result = classificationService.getClassification(classification.getId());
+
+      assertThat(result.getName()).isEqualTo(classification.getName());
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @Test
+    void should_ReturnUpdatedClassification_When_ClassificationHasBeenUpdated() throws Exception {
+      Classification created =
+          DefaultTestEntities.defaultTestClassification().buildAndStore(classificationService);
+      Classification cached = classificationService.getClassification(created.getId());
+      cached.setName("updated name");
+      classificationService.updateClassification(cached);
+
+      Classification result = classificationService.getClassification(created.getId());
+
+      assertThat(result.getName()).isEqualTo("updated name");
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @Test
+    void should_ThrowException_When_CachedClassificationHasBeenDeleted() throws Exception {
+      Classification created =
+          DefaultTestEntities.defaultTestClassification().buildAndStore(classificationService);
+      classificationService.getClassification(created.getId());
+      classificationService.deleteClassification(created.getId());
+
+      ThrowingCallable call = () -> classificationService.getClassification(created.getId());
+
+      assertThatThrownBy(call).isInstanceOf(ClassificationNotFoundException.class);
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @Test
+    void should_NotCacheClassification_When_UpdateOfClassificationIsRolledBack() throws Exception {
+      TaskanaEngine explicitEngine =
+          TaskanaEngine.buildTaskanaEngine(
+              taskanaEngine.getConfiguration(), ConnectionManagementMode.EXPLICIT);
+      ClassificationService explicitClassificationService =
+          explicitEngine.getClassificationService();
+      Classification created =
+          DefaultTestEntities.defaultTestClassification().buildAndStore(classificationService);
+
+      Classification readInTransaction;
+      try (Connection connection =
+          taskanaEngine.getConfiguration().getDataSource().getConnection()) {
+        explicitEngine.setConnection(connection);
+        try {
+          Classification cached = explicitClassificationService.getClassification(created.getId());
+          cached.setName("rolled back name");
+          explicitClassificationService.updateClassification(cached);
+          readInTransaction = explicitClassificationService.getClassification(created.getId());
+          connection.rollback();
+        } finally {
+          explicitEngine.closeConnection();
+        }
+      }
+
+      assertThat(readInTransaction.getName()).isEqualTo("rolled back name");
+      Classification result = explicitClassificationService.getClassification(created.getId());
+      assertThat(result.getName()).isEqualTo(created.getName());
+    }
+  }
 }
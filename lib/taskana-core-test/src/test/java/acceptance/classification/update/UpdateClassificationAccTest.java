@@ -329,6 +329,27 @@ class UpdateClassificationAccTest {
           before, directLinkedTask, taskService, workingTimeCalculator, 15, 1000);
     }
 
+    @WithAccessId(user = "businessadmin")
+    @Test
+    void should_UpdateTaskPriority_When_UpdateClassificationInAttachment() throws Exception {
+      final Instant before = Instant.now();
+      Classification classification =
+          defaultTestClassification()
+              .priority(1)
+              .serviceLevel("P15D")
+              .buildAndStore(classificationService);
+      final List<String> indirectLinkedTasks =
+          createTasksWithExistingClassificationInAttachment(
+              classification.asSummary(), "P5D", 2, 5);
+
+      classification.setPriority(1000);
+      classificationService.updateClassification(classification);
+      runAssociatedJobs();
+
+      validateTaskProperties(
+          before, indirectLinkedTasks, taskService, workingTimeCalculator, 5, 1000);
+    }
+
     @WithAccessId(user = "businessadmin")
     @TestFactory
     Stream<DynamicTest> should_UpdateTaskServiceLevel_When_UpdateClassificationInAttachment() {
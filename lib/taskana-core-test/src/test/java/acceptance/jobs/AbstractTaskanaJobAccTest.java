@@ -2,6 +2,7 @@ package acceptance.jobs;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -26,6 +27,7 @@ import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.JobMapper;
+import pro.taskana.common.internal.JobServiceImpl;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.jobs.JobRunner;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
@@ -82,6 +84,28 @@ class AbstractTaskanaJobAccTest {
     assertThat(jobsToRun).extracting(ScheduledJob::getDue).containsExactly(firstDue.plus(runEvery));
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void should_LockJobOnlyOnce_When_SeveralRunnersTryToLockTheSameJob() {
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(TaskCleanupJob.class.getName());
+    scheduledJob.setDue(Instant.now().minus(1, ChronoUnit.MINUTES));
+    jobService.createJob(scheduledJob);
+    JobServiceImpl jobServiceImpl = (JobServiceImpl) jobService;
+    ScheduledJob foundByFirstRunner = jobServiceImpl.findJobsToRun().get(0);
+    ScheduledJob foundBySecondRunner = jobServiceImpl.findJobsToRun().get(0);
+
+    boolean lockedByFirstRunner = jobServiceImpl.lockJob(foundByFirstRunner, "first");
+    boolean lockedBySecondRunner = jobServiceImpl.lockJob(foundBySecondRunner, "second");
+
+    assertThat(lockedByFirstRunner).isTrue();
+    assertThat(lockedBySecondRunner).isFalse();
+    assertThat(jobServiceImpl.findJobsToRun()).isEmpty();
+    assertThat(jobMapper.findJobsToRun(foundByFirstRunner.getLockExpires().plusSeconds(1)))
+        .extracting(ScheduledJob::getLockedBy, ScheduledJob::getRetryCount)
+        .containsExactly(tuple("first", scheduledJob.getRetryCount() - 1));
+  }
+
   @Nested
   @TestInstance(Lifecycle.PER_CLASS)
   class CleanCompletedTasks implements TaskanaConfigurationModifier {
@@ -173,4 +173,69 @@ class JobSchedulerExecutionAccTest implements TaskanaConfigurationModifier {
           .containsExactly(2);
     }
   }
+
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  class JobsRunOnWorkerPool implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaConfiguration taskanaConfiguration;
+    @TaskanaInject TaskService taskService;
+    @TaskanaInject JobMapper jobMapper;
+    WorkbasketSummary workbasket;
+    ClassificationSummary classification;
+    ObjectReference primaryObjRef;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder
+          .taskCleanupJobEnabled(true)
+          .jobRunnerPoolSize(2)
+          .jobFirstRun(Instant.now().minus(10, ChronoUnit.MILLIS))
+          .jobRunEvery(Duration.ofMillis(1))
+          .taskCleanupJobMinimumAge(Duration.ofMillis(10))
+          .customJobs(Set.of(AlwaysFailJob.class.getName()));
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @BeforeEach
+    void setup(WorkbasketService workbasketService, ClassificationService classificationService)
+        throws Exception {
+      workbasket =
+          DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+      classification =
+          DefaultTestEntities.defaultTestClassification()
+              .buildAndStoreAsSummary(classificationService);
+      primaryObjRef = DefaultTestEntities.defaultTestObjectReference().build();
+    }
+
+    @WithAccessId(user = "admin")
+    @Test
+    void should_ExecuteAllJobs_When_RunningJobsConcurrently() throws Exception {
+      Instant timeStampAnyJobIsOverdue = Instant.now().plus(10, ChronoUnit.DAYS);
+      TaskanaEngine taskanaEngine =
+          TaskanaEngine.buildTaskanaEngine(taskanaConfiguration, ConnectionManagementMode.EXPLICIT);
+      JobScheduler jobScheduler = new JobScheduler(taskanaEngine, new FakeClock());
+      TaskBuilder.newTask()
+          .workbasketSummary(workbasket)
+          .classificationSummary(classification)
+          .primaryObjRef(primaryObjRef)
+          .state(TaskState.COMPLETED)
+          .completed(Instant.now().minus(5, ChronoUnit.DAYS))
+          .buildAndStoreAsSummary(taskService);
+      final List<ScheduledJob> jobsToRun = jobMapper.findJobsToRun(timeStampAnyJobIsOverdue);
+
+      Thread.sleep(2); // to make sure that TaskCleanupJob is overdue
+      jobScheduler.start();
+      jobScheduler.stop();
+
+      List<TaskSummary> existingTasks = taskService.createTaskQuery().list();
+      assertThat(existingTasks).isEmpty();
+      List<ScheduledJob> jobsToRunAfter = jobMapper.findJobsToRun(timeStampAnyJobIsOverdue);
+      assertThat(jobsToRunAfter).isNotEmpty().doesNotContainAnyElementsOf(jobsToRun);
+      assertThat(jobsToRunAfter)
+          .filteredOn(job -> AlwaysFailJob.class.getName().equals(job.getType()))
+          .extracting(ScheduledJob::getRetryCount)
+          .containsExactly(2);
+    }
+  }
 }
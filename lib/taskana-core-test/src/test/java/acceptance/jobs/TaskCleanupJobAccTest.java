@@ -101,6 +101,52 @@ class TaskCleanupJobAccTest {
     }
   }
 
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  class CleanCompletedTasksInSeveralChunks implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngine taskanaEngine;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder
+          .taskCleanupJobEnabled(true)
+          .jobFirstRun(Instant.now().minus(10, ChronoUnit.MILLIS))
+          .jobRunEvery(Duration.ofMillis(1))
+          .jobBatchSize(2)
+          .taskCleanupJobMinimumAge(Duration.ofDays(5));
+    }
+
+    @WithAccessId(user = "admin")
+    @Test
+    void should_CleanAllCompletedTasks_When_TheyExceedTheJobBatchSize() throws Exception {
+      WorkbasketSummary workbasket =
+          DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+      TaskBuilder taskBuilder =
+          TaskBuilder.newTask()
+              .workbasketSummary(workbasket)
+              .classificationSummary(classification)
+              .primaryObjRef(primaryObjRef)
+              .state(TaskState.COMPLETED)
+              .completed(Instant.now().minus(10, ChronoUnit.DAYS));
+      for (int i = 0; i < 5; i++) {
+        taskBuilder.buildAndStoreAsSummary(taskService);
+      }
+      TaskSummary taskSummaryNotOldEnough =
+          taskBuilder
+              .completed(Instant.now().minus(3, ChronoUnit.DAYS))
+              .buildAndStoreAsSummary(taskService);
+
+      TaskCleanupJob job = new TaskCleanupJob(taskanaEngine, null, null);
+      job.run();
+
+      List<TaskSummary> taskSummaries = taskService.createTaskQuery().list();
+      assertThat(taskSummaries)
+          .filteredOn(t -> t.getWorkbasketSummary().equals(workbasket))
+          .containsExactly(taskSummaryNotOldEnough);
+    }
+  }
+
   @Nested
   @TestInstance(Lifecycle.PER_CLASS)
   class NotCleanCompletedTasksWhereDateIsNotReached implements TaskanaConfigurationModifier {
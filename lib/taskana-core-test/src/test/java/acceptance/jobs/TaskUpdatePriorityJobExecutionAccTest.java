@@ -0,0 +1,210 @@
+package acceptance.jobs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import acceptance.jobs.TaskUpdatePriorityJobExecutionAccTest.RecordingPriorityServiceProvider;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import pro.taskana.TaskanaConfiguration.Builder;
+import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.ScheduledJob;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
+import pro.taskana.spi.priority.api.PriorityServiceProvider;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.jobs.TaskUpdatePriorityJob;
+import pro.taskana.testapi.DefaultTestEntities;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaInject;
+import pro.taskana.testapi.TaskanaIntegrationTest;
+import pro.taskana.testapi.WithServiceProvider;
+import pro.taskana.testapi.builder.TaskBuilder;
+import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
+import pro.taskana.testapi.security.WithAccessId;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+import pro.taskana.workbasket.api.WorkbasketService;
+import pro.taskana.workbasket.api.models.WorkbasketSummary;
+
+@WithServiceProvider(
+    serviceProviderInterface = PriorityServiceProvider.class,
+    serviceProviders = RecordingPriorityServiceProvider.class)
+@TaskanaIntegrationTest
+class TaskUpdatePriorityJobExecutionAccTest implements TaskanaConfigurationModifier {
+
+  private static final int TASK_COUNT = 8;
+
+  @TaskanaInject TaskanaEngine taskanaEngine;
+  @TaskanaInject TaskService taskService;
+
+  Queue<String> calculatedTaskIds = new ConcurrentLinkedQueue<>();
+  Queue<Thread> providerThreads = new ConcurrentLinkedQueue<>();
+  Queue<String> providerUserIds = new ConcurrentLinkedQueue<>();
+  List<TaskSummary> tasks = new ArrayList<>();
+  List<String> taskIds = new ArrayList<>();
+  // keeps the priorities of the tasks created in the setup untouched
+  volatile boolean jobIsRunning;
+  // every execution sets a priority of its own, so the tests don't see each others updates
+  volatile int spiPriority = 42;
+
+  @Override
+  public Builder modify(Builder builder) {
+    return builder.taskUpdatePriorityJobBatchSize(2);
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @BeforeAll
+  void setUp(ClassificationService classificationService, WorkbasketService workbasketService)
+      throws Exception {
+    ClassificationSummary classificationSummary =
+        DefaultTestEntities.defaultTestClassification()
+            .buildAndStoreAsSummary(classificationService);
+    WorkbasketSummary workbasketSummary =
+        DefaultTestEntities.defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    // Because of TSK-1736 we need at least one WorkbasketAccessItem. Otherwise, DB2 won't work.
+    WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+        .workbasketId(workbasketSummary.getId())
+        .accessId("whatever")
+        .permission(WorkbasketPermission.READ)
+        .permission(WorkbasketPermission.READTASKS)
+        .buildAndStore(workbasketService);
+
+    TaskBuilder taskBuilder =
+        TaskBuilder.newTask()
+            .classificationSummary(classificationSummary)
+            .workbasketSummary(workbasketSummary)
+            .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build());
+    for (int i = 0; i < TASK_COUNT; i++) {
+      TaskSummary task = taskBuilder.buildAndStoreAsSummary(taskService, "admin");
+      tasks.add(task);
+      taskIds.add(task.getId());
+    }
+    Collections.sort(taskIds);
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_ContinueAfterSavedCheckpoint_When_JobHasBeenInterrupted() throws Exception {
+    ScheduledJob scheduledJob =
+        createScheduledJob(Map.of(AbstractTaskanaJob.CHECKPOINT, taskIds.get(1)));
+    TaskUpdatePriorityJob job = new TaskUpdatePriorityJob(taskanaEngine, null, scheduledJob);
+
+    executeRecording(job);
+
+    assertThat(calculatedTaskIds)
+        .containsExactlyInAnyOrderElementsOf(taskIds.subList(2, TASK_COUNT));
+    assertThat(((JobServiceImpl) taskanaEngine.getJobService()).findJobsToRun())
+        .filteredOn(savedJob -> scheduledJob.getJobId().equals(savedJob.getJobId()))
+        .extracting(savedJob -> savedJob.getArguments().get(AbstractTaskanaJob.CHECKPOINT))
+        .containsExactly(taskIds.get(TASK_COUNT - 1));
+  }
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_CoverEveryTaskExactlyOnce_When_RunningAllPartitions() throws Exception {
+    List<String> taskIdsOfAllPartitions = new ArrayList<>();
+    for (int partition = 0; partition < 4; partition++) {
+      ScheduledJob scheduledJob =
+          createScheduledJob(Map.of(TaskUpdatePriorityJob.PARTITION, partition + "/4"));
+      TaskUpdatePriorityJob job = new TaskUpdatePriorityJob(taskanaEngine, null, scheduledJob);
+
+      executeRecording(job);
+
+      // the first two hex digits of the random task ids are split into four ranges of 64
+      int lowerBound = partition * 64;
+      assertThat(calculatedTaskIds)
+          .allSatisfy(
+              taskId ->
+                  assertThat(Integer.parseInt(taskId.substring(4, 6), 16))
+                      .isGreaterThanOrEqualTo(lowerBound)
+                      .isLessThan(lowerBound + 64));
+      taskIdsOfAllPartitions.addAll(calculatedTaskIds);
+    }
+
+    assertThat(taskIdsOfAllPartitions).containsExactlyInAnyOrderElementsOf(taskIds);
+  }
+
+  private ScheduledJob createScheduledJob(Map<String, String> arguments) {
+    ScheduledJob scheduledJob = new ScheduledJob();
+    scheduledJob.setType(TaskUpdatePriorityJob.class.getName());
+    scheduledJob.setArguments(arguments);
+    taskanaEngine.getJobService().createJob(scheduledJob);
+    return scheduledJob;
+  }
+
+  private void executeRecording(TaskUpdatePriorityJob job) throws Exception {
+    calculatedTaskIds.clear();
+    providerThreads.clear();
+    providerUserIds.clear();
+    spiPriority++;
+    jobIsRunning = true;
+    try {
+      job.execute();
+    } finally {
+      jobIsRunning = false;
+    }
+  }
+
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  @WithServiceProvider(
+      serviceProviderInterface = PriorityServiceProvider.class,
+      serviceProviders = RecordingPriorityServiceProvider.class)
+  class WithPool implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngine taskanaEngine;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder.taskUpdatePriorityJobBatchSize(2).taskUpdatePriorityJobPoolSize(3);
+    }
+
+    @WithAccessId(user = "admin")
+    @Test
+    void should_UpdatePrioritiesOfAllChunks_When_UsingPoolOfThreads() throws Exception {
+      TaskUpdatePriorityJob job = new TaskUpdatePriorityJob(taskanaEngine);
+
+      executeRecording(job);
+
+      for (TaskSummary task : tasks) {
+        assertThat(task.getPriority()).isNotEqualTo(spiPriority);
+        assertThat(taskService.getTask(task.getId()).getPriority()).isEqualTo(spiPriority);
+      }
+      assertThat(providerThreads).isNotEmpty().containsOnly(Thread.currentThread());
+      assertThat(providerUserIds).isNotEmpty().containsOnly("admin");
+    }
+  }
+
+  class RecordingPriorityServiceProvider implements PriorityServiceProvider {
+
+    private TaskanaEngine taskanaEngine;
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {
+      this.taskanaEngine = taskanaEngine;
+    }
+
+    @Override
+    public OptionalInt calculatePriority(TaskSummary taskSummary) {
+      if (!jobIsRunning) {
+        return OptionalInt.empty();
+      }
+      calculatedTaskIds.add(taskSummary.getId());
+      providerThreads.add(Thread.currentThread());
+      providerUserIds.add(taskanaEngine.getCurrentUserContext().getUserid());
+      return OptionalInt.of(spiPriority);
+    }
+  }
+}
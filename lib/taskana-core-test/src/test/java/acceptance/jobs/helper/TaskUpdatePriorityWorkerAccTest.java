@@ -3,10 +3,13 @@ package acceptance.jobs.helper;
 import static acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithSpi.DummyPriorityServiceProvider.SPI_PRIORITY;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithBatchSpi.BatchPriorityServiceProvider;
 import acceptance.jobs.helper.TaskUpdatePriorityWorkerAccTest.WithSpi.DummyPriorityServiceProvider;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntPredicate;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
@@ -84,10 +87,31 @@ class TaskUpdatePriorityWorkerAccTest {
   @WithAccessId(user = "admin")
   void should_LoadAnyRelevantTaskIds() {
     // when
-    final List<String> allRelevantTaskIds = worker.getAllRelevantTaskIds();
+    final List<String> allRelevantTaskIds = worker.getRelevantTaskIdsAfter(null, 100);
 
     // then
-    assertThat(allRelevantTaskIds).containsExactlyInAnyOrder(task1.getId(), task2.getId());
+    assertThat(allRelevantTaskIds)
+        .isSorted()
+        .containsExactlyInAnyOrder(task1.getId(), task2.getId());
+  }
+
+  @Test
+  @WithAccessId(user = "admin")
+  void should_LoadRelevantTaskIdsChunkByChunk_When_UsingKeyset() {
+    // when
+    List<String> loadedTaskIds = new ArrayList<>();
+    List<String> chunk = worker.getRelevantTaskIdsAfter(null, 1);
+    while (!chunk.isEmpty()) {
+      assertThat(chunk).hasSize(1);
+      loadedTaskIds.addAll(chunk);
+      chunk = worker.getRelevantTaskIdsAfter(chunk.get(0), 1);
+    }
+
+    // then
+    assertThat(loadedTaskIds)
+        .doesNotHaveDuplicates()
+        .contains(task1.getId(), task2.getId())
+        .doesNotContain(completedTask.getId());
   }
 
   @Test
@@ -105,7 +129,7 @@ class TaskUpdatePriorityWorkerAccTest {
   @WithAccessId(user = "admin")
   void should_NotLoadAnyIrrelevantTaskIds() {
     // when
-    final List<String> allRelevantTaskIds = worker.getAllRelevantTaskIds();
+    final List<String> allRelevantTaskIds = worker.getRelevantTaskIdsAfter(null, 100);
 
     // then
     assertThat(allRelevantTaskIds).isNotEmpty().doesNotContain(completedTask.getId());
@@ -167,4 +191,57 @@ class TaskUpdatePriorityWorkerAccTest {
       }
     }
   }
+
+  @Nested
+  @WithServiceProvider(
+      serviceProviderInterface = PriorityServiceProvider.class,
+      serviceProviders = BatchPriorityServiceProvider.class)
+  @TestInstance(Lifecycle.PER_CLASS)
+  class WithBatchSpi {
+
+    @TaskanaInject TaskService taskService;
+    TaskUpdatePriorityWorker worker;
+    AtomicInteger batchCalls = new AtomicInteger();
+
+    @BeforeAll
+    void setup(TaskanaEngine taskanaEngine) {
+      worker = new TaskUpdatePriorityWorker(taskanaEngine);
+    }
+
+    @Test
+    @WithAccessId(user = "admin")
+    void should_CalculatePrioritiesOfWholeBatchAtOnce_When_ExecutingBatch() throws Exception {
+      TaskBuilder taskBuilder =
+          TaskBuilder.newTask()
+              .classificationSummary(classificationSummary)
+              .workbasketSummary(workbasketSummary)
+              .priority(1)
+              .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build());
+      Task firstTask = taskBuilder.buildAndStore(taskService);
+      Task secondTask = taskBuilder.buildAndStore(taskService);
+
+      List<String> updatedTaskIds =
+          worker.executeBatch(List.of(firstTask.getId(), secondTask.getId()));
+
+      assertThat(updatedTaskIds).containsExactlyInAnyOrder(firstTask.getId(), secondTask.getId());
+      assertThat(batchCalls).hasValue(1);
+      assertThat(taskService.getTask(firstTask.getId()).getPriority())
+          .isEqualTo(BatchPriorityServiceProvider.SPI_PRIORITY);
+    }
+
+    class BatchPriorityServiceProvider implements PriorityServiceProvider {
+      static final int SPI_PRIORITY = 20;
+
+      @Override
+      public OptionalInt calculatePriority(TaskSummary taskSummary) {
+        return OptionalInt.empty();
+      }
+
+      @Override
+      public List<OptionalInt> calculatePriorities(List<TaskSummary> taskSummaries) {
+        batchCalls.incrementAndGet();
+        return taskSummaries.stream().map(taskSummary -> OptionalInt.of(SPI_PRIORITY)).toList();
+      }
+    }
+  }
 }
@@ -3,10 +3,12 @@ package acceptance.task.create;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.assertj.core.api.Assertions.tuple;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
 
+import java.sql.Connection;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
@@ -14,6 +16,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import org.apache.ibatis.exceptions.PersistenceException;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DynamicTest;
@@ -29,7 +32,9 @@ import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.exceptions.ClassificationNotFoundException;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.classification.internal.models.ClassificationSummaryImpl;
+import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
 import pro.taskana.common.api.WorkingTimeCalculator;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.internal.util.Pair;
@@ -37,12 +42,16 @@ import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.exceptions.TaskAlreadyExistException;
+import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.AttachmentSummary;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.AttachmentMapper;
 import pro.taskana.task.internal.models.TaskImpl;
 import pro.taskana.testapi.TaskanaConfigurationModifier;
+import pro.taskana.testapi.TaskanaEngineProxy;
 import pro.taskana.testapi.TaskanaInject;
 import pro.taskana.testapi.TaskanaIntegrationTest;
 import pro.taskana.testapi.builder.ClassificationBuilder;
@@ -257,6 +266,141 @@ class CreateTaskAccTest {
     assertThat(e.getExternalId()).isEqualTo("MyExternalId");
   }
 
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_CreateAllTasks_When_CreatingTasksInBulk() throws Exception {
+    List<Task> tasks = List.of(createDefaultTask(), createDefaultTask(), createDefaultTask());
+
+    BulkOperationResults<String, Exception> bulkLog = taskService.createTasks(tasks);
+
+    assertThat(bulkLog.containsErrors()).isFalse();
+    assertThat(tasks).extracting(Task::getExternalId).doesNotContainNull().doesNotHaveDuplicates();
+    String[] taskIds = tasks.stream().map(Task::getId).toArray(String[]::new);
+    assertThat(taskService.createTaskQuery().idIn(taskIds).list())
+        .extracting(TaskSummary::getState, TaskSummary::getCreator)
+        .containsOnly(tuple(TaskState.READY, "user-1-2"))
+        .hasSize(3);
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_CreateRemainingTasks_When_SomeTasksOfBulkCannotBeCreated() throws Exception {
+    Task existingTask = createDefaultTask();
+    existingTask.setExternalId("MyExistingExternalIdOfBulk");
+    taskService.createTask(existingTask);
+    Task duplicateTask = createDefaultTask();
+    duplicateTask.setExternalId("MyExistingExternalIdOfBulk");
+    Task taskWithUnknownClassification = createDefaultTask();
+    taskWithUnknownClassification.setExternalId("MyExternalIdWithUnknownClassification");
+    taskWithUnknownClassification.setClassificationKey("UNKNOWN");
+    Task taskWithoutClassification = createDefaultTask();
+    taskWithoutClassification.setExternalId("MyExternalIdWithoutClassification");
+    taskWithoutClassification.setClassificationKey(null);
+    Task validTask = createDefaultTask();
+
+    BulkOperationResults<String, Exception> bulkLog =
+        taskService.createTasks(
+            List.of(
+                duplicateTask,
+                taskWithUnknownClassification,
+                taskWithoutClassification,
+                validTask));
+
+    assertThat(bulkLog.getErrorMap())
+        .containsOnlyKeys(
+            "MyExistingExternalIdOfBulk",
+            "MyExternalIdWithUnknownClassification",
+            "MyExternalIdWithoutClassification");
+    assertThat(bulkLog.getErrorForId("MyExistingExternalIdOfBulk"))
+        .isInstanceOf(TaskAlreadyExistException.class);
+    assertThat(bulkLog.getErrorForId("MyExternalIdWithUnknownClassification"))
+        .isInstanceOf(ClassificationNotFoundException.class);
+    assertThat(bulkLog.getErrorForId("MyExternalIdWithoutClassification"))
+        .isInstanceOf(InvalidArgumentException.class);
+    assertThat(taskService.getTask(validTask.getId()).getExternalId())
+        .isEqualTo(validTask.getExternalId());
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_CreateRemainingTasks_When_InsertOfOneTaskOfBulkFails() throws Exception {
+    Task taskWithTooLongName = createDefaultTask();
+    taskWithTooLongName.setExternalId("MyExternalIdWithTooLongName");
+    taskWithTooLongName.setName("x".repeat(300));
+    taskWithTooLongName.addAttachment(defaultAttachment.copy());
+    Task validTask = createDefaultTask();
+
+    BulkOperationResults<String, Exception> bulkLog =
+        taskService.createTasks(List.of(taskWithTooLongName, validTask));
+
+    assertThat(bulkLog.getErrorMap()).containsOnlyKeys("MyExternalIdWithTooLongName");
+    assertThat(bulkLog.getErrorForId("MyExternalIdWithTooLongName"))
+        .isInstanceOf(PersistenceException.class);
+    assertThat(taskService.getTask(validTask.getId()).getExternalId())
+        .isEqualTo(validTask.getExternalId());
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    AttachmentMapper attachmentMapper =
+        engineProxy.getSqlSession().getMapper(AttachmentMapper.class);
+    try {
+      engineProxy.openConnection();
+      assertThat(attachmentMapper.findAttachmentsByTaskId(taskWithTooLongName.getId())).isEmpty();
+    } finally {
+      engineProxy.returnConnection();
+    }
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_KeepTransactionUsable_When_InsertOfOneTaskOfBulkFailsInTransaction()
+      throws Exception {
+    TaskanaEngine explicitEngine =
+        TaskanaEngine.buildTaskanaEngine(
+            taskanaEngine.getConfiguration(), ConnectionManagementMode.EXPLICIT);
+    Task taskCreatedBefore = createDefaultTask();
+    Task taskWithTooLongName = createDefaultTask();
+    taskWithTooLongName.setExternalId("MyExternalIdWithTooLongNameInTransaction");
+    taskWithTooLongName.setName("x".repeat(300));
+    taskWithTooLongName.addAttachment(defaultAttachment.copy());
+    Task validTask = createDefaultTask();
+    validTask.addAttachment(defaultAttachment.copy());
+
+    BulkOperationResults<String, Exception> bulkLog;
+    try (Connection connection = taskanaEngine.getConfiguration().getDataSource().getConnection()) {
+      explicitEngine.setConnection(connection);
+      try {
+        TaskService explicitTaskService = explicitEngine.getTaskService();
+        explicitTaskService.createTask(taskCreatedBefore);
+        bulkLog = explicitTaskService.createTasks(List.of(taskWithTooLongName, validTask));
+        connection.commit();
+      } finally {
+        explicitEngine.closeConnection();
+      }
+    }
+
+    assertThat(bulkLog.getErrorMap()).containsOnlyKeys("MyExternalIdWithTooLongNameInTransaction");
+    assertThat(taskService.getTask(taskCreatedBefore.getId())).isNotNull();
+    assertThat(taskService.getTask(validTask.getId()).getAttachments()).hasSize(1);
+    ThrowingCallable call = () -> taskService.getTask(taskWithTooLongName.getId());
+    assertThatThrownBy(call).isInstanceOf(TaskNotFoundException.class);
+    TaskanaEngineProxy engineProxy = new TaskanaEngineProxy(taskanaEngine);
+    AttachmentMapper attachmentMapper =
+        engineProxy.getSqlSession().getMapper(AttachmentMapper.class);
+    try {
+      engineProxy.openConnection();
+      assertThat(attachmentMapper.findAttachmentsByTaskId(taskWithTooLongName.getId())).isEmpty();
+    } finally {
+      engineProxy.returnConnection();
+    }
+  }
+
+  @WithAccessId(user = "user-1-2")
+  @Test
+  void should_ThrowException_When_CreatingTasksInBulkWithNullList() {
+    ThrowingCallable call = () -> taskService.createTasks(null);
+
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
   @WithAccessId(user = "user-1-2")
   @Test
   void should_CreateTask_When_CustomAttributesAreSpecified() throws Exception {
@@ -25,6 +25,7 @@ import pro.taskana.task.api.exceptions.TaskNotFoundException;
 import pro.taskana.task.api.models.Attachment;
 import pro.taskana.task.api.models.ObjectReference;
 import pro.taskana.task.api.models.Task;
+import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.AttachmentMapper;
 import pro.taskana.testapi.DefaultTestEntities;
 import pro.taskana.testapi.TaskanaEngineProxy;
@@ -252,10 +253,56 @@ class DeleteTaskAccTest {
     assertThat(e2.getTaskId()).isEqualTo(task2.getId());
   }
 
+  @WithAccessId(user = "admin")
+  @Test
+  void should_BulkDeleteTasksMatchingQuery() throws Exception {
+    WorkbasketSummary workbasketSummary =
+        defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+    Task completedTask = createNewCompletedTask(workbasketSummary);
+    createNewCompletedTask(workbasketSummary);
+    Task taskNotComplete =
+        TaskBuilder.newTask()
+            .classificationSummary(defaultClassificationSummary)
+            .workbasketSummary(workbasketSummary)
+            .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build())
+            .state(TaskState.READY)
+            .buildAndStore(taskService);
+
+    BulkOperationResults<String, TaskanaException> results =
+        taskService.deleteTasks(
+            taskService.createTaskQuery().workbasketIdIn(workbasketSummary.getId()));
+
+    assertThat(results.getErrorMap().keySet()).containsExactly(taskNotComplete.getId());
+    assertThat(results.getErrorMap().get(taskNotComplete.getId()))
+        .isInstanceOf(InvalidTaskStateException.class);
+    assertThat(taskService.createTaskQuery().workbasketIdIn(workbasketSummary.getId()).list())
+        .extracting(TaskSummary::getId)
+        .containsExactly(taskNotComplete.getId());
+    ThrowingCallable call = () -> taskService.getTask(completedTask.getId());
+    TaskNotFoundException e = catchThrowableOfType(call, TaskNotFoundException.class);
+    assertThat(e.getTaskId()).isEqualTo(completedTask.getId());
+  }
+
+  @WithAccessId(user = "businessadmin")
+  @WithAccessId(user = "taskadmin")
+  @WithAccessId(user = "user-1-1")
+  @TestTemplate
+  void should_ThrowException_When_UserIsNotInAdminRoleButTriesToBulkDeleteTasksByQuery() {
+    ThrowingCallable call = () -> taskService.deleteTasks(taskService.createTaskQuery());
+
+    NotAuthorizedException e = catchThrowableOfType(call, NotAuthorizedException.class);
+    assertThat(e.getCurrentUserId()).isEqualTo(taskanaEngine.getCurrentUserContext().getUserid());
+    assertThat(e.getRoles()).containsExactly(TaskanaRole.ADMIN);
+  }
+
   private Task createNewCompletedTask() throws Exception {
+    return createNewCompletedTask(defaultWorkbasketSummary);
+  }
+
+  private Task createNewCompletedTask(WorkbasketSummary workbasketSummary) throws Exception {
     return TaskBuilder.newTask()
         .classificationSummary(defaultClassificationSummary)
-        .workbasketSummary(defaultWorkbasketSummary)
+        .workbasketSummary(workbasketSummary)
         .primaryObjRef(DefaultTestEntities.defaultTestObjectReference().build())
         .state(TaskState.COMPLETED)
         .buildAndStore(taskService, "admin");
@@ -3,9 +3,15 @@ package acceptance.taskrouting;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
+import acceptance.taskrouting.TaskRoutingAccTest.CallingThreadRecordingTaskRoutingProvider;
 import acceptance.taskrouting.TaskRoutingAccTest.TaskRoutingProviderForDomainA;
+import java.time.Duration;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import pro.taskana.TaskanaConfiguration.Builder;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.models.ClassificationSummary;
 import pro.taskana.common.api.TaskanaEngine;
@@ -14,6 +20,7 @@ import pro.taskana.spi.routing.api.TaskRoutingProvider;
 import pro.taskana.task.api.TaskService;
 import pro.taskana.task.api.models.Task;
 import pro.taskana.testapi.DefaultTestEntities;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
 import pro.taskana.testapi.TaskanaInject;
 import pro.taskana.testapi.TaskanaIntegrationTest;
 import pro.taskana.testapi.WithServiceProvider;
@@ -34,6 +41,7 @@ class TaskRoutingAccTest {
 
   ClassificationSummary classificationSummary;
   WorkbasketSummary domainAWorkbasket;
+  Thread routingThread;
 
   @WithAccessId(user = "businessadmin")
   @BeforeAll
@@ -80,6 +88,34 @@ class TaskRoutingAccTest {
     assertThat(createdTask.getWorkbasketSummary()).isEqualTo(domainAWorkbasket);
   }
 
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  @WithServiceProvider(
+      serviceProviderInterface = TaskRoutingProvider.class,
+      serviceProviders = CallingThreadRecordingTaskRoutingProvider.class)
+  class TaskRoutingWithSpiTimeout implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskService taskService;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder.spiTimeout(Duration.ofMillis(200));
+    }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_CallTaskRouterOnCallingThread_When_SpiTimeoutIsConfigured() throws Exception {
+      Task task = taskService.newTask(null, "DOMAIN_A");
+      task.setClassificationKey(classificationSummary.getKey());
+      task.setPrimaryObjRef(DefaultTestEntities.defaultTestObjectReference().build());
+
+      Task createdTask = taskService.createTask(task);
+
+      assertThat(createdTask.getWorkbasketSummary()).isEqualTo(domainAWorkbasket);
+      assertThat(routingThread).isSameAs(Thread.currentThread());
+    }
+  }
+
   class TaskRoutingProviderForDomainA implements TaskRoutingProvider {
 
     @Override
@@ -93,4 +129,16 @@ class TaskRoutingAccTest {
       return null;
     }
   }
+
+  class CallingThreadRecordingTaskRoutingProvider implements TaskRoutingProvider {
+
+    @Override
+    public void initialize(TaskanaEngine taskanaEngine) {}
+
+    @Override
+    public String determineWorkbasketId(Task task) {
+      routingThread = Thread.currentThread();
+      return domainAWorkbasket.getId();
+    }
+  }
 }
@@ -1,9 +1,13 @@
 package acceptance.workbasket.get;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static pro.taskana.common.internal.util.CheckedSupplier.wrap;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestObjectReference;
+import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
 import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_1;
 import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_2;
 import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_3;
@@ -13,19 +17,27 @@ import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_6;
 import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_7;
 import static pro.taskana.workbasket.api.WorkbasketCustomField.CUSTOM_8;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Stream;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.api.function.ThrowingConsumer;
+import pro.taskana.TaskanaConfiguration.Builder;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.models.ClassificationSummary;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.common.internal.util.Triplet;
 import pro.taskana.task.api.models.ObjectReference;
+import pro.taskana.testapi.TaskanaConfigurationModifier;
 import pro.taskana.testapi.TaskanaInject;
 import pro.taskana.testapi.TaskanaIntegrationTest;
 import pro.taskana.testapi.builder.WorkbasketAccessItemBuilder;
@@ -37,7 +49,9 @@ import pro.taskana.workbasket.api.WorkbasketType;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.api.models.Workbasket;
+import pro.taskana.workbasket.api.models.WorkbasketAccessItem;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
+import pro.taskana.workbasket.internal.WorkbasketCache;
 
 @TaskanaIntegrationTest
 class GetWorkbasketAccTest {
@@ -201,4 +215,138 @@ class GetWorkbasketAccTest {
 
     assertThat(e.getId()).isEqualTo("NOT EXISTING ID");
   }
+
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  class WithWorkbasketCache implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngineImpl taskanaEngine;
+    @TaskanaInject WorkbasketService workbasketService;
+
+    WorkbasketCache workbasketCache;
+    Workbasket workbasket;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder.workbasketCacheExpiration(Duration.ofMinutes(5));
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @BeforeAll
+    void setup() throws Exception {
+      workbasketCache = taskanaEngine.getWorkbasketCache();
+      workbasket = defaultTestWorkbasket().buildAndStore(workbasketService);
+      // load the workbasket into the cache
+      workbasketService.getWorkbasket(workbasket.getId());
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @Test
+    void should_ReadWorkbasketFromCache_When_WorkbasketIsRequestedAgain() throws Exception {
+      workbasketService.getWorkbasket(workbasket.getKey(), workbasket.getDomain());
+      long hits = workbasketCache.getHits();
+
+      Workbasket result =
+          workbasketService.getWorkbasket(workbasket.getKey(), workbasket.getDomain());
+
+      assertThat(workbasketCache.getHits()).isGreaterThan(hits);
+      assertThat(result).isEqualTo(workbasket);
+    }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_ThrowException_When_UserHasNoPermissionOnCachedWorkbasket() {
+      ThrowingCallable call = () -> workbasketService.getWorkbasket(workbasket.getId());
+
+      NotAuthorizedOnWorkbasketException e =
+          catchThrowableOfType(call, NotAuthorizedOnWorkbasketException.class);
+
+      assertThat(e.getWorkbasketId()).isEqualTo(workbasket.getId());
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @Test
+    void should_ReturnUpdatedWorkbasket_When_WorkbasketHasBeenUpdated() throws Exception {
+      Workbasket created = defaultTestWorkbasket().buildAndStore(workbasketService);
+      Workbasket cached = workbasketService.getWorkbasket(created.getId());
+      cached.setName("updated name");
+      workbasketService.updateWorkbasket(cached);
+
+      Workbasket result = workbasketService.getWorkbasket(created.getId());
+
+      assertThat(result.getName()).isEqualTo("updated name");
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @Test
+    void should_ReturnNewDistributionTargets_When_DistributionTargetsHaveBeenSet()
+        throws Exception {
+      Workbasket source = defaultTestWorkbasket().buildAndStore(workbasketService);
+      WorkbasketSummary target = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+      assertThat(workbasketService.getDistributionTargets(source.getId())).isEmpty();
+
+      workbasketService.setDistributionTargets(source.getId(), List.of(target.getId()));
+
+      assertThat(workbasketService.getDistributionTargets(source.getId()))
+          .extracting(WorkbasketSummary::getId)
+          .containsExactly(target.getId());
+    }
+
+    @WithAccessId(user = "businessadmin")
+    @Test
+    void should_ReturnRemainingDistributionTargets_When_TargetHasBeenRemovedByAnotherEngine()
+        throws Exception {
+      Workbasket source = defaultTestWorkbasket().buildAndStore(workbasketService);
+      WorkbasketSummary target1 = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+      WorkbasketSummary target2 = defaultTestWorkbasket().buildAndStoreAsSummary(workbasketService);
+      workbasketService.setDistributionTargets(
+          source.getId(), List.of(target1.getId(), target2.getId()));
+      // load the distribution targets into the cache
+      assertThat(workbasketService.getDistributionTargets(source.getId())).hasSize(2);
+      TaskanaEngine otherEngine =
+          TaskanaEngine.buildTaskanaEngine(taskanaEngine.getConfiguration());
+
+      otherEngine.getWorkbasketService().removeDistributionTarget(source.getId(), target2.getId());
+      workbasketCache.requestVersionCheck();
+
+      assertThat(workbasketService.getDistributionTargets(source.getId()))
+          .extracting(WorkbasketSummary::getId)
+          .containsExactly(target1.getId());
+    }
+  }
+
+  @Nested
+  @TestInstance(Lifecycle.PER_CLASS)
+  class WithWorkbasketPermissionCache implements TaskanaConfigurationModifier {
+
+    @TaskanaInject TaskanaEngine taskanaEngine;
+    @TaskanaInject WorkbasketService workbasketService;
+
+    @Override
+    public Builder modify(Builder builder) {
+      return builder.workbasketPermissionCacheExpiration(Duration.ofMinutes(5));
+    }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_ApplyChangedAccessItem_When_PermissionsHaveBeenCached() throws Exception {
+      Workbasket workbasket =
+          defaultTestWorkbasket().buildAndStore(workbasketService, "businessadmin");
+      ThrowingCallable call = () -> workbasketService.getWorkbasket(workbasket.getId());
+      assertThatThrownBy(call).isInstanceOf(NotAuthorizedOnWorkbasketException.class);
+
+      WorkbasketAccessItem accessItem =
+          WorkbasketAccessItemBuilder.newWorkbasketAccessItem()
+              .workbasketId(workbasket.getId())
+              .accessId("user-1-1")
+              .permission(WorkbasketPermission.READ)
+              .buildAndStore(workbasketService, "businessadmin");
+      assertThatCode(call).doesNotThrowAnyException();
+
+      accessItem.setPermission(WorkbasketPermission.READ, false);
+      taskanaEngine.runAsAdmin(
+          wrap(() -> workbasketService.updateWorkbasketAccessItem(accessItem)));
+      assertThatThrownBy(call).isInstanceOf(NotAuthorizedOnWorkbasketException.class);
+    }
+  }
 }
@@ -72,6 +72,7 @@ public class TaskanaConfiguration {
   private final List<String> classificationTypes;
 
   private final Map<String, List<String>> classificationCategoriesByType;
+  private final Duration classificationCacheExpiration;
   // endregion
 
   // region working time configuration
@@ -86,6 +87,9 @@ public class TaskanaConfiguration {
   // region history configuration
   private final boolean deleteHistoryEventsOnTaskDeletionEnabled;
   private final String logHistoryLoggerName;
+  private final boolean simpleHistoryWriteBehindEnabled;
+  private final int simpleHistoryWriteBehindBatchSize;
+  private final Duration simpleHistoryWriteBehindMaxLatency;
   // endregion
 
   // region job configuration
@@ -98,6 +102,7 @@ public class TaskanaConfiguration {
   private final Instant jobFirstRun;
   private final Duration jobRunEvery;
   private final Duration jobLockExpirationPeriod;
+  private final int jobRunnerPoolSize;
   private final boolean taskCleanupJobEnabled;
   private final Duration taskCleanupJobMinimumAge;
   private final boolean taskCleanupJobAllCompletedSameParentBusiness;
@@ -113,6 +118,8 @@ public class TaskanaConfiguration {
   private final Duration simpleHistoryCleanupJobLockExpirationPeriod;
   private final boolean taskUpdatePriorityJobEnabled;
   private final int taskUpdatePriorityJobBatchSize;
+  private final int taskUpdatePriorityJobPoolSize;
+  private final int taskUpdatePriorityJobPartitions;
   private final Instant taskUpdatePriorityJobFirstRun;
   private final Duration taskUpdatePriorityJobRunEvery;
   private final Duration taskUpdatePriorityJobLockExpirationPeriod;
@@ -127,11 +134,25 @@ public class TaskanaConfiguration {
 
   // region user configuration
   private final boolean addAdditionalUserInfo;
+  private final Duration workbasketPermissionCacheExpiration;
+  private final Duration workbasketCacheExpiration;
   private final Set<WorkbasketPermission> minimalPermissionsToAssignDomains;
   // endregion
 
+  // region service provider configuration
+  private final Duration spiTimeout;
+  private final int spiMaxConcurrentCalls;
+  private final int spiCircuitBreakerFailureThreshold;
+  private final Duration spiCircuitBreakerOpenDuration;
+  // endregion
+
+  // region monitor configuration
+  private final Duration reportAggregateRefreshInterval;
+  // endregion
+
   // region database configuration
   private final boolean useSpecificDb2Taskquery;
+  private final boolean useSkipLockedForSelectAndClaim;
   // endregion
 
   // region custom configuration
@@ -163,6 +184,7 @@ public class TaskanaConfiguration {
                         e -> Collections.unmodifiableList(e.getValue()),
                         (oldValue, newValue) -> oldValue,
                         LinkedHashMap::new)));
+    this.classificationCacheExpiration = builder.classificationCacheExpiration;
     // working time configuration
     this.useWorkingTimeCalculation = builder.useWorkingTimeCalculation;
     this.workingTimeSchedule =
@@ -179,6 +201,9 @@ public class TaskanaConfiguration {
     this.deleteHistoryEventsOnTaskDeletionEnabled =
         builder.deleteHistoryEventsOnTaskDeletionEnabled;
     this.logHistoryLoggerName = builder.logHistoryLoggerName;
+    this.simpleHistoryWriteBehindEnabled = builder.simpleHistoryWriteBehindEnabled;
+    this.simpleHistoryWriteBehindBatchSize = builder.simpleHistoryWriteBehindBatchSize;
+    this.simpleHistoryWriteBehindMaxLatency = builder.simpleHistoryWriteBehindMaxLatency;
     // job configuration
     this.jobSchedulerEnabled = builder.jobSchedulerEnabled;
     this.jobSchedulerInitialStartDelay = builder.jobSchedulerInitialStartDelay;
@@ -189,6 +214,7 @@ public class TaskanaConfiguration {
     this.jobFirstRun = builder.jobFirstRun;
     this.jobRunEvery = builder.jobRunEvery;
     this.jobLockExpirationPeriod = builder.jobLockExpirationPeriod;
+    this.jobRunnerPoolSize = builder.jobRunnerPoolSize;
     this.taskCleanupJobEnabled = builder.taskCleanupJobEnabled;
     this.taskCleanupJobMinimumAge = builder.taskCleanupJobMinimumAge;
     this.taskCleanupJobAllCompletedSameParentBusiness =
@@ -206,6 +232,8 @@ public class TaskanaConfiguration {
         builder.simpleHistoryCleanupJobLockExpirationPeriod;
     this.taskUpdatePriorityJobEnabled = builder.taskUpdatePriorityJobEnabled;
     this.taskUpdatePriorityJobBatchSize = builder.taskUpdatePriorityJobBatchSize;
+    this.taskUpdatePriorityJobPoolSize = builder.taskUpdatePriorityJobPoolSize;
+    this.taskUpdatePriorityJobPartitions = builder.taskUpdatePriorityJobPartitions;
     this.taskUpdatePriorityJobFirstRun = builder.taskUpdatePriorityJobFirstRun;
     this.taskUpdatePriorityJobRunEvery = builder.taskUpdatePriorityJobRunEvery;
     this.taskUpdatePriorityJobLockExpirationPeriod =
@@ -217,10 +245,20 @@ public class TaskanaConfiguration {
     this.customJobs = Collections.unmodifiableSet(builder.customJobs);
     // user configuration
     this.addAdditionalUserInfo = builder.addAdditionalUserInfo;
+    this.workbasketPermissionCacheExpiration = builder.workbasketPermissionCacheExpiration;
+    this.workbasketCacheExpiration = builder.workbasketCacheExpiration;
     this.minimalPermissionsToAssignDomains =
         Collections.unmodifiableSet(builder.minimalPermissionsToAssignDomains);
+    // service provider configuration
+    this.spiTimeout = builder.spiTimeout;
+    this.spiMaxConcurrentCalls = builder.spiMaxConcurrentCalls;
+    this.spiCircuitBreakerFailureThreshold = builder.spiCircuitBreakerFailureThreshold;
+    this.spiCircuitBreakerOpenDuration = builder.spiCircuitBreakerOpenDuration;
+    // monitor configuration
+    this.reportAggregateRefreshInterval = builder.reportAggregateRefreshInterval;
     // database configuration
     this.useSpecificDb2Taskquery = builder.useSpecificDb2Taskquery;
+    this.useSkipLockedForSelectAndClaim = builder.useSkipLockedForSelectAndClaim;
     // custom configuration
     this.properties = Map.copyOf(builder.properties);
   }
@@ -283,6 +321,10 @@ public class TaskanaConfiguration {
     return classificationTypes;
   }
 
+  public Duration getClassificationCacheExpiration() {
+    return classificationCacheExpiration;
+  }
+
   public boolean isUseWorkingTimeCalculation() {
     return useWorkingTimeCalculation;
   }
@@ -315,6 +357,18 @@ public class TaskanaConfiguration {
     return logHistoryLoggerName;
   }
 
+  public boolean isSimpleHistoryWriteBehindEnabled() {
+    return simpleHistoryWriteBehindEnabled;
+  }
+
+  public int getSimpleHistoryWriteBehindBatchSize() {
+    return simpleHistoryWriteBehindBatchSize;
+  }
+
+  public Duration getSimpleHistoryWriteBehindMaxLatency() {
+    return simpleHistoryWriteBehindMaxLatency;
+  }
+
   public boolean isJobSchedulerEnabled() {
     return jobSchedulerEnabled;
   }
@@ -351,6 +405,10 @@ public class TaskanaConfiguration {
     return jobLockExpirationPeriod;
   }
 
+  public int getJobRunnerPoolSize() {
+    return jobRunnerPoolSize;
+  }
+
   public boolean isTaskCleanupJobEnabled() {
     return taskCleanupJobEnabled;
   }
@@ -403,6 +461,14 @@ public class TaskanaConfiguration {
     return taskUpdatePriorityJobBatchSize;
   }
 
+  public int getTaskUpdatePriorityJobPoolSize() {
+    return taskUpdatePriorityJobPoolSize;
+  }
+
+  public int getTaskUpdatePriorityJobPartitions() {
+    return taskUpdatePriorityJobPartitions;
+  }
+
   public Instant getTaskUpdatePriorityJobFirstRun() {
     return taskUpdatePriorityJobFirstRun;
   }
@@ -439,14 +505,46 @@ public class TaskanaConfiguration {
     return addAdditionalUserInfo;
   }
 
+  public Duration getWorkbasketPermissionCacheExpiration() {
+    return workbasketPermissionCacheExpiration;
+  }
+
+  public Duration getWorkbasketCacheExpiration() {
+    return workbasketCacheExpiration;
+  }
+
   public Set<WorkbasketPermission> getMinimalPermissionsToAssignDomains() {
     return minimalPermissionsToAssignDomains;
   }
 
+  public Duration getSpiTimeout() {
+    return spiTimeout;
+  }
+
+  public int getSpiMaxConcurrentCalls() {
+    return spiMaxConcurrentCalls;
+  }
+
+  public int getSpiCircuitBreakerFailureThreshold() {
+    return spiCircuitBreakerFailureThreshold;
+  }
+
+  public Duration getSpiCircuitBreakerOpenDuration() {
+    return spiCircuitBreakerOpenDuration;
+  }
+
+  public Duration getReportAggregateRefreshInterval() {
+    return reportAggregateRefreshInterval;
+  }
+
   public boolean isUseSpecificDb2Taskquery() {
     return useSpecificDb2Taskquery;
   }
 
+  public boolean isUseSkipLockedForSelectAndClaim() {
+    return useSkipLockedForSelectAndClaim;
+  }
+
   /**
    * return all properties loaded from taskana properties file. Per Design the normal Properties are
    * not immutable, so we return here an ImmutableMap, because we don't want direct changes in the
@@ -474,6 +572,7 @@ public class TaskanaConfiguration {
         roleMap,
         classificationTypes,
         classificationCategoriesByType,
+        classificationCacheExpiration,
         useWorkingTimeCalculation,
         workingTimeSchedule,
         workingTimeScheduleTimeZone,
@@ -482,6 +581,9 @@ public class TaskanaConfiguration {
         germanPublicHolidaysCorpusChristiEnabled,
         deleteHistoryEventsOnTaskDeletionEnabled,
         logHistoryLoggerName,
+        simpleHistoryWriteBehindEnabled,
+        simpleHistoryWriteBehindBatchSize,
+        simpleHistoryWriteBehindMaxLatency,
         jobSchedulerEnabled,
         jobSchedulerInitialStartDelay,
         jobSchedulerPeriod,
@@ -491,6 +593,7 @@ public class TaskanaConfiguration {
         jobFirstRun,
         jobRunEvery,
         jobLockExpirationPeriod,
+        jobRunnerPoolSize,
         taskCleanupJobEnabled,
         taskCleanupJobMinimumAge,
         taskCleanupJobAllCompletedSameParentBusiness,
@@ -504,6 +607,8 @@ public class TaskanaConfiguration {
         simpleHistoryCleanupJobLockExpirationPeriod,
         taskUpdatePriorityJobEnabled,
         taskUpdatePriorityJobBatchSize,
+        taskUpdatePriorityJobPoolSize,
+        taskUpdatePriorityJobPartitions,
         taskUpdatePriorityJobFirstRun,
         taskUpdatePriorityJobRunEvery,
         taskUpdatePriorityJobLockExpirationPeriod,
@@ -513,8 +618,16 @@ public class TaskanaConfiguration {
         userRefreshJobLockExpirationPeriod,
         customJobs,
         addAdditionalUserInfo,
+        workbasketPermissionCacheExpiration,
+        workbasketCacheExpiration,
         minimalPermissionsToAssignDomains,
+        spiTimeout,
+        spiMaxConcurrentCalls,
+        spiCircuitBreakerFailureThreshold,
+        spiCircuitBreakerOpenDuration,
+        reportAggregateRefreshInterval,
         useSpecificDb2Taskquery,
+        useSkipLockedForSelectAndClaim,
         properties);
   }
 
@@ -536,11 +649,14 @@ public class TaskanaConfiguration {
             == other.germanPublicHolidaysCorpusChristiEnabled
         && deleteHistoryEventsOnTaskDeletionEnabled
             == other.deleteHistoryEventsOnTaskDeletionEnabled
+        && simpleHistoryWriteBehindEnabled == other.simpleHistoryWriteBehindEnabled
+        && simpleHistoryWriteBehindBatchSize == other.simpleHistoryWriteBehindBatchSize
         && jobSchedulerEnabled == other.jobSchedulerEnabled
         && jobSchedulerInitialStartDelay == other.jobSchedulerInitialStartDelay
         && jobSchedulerPeriod == other.jobSchedulerPeriod
         && maxNumberOfJobRetries == other.maxNumberOfJobRetries
         && jobBatchSize == other.jobBatchSize
+        && jobRunnerPoolSize == other.jobRunnerPoolSize
         && taskCleanupJobEnabled == other.taskCleanupJobEnabled
         && taskCleanupJobAllCompletedSameParentBusiness
             == other.taskCleanupJobAllCompletedSameParentBusiness
@@ -551,15 +667,19 @@ public class TaskanaConfiguration {
             == other.simpleHistoryCleanupJobAllCompletedSameParentBusiness
         && taskUpdatePriorityJobEnabled == other.taskUpdatePriorityJobEnabled
         && taskUpdatePriorityJobBatchSize == other.taskUpdatePriorityJobBatchSize
+        && taskUpdatePriorityJobPoolSize == other.taskUpdatePriorityJobPoolSize
+        && taskUpdatePriorityJobPartitions == other.taskUpdatePriorityJobPartitions
         && userInfoRefreshJobEnabled == other.userInfoRefreshJobEnabled
         && addAdditionalUserInfo == other.addAdditionalUserInfo
         && useSpecificDb2Taskquery == other.useSpecificDb2Taskquery
+        && useSkipLockedForSelectAndClaim == other.useSkipLockedForSelectAndClaim
         && Objects.equals(dataSource, other.dataSource)
         && Objects.equals(schemaName, other.schemaName)
         && Objects.equals(domains, other.domains)
         && Objects.equals(roleMap, other.roleMap)
         && Objects.equals(classificationTypes, other.classificationTypes)
         && Objects.equals(classificationCategoriesByType, other.classificationCategoriesByType)
+        && Objects.equals(classificationCacheExpiration, other.classificationCacheExpiration)
         && Objects.equals(workingTimeSchedule, other.workingTimeSchedule)
         && Objects.equals(workingTimeScheduleTimeZone, other.workingTimeScheduleTimeZone)
         && Objects.equals(customHolidays, other.customHolidays)
@@ -589,8 +709,18 @@ public class TaskanaConfiguration {
         && Objects.equals(
             userRefreshJobLockExpirationPeriod, other.userRefreshJobLockExpirationPeriod)
         && Objects.equals(customJobs, other.customJobs)
+        && Objects.equals(
+            simpleHistoryWriteBehindMaxLatency, other.simpleHistoryWriteBehindMaxLatency)
+        && Objects.equals(
+            workbasketPermissionCacheExpiration, other.workbasketPermissionCacheExpiration)
+        && Objects.equals(workbasketCacheExpiration, other.workbasketCacheExpiration)
         && Objects.equals(
             minimalPermissionsToAssignDomains, other.minimalPermissionsToAssignDomains)
+        && Objects.equals(spiTimeout, other.spiTimeout)
+        && spiMaxConcurrentCalls == other.spiMaxConcurrentCalls
+        && spiCircuitBreakerFailureThreshold == other.spiCircuitBreakerFailureThreshold
+        && Objects.equals(spiCircuitBreakerOpenDuration, other.spiCircuitBreakerOpenDuration)
+        && Objects.equals(reportAggregateRefreshInterval, other.reportAggregateRefreshInterval)
         && Objects.equals(properties, other.properties);
   }
 
@@ -616,6 +746,8 @@ public class TaskanaConfiguration {
         + classificationTypes
         + ", classificationCategoriesByType="
         + classificationCategoriesByType
+        + ", classificationCacheExpiration="
+        + classificationCacheExpiration
         + ", useWorkingTimeCalculation="
         + useWorkingTimeCalculation
         + ", workingTimeSchedule="
@@ -633,6 +765,12 @@ public class TaskanaConfiguration {
         + ", logHistoryLoggerName='"
         + logHistoryLoggerName
         + '\''
+        + ", simpleHistoryWriteBehindEnabled="
+        + simpleHistoryWriteBehindEnabled
+        + ", simpleHistoryWriteBehindBatchSize="
+        + simpleHistoryWriteBehindBatchSize
+        + ", simpleHistoryWriteBehindMaxLatency="
+        + simpleHistoryWriteBehindMaxLatency
         + ", jobSchedulerEnabled="
         + jobSchedulerEnabled
         + ", jobSchedulerInitialStartDelay="
@@ -651,6 +789,8 @@ public class TaskanaConfiguration {
         + jobRunEvery
         + ", jobLockExpirationPeriod="
         + jobLockExpirationPeriod
+        + ", jobRunnerPoolSize="
+        + jobRunnerPoolSize
         + ", taskCleanupJobEnabled="
         + taskCleanupJobEnabled
         + ", taskCleanupJobMinimumAge="
@@ -677,6 +817,10 @@ public class TaskanaConfiguration {
         + taskUpdatePriorityJobEnabled
         + ", taskUpdatePriorityJobBatchSize="
         + taskUpdatePriorityJobBatchSize
+        + ", taskUpdatePriorityJobPoolSize="
+        + taskUpdatePriorityJobPoolSize
+        + ", taskUpdatePriorityJobPartitions="
+        + taskUpdatePriorityJobPartitions
         + ", taskUpdatePriorityJobFirstRun="
         + taskUpdatePriorityJobFirstRun
         + ", taskUpdatePriorityJobRunEvery="
@@ -695,10 +839,26 @@ public class TaskanaConfiguration {
         + customJobs
         + ", addAdditionalUserInfo="
         + addAdditionalUserInfo
+        + ", workbasketPermissionCacheExpiration="
+        + workbasketPermissionCacheExpiration
+        + ", workbasketCacheExpiration="
+        + workbasketCacheExpiration
         + ", minimalPermissionsToAssignDomains="
         + minimalPermissionsToAssignDomains
+        + ", spiTimeout="
+        + spiTimeout
+        + ", spiMaxConcurrentCalls="
+        + spiMaxConcurrentCalls
+        + ", spiCircuitBreakerFailureThreshold="
+        + spiCircuitBreakerFailureThreshold
+        + ", spiCircuitBreakerOpenDuration="
+        + spiCircuitBreakerOpenDuration
+        + ", reportAggregateRefreshInterval="
+        + reportAggregateRefreshInterval
         + ", useSpecificDb2Taskquery="
         + useSpecificDb2Taskquery
+        + ", useSkipLockedForSelectAndClaim="
+        + useSkipLockedForSelectAndClaim
         + ", properties="
         + properties
         + '}';
@@ -736,6 +896,9 @@ public class TaskanaConfiguration {
 
     @TaskanaProperty("taskana.classification.categories")
     private Map<String, List<String>> classificationCategoriesByType = new HashMap<>();
+
+    @TaskanaProperty("taskana.classification.cacheExpiration")
+    private Duration classificationCacheExpiration = Duration.ZERO;
     // endregion
 
     // region working time configuration
@@ -766,6 +929,15 @@ public class TaskanaConfiguration {
 
     @TaskanaProperty("taskana.history.logger.name")
     private String logHistoryLoggerName = null; // default value will be set in the logger class.
+
+    @TaskanaProperty("taskana.history.simple.writeBehind.enabled")
+    private boolean simpleHistoryWriteBehindEnabled = false;
+
+    @TaskanaProperty("taskana.history.simple.writeBehind.batchSize")
+    private int simpleHistoryWriteBehindBatchSize = 100;
+
+    @TaskanaProperty("taskana.history.simple.writeBehind.maxLatency")
+    private Duration simpleHistoryWriteBehindMaxLatency = Duration.ofSeconds(1);
     // endregion
 
     // region job configuration
@@ -796,6 +968,9 @@ public class TaskanaConfiguration {
     @TaskanaProperty("taskana.jobs.lockExpirationPeriod")
     private Duration jobLockExpirationPeriod = Duration.ofMinutes(30);
 
+    @TaskanaProperty("taskana.jobs.runner.poolSize")
+    private int jobRunnerPoolSize = 1;
+
     @TaskanaProperty("taskana.jobs.cleanup.task.enable")
     private boolean taskCleanupJobEnabled = true;
 
@@ -835,6 +1010,12 @@ public class TaskanaConfiguration {
     @TaskanaProperty("taskana.jobs.priority.task.batchSize")
     private int taskUpdatePriorityJobBatchSize = 100;
 
+    @TaskanaProperty("taskana.jobs.priority.task.poolSize")
+    private int taskUpdatePriorityJobPoolSize = 1;
+
+    @TaskanaProperty("taskana.jobs.priority.task.partitions")
+    private int taskUpdatePriorityJobPartitions = 1;
+
     @TaskanaProperty("taskana.jobs.priority.task.firstRunAt")
     private Instant taskUpdatePriorityJobFirstRun = Instant.parse("2023-01-01T00:00:00Z");
 
@@ -864,13 +1045,41 @@ public class TaskanaConfiguration {
     @TaskanaProperty("taskana.user.addAdditionalUserInfo")
     private boolean addAdditionalUserInfo = false;
 
+    @TaskanaProperty("taskana.user.workbasketPermissionCacheExpiration")
+    private Duration workbasketPermissionCacheExpiration = Duration.ZERO;
+
+    @TaskanaProperty("taskana.workbasket.cacheExpiration")
+    private Duration workbasketCacheExpiration = Duration.ZERO;
+
     @TaskanaProperty("taskana.user.minimalPermissionsToAssignDomains")
     private Set<WorkbasketPermission> minimalPermissionsToAssignDomains = new HashSet<>();
     // endregion
 
+    // region service provider configuration
+    @TaskanaProperty("taskana.spi.timeout")
+    private Duration spiTimeout = Duration.ZERO;
+
+    @TaskanaProperty("taskana.spi.maxConcurrentCalls")
+    private int spiMaxConcurrentCalls = 10;
+
+    @TaskanaProperty("taskana.spi.circuitBreaker.failureThreshold")
+    private int spiCircuitBreakerFailureThreshold = 5;
+
+    @TaskanaProperty("taskana.spi.circuitBreaker.openDuration")
+    private Duration spiCircuitBreakerOpenDuration = Duration.ofSeconds(30);
+    // endregion
+
+    // region monitor configuration
+    @TaskanaProperty("taskana.monitor.reportAggregate.refreshInterval")
+    private Duration reportAggregateRefreshInterval = Duration.ZERO;
+    // endregion
+
     // region database configuration
     @TaskanaProperty("taskana.feature.useSpecificDb2Taskquery")
     private boolean useSpecificDb2Taskquery = true;
+
+    @TaskanaProperty("taskana.feature.useSkipLockedForSelectAndClaim")
+    private boolean useSkipLockedForSelectAndClaim = false;
     // endregion
 
     // region custom configuration
@@ -936,6 +1145,7 @@ public class TaskanaConfiguration {
       // classification configuration
       this.classificationTypes = conf.classificationTypes;
       this.classificationCategoriesByType = conf.classificationCategoriesByType;
+      this.classificationCacheExpiration = conf.classificationCacheExpiration;
       // working time configuration
       this.useWorkingTimeCalculation = conf.useWorkingTimeCalculation;
       this.workingTimeSchedule = conf.workingTimeSchedule;
@@ -946,6 +1156,9 @@ public class TaskanaConfiguration {
       // holiday configuration
       this.deleteHistoryEventsOnTaskDeletionEnabled = conf.deleteHistoryEventsOnTaskDeletionEnabled;
       this.logHistoryLoggerName = conf.logHistoryLoggerName;
+      this.simpleHistoryWriteBehindEnabled = conf.simpleHistoryWriteBehindEnabled;
+      this.simpleHistoryWriteBehindBatchSize = conf.simpleHistoryWriteBehindBatchSize;
+      this.simpleHistoryWriteBehindMaxLatency = conf.simpleHistoryWriteBehindMaxLatency;
       // job configuration
       this.jobSchedulerEnabled = conf.jobSchedulerEnabled;
       this.jobSchedulerInitialStartDelay = conf.jobSchedulerInitialStartDelay;
@@ -956,6 +1169,7 @@ public class TaskanaConfiguration {
       this.jobFirstRun = conf.jobFirstRun;
       this.jobRunEvery = conf.jobRunEvery;
       this.jobLockExpirationPeriod = conf.jobLockExpirationPeriod;
+      this.jobRunnerPoolSize = conf.jobRunnerPoolSize;
       this.taskCleanupJobEnabled = conf.taskCleanupJobEnabled;
       this.taskCleanupJobMinimumAge = conf.taskCleanupJobMinimumAge;
       this.taskCleanupJobAllCompletedSameParentBusiness =
@@ -972,6 +1186,8 @@ public class TaskanaConfiguration {
           conf.simpleHistoryCleanupJobLockExpirationPeriod;
       this.taskUpdatePriorityJobEnabled = conf.taskUpdatePriorityJobEnabled;
       this.taskUpdatePriorityJobBatchSize = conf.taskUpdatePriorityJobBatchSize;
+      this.taskUpdatePriorityJobPoolSize = conf.taskUpdatePriorityJobPoolSize;
+      this.taskUpdatePriorityJobPartitions = conf.taskUpdatePriorityJobPartitions;
       this.taskUpdatePriorityJobFirstRun = conf.taskUpdatePriorityJobFirstRun;
       this.taskUpdatePriorityJobRunEvery = conf.taskUpdatePriorityJobRunEvery;
       this.taskUpdatePriorityJobLockExpirationPeriod =
@@ -983,9 +1199,19 @@ public class TaskanaConfiguration {
       this.customJobs = conf.customJobs;
       // user configuration
       this.addAdditionalUserInfo = conf.addAdditionalUserInfo;
+      this.workbasketPermissionCacheExpiration = conf.workbasketPermissionCacheExpiration;
+      this.workbasketCacheExpiration = conf.workbasketCacheExpiration;
       this.minimalPermissionsToAssignDomains = conf.minimalPermissionsToAssignDomains;
+      // service provider configuration
+      this.spiTimeout = conf.spiTimeout;
+      this.spiMaxConcurrentCalls = conf.spiMaxConcurrentCalls;
+      this.spiCircuitBreakerFailureThreshold = conf.spiCircuitBreakerFailureThreshold;
+      this.spiCircuitBreakerOpenDuration = conf.spiCircuitBreakerOpenDuration;
+      // monitor configuration
+      this.reportAggregateRefreshInterval = conf.reportAggregateRefreshInterval;
       // database configuration
       this.useSpecificDb2Taskquery = conf.useSpecificDb2Taskquery;
+      this.useSkipLockedForSelectAndClaim = conf.useSkipLockedForSelectAndClaim;
       // custom configuration
       this.properties = conf.properties;
     }
@@ -1079,6 +1305,11 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    public Builder classificationCacheExpiration(Duration classificationCacheExpiration) {
+      this.classificationCacheExpiration = classificationCacheExpiration;
+      return this;
+    }
+
     // endregion
 
     // region working time configuration
@@ -1129,6 +1360,32 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    /**
+     * Configure whether the simple history provider writes the history events asynchronously in
+     * batches. The events are stored in the table HISTORY_EVENT_OUTBOX within the transaction of
+     * the operation which created them. A background thread moves them to the history tables.
+     * Hence, the events of an operation which is rolled back are never written, and stored events
+     * are written after a restart, too. The table is part of the database schema as of version
+     * 8.1.0.
+     *
+     * @param simpleHistoryWriteBehindEnabled true to write the history events asynchronously
+     * @return the builder
+     */
+    public Builder simpleHistoryWriteBehindEnabled(boolean simpleHistoryWriteBehindEnabled) {
+      this.simpleHistoryWriteBehindEnabled = simpleHistoryWriteBehindEnabled;
+      return this;
+    }
+
+    public Builder simpleHistoryWriteBehindBatchSize(int simpleHistoryWriteBehindBatchSize) {
+      this.simpleHistoryWriteBehindBatchSize = simpleHistoryWriteBehindBatchSize;
+      return this;
+    }
+
+    public Builder simpleHistoryWriteBehindMaxLatency(Duration simpleHistoryWriteBehindMaxLatency) {
+      this.simpleHistoryWriteBehindMaxLatency = simpleHistoryWriteBehindMaxLatency;
+      return this;
+    }
+
     // endregion
 
     // region job configuration
@@ -1183,6 +1440,22 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    /**
+     * Configure the number of workers which execute the jobs of one run of the job scheduler
+     * concurrently. The workers share the TaskanaEngine of the job scheduler and use a connection
+     * of their own. With the default of 1 the jobs are executed one after another.
+     *
+     * <p>The pool size is the only limit. There is no limit per job type yet, so jobs of the same
+     * type may occupy all workers.
+     *
+     * @param jobRunnerPoolSize the number of workers
+     * @return the builder
+     */
+    public Builder jobRunnerPoolSize(int jobRunnerPoolSize) {
+      this.jobRunnerPoolSize = jobRunnerPoolSize;
+      return this;
+    }
+
     public Builder taskCleanupJobMinimumAge(Duration taskCleanupJobMinimumAge) {
       this.taskCleanupJobMinimumAge = taskCleanupJobMinimumAge;
       return this;
@@ -1250,6 +1523,16 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    public Builder taskUpdatePriorityJobPoolSize(int taskUpdatePriorityJobPoolSize) {
+      this.taskUpdatePriorityJobPoolSize = taskUpdatePriorityJobPoolSize;
+      return this;
+    }
+
+    public Builder taskUpdatePriorityJobPartitions(int taskUpdatePriorityJobPartitions) {
+      this.taskUpdatePriorityJobPartitions = taskUpdatePriorityJobPartitions;
+      return this;
+    }
+
     public Builder taskUpdatePriorityJobFirstRun(Instant taskUpdatePriorityJobFirstRun) {
       this.taskUpdatePriorityJobFirstRun = taskUpdatePriorityJobFirstRun;
       return this;
@@ -1300,12 +1583,78 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    public Builder workbasketPermissionCacheExpiration(
+        Duration workbasketPermissionCacheExpiration) {
+      this.workbasketPermissionCacheExpiration = workbasketPermissionCacheExpiration;
+      return this;
+    }
+
+    public Builder workbasketCacheExpiration(Duration workbasketCacheExpiration) {
+      this.workbasketCacheExpiration = workbasketCacheExpiration;
+      return this;
+    }
+
     public Builder minimalPermissionsToAssignDomains(
         Set<WorkbasketPermission> minimalPermissionsToAssignDomains) {
       this.minimalPermissionsToAssignDomains = minimalPermissionsToAssignDomains;
       return this;
     }
 
+    // endregion
+
+    // region service provider configuration
+
+    /**
+     * Configure the time which the registered PriorityServiceProviders may take to answer. If the
+     * timeout is positive, all providers are called concurrently and a provider which doesn't
+     * answer in time is ignored. Zero calls them one after another on the calling thread.
+     *
+     * <p>Concurrently called PriorityServiceProviders run on separate threads outside the
+     * transaction of the caller. Therefore, they must not use the TaskanaEngine.
+     * TaskRoutingProviders are always called on the calling thread.
+     *
+     * @param spiTimeout the timeout for a single provider call
+     * @return the builder
+     */
+    public Builder spiTimeout(Duration spiTimeout) {
+      this.spiTimeout = spiTimeout;
+      return this;
+    }
+
+    public Builder spiMaxConcurrentCalls(int spiMaxConcurrentCalls) {
+      this.spiMaxConcurrentCalls = spiMaxConcurrentCalls;
+      return this;
+    }
+
+    public Builder spiCircuitBreakerFailureThreshold(int spiCircuitBreakerFailureThreshold) {
+      this.spiCircuitBreakerFailureThreshold = spiCircuitBreakerFailureThreshold;
+      return this;
+    }
+
+    public Builder spiCircuitBreakerOpenDuration(Duration spiCircuitBreakerOpenDuration) {
+      this.spiCircuitBreakerOpenDuration = spiCircuitBreakerOpenDuration;
+      return this;
+    }
+
+    // endregion
+
+    // region monitor configuration
+
+    /**
+     * Configure how long the aggregated task counts, which answer the WorkbasketReport, the
+     * ClassificationCategoryReport and the ClassificationReport, may be used before they are
+     * aggregated again. The aggregate is refreshed based on time only, changes of tasks don't
+     * refresh it. The reports may therefore be outdated by this duration. Zero disables the
+     * aggregate, so that every report is read directly from the tasks.
+     *
+     * @param reportAggregateRefreshInterval the maximum age of the aggregated task counts
+     * @return the builder
+     */
+    public Builder reportAggregateRefreshInterval(Duration reportAggregateRefreshInterval) {
+      this.reportAggregateRefreshInterval = reportAggregateRefreshInterval;
+      return this;
+    }
+
     // endregion
     // region database configuration
     public Builder useSpecificDb2Taskquery(boolean useSpecificDb2Taskquery) {
@@ -1313,6 +1662,19 @@ public class TaskanaConfiguration {
       return this;
     }
 
+    /**
+     * Configure whether selectAndClaim skips Tasks which are locked by concurrent claimers instead
+     * of waiting for them. This is supported on PostgreSQL and DB2. It is ignored on H2 and on
+     * Oracle, where the locking query limits the selected rows before locked rows could be skipped.
+     *
+     * @param useSkipLockedForSelectAndClaim true to skip locked Tasks
+     * @return the builder
+     */
+    public Builder useSkipLockedForSelectAndClaim(boolean useSkipLockedForSelectAndClaim) {
+      this.useSkipLockedForSelectAndClaim = useSkipLockedForSelectAndClaim;
+      return this;
+    }
+
     public TaskanaConfiguration build() {
       adjustConfiguration();
       validateConfiguration();
@@ -1391,6 +1753,11 @@ public class TaskanaConfiguration {
         throw new InvalidArgumentException(
             "Parameter jobBatchSize (taskana.jobs.batchSize) must be a positive integer");
       }
+      if (jobRunnerPoolSize <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter jobRunnerPoolSize (taskana.jobs.runner.poolSize)"
+                + " must be a positive integer");
+      }
       if (maxNumberOfJobRetries <= 0) {
         throw new InvalidArgumentException(
             "Parameter maxNumberOfJobRetries (taskana.jobs.maxRetries)"
@@ -1416,6 +1783,16 @@ public class TaskanaConfiguration {
             "Parameter taskUpdatePriorityJobBatchSize (taskana.jobs.priority.task.batchSize)"
                 + " must be a positive integer");
       }
+      if (taskUpdatePriorityJobPoolSize <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter taskUpdatePriorityJobPoolSize (taskana.jobs.priority.task.poolSize)"
+                + " must be a positive integer");
+      }
+      if (taskUpdatePriorityJobPartitions <= 0 || taskUpdatePriorityJobPartitions > 256) {
+        throw new InvalidArgumentException(
+            "Parameter taskUpdatePriorityJobPartitions (taskana.jobs.priority.task.partitions)"
+                + " must be an integer between 1 and 256");
+      }
       if (taskUpdatePriorityJobRunEvery == null
           || taskUpdatePriorityJobRunEvery.isNegative()
           || taskUpdatePriorityJobRunEvery.isZero()) {
@@ -1430,6 +1807,60 @@ public class TaskanaConfiguration {
             "Parameter userRefreshJobRunEvery (taskana.jobs.refresh.user.runEvery)"
                 + " must be a positive duration");
       }
+      if (classificationCacheExpiration == null || classificationCacheExpiration.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter classificationCacheExpiration "
+                + "(taskana.classification.cacheExpiration) must not be negative");
+      }
+      if (workbasketPermissionCacheExpiration == null
+          || workbasketPermissionCacheExpiration.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter workbasketPermissionCacheExpiration "
+                + "(taskana.user.workbasketPermissionCacheExpiration) must not be negative");
+      }
+      if (workbasketCacheExpiration == null || workbasketCacheExpiration.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter workbasketCacheExpiration "
+                + "(taskana.workbasket.cacheExpiration) must not be negative");
+      }
+      if (spiTimeout == null || spiTimeout.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter spiTimeout (taskana.spi.timeout) must not be negative");
+      }
+      if (spiMaxConcurrentCalls <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter spiMaxConcurrentCalls (taskana.spi.maxConcurrentCalls)"
+                + " must be a positive integer");
+      }
+      if (spiCircuitBreakerFailureThreshold <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter spiCircuitBreakerFailureThreshold "
+                + "(taskana.spi.circuitBreaker.failureThreshold) must be a positive integer");
+      }
+      if (spiCircuitBreakerOpenDuration == null
+          || spiCircuitBreakerOpenDuration.isNegative()
+          || spiCircuitBreakerOpenDuration.isZero()) {
+        throw new InvalidArgumentException(
+            "Parameter spiCircuitBreakerOpenDuration "
+                + "(taskana.spi.circuitBreaker.openDuration) must be a positive duration");
+      }
+      if (reportAggregateRefreshInterval == null || reportAggregateRefreshInterval.isNegative()) {
+        throw new InvalidArgumentException(
+            "Parameter reportAggregateRefreshInterval "
+                + "(taskana.monitor.reportAggregate.refreshInterval) must not be negative");
+      }
+      if (simpleHistoryWriteBehindBatchSize <= 0) {
+        throw new InvalidArgumentException(
+            "Parameter simpleHistoryWriteBehindBatchSize "
+                + "(taskana.history.simple.writeBehind.batchSize) must be a positive integer");
+      }
+      if (simpleHistoryWriteBehindMaxLatency == null
+          || simpleHistoryWriteBehindMaxLatency.isNegative()
+          || simpleHistoryWriteBehindMaxLatency.isZero()) {
+        throw new InvalidArgumentException(
+            "Parameter simpleHistoryWriteBehindMaxLatency "
+                + "(taskana.history.simple.writeBehind.maxLatency) must be a positive duration");
+      }
       if (jobSchedulerInitialStartDelay < 0) {
         throw new InvalidArgumentException(
             "Parameter jobSchedulerInitialStartDelay (taskana.jobs.scheduler.initialStartDelay)"
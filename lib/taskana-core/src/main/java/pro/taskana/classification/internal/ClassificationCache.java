@@ -0,0 +1,85 @@
+package pro.taskana.classification.internal;
+
+import java.time.Duration;
+import pro.taskana.classification.internal.models.ClassificationImpl;
+import pro.taskana.common.internal.AbstractVersionedCache;
+import pro.taskana.common.internal.util.Pair;
+
+/**
+ * Cache for the classifications which are read by their id or by their key and domain.
+ *
+ * <p>Classifications hardly ever change, but they are read for every created or updated task. The
+ * cache is invalidated by every change of the local TASKANA engine. Changes of other TASKANA
+ * engines are detected by comparing the change version of the CLASSIFICATION table.
+ */
+public class ClassificationCache extends AbstractVersionedCache {
+
+  private final Region<String, ClassificationImpl> classificationsById = createRegion();
+  private final Region<Pair<String, String>, ClassificationImpl> classificationsByKeyAndDomain =
+      createRegion();
+
+  public ClassificationCache(Duration expiration) {
+    super(expiration);
+  }
+
+  /**
+   * Returns the cached classification with the given id.
+   *
+   * @param id the id of the requested classification
+   * @return a copy of the cached classification; null if there is no valid entry
+   */
+  public ClassificationImpl get(String id) {
+    return copy(lookUp(classificationsById, id));
+  }
+
+  /**
+   * Returns the cached classification which has been found for the given key and domain.
+   *
+   * @param key the key of the requested classification
+   * @param domain the requested domain
+   * @return a copy of the cached classification; null if there is no valid entry
+   */
+  public ClassificationImpl get(String key, String domain) {
+    return copy(lookUp(classificationsByKeyAndDomain, Pair.of(key, domain)));
+  }
+
+  /**
+   * Caches a classification which has been read from the database by its id.
+   *
+   * @param readInGeneration the generation of the cache before the classification has been read
+   * @param classification the classification which has been read
+   */
+  public void put(long readInGeneration, ClassificationImpl classification) {
+    put(readInGeneration, null, null, classification);
+  }
+
+  /**
+   * Caches a classification which has been read from the database by a key and a domain.
+   *
+   * @param readInGeneration the generation of the cache before the classification has been read
+   * @param key the requested key; may differ from the key of the classification
+   * @param domain the requested domain; may differ from the domain of the classification
+   * @param classification the classification which has been read
+   */
+  public void put(
+      long readInGeneration, String key, String domain, ClassificationImpl classification) {
+    if (!isEnabled()) {
+      return;
+    }
+    ClassificationImpl copy = copy(classification);
+    store(readInGeneration, classificationsById, classification.getId(), copy);
+    if (key != null) {
+      store(readInGeneration, classificationsByKeyAndDomain, Pair.of(key, domain), copy);
+    }
+  }
+
+  private static ClassificationImpl copy(ClassificationImpl classification) {
+    if (classification == null) {
+      return null;
+    }
+    // the cached classifications must not be modified by the callers
+    ClassificationImpl copy = classification.copy(classification.getKey());
+    copy.setId(classification.getId());
+    return copy;
+  }
+}
@@ -1,5 +1,6 @@
 package pro.taskana.classification.internal;
 
+import java.time.Instant;
 import org.apache.ibatis.annotations.Delete;
 import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Param;
@@ -86,4 +87,16 @@ public interface ClassificationMapper {
 
   @Delete("DELETE FROM CLASSIFICATION " + "WHERE ID = #{classificationId}")
   void deleteClassification(@Param("classificationId") String classificationId);
+
+  @Select(
+      "<script>SELECT COUNT(ID) FROM CLASSIFICATION "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  long countClassifications();
+
+  @Select(
+      "<script>SELECT MAX(MODIFIED) FROM CLASSIFICATION "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  Instant findLatestModification();
 }
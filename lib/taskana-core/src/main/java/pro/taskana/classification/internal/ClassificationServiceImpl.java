@@ -34,6 +34,7 @@ import pro.taskana.common.internal.InternalTaskanaEngine;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.spi.history.api.events.classification.ClassificationCreatedEvent;
 import pro.taskana.spi.history.api.events.classification.ClassificationDeletedEvent;
 import pro.taskana.spi.history.api.events.classification.ClassificationUpdatedEvent;
@@ -51,16 +52,19 @@ public class ClassificationServiceImpl implements ClassificationService {
   private final ClassificationMapper classificationMapper;
   private final TaskMapper taskMapper;
   private final InternalTaskanaEngine taskanaEngine;
+  private final ClassificationCache classificationCache;
 
   public ClassificationServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       PriorityServiceManager priorityServiceManager,
       ClassificationMapper classificationMapper,
-      TaskMapper taskMapper) {
+      TaskMapper taskMapper,
+      ClassificationCache classificationCache) {
     this.taskanaEngine = taskanaEngine;
     this.priorityServiceManager = priorityServiceManager;
     this.classificationMapper = classificationMapper;
     this.taskMapper = taskMapper;
+    this.classificationCache = classificationCache;
     this.historyEventManager = taskanaEngine.getHistoryEventManager();
   }
 
@@ -71,16 +75,19 @@ public class ClassificationServiceImpl implements ClassificationService {
       throw new ClassificationNotFoundException(null, domain);
     }
 
-    Classification result;
     try {
       taskanaEngine.openConnection();
-      result = classificationMapper.findByKeyAndDomain(key, domain);
-      if (result == null) {
-        result = classificationMapper.findByKeyAndDomain(key, MASTER_DOMAIN);
-        if (result == null) {
-          throw new ClassificationNotFoundException(key, domain);
-        }
+      if (!taskanaEngine.mayUseCache(classificationCache)) {
+        return findClassificationByKeyAndDomain(key, domain);
       }
+      invalidateCacheIfClassificationsChanged();
+      ClassificationImpl result = classificationCache.get(key, domain);
+      if (result != null) {
+        return result;
+      }
+      long cacheGeneration = classificationCache.getGeneration();
+      result = findClassificationByKeyAndDomain(key, domain);
+      classificationCache.put(cacheGeneration, key, domain, result);
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -92,13 +99,24 @@ public class ClassificationServiceImpl implements ClassificationService {
     if (id == null) {
       throw new ClassificationNotFoundException(null);
     }
-    Classification result;
     try {
       taskanaEngine.openConnection();
-      result = classificationMapper.findById(id);
+      boolean useCache = taskanaEngine.mayUseCache(classificationCache);
+      if (useCache) {
+        invalidateCacheIfClassificationsChanged();
+        ClassificationImpl cached = classificationCache.get(id);
+        if (cached != null) {
+          return cached;
+        }
+      }
+      long cacheGeneration = classificationCache.getGeneration();
+      ClassificationImpl result = classificationMapper.findById(id);
       if (result == null) {
         throw new ClassificationNotFoundException(id);
       }
+      if (useCache) {
+        classificationCache.put(cacheGeneration, result);
+      }
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -135,6 +153,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
       try {
         this.classificationMapper.deleteClassification(classificationId);
+        taskanaEngine.invalidateCache(classificationCache);
 
         if (historyEventManager.isEnabled()) {
           String details =
@@ -204,6 +223,7 @@ public class ClassificationServiceImpl implements ClassificationService {
       validateAndPopulateParentInformation(classificationImpl);
 
       classificationMapper.insert(classificationImpl);
+      taskanaEngine.invalidateCache(classificationCache);
 
       if (historyEventManager.isEnabled()) {
         String details =
@@ -260,6 +280,7 @@ public class ClassificationServiceImpl implements ClassificationService {
 
       this.checkExistenceOfParentClassification(oldClassification, classificationImpl);
       classificationMapper.update(classificationImpl);
+      taskanaEngine.invalidateCache(classificationCache);
 
       if (!priorityServiceManager.isEnabled()) {
         this.createJobIfPriorityOrServiceLevelHasChanged(oldClassification, classificationImpl);
@@ -380,6 +401,7 @@ public class ClassificationServiceImpl implements ClassificationService {
               masterClassification);
         }
         classificationMapper.insert(masterClassification);
+        taskanaEngine.invalidateCache(classificationCache);
         if (LOGGER.isDebugEnabled()) {
           LOGGER.debug(
               "Method createClassification: Classification created in "
@@ -520,14 +542,37 @@ public class ClassificationServiceImpl implements ClassificationService {
   private Classification getExistingClassificationAndVerifyTimestampHasNotChanged(
       ClassificationImpl classificationImpl)
       throws ConcurrencyException, ClassificationNotFoundException {
+    // the cache must not be used, since the classification may have been changed by another node
     Classification oldClassification =
-        this.getClassification(classificationImpl.getKey(), classificationImpl.getDomain());
+        findClassificationByKeyAndDomain(
+            classificationImpl.getKey(), classificationImpl.getDomain());
     if (!oldClassification.getModified().equals(classificationImpl.getModified())) {
       throw new ConcurrencyException(classificationImpl.getId());
     }
     return oldClassification;
   }
 
+  private ClassificationImpl findClassificationByKeyAndDomain(String key, String domain)
+      throws ClassificationNotFoundException {
+    ClassificationImpl result = classificationMapper.findByKeyAndDomain(key, domain);
+    if (result == null) {
+      result = classificationMapper.findByKeyAndDomain(key, MASTER_DOMAIN);
+      if (result == null) {
+        throw new ClassificationNotFoundException(key, domain);
+      }
+    }
+    return result;
+  }
+
+  private void invalidateCacheIfClassificationsChanged() {
+    if (classificationCache.isVersionCheckDue()) {
+      classificationCache.checkChangeVersion(
+          Pair.of(
+              classificationMapper.countClassifications(),
+              classificationMapper.findLatestModification()));
+    }
+  }
+
   /**
    * Update classification fields used by tasks.
    *
@@ -1,6 +1,5 @@
 package pro.taskana.classification.internal.jobs;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,7 +11,6 @@ import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.task.internal.TaskServiceImpl;
 import pro.taskana.task.internal.jobs.TaskRefreshJob;
 
@@ -26,7 +24,6 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
   public static final String PRIORITY_CHANGED = "priorityChanged";
   public static final String SERVICE_LEVEL_CHANGED = "serviceLevelChanged";
   private static final Logger LOGGER = LoggerFactory.getLogger(ClassificationChangedJob.class);
-  private static final String TASK_IDS = "taskIds";
   private final String classificationId;
   private final boolean priorityChanged;
   private final boolean serviceLevelChanged;
@@ -45,11 +42,13 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     LOGGER.info("Running ClassificationChangedJob for classification ({})", classificationId);
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      List<String> affectedTaskIds =
-          taskService.findTasksIdsAffectedByClassificationChange(classificationId);
-      if (!affectedTaskIds.isEmpty()) {
-        scheduleTaskRefreshJobs(affectedTaskIds);
+      if (priorityChanged && !serviceLevelChanged) {
+        int updatedTasks =
+            taskService.refreshPriorityOfTasksWithoutAttachmentsOnClassificationUpdate(
+                classificationId);
+        LOGGER.debug("Updated the priority of {} tasks without attachments.", updatedTasks);
       }
+      scheduleTaskRefreshJobs(taskService);
       LOGGER.info("ClassificationChangedJob ended successfully.");
     } catch (Exception e) {
       throw new SystemException("Error while processing ClassificationChangedJob.", e);
@@ -61,31 +60,44 @@ public class ClassificationChangedJob extends AbstractTaskanaJob {
     return ClassificationChangedJob.class.getName();
   }
 
-  private void scheduleTaskRefreshJobs(List<String> affectedTaskIds) {
+  private void scheduleTaskRefreshJobs(TaskServiceImpl taskService) {
     int batchSize = taskanaEngineImpl.getConfiguration().getJobBatchSize();
-    Collection<List<String>> affectedTaskBatches =
-        CollectionUtil.partitionBasedOnSize(affectedTaskIds, batchSize);
+    int numberOfJobs = 0;
+    String afterTaskId = null;
+    List<String> taskIds;
+    do {
+      // only the boundaries of each batch are stored in the arguments of the TaskRefreshJob
+      taskIds =
+          taskService.findTaskIdsAffectedByClassificationChange(
+              classificationId, serviceLevelChanged, afterTaskId, batchSize);
+      if (!taskIds.isEmpty()) {
+        String lastTaskId = taskIds.get(taskIds.size() - 1);
+        scheduleTaskRefreshJob(afterTaskId, lastTaskId);
+        afterTaskId = lastTaskId;
+        numberOfJobs++;
+      }
+    } while (taskIds.size() == batchSize);
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
-          "Creating {} TaskRefreshJobs out of {} affected tasks "
-              + "with a maximum number of {} tasks each. ",
-          affectedTaskBatches.size(),
-          affectedTaskIds.size(),
+          "Created {} TaskRefreshJobs with a maximum number of {} tasks each.",
+          numberOfJobs,
           batchSize);
     }
-    for (List<String> taskIdBatch : affectedTaskBatches) {
-      Map<String, String> args = new HashMap<>();
-      if (!taskIdBatch.isEmpty()) {
-        String taskIds = String.join(",", affectedTaskIds);
-        args.put(TASK_IDS, taskIds);
-        args.put(PRIORITY_CHANGED, Boolean.toString(priorityChanged));
-        args.put(SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
-        ScheduledJob job = new ScheduledJob();
-        job.setType(TaskRefreshJob.class.getName());
-        job.setArguments(args);
-        taskanaEngineImpl.getJobService().createJob(job);
-      }
+  }
+
+  private void scheduleTaskRefreshJob(String afterTaskId, String lastTaskId) {
+    Map<String, String> args = new HashMap<>();
+    args.put(TaskRefreshJob.CLASSIFICATION_ID, classificationId);
+    if (afterTaskId != null) {
+      args.put(TaskRefreshJob.AFTER_TASK_ID, afterTaskId);
     }
+    args.put(TaskRefreshJob.LAST_TASK_ID, lastTaskId);
+    args.put(TaskRefreshJob.PRIORITY_CHANGED, Boolean.toString(priorityChanged));
+    args.put(TaskRefreshJob.SERVICE_LEVEL_CHANGED, Boolean.toString(serviceLevelChanged));
+    ScheduledJob job = new ScheduledJob();
+    job.setType(TaskRefreshJob.class.getName());
+    job.setArguments(args);
+    taskanaEngineImpl.getJobService().createJob(job);
   }
 
   @Override
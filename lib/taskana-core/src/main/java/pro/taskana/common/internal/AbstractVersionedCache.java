@@ -0,0 +1,233 @@
+package pro.taskana.common.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base for the caches of entities which hardly ever change, but are read very often.
+ *
+ * <p>The entries are kept in {@linkplain Region regions}, one per kind of key. The cache has to be
+ * invalidated by every change of the local TASKANA engine. Each invalidation increments the
+ * generation of the cache, so that values which have been read from the database before the
+ * invalidation are not cached anymore. Changes of other TASKANA engines are detected by comparing
+ * a change version, which is checked at most every ten seconds. Additionally, the entries expire
+ * after the configured duration. A duration of zero disables the cache.
+ */
+public abstract class AbstractVersionedCache {
+
+  private static final int MAX_ENTRIES = 10_000;
+  private static final Duration VERSION_CHECK_INTERVAL = Duration.ofSeconds(10);
+
+  private final Duration expiration;
+  private final Duration versionCheckInterval;
+  private final List<Region<?, ?>> regions = new CopyOnWriteArrayList<>();
+  private final AtomicLong generation = new AtomicLong();
+  private final AtomicReference<Instant> nextVersionCheck = new AtomicReference<>(Instant.MIN);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile Object changeVersion;
+
+  protected AbstractVersionedCache(Duration expiration) {
+    this.expiration = expiration;
+    this.versionCheckInterval =
+        expiration.compareTo(VERSION_CHECK_INTERVAL) < 0 ? expiration : VERSION_CHECK_INTERVAL;
+  }
+
+  public boolean isEnabled() {
+    return !expiration.isZero();
+  }
+
+  /**
+   * Returns the current generation of the cache. It has to be retrieved before a value is read
+   * from the database, so that the value is not cached if the cache has been invalidated in the
+   * meantime.
+   *
+   * @return the current generation
+   */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * Checks whether the change version has to be compared again. Only one caller per interval gets
+   * true.
+   *
+   * @return true if the caller has to call {@linkplain #checkChangeVersion(Object)}
+   */
+  public boolean isVersionCheckDue() {
+    if (!isEnabled()) {
+      return false;
+    }
+    Instant now = Instant.now();
+    Instant next = nextVersionCheck.get();
+    return !next.isAfter(now)
+        && nextVersionCheck.compareAndSet(next, now.plus(versionCheckInterval));
+  }
+
+  /** Lets the next caller of {@linkplain #isVersionCheckDue()} check the change version. */
+  public void requestVersionCheck() {
+    nextVersionCheck.set(Instant.MIN);
+  }
+
+  /**
+   * Invalidates the cache if the cached entities have been changed since the last check.
+   *
+   * @param currentChangeVersion the current change version of the cached entities
+   */
+  public void checkChangeVersion(Object currentChangeVersion) {
+    if (!Objects.equals(changeVersion, currentChangeVersion)) {
+      invalidate();
+      changeVersion = currentChangeVersion;
+    }
+  }
+
+  /** Removes all entries. Has to be called whenever the cached entities change. */
+  public void invalidate() {
+    generation.incrementAndGet();
+    clear();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * Creates a new region of this cache. Has to be called during the construction of the cache.
+   *
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return the new region
+   */
+  protected <K, V> Region<K, V> createRegion() {
+    Region<K, V> region = new Region<>();
+    regions.add(region);
+    return region;
+  }
+
+  /**
+   * Returns the cached value of the given key.
+   *
+   * @param region the region of the key
+   * @param key the key of the requested value
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @return the cached value; null if there is no valid entry
+   */
+  protected <K, V> V lookUp(Region<K, V> region, K key) {
+    if (!isEnabled()) {
+      return null;
+    }
+    CachedValue<V> cachedValue = region.entries.get(key);
+    if (cachedValue == null) {
+      misses.increment();
+      return null;
+    }
+    if (!cachedValue.expires.isAfter(Instant.now())) {
+      if (region.entries.remove(key, cachedValue)) {
+        evictions.increment();
+      }
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return cachedValue.value;
+  }
+
+  /**
+   * Caches a value which has been read from the database. The value is not cached if the cache has
+   * been invalidated since the value has been read.
+   *
+   * @param readInGeneration the generation of the cache before the value has been read
+   * @param region the region of the key
+   * @param key the key of the value
+   * @param value the value which has been read
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   */
+  protected <K, V> void store(long readInGeneration, Region<K, V> region, K key, V value) {
+    if (!isEnabled() || readInGeneration != generation.get()) {
+      return;
+    }
+    Instant now = Instant.now();
+    ensureCapacity(now);
+    CachedValue<V> cachedValue = new CachedValue<>(value, now.plus(expiration));
+    region.entries.put(key, cachedValue);
+    // the cache may have been invalidated between the check above and the put
+    if (readInGeneration != generation.get()) {
+      region.entries.remove(key, cachedValue);
+    }
+  }
+
+  private void ensureCapacity(Instant now) {
+    if (size() >= MAX_ENTRIES) {
+      regions.forEach(region -> evictExpiredEntries(region, now));
+      if (size() >= MAX_ENTRIES) {
+        evictions.add(size());
+        clear();
+      }
+    }
+  }
+
+  private void evictExpiredEntries(Region<?, ?> region, Instant now) {
+    region
+        .entries
+        .values()
+        .removeIf(
+            cachedValue -> {
+              boolean expired = !cachedValue.expires.isAfter(now);
+              if (expired) {
+                evictions.increment();
+              }
+              return expired;
+            });
+  }
+
+  private int size() {
+    return regions.stream().mapToInt(region -> region.entries.size()).sum();
+  }
+
+  private void clear() {
+    regions.forEach(region -> region.entries.clear());
+  }
+
+  /**
+   * A part of the cache with its own kind of keys.
+   *
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   */
+  protected static final class Region<K, V> {
+
+    private final Map<K, CachedValue<V>> entries = new ConcurrentHashMap<>();
+
+    private Region() {}
+  }
+
+  private static class CachedValue<V> {
+
+    private final V value;
+    private final Instant expires;
+
+    private CachedValue(V value, Instant expires) {
+      this.value = value;
+      this.expires = expires;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package pro.taskana.common.internal;
 
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.ibatis.session.SqlSession;
 import pro.taskana.common.api.TaskanaEngine;
@@ -58,6 +59,50 @@ public interface InternalTaskanaEngine {
         });
   }
 
+  /**
+   * Executes the given function with a new SqlSession of its own, which is committed independently
+   * of the current session. If the transactions are managed externally, the commit is left to the
+   * transaction manager.
+   *
+   * @param function a function that uses the given SqlSession and returns something of type T
+   * @param <T> any type
+   * @return the result of the function
+   */
+  <T> T executeInSeparateSession(Function<SqlSession, T> function);
+
+  /**
+   * Executes the given function with a SqlSession which batches the executed statements on the
+   * connection of the current session. Hence, the statements are committed or rolled back together
+   * with the statements of the current session. Statements which are still batched when the
+   * function returns are executed then.
+   *
+   * @param function a function that uses the given SqlSession and returns something of type T
+   * @param <T> any type
+   * @return the result of the function
+   */
+  <T> T executeInBatchSession(Function<SqlSession, T> function);
+
+  /**
+   * Invalidates the given cache, because the current transaction has changed its entities. The
+   * cache is invalidated again when the transaction ends, because other transactions may have
+   * cached the old entities until the change has been committed. The end of the transaction is
+   * the end of the outermost API call, or the release of the connection in mode EXPLICIT.
+   *
+   * @param cache the cache whose entities have been changed
+   */
+  void invalidateCache(AbstractVersionedCache cache);
+
+  /**
+   * Returns true if the given cache may be used within the current transaction. This is not the
+   * case after the transaction has changed the entities of the cache. The cache may contain the
+   * entities as they were before the change, and the changed entities must not be cached, because
+   * the change may still be rolled back.
+   *
+   * @param cache the cache to use
+   * @return true if the cache may be used
+   */
+  boolean mayUseCache(AbstractVersionedCache cache);
+
   /** Initializes the SqlSessionManager. */
   void initSqlSession();
 
@@ -69,6 +69,24 @@ public interface JobMapper {
               + "where JOB_ID = #{jobId}")
   void update(ScheduledJob job);
 
+  @Update(
+      value =
+          "UPDATE SCHEDULED_JOB SET ARGUMENTS = #{arguments,jdbcType=CLOB ,javaType=java.util.Map,typeHandler=pro.taskana.common.internal.persistence.MapTypeHandler} "
+              + "WHERE JOB_ID = #{jobId}")
+  void updateArguments(ScheduledJob job);
+
+  @Update(
+      value =
+          "UPDATE SCHEDULED_JOB SET LOCKED_BY = #{job.lockedBy}, LOCK_EXPIRES = #{job.lockExpires}, RETRY_COUNT = RETRY_COUNT - 1 "
+              + "WHERE JOB_ID = #{job.jobId} AND STATE = 'READY' AND RETRY_COUNT > 0 AND (LOCK_EXPIRES is null OR LOCK_EXPIRES < #{now})")
+  int lockJob(@Param("job") ScheduledJob job, @Param("now") Instant now);
+
+  @Update(
+      value =
+          "UPDATE SCHEDULED_JOB SET LOCK_EXPIRES = #{lockExpires} "
+              + "WHERE JOB_ID = #{jobId} AND LOCKED_BY = #{lockedBy}")
+  int renewLock(ScheduledJob job);
+
   @Delete(value = "DELETE FROM SCHEDULED_JOB WHERE JOB_ID = #{jobId}")
   void delete(ScheduledJob job);
 
@@ -4,6 +4,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
@@ -19,6 +21,8 @@ public class JobServiceImpl implements JobService {
   private static final Logger LOGGER = LoggerFactory.getLogger(JobServiceImpl.class);
   private final JobMapper jobMapper;
   private final InternalTaskanaEngine taskanaEngineImpl;
+  // the lock expiration period of a job type only depends on the configuration of the engine
+  private final Map<String, Duration> lockExpirationPeriodByJobType = new ConcurrentHashMap<>();
 
   public JobServiceImpl(InternalTaskanaEngine taskanaEngine, JobMapper jobMapper) {
     this.taskanaEngineImpl = taskanaEngine;
@@ -43,35 +47,66 @@ public class JobServiceImpl implements JobService {
     }
   }
 
-  public ScheduledJob lockJob(ScheduledJob job, String owner) {
+  /**
+   * Locks the given {@linkplain ScheduledJob} for the given owner. The lock is acquired atomically:
+   * it only succeeds if the job is still ready and not locked by another owner whose lock has not
+   * expired yet. Thus, each job is locked by at most one {@linkplain
+   * pro.taskana.common.internal.jobs.JobRunner JobRunner}, even if several instances found the
+   * same job to run.
+   *
+   * @param job the job to lock
+   * @param owner the owner of the lock
+   * @return true if the job has been locked for the given owner
+   */
+  public boolean lockJob(ScheduledJob job, String owner) {
+    Instant now = Instant.now();
     job.setLockedBy(owner);
-    Class<?> jobClass = null;
-    try {
-      jobClass = Thread.currentThread().getContextClassLoader().loadClass(job.getType());
-      job.setLockExpires(
-          Instant.now()
-              .plus(
-                  (Duration)
-                      jobClass
-                          .getMethod("getLockExpirationPeriod", TaskanaConfiguration.class)
-                          .invoke(null, taskanaEngineImpl.getEngine().getConfiguration())));
-    } catch (ClassNotFoundException | NoSuchMethodException e) {
-      throw new SystemException(
-          String.format(
-              "Job '%s' does not have a method matching ('getLockExpirationPeriod', %s",
-              jobClass, TaskanaConfiguration.class));
-    } catch (InvocationTargetException | IllegalAccessException e) {
-      throw new SystemException(
-          String.format(
-              "Caught Exception while invoking method 'getLockExpirationPeriod' by reflection"));
+    job.setLockExpires(now.plus(getLockExpirationPeriod(job)));
+    boolean locked =
+        taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.lockJob(job, now)) > 0;
+    if (locked) {
+      job.setRetryCount(job.getRetryCount() - 1);
+    }
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug(
+          "Job {} locked: {}. Remaining retries: {}", job.getJobId(), locked, job.getRetryCount());
     }
+    return locked;
+  }
 
-    job.setRetryCount(job.getRetryCount() - 1);
-    taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.update(job));
+  /**
+   * Extends the lock of a running {@linkplain ScheduledJob} by its lock expiration period. The lock
+   * is only extended if it is still held by the owner of the given job.
+   *
+   * @param job the running job
+   * @return true if the lock has been extended
+   */
+  public boolean renewJobLock(ScheduledJob job) {
+    job.setLockExpires(Instant.now().plus(getLockExpirationPeriod(job)));
+    boolean renewed =
+        taskanaEngineImpl.executeInDatabaseConnection(() -> jobMapper.renewLock(job)) > 0;
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("Job {} locked. Remaining retries: {}", job.getJobId(), job.getRetryCount());
+      LOGGER.debug(
+          "Renewed lock of job {} until {}: {}", job.getJobId(), job.getLockExpires(), renewed);
+    }
+    return renewed;
+  }
+
+  /**
+   * Saves the arguments of the given {@linkplain ScheduledJob}. The arguments are committed in a
+   * separate session, so that they outlive a rollback of the transaction the job is executed in.
+   *
+   * @param job the job whose arguments should be saved
+   */
+  public void updateJobArguments(ScheduledJob job) {
+    taskanaEngineImpl.executeInSeparateSession(
+        sqlSession -> {
+          sqlSession.getMapper(JobMapper.class).updateArguments(job);
+          return null;
+        });
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Updated arguments of job {}: {}", job.getJobId(), job.getArguments());
     }
-    return job;
   }
 
   public List<ScheduledJob> findJobsToRun() {
@@ -90,6 +125,31 @@ public class JobServiceImpl implements JobService {
     }
   }
 
+  private Duration getLockExpirationPeriod(ScheduledJob job) {
+    return lockExpirationPeriodByJobType.computeIfAbsent(
+        job.getType(), this::resolveLockExpirationPeriod);
+  }
+
+  private Duration resolveLockExpirationPeriod(String jobType) {
+    Class<?> jobClass = null;
+    try {
+      jobClass = Thread.currentThread().getContextClassLoader().loadClass(jobType);
+      return (Duration)
+          jobClass
+              .getMethod("getLockExpirationPeriod", TaskanaConfiguration.class)
+              .invoke(null, taskanaEngineImpl.getEngine().getConfiguration());
+    } catch (ClassNotFoundException | NoSuchMethodException e) {
+      throw new SystemException(
+          String.format(
+              "Job '%s' does not have a method matching ('getLockExpirationPeriod', %s",
+              jobClass, TaskanaConfiguration.class));
+    } catch (InvocationTargetException | IllegalAccessException e) {
+      throw new SystemException(
+          String.format(
+              "Caught Exception while invoking method 'getLockExpirationPeriod' by reflection"));
+    }
+  }
+
   private void initializeDefaultJobProperties(ScheduledJob job) {
     Instant now = Instant.now();
     job.setCreated(now);
@@ -9,25 +9,34 @@ import java.time.Instant;
 import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.security.auth.Subject;
+import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.apache.ibatis.session.SqlSessionManager;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.Transaction;
 import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
 import org.apache.ibatis.type.JdbcType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
 import pro.taskana.classification.api.ClassificationService;
+import pro.taskana.classification.internal.ClassificationCache;
 import pro.taskana.classification.internal.ClassificationMapper;
 import pro.taskana.classification.internal.ClassificationQueryMapper;
 import pro.taskana.classification.internal.ClassificationServiceImpl;
@@ -46,6 +55,7 @@ import pro.taskana.common.internal.configuration.DB;
 import pro.taskana.common.internal.configuration.DbSchemaCreator;
 import pro.taskana.common.internal.jobs.JobScheduler;
 import pro.taskana.common.internal.jobs.RealClock;
+import pro.taskana.common.internal.persistence.CachingXmlLanguageDriver;
 import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
 import pro.taskana.common.internal.persistence.StringTypeHandler;
@@ -56,6 +66,7 @@ import pro.taskana.common.internal.workingtime.WorkingTimeCalculatorImpl;
 import pro.taskana.monitor.api.MonitorService;
 import pro.taskana.monitor.internal.MonitorMapper;
 import pro.taskana.monitor.internal.MonitorServiceImpl;
+import pro.taskana.monitor.internal.ReportAggregate;
 import pro.taskana.spi.history.internal.HistoryEventManager;
 import pro.taskana.spi.priority.internal.PriorityServiceManager;
 import pro.taskana.spi.routing.internal.TaskRoutingManager;
@@ -80,7 +91,9 @@ import pro.taskana.user.internal.UserServiceImpl;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.internal.DistributionTargetMapper;
 import pro.taskana.workbasket.internal.WorkbasketAccessMapper;
+import pro.taskana.workbasket.internal.WorkbasketCache;
 import pro.taskana.workbasket.internal.WorkbasketMapper;
+import pro.taskana.workbasket.internal.WorkbasketPermissionCache;
 import pro.taskana.workbasket.internal.WorkbasketQueryMapper;
 import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 
@@ -104,8 +117,19 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   private final InternalTaskanaEngineImpl internalTaskanaEngineImpl;
   private final WorkingTimeCalculator workingTimeCalculator;
   private final HistoryEventManager historyEventManager;
+  private final WorkbasketPermissionCache workbasketPermissionCache;
+  private final ClassificationCache classificationCache;
+  private final WorkbasketCache workbasketCache;
+  // the caches whose entities the current transaction of the thread has changed
+  private final ThreadLocal<Set<AbstractVersionedCache>> cachesChangedInTransaction =
+      ThreadLocal.withInitial(HashSet::new);
+  // the connections which are bound to single threads, see bindConnectionToThread
+  private final ThreadLocal<Connection> threadBoundConnection = new ThreadLocal<>();
+  private final ReportAggregate reportAggregate;
   private final CurrentUserContext currentUserContext;
+  private final Map<String, Set<TaskanaRole>> rolesByAccessId;
   private final JobScheduler jobScheduler;
+  private final TaskanaEngineImpl jobSchedulerEngine;
   protected ConnectionManagementMode mode;
   protected TransactionFactory transactionFactory;
   protected SqlSessionManager sessionManager;
@@ -146,6 +170,14 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
     currentUserContext =
         new CurrentUserContextImpl(TaskanaConfiguration.shouldUseLowerCaseForAccessIds());
+    rolesByAccessId = createRolesByAccessId(taskanaConfiguration.getRoleMap());
+    workbasketPermissionCache =
+        new WorkbasketPermissionCache(
+            taskanaConfiguration.getWorkbasketPermissionCacheExpiration());
+    classificationCache =
+        new ClassificationCache(taskanaConfiguration.getClassificationCacheExpiration());
+    workbasketCache = new WorkbasketCache(taskanaConfiguration.getWorkbasketCacheExpiration());
+    reportAggregate = new ReportAggregate(taskanaConfiguration.getReportAggregateRefreshInterval());
     createTransactionFactory(taskanaConfiguration.isUseManagedTransactions());
     sessionManager = createSqlSessionManager();
 
@@ -156,16 +188,18 @@ public class TaskanaEngineImpl implements TaskanaEngine {
           new TaskanaConfiguration.Builder(this.taskanaConfiguration)
               .jobSchedulerEnabled(false)
               .build();
-      TaskanaEngine taskanaEngine = TaskanaEngine.buildTaskanaEngine(configuration, EXPLICIT);
+      jobSchedulerEngine =
+          (TaskanaEngineImpl) TaskanaEngine.buildTaskanaEngine(configuration, EXPLICIT);
       RealClock clock =
           new RealClock(
               this.taskanaConfiguration.getJobSchedulerInitialStartDelay(),
               this.taskanaConfiguration.getJobSchedulerPeriod(),
               this.taskanaConfiguration.getJobSchedulerPeriodTimeUnit());
-      jobScheduler = new JobScheduler(taskanaEngine, clock);
+      jobScheduler = new JobScheduler(jobSchedulerEngine, clock);
       jobScheduler.start();
     } else {
       jobScheduler = null;
+      jobSchedulerEngine = null;
     }
 
     // IMPORTANT: SPI has to be initialized last (and in this order) in order
@@ -211,7 +245,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
   @Override
   public MonitorService getMonitorService() {
     return new MonitorServiceImpl(
-        internalTaskanaEngineImpl, sessionManager.getMapper(MonitorMapper.class));
+        internalTaskanaEngineImpl, sessionManager.getMapper(MonitorMapper.class), reportAggregate);
   }
 
   @Override
@@ -221,7 +255,9 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         historyEventManager,
         sessionManager.getMapper(WorkbasketMapper.class),
         sessionManager.getMapper(DistributionTargetMapper.class),
-        sessionManager.getMapper(WorkbasketAccessMapper.class));
+        sessionManager.getMapper(WorkbasketAccessMapper.class),
+        workbasketPermissionCache,
+        workbasketCache);
   }
 
   @Override
@@ -230,16 +266,31 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         internalTaskanaEngineImpl,
         priorityServiceManager,
         sessionManager.getMapper(ClassificationMapper.class),
-        sessionManager.getMapper(TaskMapper.class));
+        sessionManager.getMapper(TaskMapper.class),
+        classificationCache);
+  }
+
+  public ClassificationCache getClassificationCache() {
+    return classificationCache;
+  }
+
+  public WorkbasketCache getWorkbasketCache() {
+    return workbasketCache;
+  }
+
+  public ReportAggregate getReportAggregate() {
+    return reportAggregate;
   }
 
   public Connection getConnection() {
-    return connection;
+    return currentConnection();
   }
 
   @Override
   public void setConnection(Connection connection) throws SQLException {
     if (connection != null) {
+      // the transaction of a previously set connection has ended
+      invalidateCachesChangedInTransaction();
       this.connection = connection;
       // disabling auto commit for passed connection in order to gain full control over the
       // connection management
@@ -259,6 +310,22 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return priorityServiceManager;
   }
 
+  // This should be part of the InternalTaskanaEngine. Unfortunately the history providers don't
+  // have access to that engine.
+  /**
+   * Executes the given function with the SqlSession of the current API call. Hence, its statements
+   * are committed or rolled back together with the statements of that call. If no API call is in
+   * progress, the function is executed like an API call of its own.
+   *
+   * @param function a function that uses the given SqlSession and returns something of type T
+   * @param <T> any type
+   * @return the result of the function
+   */
+  public <T> T executeInCurrentSession(Function<SqlSession, T> function) {
+    return internalTaskanaEngineImpl.executeInDatabaseConnection(
+        () -> function.apply(sessionManager));
+  }
+
   @Override
   public JobService getJobService() {
     return new JobServiceImpl(internalTaskanaEngineImpl, sessionManager.getMapper(JobMapper.class));
@@ -291,7 +358,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
 
   @Override
   public ConnectionManagementMode getConnectionManagementMode() {
-    return mode;
+    return currentMode();
   }
 
   @Override
@@ -301,6 +368,7 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         sessionManager.close();
       }
       connection = null;
+      invalidateCachesChangedInTransaction();
     }
     this.mode = mode;
   }
@@ -313,23 +381,81 @@ public class TaskanaEngineImpl implements TaskanaEngine {
         sessionManager.close();
       }
       mode = ConnectionManagementMode.PARTICIPATE;
+      invalidateCachesChangedInTransaction();
+    }
+  }
+
+  /**
+   * Binds the given connection to the current thread. Until {@linkplain
+   * #unbindConnectionFromThread()} is called, the current thread uses it like a connection which
+   * has been set in mode {@linkplain ConnectionManagementMode#EXPLICIT EXPLICIT}. Other threads are
+   * not affected. Hence, several threads can share this TaskanaEngine with a connection each, e.g.
+   * the workers of a {@linkplain pro.taskana.common.internal.jobs.JobWorkerPool}.
+   *
+   * @param connection the connection which is used by the current thread
+   * @throws SQLException if the connection can't be prepared
+   */
+  public void bindConnectionToThread(Connection connection) throws SQLException {
+    connection.setAutoCommit(false);
+    connection.setSchema(taskanaConfiguration.getSchemaName());
+    threadBoundConnection.set(connection);
+    sessionManager.startManagedSession(connection);
+  }
+
+  /**
+   * Returns true if a connection has been bound to the current thread by {@linkplain
+   * #bindConnectionToThread(Connection)}.
+   *
+   * @return true if the current thread uses a connection of its own
+   */
+  public boolean isConnectionBoundToThread() {
+    return threadBoundConnection.get() != null;
+  }
+
+  /**
+   * Releases the connection which has been bound to the current thread by {@linkplain
+   * #bindConnectionToThread(Connection)}. The connection is neither committed nor closed.
+   */
+  public void unbindConnectionFromThread() {
+    if (isConnectionBoundToThread()) {
+      threadBoundConnection.remove();
+      if (sessionManager.isManagedSessionStarted()) {
+        sessionManager.close();
+      }
+      invalidateCachesChangedInTransaction();
     }
   }
 
+  /**
+   * Releases the resources of this TaskanaEngine. The job scheduler is stopped, the history
+   * providers are closed and the threads calling the PriorityServiceProviders concurrently are
+   * stopped. An explicitly set connection is released, but not closed. The TaskanaEngine must not
+   * be used afterwards.
+   */
+  public void close() {
+    if (jobScheduler != null) {
+      jobScheduler.stop();
+      jobSchedulerEngine.close();
+    }
+    historyEventManager.close();
+    priorityServiceManager.close();
+    closeConnection();
+  }
+
   @Override
   public boolean isUserInRole(TaskanaRole... roles) {
     if (!getConfiguration().isSecurityEnabled()) {
       return true;
     }
 
-    List<String> accessIds = currentUserContext.getAccessIds();
-    Set<String> rolesMembers = new HashSet<>();
-    for (TaskanaRole role : roles) {
-      rolesMembers.addAll(getConfiguration().getRoleMap().get(role));
-    }
-    for (String accessId : accessIds) {
-      if (rolesMembers.contains(accessId)) {
-        return true;
+    for (String accessId : currentUserContext.getAccessIds()) {
+      Set<TaskanaRole> rolesOfAccessId = rolesByAccessId.get(accessId);
+      if (rolesOfAccessId != null) {
+        for (TaskanaRole role : roles) {
+          if (rolesOfAccessId.contains(role)) {
+            return true;
+          }
+        }
       }
     }
 
@@ -371,6 +497,19 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     return currentUserContext;
   }
 
+  private static Map<String, Set<TaskanaRole>> createRolesByAccessId(
+      Map<TaskanaRole, Set<String>> roleMap) {
+    Map<String, Set<TaskanaRole>> rolesByAccessId = new HashMap<>();
+    roleMap.forEach(
+        (role, accessIds) ->
+            accessIds.forEach(
+                accessId ->
+                    rolesByAccessId
+                        .computeIfAbsent(accessId, id -> EnumSet.noneOf(TaskanaRole.class))
+                        .add(role)));
+    return rolesByAccessId;
+  }
+
   /**
    * This method creates the sqlSessionManager of myBatis. It integrates all the SQL mappers and
    * sets the databaseId attribute.
@@ -406,6 +545,8 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     configuration.getTypeHandlerRegistry().register(new MapTypeHandler());
     configuration.getTypeHandlerRegistry().register(Instant.class, new InstantTypeHandler());
     configuration.getTypeHandlerRegistry().register(JdbcType.TIMESTAMP, new InstantTypeHandler());
+    // parse the scripts of the SqlProviders only once
+    configuration.setDefaultScriptingLanguage(CachingXmlLanguageDriver.class);
     // add mappers
     configuration.addMapper(TaskMapper.class);
     configuration.addMapper(MonitorMapper.class);
@@ -469,6 +610,21 @@ public class TaskanaEngineImpl implements TaskanaEngine {
     }
   }
 
+  private Connection currentConnection() {
+    Connection connectionOfThread = threadBoundConnection.get();
+    return connectionOfThread != null ? connectionOfThread : connection;
+  }
+
+  private ConnectionManagementMode currentMode() {
+    return isConnectionBoundToThread() ? EXPLICIT : mode;
+  }
+
+  private void invalidateCachesChangedInTransaction() {
+    Set<AbstractVersionedCache> caches = cachesChangedInTransaction.get();
+    cachesChangedInTransaction.remove();
+    caches.forEach(AbstractVersionedCache::invalidate);
+  }
+
   /**
    * With sessionStack, we maintain a Stack of SqlSessionManager objects on a per thread basis.
    * SqlSessionManager is the MyBatis object that wraps database connections. The purpose of this
@@ -525,26 +681,30 @@ public class TaskanaEngineImpl implements TaskanaEngine {
                 + "to the database. No schema has been created.",
             e.getCause());
       }
-      if (mode != EXPLICIT) {
+      if (currentMode() != EXPLICIT) {
         SESSION_STACK.pushSessionToStack(sessionManager);
       }
     }
 
     @Override
     public void returnConnection() {
-      if (mode != EXPLICIT) {
+      if (currentMode() != EXPLICIT) {
         SESSION_STACK.popSessionFromStack();
         if (SESSION_STACK.getSessionStack().isEmpty()
             && sessionManager != null
             && sessionManager.isManagedSessionStarted()) {
-          if (mode == ConnectionManagementMode.AUTOCOMMIT) {
-            try {
-              sessionManager.commit();
-            } catch (Exception e) {
-              throw new AutocommitFailedException(e.getCause());
+          try {
+            if (mode == ConnectionManagementMode.AUTOCOMMIT) {
+              try {
+                sessionManager.commit();
+              } catch (Exception e) {
+                throw new AutocommitFailedException(e.getCause());
+              }
             }
+            sessionManager.close();
+          } finally {
+            invalidateCachesChangedInTransaction();
           }
-          sessionManager.close();
         }
       }
     }
@@ -560,11 +720,58 @@ public class TaskanaEngineImpl implements TaskanaEngine {
       }
     }
 
+    @Override
+    public <T> T executeInSeparateSession(Function<SqlSession, T> function) {
+      try (SqlSession sqlSession = sessionManager.openSession()) {
+        sqlSession.getConnection().setSchema(taskanaConfiguration.getSchemaName());
+        T result = function.apply(sqlSession);
+        sqlSession.commit(true);
+        return result;
+      } catch (SQLException e) {
+        throw new SystemException(
+            "Method executeInSeparateSession() could not open a connection to the database.",
+            e.getCause());
+      }
+    }
+
+    @Override
+    public <T> T executeInBatchSession(Function<SqlSession, T> function) {
+      return executeInDatabaseConnection(
+          () -> {
+            Configuration configuration = sessionManager.getConfiguration();
+            // the connection belongs to the current session and is neither committed nor closed
+            Transaction transaction = new ManagedTransaction(sessionManager.getConnection(), false);
+            Executor executor = configuration.newExecutor(transaction, ExecutorType.BATCH);
+            try (SqlSession batchSession = new DefaultSqlSession(configuration, executor, false)) {
+              T result = function.apply(batchSession);
+              batchSession.flushStatements();
+              return result;
+            } finally {
+              // the local cache of the current session doesn't know the batched changes
+              sessionManager.clearCache();
+            }
+          });
+    }
+
+    @Override
+    public void invalidateCache(AbstractVersionedCache cache) {
+      cache.invalidate();
+      if (cache.isEnabled()) {
+        cachesChangedInTransaction.get().add(cache);
+      }
+    }
+
+    @Override
+    public boolean mayUseCache(AbstractVersionedCache cache) {
+      return !cachesChangedInTransaction.get().contains(cache);
+    }
+
     @Override
     public void initSqlSession() {
-      if (mode == EXPLICIT && connection == null) {
+      ConnectionManagementMode currentMode = currentMode();
+      if (currentMode == EXPLICIT && currentConnection() == null) {
         throw new ConnectionNotSetException();
-      } else if (mode != EXPLICIT && !sessionManager.isManagedSessionStarted()) {
+      } else if (currentMode != EXPLICIT && !sessionManager.isManagedSessionStarted()) {
         sessionManager.startManagedSession();
       }
     }
@@ -4,6 +4,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import pro.taskana.TaskanaConfiguration;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
@@ -16,6 +18,8 @@ import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 /** Abstract base for all background jobs of TASKANA. */
 public abstract class AbstractTaskanaJob implements TaskanaJob {
 
+  public static final String CHECKPOINT = "checkpoint";
+
   protected final TaskanaEngineImpl taskanaEngineImpl;
   protected final TaskanaTransactionProvider txProvider;
   protected final ScheduledJob scheduledJob;
@@ -109,6 +113,38 @@ public abstract class AbstractTaskanaJob implements TaskanaJob {
     return nextRun;
   }
 
+  /**
+   * Returns the checkpoint which was saved by a previous, interrupted execution of this job.
+   *
+   * @return the last saved checkpoint or null if there is none
+   */
+  protected String getCheckpoint() {
+    if (scheduledJob == null || scheduledJob.getArguments() == null) {
+      return null;
+    }
+    return scheduledJob.getArguments().get(CHECKPOINT);
+  }
+
+  /**
+   * Saves the progress of this job in the arguments of its {@linkplain ScheduledJob}. The
+   * checkpoint is committed in a separate session, so that it outlives a rollback of the
+   * transaction the job is executed in.
+   *
+   * @param checkpoint the progress of this job
+   */
+  protected void saveCheckpoint(String checkpoint) {
+    if (scheduledJob == null || scheduledJob.getJobId() == null) {
+      return;
+    }
+    Map<String, String> arguments =
+        scheduledJob.getArguments() == null
+            ? new HashMap<>()
+            : new HashMap<>(scheduledJob.getArguments());
+    arguments.put(CHECKPOINT, checkpoint);
+    scheduledJob.setArguments(arguments);
+    ((JobServiceImpl) taskanaEngineImpl.getJobService()).updateJobArguments(scheduledJob);
+  }
+
   protected void scheduleNextJob() {
     ScheduledJob job = new ScheduledJob();
     job.setType(getType());
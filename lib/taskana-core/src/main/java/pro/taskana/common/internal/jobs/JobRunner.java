@@ -2,21 +2,30 @@ package pro.taskana.common.internal.jobs;
 
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.internal.JobServiceImpl;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 
 /** This is the runner for Tasks jobs. */
 public class JobRunner {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobRunner.class);
+  private static final Duration MIN_LOCK_RENEWAL_INTERVAL = Duration.ofSeconds(1);
   private final TaskanaEngine taskanaEngine;
   private final JobServiceImpl jobService;
   private TaskanaTransactionProvider txProvider;
+  private JobWorkerPool workerPool;
 
   public JobRunner(TaskanaEngine taskanaEngine) {
     this.taskanaEngine = taskanaEngine;
@@ -27,27 +36,111 @@ public class JobRunner {
     this.txProvider = txProvider;
   }
 
+  /**
+   * Registers a {@linkplain JobWorkerPool} which executes the locked jobs concurrently. Without a
+   * worker pool all jobs are executed one after another on the calling thread.
+   *
+   * @param workerPool the pool executing the jobs
+   */
+  public void registerWorkerPool(JobWorkerPool workerPool) {
+    this.workerPool = workerPool;
+  }
+
   public void runJobs() {
-    findAndLockJobsToRun().forEach(this::runJobTransactionally);
+    List<ScheduledJob> lockedJobs = findAndLockJobsToRun();
+    if (workerPool == null) {
+      lockedJobs.forEach(job -> runJobTransactionally(taskanaEngine, txProvider, job));
+    } else {
+      runJobsConcurrently(lockedJobs);
+    }
   }
 
   private List<ScheduledJob> findAndLockJobsToRun() {
     return TaskanaTransactionProvider.executeInTransactionIfPossible(
-        txProvider, () -> jobService.findJobsToRun().stream().map(this::lockJob).toList());
+        txProvider, () -> jobService.findJobsToRun().stream().filter(this::lockJob).toList());
+  }
+
+  private void runJobsConcurrently(List<ScheduledJob> lockedJobs) {
+    if (lockedJobs.isEmpty()) {
+      return;
+    }
+    List<Pair<ScheduledJob, Future<?>>> runningJobs =
+        lockedJobs.stream()
+            .map(
+                job ->
+                    Pair.<ScheduledJob, Future<?>>of(
+                        job,
+                        workerPool.submit(
+                            (engine, workerTxProvider) ->
+                                runJobTransactionally(engine, workerTxProvider, job))))
+            .toList();
+
+    Duration renewalInterval = getLockRenewalInterval(lockedJobs);
+    Instant nextRenewal = Instant.now().plus(renewalInterval);
+    for (Pair<ScheduledJob, Future<?>> runningJob : runningJobs) {
+      boolean finished = false;
+      while (!finished) {
+        try {
+          long timeout = Math.max(0, Duration.between(Instant.now(), nextRenewal).toMillis());
+          runningJob.getRight().get(timeout, TimeUnit.MILLISECONDS);
+          finished = true;
+        } catch (TimeoutException e) {
+          renewLocksOfRunningJobs(runningJobs);
+          nextRenewal = Instant.now().plus(renewalInterval);
+        } catch (ExecutionException e) {
+          LOGGER.error("Error running job: {} ", runningJob.getLeft().getType(), e.getCause());
+          finished = true;
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  private Duration getLockRenewalInterval(List<ScheduledJob> lockedJobs) {
+    Instant now = Instant.now();
+    return lockedJobs.stream()
+        .map(job -> Duration.between(now, job.getLockExpires()).dividedBy(2))
+        .min(Duration::compareTo)
+        .filter(interval -> interval.compareTo(MIN_LOCK_RENEWAL_INTERVAL) > 0)
+        .orElse(MIN_LOCK_RENEWAL_INTERVAL);
+  }
+
+  private void renewLocksOfRunningJobs(List<Pair<ScheduledJob, Future<?>>> runningJobs) {
+    try {
+      TaskanaTransactionProvider.executeInTransactionIfPossible(
+          txProvider,
+          () ->
+              runningJobs.stream()
+                  .filter(runningJob -> !runningJob.getRight().isDone())
+                  .map(Pair::getLeft)
+                  .forEach(jobService::renewJobLock));
+    } catch (Exception e) {
+      LOGGER.warn("Could not renew the locks of the running jobs", e);
+    }
   }
 
-  private void runJobTransactionally(ScheduledJob scheduledJob) {
+  private static void runJobTransactionally(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider txProvider,
+      ScheduledJob scheduledJob) {
     TaskanaTransactionProvider.executeInTransactionIfPossible(
         txProvider,
         () -> {
-          boolean successful = taskanaEngine.runAsAdmin(() -> runScheduledJob(scheduledJob));
+          boolean successful =
+              taskanaEngine.runAsAdmin(
+                  () -> runScheduledJob(taskanaEngine, txProvider, scheduledJob));
           if (successful) {
-            jobService.deleteJob(scheduledJob);
+            ((JobServiceImpl) taskanaEngine.getJobService()).deleteJob(scheduledJob);
           }
         });
   }
 
-  private boolean runScheduledJob(ScheduledJob scheduledJob) {
+  private static boolean runScheduledJob(
+      TaskanaEngine taskanaEngine,
+      TaskanaTransactionProvider txProvider,
+      ScheduledJob scheduledJob) {
     try {
       AbstractTaskanaJob.createFromScheduledJob(taskanaEngine, txProvider, scheduledJob).run();
       return true;
@@ -57,15 +150,18 @@ public class JobRunner {
     }
   }
 
-  private ScheduledJob lockJob(ScheduledJob job) {
+  private boolean lockJob(ScheduledJob job) {
     String hostAddress = getHostAddress();
     String owner = hostAddress + " - " + Thread.currentThread().getName();
-    job.setLockedBy(owner);
-    ScheduledJob lockedJob = jobService.lockJob(job, owner);
+    boolean locked = jobService.lockJob(job, owner);
     if (LOGGER.isDebugEnabled()) {
-      LOGGER.debug("Locked job: {}", lockedJob);
+      if (locked) {
+        LOGGER.debug("Locked job: {}", job);
+      } else {
+        LOGGER.debug("Job {} has already been locked by another runner", job.getJobId());
+      }
     }
-    return lockedJob;
+    return locked;
   }
 
   private String getHostAddress() {
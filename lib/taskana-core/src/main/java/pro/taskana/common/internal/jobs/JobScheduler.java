@@ -4,6 +4,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.task.internal.jobs.TaskCleanupJob;
 import pro.taskana.task.internal.jobs.TaskUpdatePriorityJob;
 import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
@@ -12,7 +13,9 @@ import pro.taskana.workbasket.internal.jobs.WorkbasketCleanupJob;
  * Schedules the {@linkplain JobRunner} based on given {@linkplain Clock} whith given {@linkplain
  * TaskanaEngine}.
  *
- * <p>For running the jobs the {@linkplain PlainJavaTransactionProvider} is used.
+ * <p>For running the jobs the {@linkplain PlainJavaTransactionProvider} is used. If more than one
+ * job runner thread is configured, the jobs are executed concurrently by a {@linkplain
+ * JobWorkerPool}.
  */
 public class JobScheduler {
 
@@ -23,9 +26,14 @@ public class JobScheduler {
 
   private final PlainJavaTransactionProvider plainJavaTransactionProvider;
 
+  private final JobWorkerPool workerPool;
+
   public JobScheduler(TaskanaEngine taskanaEngine, Clock clock) {
     this.taskanaEngine = taskanaEngine;
     this.clock = clock;
+    int poolSize = taskanaEngine.getConfiguration().getJobRunnerPoolSize();
+    this.workerPool =
+        poolSize > 1 ? new JobWorkerPool((TaskanaEngineImpl) taskanaEngine, poolSize) : null;
     this.plainJavaTransactionProvider =
         new PlainJavaTransactionProvider(
             taskanaEngine, taskanaEngine.getConfiguration().getDataSource());
@@ -62,6 +70,9 @@ public class JobScheduler {
 
   public void stop() {
     clock.stop();
+    if (workerPool != null) {
+      workerPool.shutdown();
+    }
   }
 
   private void initJobByClassName(String className) throws SystemException {
@@ -79,6 +90,7 @@ public class JobScheduler {
         () -> {
           JobRunner runner = new JobRunner(taskanaEngine);
           runner.registerTransactionProvider(plainJavaTransactionProvider);
+          runner.registerWorkerPool(workerPool);
           LOGGER.info("Running Jobs");
           runner.runJobs();
           return "Successful";
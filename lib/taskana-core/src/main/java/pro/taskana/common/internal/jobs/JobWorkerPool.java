@@ -0,0 +1,102 @@
+package pro.taskana.common.internal.jobs;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.TaskanaEngine.ConnectionManagementMode;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+
+/**
+ * A fixed number of workers which execute jobs concurrently.
+ *
+ * <p>All workers share the {@linkplain TaskanaEngine} of the {@linkplain JobScheduler}, which uses
+ * {@linkplain ConnectionManagementMode#EXPLICIT explicit} connection management. Each transaction
+ * of a worker {@linkplain TaskanaEngineImpl#bindConnectionToThread(Connection) binds} a connection
+ * of its own to the worker thread, so the workers don't interfere with each other or with the
+ * thread of the {@linkplain JobScheduler}.
+ *
+ * <p>The number of workers is the only limit. Jobs of the same type may occupy all workers.
+ */
+public class JobWorkerPool {
+
+  private final TaskanaEngineImpl taskanaEngine;
+  private final TaskanaTransactionProvider txProvider;
+  private final ExecutorService executor;
+
+  public JobWorkerPool(TaskanaEngineImpl taskanaEngine, int size) {
+    this.taskanaEngine = taskanaEngine;
+    txProvider =
+        new ThreadBoundTransactionProvider(
+            taskanaEngine, taskanaEngine.getConfiguration().getDataSource());
+    AtomicInteger threadCount = new AtomicInteger();
+    executor =
+        Executors.newFixedThreadPool(
+            size,
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "taskana-job-worker-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Submits a task which is executed as soon as a worker is idle.
+   *
+   * @param task the task which receives the shared {@linkplain TaskanaEngine} and the {@linkplain
+   *     TaskanaTransactionProvider} of the workers
+   * @return a {@linkplain Future} representing the pending completion of the task
+   */
+  public Future<?> submit(BiConsumer<TaskanaEngine, TaskanaTransactionProvider> task) {
+    return executor.submit(() -> task.accept(taskanaEngine, txProvider));
+  }
+
+  /** Stops accepting new tasks. The already submitted tasks are still executed. */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * Executes each transaction with a new connection of the {@linkplain DataSource}, which is bound
+   * to the current thread only.
+   */
+  private static class ThreadBoundTransactionProvider implements TaskanaTransactionProvider {
+
+    private final TaskanaEngineImpl taskanaEngine;
+    private final DataSource dataSource;
+
+    private ThreadBoundTransactionProvider(TaskanaEngineImpl taskanaEngine, DataSource dataSource) {
+      this.taskanaEngine = taskanaEngine;
+      this.dataSource = dataSource;
+    }
+
+    @Override
+    public <T> T executeInTransaction(Supplier<T> supplier) {
+      // the connection of the engine itself belongs to the thread of the JobScheduler
+      if (taskanaEngine.isConnectionBoundToThread()) {
+        return supplier.get();
+      }
+      try (Connection connection = dataSource.getConnection()) {
+        taskanaEngine.bindConnectionToThread(connection);
+        try {
+          T t = supplier.get();
+          connection.commit();
+          return t;
+        } finally {
+          taskanaEngine.unbindConnectionFromThread();
+        }
+      } catch (SQLException ex) {
+        throw new SystemException("caught exception", ex);
+      }
+    }
+  }
+}
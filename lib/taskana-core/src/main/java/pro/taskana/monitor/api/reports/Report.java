@@ -2,13 +2,17 @@ package pro.taskana.monitor.api.reports;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.monitor.api.reports.header.ColumnHeader;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
 import pro.taskana.monitor.api.reports.row.Row;
@@ -30,11 +34,13 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
   private final Map<String, Row<I>> reportRows = new LinkedHashMap<>();
   private final Row<I> sumRow;
   private final String[] rowDesc;
+  private final TimeIntervalColumnHeaderIndex columnHeaderIndex;
   protected List<H> columnHeaders;
 
   protected Report(List<H> columnHeaders, String[] rowDesc) {
     this.rowDesc = rowDesc;
     this.columnHeaders = new ArrayList<>(columnHeaders);
+    columnHeaderIndex = TimeIntervalColumnHeaderIndex.create(this.columnHeaders);
     sumRow = createRow("Total");
   }
 
@@ -72,6 +78,13 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
       row = reportRows.computeIfAbsent(item.getKey(), this::createRow);
       row.updateTotalValue(item);
       sumRow.updateTotalValue(item);
+    } else if (columnHeaderIndex != null && item instanceof AgeQueryItem ageQueryItem) {
+      int column = columnHeaderIndex.findColumn(ageQueryItem.getAgeInDays());
+      if (column >= 0) {
+        row = reportRows.computeIfAbsent(item.getKey(), this::createRow);
+        row.addItem(item, column);
+        sumRow.addItem(item, column);
+      }
     } else {
       for (int i = 0; i < columnHeaders.size(); i++) {
         if (columnHeaders.get(i).fits(item)) {
@@ -123,6 +136,96 @@ public abstract class Report<I extends QueryItem, H extends ColumnHeader<? super
         + "]";
   }
 
+  /**
+   * Index of {@linkplain TimeIntervalColumnHeader}s which don't overlap. It finds the column of an
+   * age with a binary search over the lower age limits instead of asking every column header
+   * whether the item fits.
+   */
+  private static class TimeIntervalColumnHeaderIndex {
+
+    private static final Set<Class<?>> INDEXED_COLUMN_HEADER_CLASSES =
+        Set.of(
+            TimeIntervalColumnHeader.class,
+            TimeIntervalColumnHeader.Date.class,
+            TimeIntervalColumnHeader.Range.class);
+
+    private final int[] lowerAgeLimits;
+    private final int[] upperAgeLimits;
+    private final int[] columns;
+
+    private TimeIntervalColumnHeaderIndex(
+        int[] lowerAgeLimits, int[] upperAgeLimits, int[] columns) {
+      this.lowerAgeLimits = lowerAgeLimits;
+      this.upperAgeLimits = upperAgeLimits;
+      this.columns = columns;
+    }
+
+    /**
+     * Creates the index of the given column headers.
+     *
+     * @param columnHeaders the column headers of a report
+     * @return the index; null if the column headers can't be indexed, because they aren't plain
+     *     TimeIntervalColumnHeaders or because they overlap
+     */
+    private static TimeIntervalColumnHeaderIndex create(List<?> columnHeaders) {
+      // subclasses may override fits(), so they have to be asked for every item
+      if (columnHeaders.isEmpty()
+          || !columnHeaders.stream()
+              .allMatch(header -> INDEXED_COLUMN_HEADER_CLASSES.contains(header.getClass()))) {
+        return null;
+      }
+      List<Integer> sortedColumns =
+          IntStream.range(0, columnHeaders.size())
+              .filter(
+                  column -> {
+                    TimeIntervalColumnHeader header =
+                        (TimeIntervalColumnHeader) columnHeaders.get(column);
+                    return header.getLowerAgeLimit() <= header.getUpperAgeLimit();
+                  })
+              .boxed()
+              .sorted(
+                  Comparator.comparingInt(
+                      column ->
+                          ((TimeIntervalColumnHeader) columnHeaders.get(column))
+                              .getLowerAgeLimit()))
+              .toList();
+
+      int[] lowerAgeLimits = new int[sortedColumns.size()];
+      int[] upperAgeLimits = new int[sortedColumns.size()];
+      int[] columns = new int[sortedColumns.size()];
+      for (int i = 0; i < sortedColumns.size(); i++) {
+        TimeIntervalColumnHeader header =
+            (TimeIntervalColumnHeader) columnHeaders.get(sortedColumns.get(i));
+        if (i > 0 && header.getLowerAgeLimit() <= upperAgeLimits[i - 1]) {
+          // an item may fit into several overlapping columns
+          return null;
+        }
+        lowerAgeLimits[i] = header.getLowerAgeLimit();
+        upperAgeLimits[i] = header.getUpperAgeLimit();
+        columns[i] = sortedColumns.get(i);
+      }
+      return new TimeIntervalColumnHeaderIndex(lowerAgeLimits, upperAgeLimits, columns);
+    }
+
+    /**
+     * Finds the column into which the given age fits.
+     *
+     * @param ageInDays the age of an item
+     * @return the index of the column; -1 if the age doesn't fit into any column
+     */
+    private int findColumn(int ageInDays) {
+      int position = Arrays.binarySearch(lowerAgeLimits, ageInDays);
+      if (position < 0) {
+        // the last column whose lower age limit is smaller than the age
+        position = -position - 2;
+      }
+      if (position < 0 || upperAgeLimits[position] < ageInDays) {
+        return -1;
+      }
+      return columns[position];
+    }
+  }
+
   /**
    * Builder for {@linkplain Report}.
    *
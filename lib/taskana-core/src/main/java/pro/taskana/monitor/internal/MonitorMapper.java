@@ -49,6 +49,20 @@ public interface MonitorMapper {
       @Param("timestamp") TaskTimestamp timestamp,
       @Param("report") TimeIntervalReportBuilder<?, ?, ?> report);
 
+  @SelectProvider(type = MonitorMapperSqlProvider.class, method = "getReportAggregateItems")
+  @Result(column = "WORKBASKET_ID", property = "workbasketId")
+  @Result(column = "WORKBASKET_KEY", property = "workbasketKey")
+  @Result(column = "DOMAIN", property = "domain")
+  @Result(column = "STATE", property = "state")
+  @Result(column = "CLASSIFICATION_ID", property = "classificationId")
+  @Result(column = "CLASSIFICATION_KEY", property = "classificationKey")
+  @Result(column = "CLASSIFICATION_CATEGORY", property = "classificationCategory")
+  @Result(column = "AGE_IN_DAYS", property = "ageInDays")
+  @Result(column = "NUMBER_OF_TASKS", property = "numberOfTasks")
+  @Result(column = "NUMBER_OF_ATTACHMENT_ROWS", property = "numberOfAttachmentRows")
+  List<ReportAggregateItem> getReportAggregateItems(
+      @Param("now") Instant now, @Param("timestamp") TaskTimestamp timestamp);
+
   @SelectProvider(
       type = MonitorMapperSqlProvider.class,
       method = "getTaskCountOfDetailedClassifications")
@@ -110,6 +110,38 @@ public class MonitorMapperSqlProvider {
         + CLOSING_SCRIPT_TAG;
   }
 
+  @SuppressWarnings("unused")
+  public static String getReportAggregateItems() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT B.WORKBASKET_ID, B.WORKBASKET_KEY, B.DOMAIN, B.STATE, B.CLASSIFICATION_ID, "
+        + "B.CLASSIFICATION_KEY, B.CLASSIFICATION_CATEGORY, B.AGE_IN_DAYS, "
+        + "COUNT(B.AGE_IN_DAYS) AS NUMBER_OF_TASKS, "
+        + "SUM(B.ATTACHMENT_ROWS) AS NUMBER_OF_ATTACHMENT_ROWS FROM ("
+        + "SELECT T.WORKBASKET_ID, T.WORKBASKET_KEY, T.DOMAIN, T.STATE, T.CLASSIFICATION_ID, "
+        + "T.CLASSIFICATION_KEY, T.CLASSIFICATION_CATEGORY, "
+        + "COALESCE(A.ATTACHMENT_ROWS, 1) AS ATTACHMENT_ROWS, "
+        + "<if test=\"_databaseId == 'db2'\">"
+        + "(DAYS(T.${timestamp}) - DAYS(CAST(#{now} as TIMESTAMP))) as AGE_IN_DAYS "
+        + "</if> "
+        + "<if test=\"_databaseId == 'oracle'\">"
+        + "(TRUNC(T.${timestamp}) - TRUNC(CAST(#{now} as TIMESTAMP))) as AGE_IN_DAYS "
+        + "</if> "
+        + "<if test=\"_databaseId == 'h2'\">"
+        + "DATEDIFF('DAY', #{now}, T.${timestamp}) as AGE_IN_DAYS "
+        + "</if> "
+        + "<if test=\"_databaseId == 'postgres'\">"
+        + "DATE_PART('DAY', T.${timestamp} - #{now}) as AGE_IN_DAYS "
+        + "</if> "
+        + "FROM TASK T "
+        + "LEFT JOIN (SELECT TASK_ID, COUNT(TASK_ID) AS ATTACHMENT_ROWS FROM ATTACHMENT "
+        + "GROUP BY TASK_ID) A ON T.ID = A.TASK_ID "
+        + "WHERE T.${timestamp} IS NOT NULL "
+        + ") B "
+        + "GROUP BY B.WORKBASKET_ID, B.WORKBASKET_KEY, B.DOMAIN, B.STATE, B.CLASSIFICATION_ID, "
+        + "B.CLASSIFICATION_KEY, B.CLASSIFICATION_CATEGORY, B.AGE_IN_DAYS "
+        + CLOSING_SCRIPT_TAG;
+  }
+
   @SuppressWarnings("unused")
   public static String getTaskCountOfDetailedClassifications() {
     return OPENING_SCRIPT_TAG
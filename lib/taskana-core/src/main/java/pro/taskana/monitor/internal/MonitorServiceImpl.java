@@ -23,16 +23,21 @@ public class MonitorServiceImpl implements MonitorService {
 
   private final InternalTaskanaEngine taskanaEngine;
   private final MonitorMapper monitorMapper;
+  private final ReportAggregate reportAggregate;
 
-  public MonitorServiceImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+  public MonitorServiceImpl(
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      ReportAggregate reportAggregate) {
     super();
     this.taskanaEngine = taskanaEngine;
     this.monitorMapper = monitorMapper;
+    this.reportAggregate = reportAggregate;
   }
 
   @Override
   public WorkbasketReport.Builder createWorkbasketReportBuilder() {
-    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new WorkbasketReportBuilderImpl(taskanaEngine, monitorMapper, reportAggregate);
   }
 
   @Override
@@ -42,12 +47,13 @@ public class MonitorServiceImpl implements MonitorService {
 
   @Override
   public ClassificationCategoryReport.Builder createClassificationCategoryReportBuilder() {
-    return new ClassificationCategoryReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationCategoryReportBuilderImpl(
+        taskanaEngine, monitorMapper, reportAggregate);
   }
 
   @Override
   public ClassificationReport.Builder createClassificationReportBuilder() {
-    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper);
+    return new ClassificationReportBuilderImpl(taskanaEngine, monitorMapper, reportAggregate);
   }
 
   @Override
@@ -0,0 +1,97 @@
+package pro.taskana.monitor.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import pro.taskana.monitor.api.TaskTimestamp;
+
+/**
+ * Aggregated task counts per workbasket, classification, state and age in days, from which the
+ * WorkbasketReport, the ClassificationCategoryReport and the ClassificationReport are built
+ * instead of scanning all tasks for every report.
+ *
+ * <p>The aggregate of a {@linkplain TaskTimestamp} is read with a single grouped query and used
+ * until the configured refresh interval has passed. Hence, the reports may be outdated by this
+ * interval. Only one caller reads an outdated aggregate again, the other callers wait for it. A
+ * refresh interval of zero disables the aggregate.
+ *
+ * <p>The aggregate is refreshed based on time only. Changes of tasks don't discard it, since most
+ * of them would, and it couldn't see the changes made by other TaskanaEngines anyway.
+ */
+public class ReportAggregate {
+
+  private final Duration refreshInterval;
+  private final Map<TaskTimestamp, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final Map<TaskTimestamp, Object> locks = new EnumMap<>(TaskTimestamp.class);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder refreshes = new LongAdder();
+
+  public ReportAggregate(Duration refreshInterval) {
+    this.refreshInterval = refreshInterval;
+    for (TaskTimestamp timestamp : TaskTimestamp.values()) {
+      locks.put(timestamp, new Object());
+    }
+  }
+
+  public boolean isEnabled() {
+    return !refreshInterval.isZero();
+  }
+
+  /**
+   * Returns the aggregated task counts for the given timestamp. They are read again with the
+   * given loader if they are older than the refresh interval.
+   *
+   * @param timestamp the timestamp which determines the age of the tasks
+   * @param loader reads the aggregated task counts from the database
+   * @return the aggregated task counts
+   */
+  public List<ReportAggregateItem> getItems(
+      TaskTimestamp timestamp, Supplier<List<ReportAggregateItem>> loader) {
+    List<ReportAggregateItem> items = getValidItems(timestamp);
+    if (items != null) {
+      return items;
+    }
+    synchronized (locks.get(timestamp)) {
+      items = getValidItems(timestamp);
+      if (items == null) {
+        items = List.copyOf(loader.get());
+        refreshes.increment();
+        snapshots.put(timestamp, new Snapshot(items, Instant.now().plus(refreshInterval)));
+      }
+      return items;
+    }
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getRefreshes() {
+    return refreshes.sum();
+  }
+
+  private List<ReportAggregateItem> getValidItems(TaskTimestamp timestamp) {
+    Snapshot snapshot = snapshots.get(timestamp);
+    if (snapshot == null || !snapshot.expires.isAfter(Instant.now())) {
+      return null;
+    }
+    hits.increment();
+    return snapshot.items;
+  }
+
+  private static class Snapshot {
+
+    private final List<ReportAggregateItem> items;
+    private final Instant expires;
+
+    private Snapshot(List<ReportAggregateItem> items, Instant expires) {
+      this.items = items;
+      this.expires = expires;
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package pro.taskana.monitor.internal;
+
+import pro.taskana.task.api.TaskState;
+
+/**
+ * The ReportAggregateItem contains the number of tasks which share the same workbasket,
+ * classification, state and age in days.
+ */
+public class ReportAggregateItem {
+
+  private String workbasketId;
+  private String workbasketKey;
+  private String domain;
+  private TaskState state;
+  private String classificationId;
+  private String classificationKey;
+  private String classificationCategory;
+  private int ageInDays;
+  private int numberOfTasks;
+  private int numberOfAttachmentRows;
+
+  public String getWorkbasketId() {
+    return workbasketId;
+  }
+
+  public void setWorkbasketId(String workbasketId) {
+    this.workbasketId = workbasketId;
+  }
+
+  public String getWorkbasketKey() {
+    return workbasketKey;
+  }
+
+  public void setWorkbasketKey(String workbasketKey) {
+    this.workbasketKey = workbasketKey;
+  }
+
+  public String getDomain() {
+    return domain;
+  }
+
+  public void setDomain(String domain) {
+    this.domain = domain;
+  }
+
+  public TaskState getState() {
+    return state;
+  }
+
+  public void setState(TaskState state) {
+    this.state = state;
+  }
+
+  public String getClassificationId() {
+    return classificationId;
+  }
+
+  public void setClassificationId(String classificationId) {
+    this.classificationId = classificationId;
+  }
+
+  public String getClassificationKey() {
+    return classificationKey;
+  }
+
+  public void setClassificationKey(String classificationKey) {
+    this.classificationKey = classificationKey;
+  }
+
+  public String getClassificationCategory() {
+    return classificationCategory;
+  }
+
+  public void setClassificationCategory(String classificationCategory) {
+    this.classificationCategory = classificationCategory;
+  }
+
+  public int getAgeInDays() {
+    return ageInDays;
+  }
+
+  public void setAgeInDays(int ageInDays) {
+    this.ageInDays = ageInDays;
+  }
+
+  public int getNumberOfTasks() {
+    return numberOfTasks;
+  }
+
+  public void setNumberOfTasks(int numberOfTasks) {
+    this.numberOfTasks = numberOfTasks;
+  }
+
+  /**
+   * Returns the number of rows of these tasks joined with their attachments. A task without
+   * attachments counts as one row.
+   *
+   * @return the number of joined rows
+   */
+  public int getNumberOfAttachmentRows() {
+    return numberOfAttachmentRows;
+  }
+
+  public void setNumberOfAttachmentRows(int numberOfAttachmentRows) {
+    this.numberOfAttachmentRows = numberOfAttachmentRows;
+  }
+
+  @Override
+  public String toString() {
+    return "ReportAggregateItem [workbasketId="
+        + workbasketId
+        + ", workbasketKey="
+        + workbasketKey
+        + ", domain="
+        + domain
+        + ", state="
+        + state
+        + ", classificationId="
+        + classificationId
+        + ", classificationKey="
+        + classificationKey
+        + ", classificationCategory="
+        + classificationCategory
+        + ", ageInDays="
+        + ageInDays
+        + ", numberOfTasks="
+        + numberOfTasks
+        + ", numberOfAttachmentRows="
+        + numberOfAttachmentRows
+        + "]";
+  }
+}
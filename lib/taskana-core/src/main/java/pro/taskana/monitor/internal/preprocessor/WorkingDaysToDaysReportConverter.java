@@ -2,11 +2,10 @@ package pro.taskana.monitor.internal.preprocessor;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.common.api.WorkingTimeCalculator;
@@ -19,8 +18,9 @@ import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
  * WorkingDaysToDaysReportConverter has to be initialized. For a list of {@linkplain
  * TimeIntervalColumnHeader}s the converter creates a "table" with integer that represents the age
  * in days from the largest lower limit until the smallest upper limit of the
- * timeIntervalColumnHeaders. This table is valid for a whole day until the converter is initialized
- * with bigger limits.
+ * timeIntervalColumnHeaders. The table consists of two int arrays, indexed by the amount of days
+ * into the future and into the past, so that converting an age doesn't box it. This table is valid
+ * for a whole day until the converter is initialized with bigger limits.
  */
 public class WorkingDaysToDaysReportConverter {
 
@@ -28,14 +28,20 @@ public class WorkingDaysToDaysReportConverter {
       LoggerFactory.getLogger(WorkingDaysToDaysReportConverter.class);
 
   private final WorkingTimeCalculator workingTimeCalculator;
-  private final Map<Integer, Integer> cacheDaysToWorkingDays;
+  private final int[] futureDaysToWorkingDays;
+  private final int[] pastDaysToWorkingDays;
 
   WorkingDaysToDaysReportConverter(
       List<? extends TimeIntervalColumnHeader> columnHeaders,
       WorkingTimeCalculator workingTimeCalculator,
       Instant referenceDate) {
     this.workingTimeCalculator = workingTimeCalculator;
-    cacheDaysToWorkingDays = generateDaysToWorkingDays(columnHeaders, referenceDate);
+    futureDaysToWorkingDays =
+        calculateDaysToWorkingDays(
+            referenceDate, TimeIntervalColumnHeader.getLargestLowerLimit(columnHeaders), 1);
+    pastDaysToWorkingDays =
+        calculateDaysToWorkingDays(
+            referenceDate, TimeIntervalColumnHeader.getSmallestUpperLimit(columnHeaders), -1);
   }
 
   public static WorkingDaysToDaysReportConverter initialize(
@@ -82,50 +88,46 @@ public class WorkingDaysToDaysReportConverter {
   }
 
   public int convertDaysToWorkingDays(int amountOfDays) {
-    return cacheDaysToWorkingDays.getOrDefault(amountOfDays, amountOfDays);
+    if (amountOfDays >= 0 && amountOfDays < futureDaysToWorkingDays.length) {
+      return futureDaysToWorkingDays[amountOfDays];
+    }
+    if (amountOfDays < 0 && amountOfDays > -pastDaysToWorkingDays.length) {
+      return pastDaysToWorkingDays[-amountOfDays];
+    }
+    return amountOfDays;
   }
 
   public List<Integer> convertWorkingDaysToDays(int amountOfWorkdays) {
-    List<Integer> listOfAllMatchingDays =
-        cacheDaysToWorkingDays.entrySet().stream()
-            .filter(entry -> entry.getValue() == amountOfWorkdays)
-            .map(Entry::getKey)
-            .toList();
+    List<Integer> listOfAllMatchingDays = new ArrayList<>();
+    for (int days = 0; days < futureDaysToWorkingDays.length; days++) {
+      if (futureDaysToWorkingDays[days] == amountOfWorkdays) {
+        listOfAllMatchingDays.add(days);
+      }
+    }
+    for (int days = 1; days < pastDaysToWorkingDays.length; days++) {
+      if (pastDaysToWorkingDays[days] == amountOfWorkdays) {
+        listOfAllMatchingDays.add(-days);
+      }
+    }
     if (listOfAllMatchingDays.isEmpty()) {
       return Collections.singletonList(amountOfWorkdays);
     }
     return listOfAllMatchingDays;
   }
 
-  protected Map<Integer, Integer> generateDaysToWorkingDays(
-      List<? extends TimeIntervalColumnHeader> columnHeaders, final Instant referenceDate) {
-    HashMap<Integer, Integer> daysToWorkingDaysMap = new HashMap<>();
-    daysToWorkingDaysMap.put(0, 0);
-
-    int positiveWorkdayLimit = TimeIntervalColumnHeader.getLargestLowerLimit(columnHeaders);
-    calculateFutureDaysToWorkingDays(daysToWorkingDaysMap, referenceDate, positiveWorkdayLimit);
-
-    int negativeWorkdayLimit = TimeIntervalColumnHeader.getSmallestUpperLimit(columnHeaders);
-    calculateNegativeDaysToWorkingDays(daysToWorkingDaysMap, referenceDate, negativeWorkdayLimit);
-
-    return daysToWorkingDaysMap;
-  }
-
-  private void calculateFutureDaysToWorkingDays(
-      HashMap<Integer, Integer> daysToWorkingDaysMap, Instant referenceDate, int workdayLimit) {
-    calculateDaysToWorkingDays(daysToWorkingDaysMap, referenceDate, workdayLimit, 1);
-  }
-
-  private void calculateNegativeDaysToWorkingDays(
-      HashMap<Integer, Integer> daysToWorkingDaysMap, Instant referenceDate, int workdayLimit) {
-    calculateDaysToWorkingDays(daysToWorkingDaysMap, referenceDate, workdayLimit, -1);
-  }
-
-  private void calculateDaysToWorkingDays(
-      HashMap<Integer, Integer> daysToWorkingDaysMap,
-      Instant referenceDate,
-      int workdayLimit,
-      int direction) {
+  /**
+   * Calculates the working days from the reference date until each day up to the given limit of
+   * working days. The index of the returned table is the absolute amount of days.
+   *
+   * @param referenceDate the day from which the days are counted
+   * @param workdayLimit the amount of working days which the table has to cover
+   * @param direction 1 for days in the future and -1 for days in the past
+   * @return the amount of working days for each amount of days
+   */
+  private int[] calculateDaysToWorkingDays(Instant referenceDate, int workdayLimit, int direction) {
+    // the table always contains the reference date itself
+    List<Integer> daysToWorkingDays = new ArrayList<>();
+    daysToWorkingDays.add(0);
     int amountOfDays = 0;
     int amountOfWorkdays = 0;
     while (Math.abs(amountOfWorkdays) < Math.abs(workdayLimit)) {
@@ -133,14 +135,17 @@ public class WorkingDaysToDaysReportConverter {
       if (workingTimeCalculator.isWorkingDay(referenceDate.plus(amountOfDays, ChronoUnit.DAYS))) {
         amountOfWorkdays += direction;
       }
-      daysToWorkingDaysMap.put(amountOfDays, amountOfWorkdays);
+      daysToWorkingDays.add(amountOfWorkdays);
     }
+    return daysToWorkingDays.stream().mapToInt(Integer::intValue).toArray();
   }
 
   @Override
   public String toString() {
-    return "DaysToWorkingDaysReportConverter [cacheDaysToWorkingDays="
-        + cacheDaysToWorkingDays
+    return "DaysToWorkingDaysReportConverter [futureDaysToWorkingDays="
+        + Arrays.toString(futureDaysToWorkingDays)
+        + ", pastDaysToWorkingDays="
+        + Arrays.toString(pastDaysToWorkingDays)
         + ", daysToWorkingDaysConverter="
         + workingTimeCalculator
         + "]";
@@ -12,6 +12,8 @@ import pro.taskana.monitor.api.reports.ClassificationCategoryReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportAggregate;
+import pro.taskana.monitor.internal.ReportAggregateItem;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of CategoryReportBuilder. */
@@ -19,9 +21,14 @@ public class ClassificationCategoryReportBuilderImpl
     extends TimeIntervalReportBuilderImpl<Builder, MonitorQueryItem, TimeIntervalColumnHeader>
     implements ClassificationCategoryReport.Builder {
 
+  private final ReportAggregate reportAggregate;
+
   public ClassificationCategoryReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      ReportAggregate reportAggregate) {
     super(taskanaEngine, monitorMapper);
+    this.reportAggregate = reportAggregate;
   }
 
   @Override
@@ -38,7 +45,15 @@ public class ClassificationCategoryReportBuilderImpl
       this.taskanaEngine.openConnection();
       ClassificationCategoryReport report = new ClassificationCategoryReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfCategories(Instant.now(), timestamp, this);
+          getTaskCountsFromReportAggregate(
+              reportAggregate,
+              timestamp,
+              ReportAggregateItem::getClassificationCategory,
+              ReportAggregateItem::getNumberOfTasks);
+      if (monitorQueryItems == null) {
+        monitorQueryItems =
+            this.monitorMapper.getTaskCountOfCategories(Instant.now(), timestamp, this);
+      }
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
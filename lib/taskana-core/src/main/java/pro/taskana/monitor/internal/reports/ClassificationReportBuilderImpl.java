@@ -20,6 +20,8 @@ import pro.taskana.monitor.api.reports.item.DetailedMonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.api.reports.row.Row;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportAggregate;
+import pro.taskana.monitor.internal.ReportAggregateItem;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 
 /** The implementation of ClassificationReportBuilder. */
@@ -28,10 +30,14 @@ public class ClassificationReportBuilderImpl
     implements ClassificationReport.Builder {
 
   private final ClassificationService classificationService;
+  private final ReportAggregate reportAggregate;
 
   public ClassificationReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      ReportAggregate reportAggregate) {
     super(taskanaEngine, monitorMapper);
+    this.reportAggregate = reportAggregate;
     classificationService = taskanaEngine.getEngine().getClassificationService();
   }
 
@@ -49,7 +55,15 @@ public class ClassificationReportBuilderImpl
       this.taskanaEngine.openConnection();
       ClassificationReport report = new ClassificationReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfClassifications(Instant.now(), timestamp, this);
+          getTaskCountsFromReportAggregate(
+              reportAggregate,
+              timestamp,
+              ReportAggregateItem::getClassificationKey,
+              ReportAggregateItem::getNumberOfTasks);
+      if (monitorQueryItems == null) {
+        monitorQueryItems =
+            this.monitorMapper.getTaskCountOfClassifications(Instant.now(), timestamp, this);
+      }
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
@@ -3,8 +3,14 @@ package pro.taskana.monitor.internal.reports;
 import static pro.taskana.common.api.BaseQuery.toLowerCopy;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 import pro.taskana.common.api.IntInterval;
 import pro.taskana.common.api.TaskanaRole;
 import pro.taskana.common.api.WorkingTimeCalculator;
@@ -12,6 +18,7 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.Pair;
 import pro.taskana.monitor.api.CombinedClassificationFilter;
 import pro.taskana.monitor.api.SelectedItem;
 import pro.taskana.monitor.api.TaskTimestamp;
@@ -19,7 +26,10 @@ import pro.taskana.monitor.api.reports.ClassificationReport;
 import pro.taskana.monitor.api.reports.TimeIntervalReportBuilder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.AgeQueryItem;
+import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportAggregate;
+import pro.taskana.monitor.internal.ReportAggregateItem;
 import pro.taskana.monitor.internal.preprocessor.WorkingDaysToDaysReportConverter;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskCustomIntField;
@@ -130,6 +140,7 @@ abstract class TimeIntervalReportBuilderImpl<
   private IntInterval[] customInt7NotWithin;
   private IntInterval[] customInt8Within;
   private IntInterval[] customInt8NotWithin;
+  private boolean customFilterSet;
 
   TimeIntervalReportBuilderImpl(InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
     this.taskanaEngine = taskanaEngine;
@@ -205,6 +216,7 @@ abstract class TimeIntervalReportBuilderImpl<
       throw new InvalidArgumentException(
           "At least one string has to be provided as a search parameter");
     }
+    customFilterSet = true;
     switch (customField) {
       case CUSTOM_1:
         this.custom1In = strings;
@@ -268,6 +280,7 @@ abstract class TimeIntervalReportBuilderImpl<
       throw new InvalidArgumentException(
           "At least one string has to be provided as a search parameter");
     }
+    customFilterSet = true;
     switch (customField) {
       case CUSTOM_1:
         this.custom1NotIn = strings;
@@ -331,6 +344,7 @@ abstract class TimeIntervalReportBuilderImpl<
       throw new InvalidArgumentException(
           "At least one Integer has to be provided as a search parameter");
     }
+    customFilterSet = true;
     switch (customIntField) {
       case CUSTOM_INT_1:
         this.customInt1In = values;
@@ -370,6 +384,7 @@ abstract class TimeIntervalReportBuilderImpl<
       throw new InvalidArgumentException(
           "At least one Integer has to be provided as a search parameter");
     }
+    customFilterSet = true;
     switch (customIntField) {
       case CUSTOM_INT_1:
         this.customInt1NotIn = values;
@@ -410,6 +425,7 @@ abstract class TimeIntervalReportBuilderImpl<
         throw new IllegalArgumentException("IntInterval " + i + " is invalid.");
       }
     }
+    customFilterSet = true;
     switch (customIntField) {
       case CUSTOM_INT_1:
         this.customInt1Within = values;
@@ -449,6 +465,7 @@ abstract class TimeIntervalReportBuilderImpl<
         throw new IllegalArgumentException("IntInterval " + i + " is invalid.");
       }
     }
+    customFilterSet = true;
     switch (customIntField) {
       case CUSTOM_INT_1:
         this.customInt1NotWithin = values;
@@ -488,6 +505,7 @@ abstract class TimeIntervalReportBuilderImpl<
           "At least one string has to be provided as a search parameter");
     }
 
+    customFilterSet = true;
     switch (customField) {
       case CUSTOM_1:
         this.custom1Like = toLowerCopy(strings);
@@ -599,6 +617,51 @@ abstract class TimeIntervalReportBuilderImpl<
 
   protected abstract String determineGroupedBy();
 
+  /**
+   * Reads the task counts of this report from the {@linkplain ReportAggregate} instead of the
+   * tasks. The aggregate can't be used if it is disabled or if a custom attribute or a combined
+   * classification filter has been set.
+   *
+   * @param reportAggregate the aggregate of the TaskanaEngine
+   * @param timestamp the timestamp which determines the age of the tasks
+   * @param keyFunction determines the key of the report row of an aggregated item
+   * @param countFunction determines the number of tasks of an aggregated item
+   * @return the task counts per key and age in days; null if the report has to be read from the
+   *     tasks
+   */
+  protected List<MonitorQueryItem> getTaskCountsFromReportAggregate(
+      ReportAggregate reportAggregate,
+      TaskTimestamp timestamp,
+      Function<ReportAggregateItem, String> keyFunction,
+      ToIntFunction<ReportAggregateItem> countFunction) {
+    if (!reportAggregate.isEnabled()
+        || customFilterSet
+        || getCombinedClassificationFilter() != null) {
+      return null;
+    }
+    List<ReportAggregateItem> aggregateItems =
+        reportAggregate.getItems(
+            timestamp, () -> monitorMapper.getReportAggregateItems(Instant.now(), timestamp));
+
+    Map<Pair<String, Integer>, MonitorQueryItem> monitorQueryItems = new LinkedHashMap<>();
+    for (ReportAggregateItem aggregateItem : aggregateItems) {
+      if (isSelectedByFilters(aggregateItem)) {
+        MonitorQueryItem monitorQueryItem =
+            monitorQueryItems.computeIfAbsent(
+                Pair.of(keyFunction.apply(aggregateItem), aggregateItem.getAgeInDays()),
+                key -> {
+                  MonitorQueryItem item = new MonitorQueryItem();
+                  item.setKey(key.getLeft());
+                  item.setAgeInDays(key.getRight());
+                  return item;
+                });
+        monitorQueryItem.setNumberOfTasks(
+            monitorQueryItem.getValue() + countFunction.applyAsInt(aggregateItem));
+      }
+    }
+    return new ArrayList<>(monitorQueryItems.values());
+  }
+
   protected List<CombinedClassificationFilter> getCombinedClassificationFilter() {
     // we are currently aware that this is a code smell. Unfortunately the resolution of this would
     // cause havoc in our queries, since we do not have a concept for a user input validation yet.
@@ -621,6 +684,26 @@ abstract class TimeIntervalReportBuilderImpl<
         .toList();
   }
 
+  private boolean isSelectedByFilters(ReportAggregateItem item) {
+    // the filters have to behave like the IN and NOT IN clauses of the exact report queries
+    return isIn(workbasketIds, item.getWorkbasketId())
+        && isIn(states, item.getState())
+        && isIn(classificationCategories, item.getClassificationCategory())
+        && isIn(domains, item.getDomain())
+        && isIn(classificationIds, item.getClassificationId())
+        && isNotIn(excludedClassificationIds, item.getClassificationId());
+  }
+
+  private static <T> boolean isIn(T[] values, T value) {
+    return values == null || value != null && Arrays.asList(values).contains(value);
+  }
+
+  private static <T> boolean isNotIn(T[] values, T value) {
+    return values == null
+        || values.length == 0
+        || value != null && !Arrays.asList(values).contains(value);
+  }
+
   private boolean subKeyIsSet(List<SelectedItem> selectedItems) {
     for (SelectedItem selectedItem : selectedItems) {
       if (selectedItem.getSubKey() != null && !selectedItem.getSubKey().isEmpty()) {
@@ -15,6 +15,8 @@ import pro.taskana.monitor.api.reports.WorkbasketReport.Builder;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.internal.MonitorMapper;
+import pro.taskana.monitor.internal.ReportAggregate;
+import pro.taskana.monitor.internal.ReportAggregateItem;
 import pro.taskana.monitor.internal.preprocessor.DaysToWorkingDaysReportPreProcessor;
 import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.models.WorkbasketSummary;
@@ -24,11 +26,15 @@ public class WorkbasketReportBuilderImpl
     implements WorkbasketReport.Builder {
 
   private final WorkbasketService workbasketService;
+  private final ReportAggregate reportAggregate;
   private List<CombinedClassificationFilter> combinedClassificationFilter;
 
   public WorkbasketReportBuilderImpl(
-      InternalTaskanaEngine taskanaEngine, MonitorMapper monitorMapper) {
+      InternalTaskanaEngine taskanaEngine,
+      MonitorMapper monitorMapper,
+      ReportAggregate reportAggregate) {
     super(taskanaEngine, monitorMapper);
+    this.reportAggregate = reportAggregate;
     workbasketService = taskanaEngine.getEngine().getWorkbasketService();
   }
 
@@ -45,7 +51,15 @@ public class WorkbasketReportBuilderImpl
       this.taskanaEngine.openConnection();
       WorkbasketReport report = new WorkbasketReport(this.columnHeaders);
       List<MonitorQueryItem> monitorQueryItems =
-          this.monitorMapper.getTaskCountOfWorkbaskets(Instant.now(), timestamp, this);
+          getTaskCountsFromReportAggregate(
+              reportAggregate,
+              timestamp,
+              ReportAggregateItem::getWorkbasketKey,
+              ReportAggregateItem::getNumberOfAttachmentRows);
+      if (monitorQueryItems == null) {
+        monitorQueryItems =
+            this.monitorMapper.getTaskCountOfWorkbaskets(Instant.now(), timestamp, this);
+      }
       report.addItems(
           monitorQueryItems,
           new DaysToWorkingDaysReportPreProcessor<>(
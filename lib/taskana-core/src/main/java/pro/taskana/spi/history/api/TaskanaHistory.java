@@ -18,6 +18,12 @@ public interface TaskanaHistory {
    */
   void initialize(TaskanaEngine taskanaEngine);
 
+  /**
+   * Release all resources of the TaskanaHistory service, since the {@linkplain TaskanaEngine} which
+   * initialized it is no longer used.
+   */
+  default void close() {}
+
   /**
    * Create a new {@linkplain TaskHistoryEvent}.
    *
@@ -57,6 +57,10 @@ public final class HistoryEventManager {
         CheckedConsumer.wrap(historyProvider -> historyProvider.create(event)));
   }
 
+  public void close() {
+    taskanaHistories.forEach(TaskanaHistory::close);
+  }
+
   public void deleteEvents(List<String> taskIds) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Sending taskIds to history service providers: {}", taskIds);
@@ -1,5 +1,6 @@
 package pro.taskana.spi.priority.api;
 
+import java.util.List;
 import java.util.OptionalInt;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.task.api.models.Task;
@@ -45,4 +46,22 @@ public interface PriorityServiceProvider {
    * @return the computed {@linkplain Task#getPriority() priority}
    */
   OptionalInt calculatePriority(TaskSummary taskSummary);
+
+  /**
+   * Determine the {@linkplain Task#getPriority() priorities} of several {@linkplain Task Tasks} at
+   * once. This method is used by the job which recalculates the priorities of all {@linkplain Task
+   * Tasks} batch by batch.
+   *
+   * <p>The default implementation calls {@linkplain #calculatePriority(TaskSummary)} for each
+   * {@linkplain TaskSummary}. Providers which can share work between the {@linkplain Task Tasks}
+   * of a batch, e.g. a single call of a remote rule engine, should override it.
+   *
+   * @param taskSummaries the {@linkplain TaskSummary TaskSummaries} to compute the {@linkplain
+   *     Task#getPriority() priorities} for
+   * @return the computed {@linkplain Task#getPriority() priorities} in the order of the given
+   *     {@linkplain TaskSummary TaskSummaries}
+   */
+  default List<OptionalInt> calculatePriorities(List<TaskSummary> taskSummaries) {
+    return taskSummaries.stream().map(this::calculatePriority).toList();
+  }
 }
@@ -2,13 +2,19 @@ package pro.taskana.spi.priority.internal;
 
 import static pro.taskana.common.internal.util.CheckedFunction.wrap;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import pro.taskana.TaskanaConfiguration;
 import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.api.exceptions.SystemException;
+import pro.taskana.common.internal.util.ConcurrentSpiInvoker;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.SpiLoader;
 import pro.taskana.spi.priority.api.PriorityServiceProvider;
@@ -18,6 +24,7 @@ public class PriorityServiceManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PriorityServiceManager.class);
   private final List<PriorityServiceProvider> priorityServiceProviders;
+  private final ConcurrentSpiInvoker<PriorityServiceProvider> concurrentInvoker;
 
   public PriorityServiceManager(TaskanaEngine taskanaEngine) {
     priorityServiceProviders = SpiLoader.load(PriorityServiceProvider.class);
@@ -28,12 +35,31 @@ public class PriorityServiceManager {
     if (priorityServiceProviders.isEmpty()) {
       LOGGER.info("No PriorityServiceProvider found. Running without PriorityServiceProvider.");
     }
+
+    TaskanaConfiguration configuration = taskanaEngine.getConfiguration();
+    if (!priorityServiceProviders.isEmpty() && !configuration.getSpiTimeout().isZero()) {
+      concurrentInvoker =
+          new ConcurrentSpiInvoker<>(
+              priorityServiceProviders,
+              configuration.getSpiTimeout(),
+              configuration.getSpiMaxConcurrentCalls(),
+              configuration.getSpiCircuitBreakerFailureThreshold(),
+              configuration.getSpiCircuitBreakerOpenDuration());
+    } else {
+      concurrentInvoker = null;
+    }
   }
 
   public boolean isEnabled() {
     return !priorityServiceProviders.isEmpty();
   }
 
+  public void close() {
+    if (concurrentInvoker != null) {
+      concurrentInvoker.shutdown();
+    }
+  }
+
   public OptionalInt calculatePriorityOfTask(TaskSummary task) {
     if (task.isManualPriorityActive()) {
       if (LOGGER.isDebugEnabled()) {
@@ -47,9 +73,69 @@ public class PriorityServiceManager {
       LOGGER.debug("Sending Task to PriorityServiceProviders: {}", task);
     }
 
+    return selectPriority(task, callProviders(provider -> provider.calculatePriority(task)));
+  }
+
+  /**
+   * Calculates the priorities of several tasks with one call of each PriorityServiceProvider.
+   *
+   * @param tasks the tasks whose priority should be calculated
+   * @return the calculated priorities in the order of the given tasks. Empty for each task which
+   *     is prioritised manually or whose priority can't be determined.
+   */
+  public List<OptionalInt> calculatePrioritiesOfTasks(List<TaskSummary> tasks) {
+    List<TaskSummary> tasksToCalculate =
+        tasks.stream().filter(task -> !task.isManualPriorityActive()).toList();
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Sending {} Tasks to PriorityServiceProviders", tasksToCalculate.size());
+    }
+
+    if (tasksToCalculate.isEmpty()) {
+      return tasks.stream().map(task -> OptionalInt.empty()).toList();
+    }
+
+    List<List<OptionalInt>> prioritiesByProvider =
+        callProviders(
+            provider -> {
+              List<OptionalInt> priorities = provider.calculatePriorities(tasksToCalculate);
+              if (priorities == null || priorities.size() != tasksToCalculate.size()) {
+                throw new SystemException(
+                    String.format(
+                        "PriorityServiceProvider %s did not return one priority per Task.",
+                        provider.getClass().getName()));
+              }
+              return priorities;
+            });
+
+    List<OptionalInt> result = new ArrayList<>(tasks.size());
+    int index = 0;
+    for (TaskSummary task : tasks) {
+      if (task.isManualPriorityActive()) {
+        result.add(OptionalInt.empty());
+      } else {
+        int taskIndex = index++;
+        result.add(
+            selectPriority(
+                task,
+                prioritiesByProvider.stream()
+                    .map(priorities -> priorities.get(taskIndex))
+                    .toList()));
+      }
+    }
+    return result;
+  }
+
+  private <R> List<R> callProviders(Function<PriorityServiceProvider, R> call) {
+    if (concurrentInvoker != null) {
+      return concurrentInvoker.invokeAll(call);
+    }
+    return priorityServiceProviders.stream().map(wrap(call::apply)).toList();
+  }
+
+  private OptionalInt selectPriority(TaskSummary task, List<OptionalInt> calculatedPriorities) {
     Set<OptionalInt> priorities =
-        priorityServiceProviders.stream()
-            .map(wrap(provider -> provider.calculatePriority(task)))
+        calculatedPriorities.stream()
+            .filter(Objects::nonNull)
             .filter(OptionalInt::isPresent)
             .collect(Collectors.toSet());
 
@@ -38,7 +38,9 @@ public final class TaskRoutingManager {
    * Determines a workbasket id for a given task. Algorithm: The task that needs a workbasket id is
    * passed to all registered TaskRoutingProviders. If they return no or more than one workbasketId,
    * null is returned, otherwise we return the workbasketId that was returned from the
-   * TaskRoutingProviders.
+   * TaskRoutingProviders. The TaskRoutingProviders are always called on the calling thread, even
+   * if a {@linkplain pro.taskana.TaskanaConfiguration#getSpiTimeout() timeout} is configured,
+   * because they may use the TaskanaEngine within the transaction of the caller.
    *
    * @param task the task for which a workbasketId is to be determined.
    * @return the id of the workbasket in which the task is to be created.
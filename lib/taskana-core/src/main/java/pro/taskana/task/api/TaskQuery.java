@@ -1,5 +1,7 @@
 package pro.taskana.task.api;
 
+import java.util.List;
+import java.util.function.Consumer;
 import pro.taskana.common.api.BaseQuery;
 import pro.taskana.common.api.IntInterval;
 import pro.taskana.common.api.KeyDomain;
@@ -1905,4 +1907,47 @@ public interface TaskQuery extends BaseQuery<TaskSummary, TaskQueryColumnName> {
    * @return the query
    */
   TaskQuery orderByWorkbasketName(SortDirection sortDirection);
+
+  /**
+   * This method passes all Tasks of this query to the given action without holding them in memory
+   * at once. The Tasks are read with a database cursor and are completed with their attachments,
+   * classifications, workbaskets and object references in windows of a bounded size. The database
+   * connection stays open until the action has processed all Tasks.
+   *
+   * @param action the action which processes each Task
+   * @throws pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException if the
+   *     current user isn't allowed to query one of the specified workbaskets
+   */
+  void forEach(Consumer<TaskSummary> action);
+
+  /**
+   * This method returns the next page of Tasks after the Task identified by the given cursor.
+   * Instead of skipping all preceding rows like {@linkplain #list(int, int)}, the database seeks
+   * directly to the Task after the cursor. Hence, deep pages are as fast as the first one.
+   *
+   * <p>The Tasks are sorted by the defined sort order and by their id as last sort criterion. The
+   * id is added to the sort order of this query if it isn't part of it yet. Only the sort criteria
+   * id, created, modified, planned, due, priority, state, domain, workbasket id, workbasket key,
+   * classification key, company, type and value of the primary object reference are supported,
+   * because their values are always set. Grouping and keyset pagination can't be combined.
+   *
+   * @param cursor the cursor of the last Task of the previous page as returned by {@linkplain
+   *     #createCursor(TaskSummary)}. If it is null, the first page is returned.
+   * @param limit the maximum number of Tasks of the page
+   * @return the Tasks following the cursor
+   * @throws InvalidArgumentException if the sort order isn't supported, the cursor is invalid or
+   *     belongs to another sort order or the limit isn't positive
+   */
+  List<TaskSummary> listAfter(String cursor, int limit);
+
+  /**
+   * This method creates the opaque cursor of the given Task for {@linkplain #listAfter(String,
+   * int)}. The cursor contains the values of the sort criteria of this query.
+   *
+   * @param taskSummary the last Task of a page
+   * @return the cursor which points behind the given Task
+   * @throws InvalidArgumentException if the sort order isn't supported by {@linkplain
+   *     #listAfter(String, int)}
+   */
+  String createCursor(TaskSummary taskSummary);
 }
@@ -133,6 +133,26 @@ public interface TaskService {
           ObjectReferencePersistenceException,
           NotAuthorizedOnWorkbasketException;
 
+  /**
+   * Inserts several {@linkplain Task Tasks} which don't exist in the database yet. Each {@linkplain
+   * Task} is created like by {@linkplain #createTask(Task)}, but the {@linkplain Workbasket
+   * Workbaskets}, {@linkplain Classification Classifications} and authorization checks are looked
+   * up only once for all given {@linkplain Task Tasks}.
+   *
+   * <p>A {@linkplain Task} which can't be created doesn't prevent the creation of the other
+   * {@linkplain Task Tasks}. Its failure is reported with its {@linkplain Task#getExternalId()
+   * externalId}. Therefore, the externalId of each {@linkplain Task} without one is generated
+   * before any {@linkplain Task} is created.
+   *
+   * @param tasksToCreate the transient {@linkplain Task Tasks} to be inserted
+   * @return the result of the operations with each {@linkplain Task#getExternalId() externalId} and
+   *     the Exception which {@linkplain #createTask(Task)} would have thrown for each failed
+   *     creation
+   * @throws InvalidArgumentException if tasksToCreate is NULL or contains NULL values
+   */
+  BulkOperationResults<String, Exception> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException;
+
   // endregion
 
   // region READ
@@ -201,6 +221,18 @@ public interface TaskService {
   Optional<Task> selectAndClaim(TaskQuery taskQuery)
       throws InvalidOwnerException, NotAuthorizedOnWorkbasketException;
 
+  /**
+   * Selects and claims up to count {@linkplain Task Tasks} which are returned by the {@linkplain
+   * TaskQuery} with a single query. {@linkplain Task Tasks} which can't be claimed by the current
+   * user are skipped.
+   *
+   * @param taskQuery the {@linkplain TaskQuery}
+   * @param count the maximum number of {@linkplain Task Tasks} to select and claim
+   * @return the {@linkplain Task Tasks} that got selected and claimed
+   * @throws InvalidArgumentException if count is not positive
+   */
+  List<Task> selectAndClaim(TaskQuery taskQuery, int count) throws InvalidArgumentException;
+
   /**
    * Cancel the claim of an existing {@linkplain Task} if it was claimed by the current user before.
    *
@@ -834,6 +866,23 @@ public interface TaskService {
   BulkOperationResults<String, TaskanaException> deleteTasks(List<String> tasks)
       throws InvalidArgumentException, NotAuthorizedException;
 
+  /**
+   * Deletes all {@linkplain Task Tasks} which match the given {@linkplain TaskQuery}.
+   *
+   * <p>The {@linkplain Task Tasks} are deleted in chunks. Hence, they don't have to be loaded at
+   * once, regardless of how many {@linkplain Task Tasks} match the {@linkplain TaskQuery}. The sort
+   * order of the {@linkplain TaskQuery} is ignored.
+   *
+   * @param query the {@linkplain TaskQuery} which selects the {@linkplain Task Tasks} to delete
+   * @return the result of the operations with each {@linkplain Task#getId() id} and Exception for
+   *     each failed deletion
+   * @throws InvalidArgumentException if the query is NULL
+   * @throws NotAuthorizedException if the current user isn't member of {@linkplain
+   *     TaskanaRole#ADMIN}
+   */
+  BulkOperationResults<String, TaskanaException> deleteTasks(TaskQuery query)
+      throws InvalidArgumentException, NotAuthorizedException;
+
   // endregion
 
   // endregion
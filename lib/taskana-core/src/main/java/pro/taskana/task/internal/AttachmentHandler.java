@@ -54,10 +54,8 @@ public class AttachmentHandler {
     updateModifiedAttachmentsOnTaskUpdate(newTaskImpl, oldTaskImpl);
   }
 
-  void insertNewAttachmentsOnTaskCreation(TaskImpl task)
-      throws InvalidArgumentException,
-          AttachmentPersistenceException,
-          ClassificationNotFoundException {
+  void initNewAttachmentsOnTaskCreation(TaskImpl task)
+      throws InvalidArgumentException, ClassificationNotFoundException {
     List<Attachment> attachments = task.getAttachments();
 
     if (attachments != null) {
@@ -65,7 +63,16 @@ public class AttachmentHandler {
         AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
         verifyAttachment(attachmentImpl, task.getDomain());
         initAttachment(attachmentImpl, task);
+      }
+    }
+  }
 
+  void insertNewAttachmentsOnTaskCreation(TaskImpl task) throws AttachmentPersistenceException {
+    List<Attachment> attachments = task.getAttachments();
+
+    if (attachments != null) {
+      for (Attachment attachment : attachments) {
+        AttachmentImpl attachmentImpl = (AttachmentImpl) attachment;
         try {
           attachmentMapper.insert(attachmentImpl);
           if (LOGGER.isDebugEnabled()) {
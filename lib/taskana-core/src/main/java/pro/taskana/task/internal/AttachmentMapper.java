@@ -1,6 +1,5 @@
 package pro.taskana.task.internal;
 
-import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -12,7 +11,6 @@ import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
 import org.apache.ibatis.type.ClobTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
-import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.internal.models.AttachmentImpl;
 import pro.taskana.task.internal.models.AttachmentSummaryImpl;
 
@@ -108,15 +106,4 @@ public interface AttachmentMapper {
       javaType = String.class,
       typeHandler = ClobTypeHandler.class)
   String getCustomAttributesAsString(@Param("attachmentId") String attachmentId);
-
-  @Select(
-      "<script> SELECT DISTINCT t.ID, t.PLANNED FROM TASK t "
-          + "LEFT JOIN ATTACHMENT a on a.TASK_ID = t.ID "
-          + "WHERE a.CLASSIFICATION_ID = #{classificationId} "
-          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
-          + "</script>")
-  @Result(property = "left", column = "ID")
-  @Result(property = "right", column = "PLANNED")
-  List<Pair<String, Instant>> findTaskIdsAndPlannedAffectedByClassificationChange(
-      @Param("classificationId") String classificationId);
 }
@@ -29,8 +29,8 @@ public class ObjectReferenceHandler {
     this.objectReferenceMapper = objectReferenceMapper;
   }
 
-  void insertNewSecondaryObjectReferencesOnTaskCreation(TaskImpl task)
-      throws ObjectReferencePersistenceException, InvalidArgumentException {
+  void initNewSecondaryObjectReferencesOnTaskCreation(TaskImpl task)
+      throws InvalidArgumentException {
     List<ObjectReference> objectReferences = task.getSecondaryObjectReferences();
 
     if (objectReferences != null) {
@@ -38,6 +38,17 @@ public class ObjectReferenceHandler {
         ObjectReferenceImpl objectReferenceImpl = (ObjectReferenceImpl) objectReference;
         initObjectReference(objectReferenceImpl, task);
         ObjectReferenceImpl.validate(objectReferenceImpl, "ObjectReference", "Task");
+      }
+    }
+  }
+
+  void insertNewSecondaryObjectReferencesOnTaskCreation(TaskImpl task)
+      throws ObjectReferencePersistenceException {
+    List<ObjectReference> objectReferences = task.getSecondaryObjectReferences();
+
+    if (objectReferences != null) {
+      for (ObjectReference objectReference : objectReferences) {
+        ObjectReferenceImpl objectReferenceImpl = (ObjectReferenceImpl) objectReference;
         try {
           objectReferenceMapper.insert(objectReferenceImpl);
           if (LOGGER.isDebugEnabled()) {
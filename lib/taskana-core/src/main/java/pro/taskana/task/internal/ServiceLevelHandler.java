@@ -77,6 +77,21 @@ class ServiceLevelHandler {
     }
   }
 
+  /**
+   * Sets the priority of all READY and CLAIMED tasks of the given classification which have neither
+   * attachments nor an active manual priority with a single update statement. The priority of these
+   * tasks only depends on their classification, so they don't have to be loaded.
+   *
+   * @param classification the updated classification
+   * @return the number of updated tasks
+   */
+  int refreshPriorityOfTasksWithoutAttachments(ClassificationSummary classification) {
+    // same lower bound as determinePriorityForATask
+    int priority = Math.max(0, classification.getPriority());
+    return taskMapper.updatePriorityOfTasksWithoutAttachments(
+        classification.getId(), priority, Instant.now());
+  }
+
   // Algorithm:
   // - load all relevant tasks and their attachmentSummaries
   // - load all classifications referenced by these tasks / attachments
@@ -5,6 +5,7 @@ import static pro.taskana.common.internal.util.SqlProviderUtil.CLOSING_WHERE_TAG
 import static pro.taskana.common.internal.util.SqlProviderUtil.DB2_WITH_UR;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_SCRIPT_TAG;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_WHERE_TAG;
+import static pro.taskana.common.internal.util.SqlProviderUtil.bucketedInList;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereIn;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereInInterval;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereLike;
@@ -115,7 +116,7 @@ public class TaskCommentQuerySqlProvider {
         + "</choose>"
         + "FROM WORKBASKET_ACCESS_LIST s "
         + "WHERE ACCESS_ID IN "
-        + "(<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
+        + "(" + bucketedInList("accessIdIn") + ") "
         + "GROUP by WORKBASKET_ID) f "
         + "WHERE MAX_READ = 1) "
         + "</if>";
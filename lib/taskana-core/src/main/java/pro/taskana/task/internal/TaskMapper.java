@@ -12,10 +12,10 @@ import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.Select;
 import org.apache.ibatis.annotations.Update;
-import pro.taskana.common.internal.persistence.InstantTypeHandler;
 import pro.taskana.common.internal.persistence.MapTypeHandler;
 import pro.taskana.common.internal.util.Pair;
 import pro.taskana.task.api.CallbackState;
+import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.models.MinimalTaskSummary;
 import pro.taskana.task.internal.models.TaskImpl;
@@ -263,20 +263,79 @@ public interface TaskMapper {
   void updatePriorityOfTasks(
       @Param("taskIds") List<String> taskIds, @Param("referenceTask") TaskImpl referenceTask);
 
+  @Update(
+      "<script>UPDATE TASK SET MODIFIED = #{modified}, PRIORITY = #{priority} "
+          + "WHERE CLASSIFICATION_ID = #{classificationId} AND STATE IN ('READY','CLAIMED') "
+          + "AND MANUAL_PRIORITY &lt; 0 "
+          + "AND NOT EXISTS (SELECT 1 FROM ATTACHMENT a WHERE a.TASK_ID = TASK.ID) "
+          + "</script>")
+  int updatePriorityOfTasksWithoutAttachments(
+      @Param("classificationId") String classificationId,
+      @Param("priority") int priority,
+      @Param("modified") Instant modified);
+
   @Select(
-      "<script>SELECT ID, PLANNED, STATE FROM TASK "
-          + "WHERE ID IN(<foreach item='item' collection='taskIds' separator=',' >#{item}</foreach>) "
-          + "AND STATE IN ( 'READY','CLAIMED') "
+      "<script>SELECT t.ID FROM TASK t "
+          + "WHERE t.STATE IN ('READY','CLAIMED') "
+          + "AND (t.CLASSIFICATION_ID = #{classificationId} OR EXISTS ("
+          + "SELECT 1 FROM ATTACHMENT a WHERE a.TASK_ID = t.ID "
+          + "AND a.CLASSIFICATION_ID = #{classificationId})) "
+          + "<if test='onlyTasksWithAttachments'>"
+          + "AND EXISTS (SELECT 1 FROM ATTACHMENT a WHERE a.TASK_ID = t.ID) "
+          + "</if>"
+          + "<if test='afterTaskId != null'>AND t.ID &gt; #{afterTaskId} </if>"
+          + "<if test='lastTaskId != null'>AND t.ID &lt;= #{lastTaskId} </if>"
+          + "ORDER BY t.ID "
+          + "<if test='limit != null'>FETCH FIRST ${limit} ROWS ONLY </if>"
           + "<if test=\"_databaseId == 'db2'\">with UR </if> "
           + "</script>")
-  @Result(property = "left", column = "ID")
-  @Result(
-      property = "right",
-      column = "PLANNED",
-      javaType = Instant.class,
-      typeHandler = InstantTypeHandler.class)
-  List<Pair<String, Instant>> filterTaskIdsForReadyAndClaimed(
-      @Param("taskIds") List<String> taskIds);
+  List<String> findTaskIdsAffectedByClassificationChange(
+      @Param("classificationId") String classificationId,
+      @Param("onlyTasksWithAttachments") boolean onlyTasksWithAttachments,
+      @Param("afterTaskId") String afterTaskId,
+      @Param("lastTaskId") String lastTaskId,
+      @Param("limit") Integer limit);
+
+  @Select(
+      "<script>SELECT t.ID FROM TASK t WHERE t.COMPLETED &lt; #{completedBefore} "
+          + "<if test='afterTaskId != null'>AND t.ID &gt; #{afterTaskId} </if>"
+          + "<if test='allCompletedSameParentBusiness'>"
+          + "AND (t.PARENT_BUSINESS_PROCESS_ID IS NULL OR t.PARENT_BUSINESS_PROCESS_ID = '' "
+          + "OR NOT EXISTS (SELECT 1 FROM TASK p "
+          + "WHERE p.PARENT_BUSINESS_PROCESS_ID = t.PARENT_BUSINESS_PROCESS_ID "
+          + "AND (p.COMPLETED IS NULL OR p.COMPLETED &gt;= #{completedBefore}))) "
+          + "</if>"
+          + "ORDER BY t.ID FETCH FIRST ${limit} ROWS ONLY "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findTaskIdsCompletedBefore(
+      @Param("completedBefore") Instant completedBefore,
+      @Param("allCompletedSameParentBusiness") boolean allCompletedSameParentBusiness,
+      @Param("afterTaskId") String afterTaskId,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT t.ID FROM TASK t "
+          + "WHERE t.STATE NOT IN (<foreach item='item' collection='endStates' separator=',' >#{item}</foreach>) "
+          + "<if test='afterTaskId != null'>AND t.ID &gt; #{afterTaskId} </if>"
+          + "<if test='lowerBound != null'>AND t.ID &gt;= #{lowerBound} </if>"
+          + "<if test='upperBound != null'>AND t.ID &lt; #{upperBound} </if>"
+          + "ORDER BY t.ID FETCH FIRST ${limit} ROWS ONLY "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findTaskIdsNotInEndState(
+      @Param("endStates") TaskState[] endStates,
+      @Param("afterTaskId") String afterTaskId,
+      @Param("lowerBound") String lowerBound,
+      @Param("upperBound") String upperBound,
+      @Param("limit") int limit);
+
+  @Select(
+      "<script>SELECT EXTERNAL_ID FROM TASK "
+          + "WHERE EXTERNAL_ID IN(<foreach item='item' collection='externalIds' separator=',' >#{item}</foreach>) "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  List<String> findExistingExternalIds(@Param("externalIds") Collection<String> externalIds);
 
   @Select(
       "<script> "
@@ -2,9 +2,12 @@ package pro.taskana.task.internal;
 
 import static pro.taskana.common.api.BaseQuery.toLowerCopy;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.session.RowBounds;
 import org.slf4j.Logger;
@@ -34,6 +37,7 @@ import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 import pro.taskana.workbasket.internal.WorkbasketQueryImpl;
+import pro.taskana.workbasket.internal.WorkbasketServiceImpl;
 
 /** TaskQuery for generating dynamic sql. */
 public class TaskQueryImpl implements TaskQuery {
@@ -51,6 +55,7 @@ public class TaskQueryImpl implements TaskQuery {
   private static final String LINK_TO_VALUE_MAPPER =
       "pro.taskana.task.internal.TaskQueryMapper.queryTaskColumnValues";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskQueryImpl.class);
+  private static final int FOR_EACH_WINDOW_SIZE = 1000;
   private final InternalTaskanaEngine taskanaEngine;
   private final TaskServiceImpl taskService;
   private final List<String> orderByOuter;
@@ -60,6 +65,8 @@ public class TaskQueryImpl implements TaskQuery {
   private String[] accessIdIn;
   private boolean filterByAccessIdIn;
   private boolean selectAndClaim;
+  private int selectAndClaimLimit = 1;
+  private boolean skipLockedRows;
   private boolean useDistinctKeyword = false;
   private boolean joinWithAttachments = false;
   private boolean joinWithSecondaryObjectReferences = false;
@@ -337,6 +344,11 @@ public class TaskQueryImpl implements TaskQuery {
   private CallbackState[] callbackStateNotIn;
   private WildcardSearchField[] wildcardSearchFieldIn;
   private String wildcardSearchValueLike;
+  // endregion
+  // region keysetPagination
+  private List<TaskQueryKeyset.SeekCondition> seekConditions;
+  private Integer keysetLimit;
+  // endregion
 
   TaskQueryImpl(InternalTaskanaEngine taskanaEngine) {
     this.taskanaEngine = taskanaEngine;
@@ -2111,8 +2123,97 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
+  @Override
+  public void forEach(Consumer<TaskSummary> action) {
+    taskanaEngine.executeInDatabaseConnection(
+        () -> {
+          checkForIllegalParamCombinations();
+          checkOpenReadAndReadTasksPermissionForSpecifiedWorkbaskets();
+          setupJoinAndOrderParameters();
+          setupAccessIds();
+          try (Cursor<TaskSummaryImpl> cursor =
+              taskanaEngine.getSqlSession().selectCursor(getLinkToMapperScript(), this)) {
+            List<TaskSummaryImpl> window = new ArrayList<>(FOR_EACH_WINDOW_SIZE);
+            for (TaskSummaryImpl task : cursor) {
+              window.add(task);
+              if (window.size() == FOR_EACH_WINDOW_SIZE) {
+                taskService
+                    .augmentTaskSummariesByContainedSummariesWithPartitioning(window)
+                    .forEach(action);
+                window.clear();
+              }
+            }
+            if (!window.isEmpty()) {
+              taskService
+                  .augmentTaskSummariesByContainedSummariesWithPartitioning(window)
+                  .forEach(action);
+            }
+          } catch (IOException e) {
+            throw new SystemException("Could not close the cursor of the TaskQuery.", e);
+          }
+        });
+  }
+
+  @Override
+  public List<TaskSummary> listAfter(String cursor, int limit) {
+    if (limit < 1) {
+      throw new InvalidArgumentException("The limit must be positive, but was " + limit);
+    }
+    if (groupByPor || groupBySor != null) {
+      throw new InvalidArgumentException("Keyset pagination can't be combined with grouping.");
+    }
+    TaskQueryKeyset keyset = TaskQueryKeyset.of(orderByInner);
+    if (orderByInner.stream().noneMatch(orderBy -> orderBy.startsWith("ID "))) {
+      addOrderCriteria("ID", SortDirection.ASCENDING);
+    }
+    try {
+      seekConditions = cursor == null ? null : keyset.parseCursor(cursor);
+      keysetLimit = limit;
+      return list();
+    } finally {
+      seekConditions = null;
+      keysetLimit = null;
+    }
+  }
+
+  @Override
+  public String createCursor(TaskSummary taskSummary) {
+    return TaskQueryKeyset.of(orderByInner).createCursor(taskSummary);
+  }
+
+  /**
+   * Lists the ids of the Tasks after the given id which match this query, in ascending order.
+   * This replaces the sort order of the query.
+   *
+   * @param lastId the id after which the ids are listed or null to list the first ids
+   * @param limit the maximum number of ids
+   * @return the ids of the next Tasks
+   */
+  List<String> listIdsAfter(String lastId, int limit) {
+    try {
+      seekConditions =
+          lastId == null
+              ? null
+              : List.of(
+                  new TaskQueryKeyset.SeekCondition("t.ID", SortDirection.ASCENDING, lastId));
+      keysetLimit = limit;
+      return listValues(TaskQueryColumnName.ID, SortDirection.ASCENDING);
+    } finally {
+      seekConditions = null;
+      keysetLimit = null;
+    }
+  }
+
   public TaskQuery selectAndClaimEquals(boolean selectAndClaim) {
     this.selectAndClaim = selectAndClaim;
+    this.skipLockedRows =
+        selectAndClaim
+            && taskanaEngine.getEngine().getConfiguration().isUseSkipLockedForSelectAndClaim();
+    return this;
+  }
+
+  public TaskQuery selectAndClaimLimit(int selectAndClaimLimit) {
+    this.selectAndClaimLimit = selectAndClaimLimit;
     return this;
   }
 
@@ -2242,9 +2343,12 @@ public class TaskQueryImpl implements TaskQuery {
     try {
       if (this.workbasketIdIn != null && this.workbasketIdIn.length > 0) {
         filterByAccessIdIn = false;
-        for (String workbasketId : workbasketIdIn) {
-          checkOpenReadAndReadTasksPermissionById(workbasketId);
-        }
+        ((WorkbasketServiceImpl) taskanaEngine.getEngine().getWorkbasketService())
+            .checkAuthorization(
+                Arrays.asList(workbasketIdIn),
+                WorkbasketPermission.OPEN,
+                WorkbasketPermission.READ,
+                WorkbasketPermission.READTASKS);
       }
       if (workbasketKeyDomainIn != null && workbasketKeyDomainIn.length > 0) {
         filterByAccessIdIn = false;
@@ -2257,23 +2361,6 @@ public class TaskQueryImpl implements TaskQuery {
     }
   }
 
-  private void checkOpenReadAndReadTasksPermissionById(String workbasketId)
-      throws NotAuthorizedOnWorkbasketException {
-    try {
-      taskanaEngine
-          .getEngine()
-          .getWorkbasketService()
-          .checkAuthorization(
-              workbasketId,
-              WorkbasketPermission.OPEN,
-              WorkbasketPermission.READ,
-              WorkbasketPermission.READTASKS);
-    } catch (WorkbasketNotFoundException e) {
-      LOGGER.warn(
-          String.format("The workbasket with the ID ' %s ' does not exist.", workbasketId), e);
-    }
-  }
-
   private void checkOpenReadAndReadTasksPermissionByKeyDomain(KeyDomain keyDomain)
       throws NotAuthorizedOnWorkbasketException {
     try {
@@ -2328,6 +2415,10 @@ public class TaskQueryImpl implements TaskQuery {
         + filterByAccessIdIn
         + ", selectAndClaim="
         + selectAndClaim
+        + ", selectAndClaimLimit="
+        + selectAndClaimLimit
+        + ", skipLockedRows="
+        + skipLockedRows
         + ", useDistinctKeyword="
         + useDistinctKeyword
         + ", joinWithAttachments="
@@ -0,0 +1,219 @@
+package pro.taskana.task.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.task.api.models.TaskSummary;
+
+/**
+ * The sort criteria of a keyset paginated {@linkplain pro.taskana.task.api.TaskQuery} and the
+ * opaque cursor which contains their values for the last Task of a page.
+ */
+public class TaskQueryKeyset {
+
+  private static final String SEPARATOR = ".";
+
+  private final List<SortCriterion> sortCriteria;
+
+  private TaskQueryKeyset(List<SortCriterion> sortCriteria) {
+    this.sortCriteria = sortCriteria;
+  }
+
+  /**
+   * Creates the keyset of the given sort order. The id is added as last sort criterion if the
+   * sort order doesn't contain it yet.
+   *
+   * @param orderBy the sort order of the query, e.g. "DUE ASC"
+   * @return the keyset of the sort order
+   * @throws InvalidArgumentException if one of the sort criteria isn't supported
+   */
+  static TaskQueryKeyset of(List<String> orderBy) {
+    List<SortCriterion> sortCriteria = new ArrayList<>();
+    for (String orderByItem : orderBy) {
+      int separatorIndex = orderByItem.lastIndexOf(' ');
+      String orderByColumn = orderByItem.substring(0, separatorIndex);
+      SortDirection direction =
+          SortDirection.DESCENDING.toString().equals(orderByItem.substring(separatorIndex + 1))
+              ? SortDirection.DESCENDING
+              : SortDirection.ASCENDING;
+      KeysetColumn column =
+          Arrays.stream(KeysetColumn.values())
+              .filter(keysetColumn -> keysetColumn.matches(orderByColumn))
+              .findFirst()
+              .orElseThrow(
+                  () ->
+                      new InvalidArgumentException(
+                          String.format(
+                              "Keyset pagination is not supported for sort criterion '%s'.",
+                              orderByColumn)));
+      if (sortCriteria.stream().noneMatch(criterion -> criterion.column == column)) {
+        sortCriteria.add(new SortCriterion(column, direction));
+      }
+    }
+    if (sortCriteria.stream().noneMatch(criterion -> criterion.column == KeysetColumn.ID)) {
+      sortCriteria.add(new SortCriterion(KeysetColumn.ID, SortDirection.ASCENDING));
+    }
+    return new TaskQueryKeyset(sortCriteria);
+  }
+
+  /**
+   * Creates the cursor which points behind the given Task.
+   *
+   * @param taskSummary the last Task of a page
+   * @return the opaque cursor
+   */
+  String createCursor(TaskSummary taskSummary) {
+    List<String> segments = new ArrayList<>();
+    segments.add(getSortOrder());
+    for (SortCriterion criterion : sortCriteria) {
+      Object value = criterion.column.extractor.apply(taskSummary);
+      if (value == null) {
+        throw new InvalidArgumentException(
+            String.format(
+                "Task '%s' has no value for sort criterion '%s'.",
+                taskSummary.getId(), criterion.column));
+      }
+      segments.add(value.toString());
+    }
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    return segments.stream()
+        .map(segment -> encoder.encodeToString(segment.getBytes(StandardCharsets.UTF_8)))
+        .collect(Collectors.joining(SEPARATOR));
+  }
+
+  /**
+   * Reads the values of the sort criteria from the given cursor.
+   *
+   * @param cursor the opaque cursor as created by {@linkplain #createCursor(TaskSummary)}
+   * @return the conditions which select the Tasks behind the cursor
+   * @throws InvalidArgumentException if the cursor is invalid or belongs to another sort order
+   */
+  List<SeekCondition> parseCursor(String cursor) {
+    try {
+      Base64.Decoder decoder = Base64.getUrlDecoder();
+      List<String> segments =
+          Arrays.stream(cursor.split("\\" + SEPARATOR, -1))
+              .map(segment -> new String(decoder.decode(segment), StandardCharsets.UTF_8))
+              .toList();
+      if (segments.size() != sortCriteria.size() + 1 || !getSortOrder().equals(segments.get(0))) {
+        throw new InvalidArgumentException(
+            String.format("The cursor '%s' doesn't match the sort order of the query.", cursor));
+      }
+      List<SeekCondition> conditions = new ArrayList<>();
+      for (int i = 0; i < sortCriteria.size(); i++) {
+        SortCriterion criterion = sortCriteria.get(i);
+        conditions.add(
+            new SeekCondition(
+                criterion.column.sqlColumn,
+                criterion.direction,
+                criterion.column.parser.apply(segments.get(i + 1))));
+      }
+      return conditions;
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidArgumentException(String.format("The cursor '%s' is invalid.", cursor), e);
+    }
+  }
+
+  private String getSortOrder() {
+    return sortCriteria.stream()
+        .map(criterion -> criterion.column + " " + criterion.direction)
+        .collect(Collectors.joining(","));
+  }
+
+  /** A sort column of the TASK table whose value is always set. */
+  private enum KeysetColumn {
+    ID("t.ID", TaskSummary::getId, value -> value),
+    CREATED("t.CREATED", TaskSummary::getCreated, Instant::parse),
+    MODIFIED("t.MODIFIED", TaskSummary::getModified, Instant::parse),
+    PLANNED("t.PLANNED", TaskSummary::getPlanned, Instant::parse),
+    DUE("t.DUE", TaskSummary::getDue, Instant::parse),
+    PRIORITY("t.PRIORITY", TaskSummary::getPriority, Integer::valueOf),
+    STATE("t.STATE", TaskSummary::getState, value -> value),
+    DOMAIN("t.DOMAIN", TaskSummary::getDomain, value -> value),
+    WORKBASKET_ID("t.WORKBASKET_ID", task -> task.getWorkbasketSummary().getId(), value -> value),
+    WORKBASKET_KEY(
+        "t.WORKBASKET_KEY", task -> task.getWorkbasketSummary().getKey(), value -> value),
+    CLASSIFICATION_KEY(
+        "t.CLASSIFICATION_KEY",
+        task -> task.getClassificationSummary().getKey(),
+        value -> value,
+        "TCLASSIFICATION_KEY"),
+    POR_COMPANY("t.POR_COMPANY", task -> task.getPrimaryObjRef().getCompany(), value -> value),
+    POR_TYPE("t.POR_TYPE", task -> task.getPrimaryObjRef().getType(), value -> value),
+    POR_VALUE("t.POR_VALUE", task -> task.getPrimaryObjRef().getValue(), value -> value);
+
+    private final String sqlColumn;
+    private final Function<TaskSummary, Object> extractor;
+    private final Function<String, Object> parser;
+    private final String db2Alias;
+
+    KeysetColumn(
+        String sqlColumn,
+        Function<TaskSummary, Object> extractor,
+        Function<String, Object> parser) {
+      this(sqlColumn, extractor, parser, null);
+    }
+
+    KeysetColumn(
+        String sqlColumn,
+        Function<TaskSummary, Object> extractor,
+        Function<String, Object> parser,
+        String db2Alias) {
+      this.sqlColumn = sqlColumn;
+      this.extractor = extractor;
+      this.parser = parser;
+      this.db2Alias = db2Alias;
+    }
+
+    private boolean matches(String orderByColumn) {
+      return name().equals(orderByColumn)
+          || sqlColumn.equals(orderByColumn)
+          || orderByColumn.equals(db2Alias);
+    }
+  }
+
+  private static class SortCriterion {
+
+    private final KeysetColumn column;
+    private final SortDirection direction;
+
+    private SortCriterion(KeysetColumn column, SortDirection direction) {
+      this.column = column;
+      this.direction = direction;
+    }
+  }
+
+  /** The value of a sort column of the last Task of the previous page. */
+  public static class SeekCondition {
+
+    private final String column;
+    private final SortDirection direction;
+    private final Object value;
+
+    SeekCondition(String column, SortDirection direction, Object value) {
+      this.column = column;
+      this.direction = direction;
+      this.value = value;
+    }
+
+    public String getColumn() {
+      return column;
+    }
+
+    public String getOperator() {
+      return direction == SortDirection.DESCENDING ? "<" : ">";
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package pro.taskana.task.internal;
 
 import java.util.List;
+import org.apache.ibatis.annotations.Options;
 import org.apache.ibatis.annotations.Result;
 import org.apache.ibatis.annotations.SelectProvider;
 import pro.taskana.task.internal.models.TaskSummaryImpl;
@@ -9,6 +10,8 @@ import pro.taskana.task.internal.models.TaskSummaryImpl;
 public interface TaskQueryMapper {
 
   @SelectProvider(type = TaskQuerySqlProvider.class, method = "queryTaskSummaries")
+  // the rows are fetched in batches when they are read with a cursor
+  @Options(fetchSize = 1000)
   @Result(property = "id", column = "ID")
   @Result(property = "externalId", column = "EXTERNAL_ID")
   @Result(property = "created", column = "CREATED")
@@ -71,6 +74,8 @@ public interface TaskQueryMapper {
   List<TaskSummaryImpl> queryTaskSummaries(TaskQueryImpl taskQuery);
 
   @SelectProvider(type = TaskQuerySqlProvider.class, method = "queryTaskSummariesDb2")
+  // the rows are fetched in batches when they are read with a cursor
+  @Options(fetchSize = 1000)
   @Result(property = "id", column = "ID")
   @Result(property = "externalId", column = "EXTERNAL_ID")
   @Result(property = "created", column = "CREATED")
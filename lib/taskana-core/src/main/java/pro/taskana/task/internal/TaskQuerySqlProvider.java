@@ -5,6 +5,7 @@ import static pro.taskana.common.internal.util.SqlProviderUtil.CLOSING_WHERE_TAG
 import static pro.taskana.common.internal.util.SqlProviderUtil.DB2_WITH_UR;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_SCRIPT_TAG;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_WHERE_TAG;
+import static pro.taskana.common.internal.util.SqlProviderUtil.bucketedInList;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereCustomIntStatements;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereCustomStatements;
 import static pro.taskana.common.internal.util.SqlProviderUtil.whereIn;
@@ -62,6 +63,7 @@ public class TaskQuerySqlProvider {
         + OPENING_WHERE_TAG
         + checkForAuthorization()
         + commonTaskWhereStatement()
+        + seekConditionsWhereStatement()
         + "<if test='selectAndClaim == true'> AND t.STATE = 'READY' </if>"
         + CLOSING_WHERE_TAG
         + closeOuterClauseForGroupByPor()
@@ -69,11 +71,13 @@ public class TaskQuerySqlProvider {
         + "<if test='!orderByOuter.isEmpty()'>"
         + "ORDER BY <foreach item='item' collection='orderByOuter' separator=',' >${item}</foreach>"
         + "</if> "
+        + "<if test='keysetLimit != null'>FETCH FIRST ${keysetLimit} ROWS ONLY </if>"
         + "<if test='selectAndClaim == true'> "
-        + "FETCH FIRST ROW ONLY FOR UPDATE "
+        + "FETCH FIRST ${selectAndClaimLimit} ROWS ONLY FOR UPDATE "
+        + "<if test=\"skipLockedRows and _databaseId == 'postgres'\">SKIP LOCKED </if>"
         + "</if>"
         + "<if test=\"_databaseId == 'db2' and selectAndClaim \">WITH RS USE "
-        + "AND KEEP UPDATE LOCKS </if>"
+        + "AND KEEP UPDATE LOCKS <if test='skipLockedRows'>SKIP LOCKED DATA </if></if>"
         + "<if test=\"_databaseId == 'db2' and !selectAndClaim \">WITH UR </if>"
         + CLOSING_SCRIPT_TAG;
   }
@@ -114,6 +118,7 @@ public class TaskQuerySqlProvider {
         + "</if>"
         + OPENING_WHERE_TAG
         + commonTaskWhereStatement()
+        + seekConditionsWhereStatement()
         + CLOSING_WHERE_TAG
         + "), Y ("
         + db2selectFields()
@@ -126,7 +131,7 @@ public class TaskQuerySqlProvider {
         + "FROM WORKBASKET_ACCESS_LIST s "
         + "WHERE "
         + "s.ACCESS_ID IN "
-        + "(<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
+        + "(" + bucketedInList("accessIdIn") + ") "
         + "and "
         + "s.WORKBASKET_ID = X.WORKBASKET_ID AND s.perm_read = 1 AND s.perm_readtasks = 1"
         + " fetch first 1 rows only"
@@ -143,8 +148,11 @@ public class TaskQuerySqlProvider {
         + "<if test='!orderByOuter.isEmpty()'>"
         + "ORDER BY <foreach item='item' collection='orderByOuter' separator=',' >${item}</foreach>"
         + "</if> "
+        + "<if test='keysetLimit != null'>FETCH FIRST ${keysetLimit} ROWS ONLY </if>"
         + "<if test='selectAndClaim == true'>"
-        + "FETCH FIRST ROW ONLY FOR UPDATE WITH RS USE AND KEEP UPDATE LOCKS"
+        + "FETCH FIRST ${selectAndClaimLimit} ROWS ONLY "
+        + "FOR UPDATE WITH RS USE AND KEEP UPDATE LOCKS"
+        + "<if test='skipLockedRows'> SKIP LOCKED DATA</if>"
         + "</if>"
         + "<if test='selectAndClaim == false'> with UR</if>"
         + CLOSING_SCRIPT_TAG;
@@ -152,8 +160,12 @@ public class TaskQuerySqlProvider {
 
   /**
    * you cant lock a view in oracle. the sql code `FETCH FIRST ROW ONLY` would create in oracle a
-   * view therefore we must first select a rowid based on where criteria then we select everything
-   * based on rowid and lock this rowid
+   * view therefore we must first select the rowids based on where criteria then we select
+   * everything based on these rowids and lock them
+   *
+   * <p>SKIP LOCKED isn't supported here: the rowids are limited before the locked rows could be
+   * skipped, so concurrent claimers would get no task at all if the first rows are locked. The
+   * selected rows are returned in no particular order.
    *
    * @return SELECT Statement for oracle claiming
    */
@@ -180,7 +192,7 @@ public class TaskQuerySqlProvider {
         + "<if test=\"joinWithWorkbaskets\">LEFT JOIN WORKBASKET w2 "
         + "ON t2.WORKBASKET_ID = w2.ID </if>"
         + "<if test=\"joinWithUserInfo\">LEFT JOIN USER_INFO u2 ON t2.owner = u2.USER_ID </if>"
-        + "WHERE t2.rowid = (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.rowid "
+        + "WHERE t2.rowid IN (SELECT <if test=\"useDistinctKeyword\">DISTINCT</if> t.rowid "
         + "FROM TASK t "
         + "<if test=\"joinWithAttachments\">LEFT JOIN ATTACHMENT a ON t.ID = a.TASK_ID </if>"
         + "<if test=\"joinWithSecondaryObjectReferences\">LEFT JOIN OBJECT_REFERENCE o "
@@ -199,7 +211,7 @@ public class TaskQuerySqlProvider {
         + "<if test='!orderByOuter.isEmpty()'>"
         + "ORDER BY <foreach item='item' collection='orderByOuter' separator=',' >${item}</foreach>"
         + "</if> "
-        + "fetch first 1 rows only "
+        + "fetch first ${selectAndClaimLimit} rows only "
         + ") FOR UPDATE"
         + CLOSING_SCRIPT_TAG;
   }
@@ -270,7 +282,7 @@ public class TaskQuerySqlProvider {
         + "<if test='accessIdIn != null'>"
         + "SELECT 1 FROM WORKBASKET_ACCESS_LIST s "
         + "WHERE s.ACCESS_ID IN "
-        + "(<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
+        + "(" + bucketedInList("accessIdIn") + ") "
         + "and "
         + "s.WORKBASKET_ID = X.WORKBASKET_ID AND s.perm_read = 1 AND s.perm_readtasks = 1"
         + " fetch first 1 rows only "
@@ -308,6 +320,7 @@ public class TaskQuerySqlProvider {
         + OPENING_WHERE_TAG
         + checkForAuthorization()
         + commonTaskWhereStatement()
+        + seekConditionsWhereStatement()
         + CLOSING_WHERE_TAG
         + "<if test='!orderByInner.isEmpty()'>"
         + "ORDER BY <foreach item='item' collection='orderByInner' separator=',' >"
@@ -346,6 +359,7 @@ public class TaskQuerySqlProvider {
         + "</choose>"
         + "</foreach>"
         + "</if> "
+        + "<if test='keysetLimit != null'>FETCH FIRST ${keysetLimit} ROWS ONLY </if>"
         + DB2_WITH_UR
         + CLOSING_SCRIPT_TAG;
   }
@@ -398,12 +412,30 @@ public class TaskQuerySqlProvider {
         + "</otherwise>"
         + "</choose>"
         + "FROM WORKBASKET_ACCESS_LIST s where ACCESS_ID IN "
-        + "(<foreach item='item' collection='accessIdIn' separator=',' >#{item}</foreach>) "
+        + "(" + bucketedInList("accessIdIn") + ") "
         + "GROUP by WORKBASKET_ID) f "
         + "WHERE MAX_READ = 1 AND MAX_READTASKS = 1) "
         + "</if>";
   }
 
+  /**
+   * Selects the Tasks behind the last Task of the previous page. For the sort columns c1, ..., cn
+   * with the values v1, ..., vn of this Task, this is (c1 &gt; v1) OR (c1 = v1 AND c2 &gt; v2) OR
+   * ... OR (c1 = v1 AND ... AND cn &gt; vn). The operator is &lt; for descending sort columns.
+   *
+   * @return the seek conditions of a keyset paginated query
+   */
+  private static String seekConditionsWhereStatement() {
+    return "<if test='seekConditions != null'> AND ("
+        + "<foreach item='seek' index='seekIndex' collection='seekConditions' separator=' OR '>"
+        + "(<foreach item='equal' index='equalIndex' collection='seekConditions'>"
+        + "<if test='equalIndex &lt; seekIndex'>${equal.column} = #{equal.value} AND </if>"
+        + "</foreach>"
+        + "${seek.column} ${seek.operator} #{seek.value})"
+        + "</foreach>"
+        + ") </if>";
+  }
+
   private static String groupByPorIfActive() {
     return "<if test=\"groupByPor\"> "
         + ", ROW_NUMBER() OVER (PARTITION BY POR_VALUE "
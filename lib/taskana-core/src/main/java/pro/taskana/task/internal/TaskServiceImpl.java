@@ -3,12 +3,16 @@ package pro.taskana.task.internal;
 import static java.util.function.Predicate.not;
 import static pro.taskana.common.internal.util.CheckedFunction.wrap;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -16,11 +20,15 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
+import org.apache.ibatis.executor.BatchExecutorException;
+import org.apache.ibatis.session.SqlSession;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.classification.api.ClassificationService;
@@ -104,6 +112,8 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 public class TaskServiceImpl implements TaskService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskServiceImpl.class);
+  // stays below the maximum number of expressions in an IN list of Oracle
+  private static final int DELETE_TASKS_CHUNK_SIZE = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketService workbasketService;
@@ -278,122 +288,366 @@ public class TaskServiceImpl implements TaskService {
           AttachmentPersistenceException,
           ObjectReferencePersistenceException,
           NotAuthorizedOnWorkbasketException {
+    return createTask(taskToCreate, new TaskCreationLookups());
+  }
 
-    if (createTaskPreprocessorManager.isEnabled()) {
-      taskToCreate = createTaskPreprocessorManager.processTaskBeforeCreation(taskToCreate);
+  @Override
+  public BulkOperationResults<String, Exception> createTasks(List<Task> tasksToCreate)
+      throws InvalidArgumentException {
+    if (tasksToCreate == null || tasksToCreate.contains(null)) {
+      throw new InvalidArgumentException("List of Tasks must not be null or contain null.");
     }
-
-    TaskImpl task = (TaskImpl) taskToCreate;
-
+    BulkOperationResults<String, Exception> bulkLog = new BulkOperationResults<>();
     try {
       taskanaEngine.openConnection();
-
-      if (task.getId() != null && !task.getId().isEmpty()) {
-        throw new InvalidArgumentException("taskId must be empty when creating a task");
+      for (Task task : tasksToCreate) {
+        if (task.getExternalId() == null) {
+          ((TaskImpl) task).setExternalId(
+              IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_EXT_TASK));
+        }
       }
-
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Task {} cannot be found, so it can be created.", task.getId());
+      Set<String> existingExternalIds = findExistingExternalIds(tasksToCreate);
+      Set<String> processedExternalIds = new HashSet<>();
+      TaskCreationLookups lookups = new TaskCreationLookups();
+      // the external id of the given task, since the preprocessors may replace the task
+      List<Pair<String, TaskImpl>> preparedTasks = new ArrayList<>();
+      for (Task task : tasksToCreate) {
+        String externalId = task.getExternalId();
+        if (existingExternalIds.contains(externalId) || !processedExternalIds.add(externalId)) {
+          bulkLog.addError(externalId, new TaskAlreadyExistException(externalId));
+        } else {
+          try {
+            preparedTasks.add(Pair.of(externalId, prepareTaskForCreation(task, lookups)));
+          } catch (TaskanaException | InvalidArgumentException e) {
+            bulkLog.addError(externalId, e);
+          }
+        }
+      }
+      for (TaskImpl task : insertTasksOfBulk(preparedTasks, bulkLog)) {
+        createTaskCreatedEvent(task);
       }
-      Workbasket workbasket;
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
 
-      if (task.getWorkbasketSummary() != null && task.getWorkbasketSummary().getId() != null) {
-        workbasket = workbasketService.getWorkbasket(task.getWorkbasketSummary().getId());
-      } else if (task.getWorkbasketKey() != null) {
-        workbasket = workbasketService.getWorkbasket(task.getWorkbasketKey(), task.getDomain());
+  private Set<String> findExistingExternalIds(List<Task> tasks) {
+    // the external ids are queried in advance, since a failing insert aborts the whole
+    // transaction on some databases
+    List<String> externalIds = tasks.stream().map(Task::getExternalId).distinct().toList();
+    return CollectionUtil.partitionBasedOnSize(externalIds, 1000).stream()
+        .map(taskMapper::findExistingExternalIds)
+        .flatMap(List::stream)
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Inserts the given Tasks with their Attachments and secondary ObjectReferences using JDBC
+   * batches. If a statement of a batch fails, the database is rolled back to a savepoint, the
+   * failure is logged for the Task of that statement and the remaining Tasks are inserted again.
+   * Only the first failing statement of a batch is evaluated, since drivers like the one of
+   * PostgreSQL don't execute the statements after it. Without a transaction the Tasks are inserted
+   * one by one.
+   *
+   * @param tasks the Tasks to insert and the external ids to log their failures with
+   * @param bulkLog the log of the failures
+   * @return the inserted Tasks
+   */
+  private List<TaskImpl> insertTasksOfBulk(
+      List<Pair<String, TaskImpl>> tasks, BulkOperationResults<String, Exception> bulkLog) {
+    List<Pair<String, TaskImpl>> remainingTasks = new ArrayList<>(tasks);
+    Connection connection = taskanaEngine.getSqlSession().getConnection();
+    try {
+      if (connection.getAutoCommit()) {
+        remainingTasks.removeIf(task -> insertTaskOfBulk(task, bulkLog));
       } else {
-        String workbasketId = taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
-        if (workbasketId != null) {
-          workbasket = workbasketService.getWorkbasket(workbasketId);
-        } else {
-          throw new InvalidArgumentException("Cannot create a Task outside a Workbasket");
+        while (!remainingTasks.isEmpty()) {
+          Savepoint savepoint = connection.setSavepoint();
+          List<TaskImpl> tasksToInsert = remainingTasks.stream().map(Pair::getRight).toList();
+          Optional<Pair<Integer, Exception>> failure =
+              taskanaEngine.executeInBatchSession(session -> insertBatch(session, tasksToInsert));
+          if (failure.isEmpty()) {
+            break;
+          }
+          connection.rollback(savepoint);
+          Pair<String, TaskImpl> failedTask = remainingTasks.remove((int) failure.get().getLeft());
+          bulkLog.addError(failedTask.getLeft(), failure.get().getRight());
         }
       }
+    } catch (SQLException e) {
+      throw new SystemException("Could not insert the Tasks of the bulk.", e);
+    }
+    return remainingTasks.stream().map(Pair::getRight).toList();
+  }
 
-      if (workbasket.isMarkedForDeletion()) {
-        throw new WorkbasketNotFoundException(workbasket.getId());
+  private boolean insertTaskOfBulk(
+      Pair<String, TaskImpl> task, BulkOperationResults<String, Exception> bulkLog) {
+    String taskId = task.getRight().getId();
+    try {
+      insertTask(task.getRight());
+      return false;
+    } catch (TaskanaException | PersistenceException e) {
+      try {
+        // without a transaction the rows which were inserted before the failure remain
+        attachmentMapper.deleteMultipleByTaskIds(List.of(taskId));
+        objectReferenceMapper.deleteMultipleByTaskIds(List.of(taskId));
+        taskMapper.delete(taskId);
+      } catch (PersistenceException cleanupException) {
+        e.addSuppressed(cleanupException);
+      }
+      bulkLog.addError(task.getLeft(), e);
+      return true;
+    }
+  }
+
+  /**
+   * Executes one batch per statement.
+   *
+   * @return the index of the Task of the first failing statement and its failure, empty if all
+   *     statements succeeded
+   */
+  private static Optional<Pair<Integer, Exception>> insertBatch(
+      SqlSession session, List<TaskImpl> tasks) {
+    TaskMapper batchTaskMapper = session.getMapper(TaskMapper.class);
+    tasks.forEach(batchTaskMapper::insert);
+    Optional<Pair<Integer, Exception>> failure =
+        flushBatch(
+            session,
+            IntStream.range(0, tasks.size()).boxed().toList(),
+            (index, e) ->
+                isExternalIdViolation(e)
+                    ? new TaskAlreadyExistException(tasks.get(index).getExternalId())
+                    : e);
+    if (failure.isPresent()) {
+      return failure;
+    }
+
+    AttachmentMapper batchAttachmentMapper = session.getMapper(AttachmentMapper.class);
+    List<Integer> attachmentOwners = new ArrayList<>();
+    List<AttachmentImpl> attachments = new ArrayList<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      for (Attachment attachment : nullToEmpty(tasks.get(i).getAttachments())) {
+        batchAttachmentMapper.insert((AttachmentImpl) attachment);
+        attachmentOwners.add(i);
+        attachments.add((AttachmentImpl) attachment);
+      }
+    }
+    failure =
+        flushBatch(
+            session,
+            attachmentOwners,
+            (index, e) ->
+                new AttachmentPersistenceException(
+                    attachments.get(index).getId(), attachments.get(index).getTaskId(), e));
+    if (failure.isPresent()) {
+      return failure;
+    }
+
+    ObjectReferenceMapper batchObjectReferenceMapper =
+        session.getMapper(ObjectReferenceMapper.class);
+    List<Integer> objectReferenceOwners = new ArrayList<>();
+    List<ObjectReferenceImpl> objectReferences = new ArrayList<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      for (ObjectReference objectReference :
+          nullToEmpty(tasks.get(i).getSecondaryObjectReferences())) {
+        batchObjectReferenceMapper.insert((ObjectReferenceImpl) objectReference);
+        objectReferenceOwners.add(i);
+        objectReferences.add((ObjectReferenceImpl) objectReference);
+      }
+    }
+    return flushBatch(
+        session,
+        objectReferenceOwners,
+        (index, e) ->
+            new ObjectReferencePersistenceException(
+                objectReferences.get(index).getId(), objectReferences.get(index).getTaskId(), e));
+  }
+
+  private static <T> List<T> nullToEmpty(List<T> list) {
+    return list != null ? list : List.of();
+  }
+
+  /**
+   * Executes the batched statements.
+   *
+   * @param session the session which batches the statements
+   * @param owners the index of the Task of each batched statement
+   * @param toFailure creates the failure of the statement with the given index
+   * @return the index of the Task of the first failing statement and its failure, empty if all
+   *     statements succeeded
+   */
+  private static Optional<Pair<Integer, Exception>> flushBatch(
+      SqlSession session,
+      List<Integer> owners,
+      BiFunction<Integer, PersistenceException, Exception> toFailure) {
+    try {
+      session.flushStatements();
+      return Optional.empty();
+    } catch (PersistenceException e) {
+      if (!(e.getCause() instanceof BatchExecutorException batchException)) {
+        throw e;
+      }
+      int[] updateCounts = batchException.getBatchUpdateException().getUpdateCounts();
+      // some drivers stop executing the batch at the failing statement, others mark it as failed
+      int failedStatement = 0;
+      while (failedStatement < updateCounts.length
+          && updateCounts[failedStatement] != Statement.EXECUTE_FAILED) {
+        failedStatement++;
       }
+      if (failedStatement >= owners.size()) {
+        throw e;
+      }
+      return Optional.of(
+          Pair.of(owners.get(failedStatement), toFailure.apply(failedStatement, e)));
+    }
+  }
 
-      task.setWorkbasketSummary(workbasket.asSummary());
-      task.setDomain(workbasket.getDomain());
+  private Task createTask(Task taskToCreate, TaskCreationLookups lookups)
+      throws WorkbasketNotFoundException,
+          ClassificationNotFoundException,
+          TaskAlreadyExistException,
+          InvalidArgumentException,
+          AttachmentPersistenceException,
+          ObjectReferencePersistenceException,
+          NotAuthorizedOnWorkbasketException {
+    try {
+      taskanaEngine.openConnection();
+      TaskImpl task = prepareTaskForCreation(taskToCreate, lookups);
+      insertTask(task);
+      createTaskCreatedEvent(task);
+      return task;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
 
-      if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.TASK_ROUTER)) {
-        workbasketService.checkAuthorization(
-            task.getWorkbasketSummary().getId(), WorkbasketPermission.APPEND);
-      }
+  private TaskImpl prepareTaskForCreation(Task taskToCreate, TaskCreationLookups lookups)
+      throws WorkbasketNotFoundException,
+          ClassificationNotFoundException,
+          InvalidArgumentException,
+          NotAuthorizedOnWorkbasketException {
 
-      // we do use the key and not the id to make sure that we use the classification from the right
-      // domain.
-      // otherwise we would have to check the classification and its domain for validity.
-      String classificationKey = task.getClassificationKey();
-      if (classificationKey == null || classificationKey.length() == 0) {
-        throw new InvalidArgumentException("classificationKey of task must not be empty");
+    if (createTaskPreprocessorManager.isEnabled()) {
+      taskToCreate = createTaskPreprocessorManager.processTaskBeforeCreation(taskToCreate);
+    }
+
+    TaskImpl task = (TaskImpl) taskToCreate;
+
+    if (task.getId() != null && !task.getId().isEmpty()) {
+      throw new InvalidArgumentException("taskId must be empty when creating a task");
+    }
+
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Task {} cannot be found, so it can be created.", task.getId());
+    }
+    Workbasket workbasket;
+
+    if (task.getWorkbasketSummary() != null && task.getWorkbasketSummary().getId() != null) {
+      workbasket = lookups.getWorkbasket(task.getWorkbasketSummary().getId());
+    } else if (task.getWorkbasketKey() != null) {
+      workbasket = lookups.getWorkbasket(task.getWorkbasketKey(), task.getDomain());
+    } else {
+      String workbasketId = taskanaEngine.getTaskRoutingManager().determineWorkbasketId(task);
+      if (workbasketId != null) {
+        workbasket = lookups.getWorkbasket(workbasketId);
+      } else {
+        throw new InvalidArgumentException("Cannot create a Task outside a Workbasket");
       }
+    }
 
-      Classification classification =
-          this.classificationService.getClassification(classificationKey, workbasket.getDomain());
-      task.setClassificationSummary(classification.asSummary());
-      ObjectReferenceImpl.validate(task.getPrimaryObjRef(), "primary ObjectReference", "Task");
-      standardSettingsOnTaskCreation(task, classification);
-      setCallbackStateOnTaskCreation(task);
-      priorityServiceManager.calculatePriorityOfTask(task).ifPresent(task::setPriority);
+    if (workbasket.isMarkedForDeletion()) {
+      throw new WorkbasketNotFoundException(workbasket.getId());
+    }
 
-      try {
-        this.taskMapper.insert(task);
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
-        }
-        if (historyEventManager.isEnabled()) {
-
-          String details =
-              ObjectAttributeChangeDetector.determineChangesInAttributes(newTask(), task);
-          historyEventManager.createEvent(
-              new TaskCreatedEvent(
-                  IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
-                  task,
-                  taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
-                  details));
-        }
-      } catch (PersistenceException e) {
-        // Error messages:
-        // Postgres: ERROR: duplicate key value violates unique constraint "uc_external_id"
-        // DB/2: ### Error updating database.  Cause:
-        // com.ibm.db2.jcc.am.SqlIntegrityConstraintViolationException: DB2 SQL Error: SQLCODE=-803,
-        // SQLSTATE=23505, SQLERRMC=2;TASKANA.TASK, DRIVER=4.22.29
-        //       ### The error may involve pro.taskana.mappings.TaskMapper.insert-Inline
-        //       ### The error occurred while setting parameters
-        //       ### SQL: INSERT INTO TASK(ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED,
-        // PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE,
-        // CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID,
-        // WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER,
-        // POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED,
-        // CALLBACK_INFO, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5,
-        // CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11,  CUSTOM_12,  CUSTOM_13,
-        // CUSTOM_14,  CUSTOM_15,  CUSTOM_16 ) VALUES(?,?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,
-        // ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,
-        // ?,  ?)
-        //       ### Cause: com.ibm.db2.jcc.am.SqlIntegrityConstraintViolationException: DB2 SQL
-        // Error: SQLCODE=-803, SQLSTATE=23505, SQLERRMC=2;TASKANA.TASK, DRIVER=4.22.29
-        // H2:   ### Error updating database.  Cause: org.h2.jdbc.JdbcSQLException: Unique index or
-        // primary key violation: "UC_EXTERNAL_ID_INDEX_2 ON TASKANA.TASK(EXTERNAL_ID) ...
-        String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : null;
-        if (msg != null
-            && (msg.contains("violation")
-                || msg.contains("violates")
-                || msg.contains("violated")
-                || msg.contains("verletzt"))
-            && msg.contains("external_id")) {
-          throw new TaskAlreadyExistException(task.getExternalId());
-        } else {
-          throw e;
-        }
+    task.setWorkbasketSummary(workbasket.asSummary());
+    task.setDomain(workbasket.getDomain());
+
+    if (!taskanaEngine.getEngine().isUserInRole(TaskanaRole.TASK_ROUTER)) {
+      lookups.checkAppendAuthorization(task.getWorkbasketSummary().getId());
+    }
+
+    // we do use the key and not the id to make sure that we use the classification from the right
+    // domain.
+    // otherwise we would have to check the classification and its domain for validity.
+    String classificationKey = task.getClassificationKey();
+    if (classificationKey == null || classificationKey.length() == 0) {
+      throw new InvalidArgumentException("classificationKey of task must not be empty");
+    }
+
+    Classification classification =
+        lookups.getClassification(classificationKey, workbasket.getDomain());
+    task.setClassificationSummary(classification.asSummary());
+    ObjectReferenceImpl.validate(task.getPrimaryObjRef(), "primary ObjectReference", "Task");
+    standardSettingsOnTaskCreation(task, classification);
+    setCallbackStateOnTaskCreation(task);
+    priorityServiceManager.calculatePriorityOfTask(task).ifPresent(task::setPriority);
+    return task;
+  }
+
+  private void insertTask(TaskImpl task)
+      throws TaskAlreadyExistException,
+          AttachmentPersistenceException,
+          ObjectReferencePersistenceException {
+    attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
+    objectReferenceHandler.insertNewSecondaryObjectReferencesOnTaskCreation(task);
+    try {
+      this.taskMapper.insert(task);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Method createTask() created Task '{}'.", task.getId());
+      }
+    } catch (PersistenceException e) {
+      if (isExternalIdViolation(e)) {
+        throw new TaskAlreadyExistException(task.getExternalId());
+      } else {
+        throw e;
       }
-      return task;
-    } finally {
-      taskanaEngine.returnConnection();
     }
   }
 
+  private void createTaskCreatedEvent(TaskImpl task) {
+    if (historyEventManager.isEnabled()) {
+      String details = ObjectAttributeChangeDetector.determineChangesInAttributes(newTask(), task);
+      historyEventManager.createEvent(
+          new TaskCreatedEvent(
+              IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK_HISTORY_EVENT),
+              task,
+              taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
+              details));
+    }
+  }
+
+  private static boolean isExternalIdViolation(PersistenceException e) {
+    // Error messages:
+    // Postgres: ERROR: duplicate key value violates unique constraint "uc_external_id"
+    // DB/2: ### Error updating database.  Cause:
+    // com.ibm.db2.jcc.am.SqlIntegrityConstraintViolationException: DB2 SQL Error: SQLCODE=-803,
+    // SQLSTATE=23505, SQLERRMC=2;TASKANA.TASK, DRIVER=4.22.29
+    //       ### The error may involve pro.taskana.mappings.TaskMapper.insert-Inline
+    //       ### The error occurred while setting parameters
+    //       ### SQL: INSERT INTO TASK(ID, EXTERNAL_ID, CREATED, CLAIMED, COMPLETED, MODIFIED,
+    // PLANNED, DUE, NAME, CREATOR, DESCRIPTION, NOTE, PRIORITY, STATE,
+    // CLASSIFICATION_CATEGORY, CLASSIFICATION_KEY, CLASSIFICATION_ID, WORKBASKET_ID,
+    // WORKBASKET_KEY, DOMAIN, BUSINESS_PROCESS_ID, PARENT_BUSINESS_PROCESS_ID, OWNER,
+    // POR_COMPANY, POR_SYSTEM, POR_INSTANCE, POR_TYPE, POR_VALUE, IS_READ, IS_TRANSFERRED,
+    // CALLBACK_INFO, CUSTOM_ATTRIBUTES, CUSTOM_1, CUSTOM_2, CUSTOM_3, CUSTOM_4, CUSTOM_5,
+    // CUSTOM_6, CUSTOM_7, CUSTOM_8, CUSTOM_9, CUSTOM_10, CUSTOM_11,  CUSTOM_12,  CUSTOM_13,
+    // CUSTOM_14,  CUSTOM_15,  CUSTOM_16 ) VALUES(?,?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,
+    // ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?,
+    // ?,  ?)
+    //       ### Cause: com.ibm.db2.jcc.am.SqlIntegrityConstraintViolationException: DB2 SQL
+    // Error: SQLCODE=-803, SQLSTATE=23505, SQLERRMC=2;TASKANA.TASK, DRIVER=4.22.29
+    // H2:   ### Error updating database.  Cause: org.h2.jdbc.JdbcSQLException: Unique index or
+    // primary key violation: "UC_EXTERNAL_ID_INDEX_2 ON TASKANA.TASK(EXTERNAL_ID) ...
+    String msg = e.getMessage() != null ? e.getMessage().toLowerCase() : null;
+    return msg != null
+        && (msg.contains("violation")
+            || msg.contains("violates")
+            || msg.contains("violated")
+            || msg.contains("verletzt"))
+        && msg.contains("external_id");
+  }
+
   @Override
   public Task getTask(String id) throws NotAuthorizedOnWorkbasketException, TaskNotFoundException {
     try {
@@ -667,6 +921,36 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  @Override
+  public List<Task> selectAndClaim(TaskQuery taskQuery, int count)
+      throws InvalidArgumentException {
+    if (count <= 0) {
+      throw new InvalidArgumentException(
+          String.format("The number of tasks to select and claim must be positive: %s", count));
+    }
+    TaskQueryImpl taskQueryImpl = (TaskQueryImpl) taskQuery;
+    taskQueryImpl.selectAndClaimEquals(true);
+    taskQueryImpl.selectAndClaimLimit(count);
+    try {
+      return taskanaEngine.executeInDatabaseConnection(
+          () -> {
+            List<Task> claimedTasks = new ArrayList<>();
+            for (TaskSummary taskSummary : taskQuery.list()) {
+              try {
+                claimedTasks.add(claim(taskSummary.getId()));
+              } catch (Exception e) {
+                if (LOGGER.isDebugEnabled()) {
+                  LOGGER.debug("Selected task {} could not be claimed.", taskSummary.getId(), e);
+                }
+              }
+            }
+            return claimedTasks;
+          });
+    } catch (Exception e) {
+      return new ArrayList<>();
+    }
+  }
+
   @Override
   public BulkOperationResults<String, TaskanaException> deleteTasks(List<String> taskIds)
       throws InvalidArgumentException, NotAuthorizedException {
@@ -686,29 +970,36 @@ public class TaskServiceImpl implements TaskService {
         return bulkLog;
       }
 
-      List<MinimalTaskSummary> taskSummaries = taskMapper.findExistingTasks(taskIds, null);
+      deleteExistingTasks(bulkLog, taskIds);
+      return bulkLog;
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
 
-      Iterator<String> taskIdIterator = taskIds.iterator();
-      while (taskIdIterator.hasNext()) {
-        removeSingleTaskForTaskDeletionById(bulkLog, taskSummaries, taskIdIterator);
-      }
+  @Override
+  public BulkOperationResults<String, TaskanaException> deleteTasks(TaskQuery query)
+      throws InvalidArgumentException, NotAuthorizedException {
+
+    taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.ADMIN);
 
-      if (!taskIds.isEmpty()) {
-        attachmentMapper.deleteMultipleByTaskIds(taskIds);
-        objectReferenceMapper.deleteMultipleByTaskIds(taskIds);
-        taskMapper.deleteMultiple(taskIds);
+    if (query == null) {
+      throw new InvalidArgumentException("TaskQuery must not be null.");
+    }
+    TaskQueryImpl taskQuery = (TaskQueryImpl) query;
+    BulkOperationResults<String, TaskanaException> bulkLog = new BulkOperationResults<>();
 
-        if (taskanaEngine.getEngine().isHistoryEnabled()
-            && taskanaEngine
-                .getEngine()
-                .getConfiguration()
-                .isDeleteHistoryEventsOnTaskDeletionEnabled()) {
-          historyEventManager.deleteEvents(taskIds);
-        }
-        if (historyEventManager.isEnabled()) {
-          taskIds.forEach(this::createTaskDeletedEvent);
+    try {
+      taskanaEngine.openConnection();
+      List<String> taskIds;
+      String lastTaskId = null;
+      do {
+        taskIds = taskQuery.listIdsAfter(lastTaskId, DELETE_TASKS_CHUNK_SIZE);
+        if (!taskIds.isEmpty()) {
+          lastTaskId = taskIds.get(taskIds.size() - 1);
+          deleteExistingTasks(bulkLog, new ArrayList<>(taskIds));
         }
-      }
+      } while (taskIds.size() == DELETE_TASKS_CHUNK_SIZE);
       return bulkLog;
     } finally {
       taskanaEngine.returnConnection();
@@ -1041,45 +1332,112 @@ public class TaskServiceImpl implements TaskService {
     return terminatedTask;
   }
 
-  public List<String> findTasksIdsAffectedByClassificationChange(String classificationId) {
-    // tasks directly affected
-    List<TaskSummary> tasksAffectedDirectly =
-        createTaskQuery()
-            .classificationIdIn(classificationId)
-            .stateIn(TaskState.READY, TaskState.CLAIMED)
-            .list();
+  /**
+   * Finds the ids of the tasks which were completed before the given instant, in the order of their
+   * ids.
+   *
+   * @param completedBefore the exclusive upper bound of the completed timestamp
+   * @param allCompletedSameParentBusiness if true, a task with a parent business process id is only
+   *     returned if all tasks with the same parent business process id were completed before
+   * @param afterTaskId only ids greater than this id are returned; null to start with the first id
+   * @param limit the maximum number of returned ids
+   * @return the ids of the completed tasks
+   */
+  public List<String> findTaskIdsCompletedBefore(
+      Instant completedBefore,
+      boolean allCompletedSameParentBusiness,
+      String afterTaskId,
+      int limit) {
+    try {
+      taskanaEngine.openConnection();
+      return taskMapper.findTaskIdsCompletedBefore(
+          completedBefore, allCompletedSameParentBusiness, afterTaskId, limit);
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
 
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> affectedPairs =
-        tasksAffectedDirectly.stream()
-            .map(t -> Pair.of(t.getId(), t.getPlanned()))
-            .collect(Collectors.toList());
-    // tasks indirectly affected via attachments
-    List<Pair<String, Instant>> taskIdsAndPlannedFromAttachments =
-        attachmentMapper.findTaskIdsAndPlannedAffectedByClassificationChange(classificationId);
-
-    List<String> taskIdsFromAttachments =
-        taskIdsAndPlannedFromAttachments.stream().map(Pair::getLeft).collect(Collectors.toList());
-    List<Pair<String, Instant>> filteredTaskIdsAndPlannedFromAttachments =
-        taskIdsFromAttachments.isEmpty()
-            ? new ArrayList<>()
-            : taskMapper.filterTaskIdsForReadyAndClaimed(taskIdsFromAttachments);
-    affectedPairs.addAll(filteredTaskIdsAndPlannedFromAttachments);
-    //  sort all affected tasks according to the planned instant
-    List<String> affectedTaskIds =
-        affectedPairs.stream()
-            .sorted(Comparator.comparing(Pair::getRight))
-            .distinct()
-            .map(Pair::getLeft)
-            .collect(Collectors.toList());
+  /**
+   * Finds the ids of the tasks which are not in an end state, in the order of their ids.
+   *
+   * @param afterTaskId only ids greater than this id are returned; null to start with the first id
+   * @param lowerBound the inclusive lower bound of the returned ids; null if it is unbounded
+   * @param upperBound the exclusive upper bound of the returned ids; null if it is unbounded
+   * @param limit the maximum number of returned ids
+   * @return the ids of the tasks which are not in an end state
+   */
+  public List<String> findTaskIdsNotInEndState(
+      String afterTaskId, String lowerBound, String upperBound, int limit) {
+    try {
+      taskanaEngine.openConnection();
+      return taskMapper.findTaskIdsNotInEndState(
+          TaskState.END_STATES, afterTaskId, lowerBound, upperBound, limit);
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
+  /**
+   * Finds the ids of the tasks which have to be refreshed after the priority or service level of a
+   * classification has changed, in the order of their ids.
+   *
+   * <p>If only the priority has changed, tasks without attachments are not included, because they
+   * are refreshed by {@linkplain #refreshPriorityOfTasksWithoutAttachmentsOnClassificationUpdate}.
+   *
+   * @param classificationId the id of the changed classification
+   * @param serviceLevelChanged whether the service level of the classification has changed
+   * @param afterTaskId only ids greater than this id are returned; null to start with the first id
+   * @param limit the maximum number of returned ids
+   * @return the ids of the affected tasks
+   */
+  public List<String> findTaskIdsAffectedByClassificationChange(
+      String classificationId, boolean serviceLevelChanged, String afterTaskId, int limit) {
+    try {
+      taskanaEngine.openConnection();
+      return taskMapper.findTaskIdsAffectedByClassificationChange(
+          classificationId, !serviceLevelChanged, afterTaskId, null, limit);
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
 
+  public void refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+      String classificationId,
+      String afterTaskId,
+      String lastTaskId,
+      boolean serviceLevelChanged,
+      boolean priorityChanged) {
+    List<String> taskIds;
+    try {
+      taskanaEngine.openConnection();
+      taskIds =
+          taskMapper.findTaskIdsAffectedByClassificationChange(
+              classificationId, !serviceLevelChanged, afterTaskId, lastTaskId, null);
+    } finally {
+      taskanaEngine.returnConnection();
+    }
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug(
           "the following tasks are affected by the update of classification {} : {}",
           classificationId,
-          affectedTaskIds);
+          taskIds);
+    }
+    if (!taskIds.isEmpty()) {
+      refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+          taskIds, serviceLevelChanged, priorityChanged);
+    }
+  }
+
+  public int refreshPriorityOfTasksWithoutAttachmentsOnClassificationUpdate(
+      String classificationId) throws ClassificationNotFoundException {
+    try {
+      taskanaEngine.openConnection();
+      ClassificationSummary classification =
+          classificationService.getClassification(classificationId).asSummary();
+      return serviceLevelHandler.refreshPriorityOfTasksWithoutAttachments(classification);
+    } finally {
+      taskanaEngine.returnConnection();
     }
-    return affectedTaskIds;
   }
 
   public void refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
@@ -1725,6 +2083,33 @@ public class TaskServiceImpl implements TaskService {
     }
   }
 
+  private void deleteExistingTasks(
+      BulkOperationResults<String, TaskanaException> bulkLog, List<String> taskIds) {
+    List<MinimalTaskSummary> taskSummaries = taskMapper.findExistingTasks(taskIds, null);
+
+    Iterator<String> taskIdIterator = taskIds.iterator();
+    while (taskIdIterator.hasNext()) {
+      removeSingleTaskForTaskDeletionById(bulkLog, taskSummaries, taskIdIterator);
+    }
+
+    if (!taskIds.isEmpty()) {
+      attachmentMapper.deleteMultipleByTaskIds(taskIds);
+      objectReferenceMapper.deleteMultipleByTaskIds(taskIds);
+      taskMapper.deleteMultiple(taskIds);
+
+      if (taskanaEngine.getEngine().isHistoryEnabled()
+          && taskanaEngine
+              .getEngine()
+              .getConfiguration()
+              .isDeleteHistoryEventsOnTaskDeletionEnabled()) {
+        historyEventManager.deleteEvents(taskIds);
+      }
+      if (historyEventManager.isEnabled()) {
+        taskIds.forEach(this::createTaskDeletedEvent);
+      }
+    }
+  }
+
   private void removeSingleTaskForTaskDeletionById(
       BulkOperationResults<String, TaskanaException> bulkLog,
       List<MinimalTaskSummary> taskSummaries,
@@ -1841,10 +2226,7 @@ public class TaskServiceImpl implements TaskService {
   }
 
   private void standardSettingsOnTaskCreation(TaskImpl task, Classification classification)
-      throws InvalidArgumentException,
-          ClassificationNotFoundException,
-          AttachmentPersistenceException,
-          ObjectReferencePersistenceException {
+      throws InvalidArgumentException, ClassificationNotFoundException {
     final Instant now = Instant.now();
     task.setId(IdGenerator.generateWithPrefix(IdGenerator.ID_PREFIX_TASK));
     if (task.getExternalId() == null) {
@@ -1887,8 +2269,8 @@ public class TaskServiceImpl implements TaskService {
     }
     setDefaultTaskReceivedDateFromAttachments(task);
 
-    attachmentHandler.insertNewAttachmentsOnTaskCreation(task);
-    objectReferenceHandler.insertNewSecondaryObjectReferencesOnTaskCreation(task);
+    attachmentHandler.initNewAttachmentsOnTaskCreation(task);
+    objectReferenceHandler.initNewSecondaryObjectReferencesOnTaskCreation(task);
     // This has to be called after the AttachmentHandler because the AttachmentHandler fetches
     // the Classifications of the Attachments.
     // This is necessary to guarantee that the following calculation is correct.
@@ -2274,4 +2656,58 @@ public class TaskServiceImpl implements TaskService {
         query.idIn(workbasketId).callerHasPermissions(WorkbasketPermission.EDITTASKS).single();
     return workbasket != null;
   }
+
+  /**
+   * Caches the Workbaskets, Classifications and authorization checks which are needed to create
+   * Tasks. All Tasks created with one call of {@linkplain #createTasks(List)} share these lookups.
+   */
+  private class TaskCreationLookups {
+
+    private final Map<String, Workbasket> workbasketsById = new HashMap<>();
+    private final Map<Pair<String, String>, Workbasket> workbasketsByKeyAndDomain =
+        new HashMap<>();
+    private final Set<String> appendableWorkbasketIds = new HashSet<>();
+    private final Map<Pair<String, String>, Classification> classificationsByKeyAndDomain =
+        new HashMap<>();
+
+    private Workbasket getWorkbasket(String workbasketId)
+        throws WorkbasketNotFoundException, NotAuthorizedOnWorkbasketException {
+      Workbasket workbasket = workbasketsById.get(workbasketId);
+      if (workbasket == null) {
+        workbasket = workbasketService.getWorkbasket(workbasketId);
+        workbasketsById.put(workbasketId, workbasket);
+      }
+      return workbasket;
+    }
+
+    private Workbasket getWorkbasket(String workbasketKey, String domain)
+        throws WorkbasketNotFoundException, NotAuthorizedOnWorkbasketException {
+      Pair<String, String> keyAndDomain = Pair.of(workbasketKey, domain);
+      Workbasket workbasket = workbasketsByKeyAndDomain.get(keyAndDomain);
+      if (workbasket == null) {
+        workbasket = workbasketService.getWorkbasket(workbasketKey, domain);
+        workbasketsByKeyAndDomain.put(keyAndDomain, workbasket);
+      }
+      return workbasket;
+    }
+
+    private void checkAppendAuthorization(String workbasketId)
+        throws WorkbasketNotFoundException, NotAuthorizedOnWorkbasketException {
+      if (!appendableWorkbasketIds.contains(workbasketId)) {
+        workbasketService.checkAuthorization(workbasketId, WorkbasketPermission.APPEND);
+        appendableWorkbasketIds.add(workbasketId);
+      }
+    }
+
+    private Classification getClassification(String classificationKey, String domain)
+        throws ClassificationNotFoundException {
+      Pair<String, String> keyAndDomain = Pair.of(classificationKey, domain);
+      Classification classification = classificationsByKeyAndDomain.get(keyAndDomain);
+      if (classification == null) {
+        classification = classificationService.getClassification(classificationKey, domain);
+        classificationsByKeyAndDomain.put(keyAndDomain, classification);
+      }
+      return classification;
+    }
+  }
 }
@@ -1,32 +1,31 @@
 package pro.taskana.task.internal.jobs;
 
-import static java.util.Objects.nonNull;
-import static java.util.function.Predicate.not;
-
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
-import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.BulkOperationResults;
 import pro.taskana.common.api.ScheduledJob;
 import pro.taskana.common.api.TaskanaEngine;
-import pro.taskana.common.api.TimeInterval;
 import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
-import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.LogSanitizer;
-import pro.taskana.task.api.models.TaskSummary;
-
-/** Job to cleanup completed tasks after a period of time. */
+import pro.taskana.task.internal.TaskServiceImpl;
+
+/**
+ * Job to cleanup completed tasks after a period of time.
+ *
+ * <p>Only the ids of the tasks to delete are selected, in chunks of the {@linkplain
+ * TaskanaConfiguration#getJobBatchSize() job batch size} ordered by id. Each chunk is deleted in a
+ * transaction of its own. After each chunk the id of its last task is saved as checkpoint, so that
+ * a job which was interrupted continues with the next chunk.
+ */
 public class TaskCleanupJob extends AbstractTaskanaJob {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskCleanupJob.class);
@@ -51,12 +50,20 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     Instant completedBefore = Instant.now().minus(minimumAge);
     LOGGER.info("Running job to delete all tasks completed before ({})", completedBefore);
     try {
-      List<TaskSummary> tasksCompletedBefore = getTasksCompletedBefore(completedBefore);
-
-      int totalNumberOfTasksDeleted =
-          CollectionUtil.partitionBasedOnSize(tasksCompletedBefore, batchSize).stream()
-              .mapToInt(this::deleteTasksTransactionally)
-              .sum();
+      TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
+      int totalNumberOfTasksDeleted = 0;
+      String lastTaskId = getCheckpoint();
+      List<String> taskIds;
+      do {
+        taskIds =
+            taskService.findTaskIdsCompletedBefore(
+                completedBefore, allCompletedSameParentBusiness, lastTaskId, batchSize);
+        if (!taskIds.isEmpty()) {
+          totalNumberOfTasksDeleted += deleteTasksTransactionally(taskIds);
+          lastTaskId = taskIds.get(taskIds.size() - 1);
+          saveCheckpoint(lastTaskId);
+        }
+      } while (taskIds.size() == batchSize);
 
       LOGGER.info("Job ended successfully. {} tasks deleted.", totalNumberOfTasksDeleted);
     } catch (Exception e) {
@@ -73,60 +80,12 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
     return TaskCleanupJob.class.getName();
   }
 
-  private List<TaskSummary> getTasksCompletedBefore(Instant untilDate) {
-
-    List<TaskSummary> tasksToDelete =
-        taskanaEngineImpl
-            .getTaskService()
-            .createTaskQuery()
-            .completedWithin(new TimeInterval(null, untilDate))
-            .orderByBusinessProcessId(SortDirection.ASCENDING)
-            .list();
-
-    if (allCompletedSameParentBusiness) {
-      Map<String, Long> numberParentTasksShouldHave = new HashMap<>();
-      Map<String, Long> countParentTask = new HashMap<>();
-
-      tasksToDelete.forEach(
-          task -> {
-            if (!numberParentTasksShouldHave.containsKey(task.getParentBusinessProcessId())) {
-              numberParentTasksShouldHave.put(
-                  task.getParentBusinessProcessId(),
-                  taskanaEngineImpl
-                      .getTaskService()
-                      .createTaskQuery()
-                      .parentBusinessProcessIdIn(task.getParentBusinessProcessId())
-                      .count());
-            }
-            countParentTask.merge(task.getParentBusinessProcessId(), 1L, Long::sum);
-          });
-
-      List<String> taskIdsNotAllCompletedSameParentBusiness =
-          numberParentTasksShouldHave.entrySet().stream()
-              .filter(entry -> nonNull(entry.getKey()))
-              .filter(not(entry -> entry.getKey().isEmpty()))
-              .filter(not(entry -> entry.getValue().equals(countParentTask.get(entry.getKey()))))
-              .map(Map.Entry::getKey)
-              .toList();
-
-      tasksToDelete =
-          tasksToDelete.stream()
-              .filter(
-                  taskSummary ->
-                      !taskIdsNotAllCompletedSameParentBusiness.contains(
-                          taskSummary.getParentBusinessProcessId()))
-              .toList();
-    }
-
-    return tasksToDelete;
-  }
-
-  private int deleteTasksTransactionally(List<TaskSummary> tasksToBeDeleted) {
+  private int deleteTasksTransactionally(List<String> tasksIdsToBeDeleted) {
     return TaskanaTransactionProvider.executeInTransactionIfPossible(
         txProvider,
         () -> {
           try {
-            return deleteTasks(tasksToBeDeleted);
+            return deleteTasks(tasksIdsToBeDeleted);
           } catch (Exception ex) {
             LOGGER.warn("Could not delete tasks.", ex);
             return 0;
@@ -134,10 +93,8 @@ public class TaskCleanupJob extends AbstractTaskanaJob {
         });
   }
 
-  private int deleteTasks(List<TaskSummary> tasksToBeDeleted)
+  private int deleteTasks(List<String> tasksIdsToBeDeleted)
       throws InvalidArgumentException, NotAuthorizedException {
-
-    List<String> tasksIdsToBeDeleted = tasksToBeDeleted.stream().map(TaskSummary::getId).toList();
     BulkOperationResults<String, TaskanaException> results =
         taskanaEngineImpl.getTaskService().deleteTasks(tasksIdsToBeDeleted);
     if (LOGGER.isDebugEnabled()) {
@@ -13,13 +13,25 @@ import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
 import pro.taskana.task.internal.TaskServiceImpl;
 
-/** This class executes a job of type {@linkplain TaskRefreshJob}. */
+/**
+ * This class executes a job of type {@linkplain TaskRefreshJob}.
+ *
+ * <p>The refreshed tasks are described by the id of the changed classification and a range of task
+ * ids, so that the arguments of the job don't grow with the number of affected tasks. Jobs which
+ * were scheduled with an explicit list of task ids are still executed.
+ */
 public class TaskRefreshJob extends AbstractTaskanaJob {
 
+  public static final String CLASSIFICATION_ID = "classificationId";
+  public static final String AFTER_TASK_ID = "afterTaskId";
+  public static final String LAST_TASK_ID = "lastTaskId";
   public static final String TASK_IDS = "taskIds";
   public static final String PRIORITY_CHANGED = "priorityChanged";
   public static final String SERVICE_LEVEL_CHANGED = "serviceLevelChanged";
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskRefreshJob.class);
+  private final String classificationId;
+  private final String afterTaskId;
+  private final String lastTaskId;
   private final List<String> affectedTaskIds;
   private final boolean priorityChanged;
   private final boolean serviceLevelChanged;
@@ -28,19 +40,32 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
       TaskanaEngine engine, TaskanaTransactionProvider txProvider, ScheduledJob job) {
     super(engine, txProvider, job, false);
     Map<String, String> args = job.getArguments();
+    classificationId = args.get(CLASSIFICATION_ID);
+    afterTaskId = args.get(AFTER_TASK_ID);
+    lastTaskId = args.get(LAST_TASK_ID);
     String taskIdsString = args.get(TASK_IDS);
-    affectedTaskIds = Arrays.asList(taskIdsString.split(","));
+    affectedTaskIds = taskIdsString == null ? null : Arrays.asList(taskIdsString.split(","));
     priorityChanged = Boolean.parseBoolean(args.get(PRIORITY_CHANGED));
     serviceLevelChanged = Boolean.parseBoolean(args.get(SERVICE_LEVEL_CHANGED));
   }
 
   @Override
   public void execute() throws TaskanaException {
-    LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
     try {
       TaskServiceImpl taskService = (TaskServiceImpl) taskanaEngineImpl.getTaskService();
-      taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
-          affectedTaskIds, serviceLevelChanged, priorityChanged);
+      if (affectedTaskIds != null) {
+        LOGGER.info("Running TaskRefreshJob for {} tasks", affectedTaskIds.size());
+        taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+            affectedTaskIds, serviceLevelChanged, priorityChanged);
+      } else {
+        LOGGER.info(
+            "Running TaskRefreshJob for tasks of classification ({}) with ids after {} up to {}",
+            classificationId,
+            afterTaskId,
+            lastTaskId);
+        taskService.refreshPriorityAndDueDatesOfTasksOnClassificationUpdate(
+            classificationId, afterTaskId, lastTaskId, serviceLevelChanged, priorityChanged);
+      }
       LOGGER.info("TaskRefreshJob ended successfully.");
     } catch (Exception e) {
       throw new SystemException("Error while processing TaskRefreshJob.", e);
@@ -64,6 +89,12 @@ public class TaskRefreshJob extends AbstractTaskanaJob {
         + txProvider
         + ", scheduledJob="
         + scheduledJob
+        + ", classificationId="
+        + classificationId
+        + ", afterTaskId="
+        + afterTaskId
+        + ", lastTaskId="
+        + lastTaskId
         + ", affectedTaskIds="
         + affectedTaskIds
         + ", priorityChanged="
@@ -1,8 +1,16 @@
 package pro.taskana.task.internal.jobs;
 
-import static pro.taskana.common.internal.util.CollectionUtil.partitionBasedOnSize;
-
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import pro.taskana.TaskanaConfiguration;
@@ -11,14 +19,50 @@ import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.api.exceptions.SystemException;
 import pro.taskana.common.internal.jobs.AbstractTaskanaJob;
 import pro.taskana.common.internal.transaction.TaskanaTransactionProvider;
+import pro.taskana.common.internal.util.IdGenerator;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.task.api.models.TaskSummary;
 import pro.taskana.task.internal.jobs.helper.TaskUpdatePriorityWorker;
 
-/** Job to recalculate the priority of each task that is not in an endstate. */
+/**
+ * Job to recalculate the priority of each task that is not in an endstate.
+ *
+ * <p>The tasks are processed in chunks of {@linkplain #getBatchSize() batch size} ordered by their
+ * id. After each chunk the id of the last processed task is saved as checkpoint, so that a job
+ * which was interrupted continues with the next chunk instead of starting all over again.
+ *
+ * <p>If {@linkplain TaskanaConfiguration#getTaskUpdatePriorityJobPoolSize() a pool size} greater
+ * than one is configured, the recalculated priorities of the chunks are written concurrently. Each
+ * thread updates the priorities on a connection of its own. The PriorityServiceProviders are
+ * always called on the thread of the job, so they run with the subject of the job and don't have
+ * to be thread-safe.
+ *
+ * <p>If {@linkplain TaskanaConfiguration#getTaskUpdatePriorityJobPartitions() partitions} are
+ * configured, one job per partition is scheduled. Each partition covers a range of the randomly
+ * generated task ids, so that the partitions can be processed on different nodes at the same time.
+ */
 public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
 
+  public static final String PARTITION = "partition";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(TaskUpdatePriorityJob.class);
+  private static final String PARTITION_SEPARATOR = "/";
+  private static final String TASK_ID_PREFIX = IdGenerator.ID_PREFIX_TASK + ":";
+  private static final int PARTITION_KEY_SPACE = 256;
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+  // shared by all jobs, since a new job instance is created for every execution
+  private static final ExecutorService PRIORITY_UPDATE_EXECUTOR =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            Thread thread =
+                new Thread(runnable, "taskana-priority-worker-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          });
 
   private final int batchSize;
+  private final int poolSize;
+  private final int partitions;
 
   public TaskUpdatePriorityJob(TaskanaEngine taskanaEngine) {
     this(taskanaEngine, null, null);
@@ -30,6 +74,8 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
       ScheduledJob scheduledJob) {
     super(taskanaEngine, txProvider, scheduledJob, true);
     batchSize = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobBatchSize();
+    poolSize = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobPoolSize();
+    partitions = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobPartitions();
     runEvery = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobRunEvery();
     firstRun = taskanaEngine.getConfiguration().getTaskUpdatePriorityJobFirstRun();
   }
@@ -37,13 +83,46 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
   @Override
   public void execute() {
     TaskUpdatePriorityWorker worker = new TaskUpdatePriorityWorker(taskanaEngineImpl);
-    LOGGER.info("Running job to calculate all non finished task priorities");
+    Pair<Integer, Integer> partition = getPartition();
+    String lowerBound = getPartitionBound(partition.getLeft(), partition.getRight());
+    String upperBound = getPartitionBound(partition.getLeft() + 1, partition.getRight());
+    LOGGER.info(
+        "Running job to calculate all non finished task priorities of partition {}/{}",
+        partition.getLeft(),
+        partition.getRight());
+    Deque<Pair<String, Future<List<String>>>> pendingChunks = new ArrayDeque<>();
     try {
-      partitionBasedOnSize(worker.getAllRelevantTaskIds(), getBatchSize())
-          .forEach(worker::executeBatch);
+      String lastTaskId = getCheckpoint();
+      List<String> taskIds;
+      do {
+        taskIds = worker.getRelevantTaskIdsAfter(lastTaskId, lowerBound, upperBound, batchSize);
+        if (!taskIds.isEmpty()) {
+          lastTaskId = taskIds.get(taskIds.size() - 1);
+          if (poolSize <= 1) {
+            worker.executeBatch(taskIds);
+            saveCheckpoint(lastTaskId);
+          } else {
+            List<TaskSummary> taskSummaries = worker.getTaskSummariesByIds(taskIds);
+            List<OptionalInt> calculatedPriorities = worker.getCalculatedPriorities(taskSummaries);
+            pendingChunks.add(
+                Pair.of(
+                    lastTaskId,
+                    PRIORITY_UPDATE_EXECUTOR.submit(
+                        () -> worker.updatePriorities(taskSummaries, calculatedPriorities))));
+            awaitPendingChunks(pendingChunks, poolSize);
+          }
+        }
+      } while (taskIds.size() == batchSize);
+      awaitPendingChunks(pendingChunks, 0);
       LOGGER.info("Job to update priority of tasks has finished.");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SystemException("TaskUpdatePriorityJob was interrupted.", e);
     } catch (Exception e) {
       throw new SystemException("Error while processing TaskUpdatePriorityJob.", e);
+    } finally {
+      // only chunks which haven't been awaited because of an error are still pending
+      pendingChunks.forEach(chunk -> chunk.getRight().cancel(true));
     }
   }
 
@@ -55,11 +134,38 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
     return batchSize;
   }
 
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public int getPartitions() {
+    return partitions;
+  }
+
   @Override
   protected String getType() {
     return TaskUpdatePriorityJob.class.getName();
   }
 
+  /**
+   * Schedules the next execution of this job. A job of a partition only schedules its own
+   * partition again. Otherwise, one job per configured partition is scheduled.
+   */
+  @Override
+  protected void scheduleNextJob() {
+    if (scheduledJob != null
+        && scheduledJob.getArguments() != null
+        && scheduledJob.getArguments().containsKey(PARTITION)) {
+      scheduleNextJob(scheduledJob.getArguments().get(PARTITION));
+    } else if (partitions == 1) {
+      super.scheduleNextJob();
+    } else {
+      for (int i = 0; i < partitions; i++) {
+        scheduleNextJob(i + PARTITION_SEPARATOR + partitions);
+      }
+    }
+  }
+
   @Override
   public String toString() {
     return "TaskUpdatePriorityJob [firstRun="
@@ -74,6 +180,61 @@ public class TaskUpdatePriorityJob extends AbstractTaskanaJob {
         + scheduledJob
         + ", batchSize="
         + batchSize
+        + ", poolSize="
+        + poolSize
+        + ", partitions="
+        + partitions
         + "]";
   }
+
+  private void scheduleNextJob(String partition) {
+    ScheduledJob job = new ScheduledJob();
+    job.setType(getType());
+    job.setDue(getNextDueForJob());
+    job.setArguments(Map.of(PARTITION, partition));
+    taskanaEngineImpl.getJobService().createJob(job);
+  }
+
+  /**
+   * Returns the partition of this job as pair of its index and the total number of partitions.
+   * Jobs without partition cover all tasks.
+   */
+  private Pair<Integer, Integer> getPartition() {
+    if (scheduledJob == null
+        || scheduledJob.getArguments() == null
+        || !scheduledJob.getArguments().containsKey(PARTITION)) {
+      return Pair.of(0, 1);
+    }
+    String[] partition = scheduledJob.getArguments().get(PARTITION).split(PARTITION_SEPARATOR);
+    return Pair.of(Integer.parseInt(partition[0]), Integer.parseInt(partition[1]));
+  }
+
+  /**
+   * Returns the task id at which the partition with the given index starts. Task ids consist of a
+   * prefix and a random UUID, therefore the first two hex digits of the UUID are evenly
+   * distributed over the partitions.
+   *
+   * @return the bound or null if the first partition starts or the last partition ends
+   */
+  private static String getPartitionBound(int index, int partitions) {
+    if (index <= 0 || index >= partitions) {
+      return null;
+    }
+    return TASK_ID_PREFIX + String.format("%02x", index * PARTITION_KEY_SPACE / partitions);
+  }
+
+  /**
+   * Waits until at most the given number of chunks is pending. The checkpoint is only moved
+   * forward to chunks whose predecessors have been finished as well.
+   */
+  private void awaitPendingChunks(
+      Deque<Pair<String, Future<List<String>>>> pendingChunks, int maxPendingChunks)
+      throws InterruptedException, ExecutionException {
+    while (!pendingChunks.isEmpty()
+        && (pendingChunks.size() > maxPendingChunks || pendingChunks.peek().getRight().isDone())) {
+      Pair<String, Future<List<String>>> chunk = pendingChunks.poll();
+      chunk.getRight().get();
+      saveCheckpoint(chunk.getLeft());
+    }
+  }
 }
@@ -6,13 +6,11 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.OptionalInt;
 import java.util.function.IntPredicate;
-import pro.taskana.common.api.BaseQuery.SortDirection;
 import pro.taskana.common.api.TaskanaEngine;
 import pro.taskana.common.internal.TaskanaEngineImpl;
 import pro.taskana.spi.priority.internal.PriorityServiceManager;
-import pro.taskana.task.api.TaskQueryColumnName;
-import pro.taskana.task.api.TaskState;
 import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.internal.TaskServiceImpl;
 
 public class TaskUpdatePriorityWorker {
 
@@ -27,15 +25,42 @@ public class TaskUpdatePriorityWorker {
   }
 
   public List<String> executeBatch(List<String> taskIds) {
+    return updatePriorities(getTaskSummariesByIds(taskIds));
+  }
+
+  /**
+   * Recalculates the priority of the given tasks and updates all changed priorities on a
+   * connection of its own.
+   *
+   * @param taskSummaries the tasks whose priority should be recalculated
+   * @return list of task ids whose priority has been updated.
+   */
+  public List<String> updatePriorities(List<TaskSummary> taskSummaries) {
+    // the providers are called before the connection is opened, since they may take a while
+    return updatePriorities(taskSummaries, getCalculatedPriorities(taskSummaries));
+  }
+
+  /**
+   * Updates the already calculated priorities of the given tasks on a connection of its own. Since
+   * neither the {@linkplain TaskanaEngine} nor a PriorityServiceProvider is used, this can be
+   * called concurrently.
+   *
+   * @param taskSummaries the tasks whose priority has been recalculated
+   * @param calculatedPriorities the priorities in the order of the given tasks as returned by
+   *     {@linkplain #getCalculatedPriorities(List)}
+   * @return list of task ids whose priority has been updated.
+   */
+  public List<String> updatePriorities(
+      List<TaskSummary> taskSummaries, List<OptionalInt> calculatedPriorities) {
     List<String> updatedTaskIds = new ArrayList<>();
     sqlConnectionRunner.runWithConnection(
         connection -> {
           TaskUpdatePriorityBatchStatement taskUpdateBatch =
               new TaskUpdatePriorityBatchStatement(connection);
 
-          List<TaskSummary> list = getTaskSummariesByIds(taskIds);
-          for (TaskSummary taskSummary : list) {
-            OptionalInt calculatedPriority = getCalculatedPriority(taskSummary);
+          for (int i = 0; i < taskSummaries.size(); i++) {
+            TaskSummary taskSummary = taskSummaries.get(i);
+            OptionalInt calculatedPriority = calculatedPriorities.get(i);
             if (calculatedPriority.isPresent()) {
               final String taskId = taskSummary.getId();
               updatedTaskIds.add(taskId);
@@ -54,16 +79,32 @@ public class TaskUpdatePriorityWorker {
   }
 
   /**
-   * This will return all relevant task ids. This may result in a LOT! of ids
+   * This will return the next chunk of relevant task ids in ascending order. Walking through all
+   * relevant tasks chunk by chunk keeps the memory consumption independent of the number of tasks.
    *
-   * @return list of task ids.
+   * @param lastTaskId the last task id of the previous chunk or null to start with the first task
+   * @param limit the maximum number of task ids to return
+   * @return list of task ids which are greater than the given task id.
    */
-  public List<String> getAllRelevantTaskIds() {
-    return taskanaEngine
-        .getTaskService()
-        .createTaskQuery()
-        .stateNotIn(TaskState.END_STATES)
-        .listValues(TaskQueryColumnName.ID, SortDirection.ASCENDING);
+  public List<String> getRelevantTaskIdsAfter(String lastTaskId, int limit) {
+    return getRelevantTaskIdsAfter(lastTaskId, null, null, limit);
+  }
+
+  /**
+   * This will return the next chunk of relevant task ids within the given range in ascending
+   * order.
+   *
+   * @param lastTaskId the last task id of the previous chunk or null to start with the first task
+   *     of the range
+   * @param lowerBound the inclusive lower bound of the range or null if it is unbounded
+   * @param upperBound the exclusive upper bound of the range or null if it is unbounded
+   * @param limit the maximum number of task ids to return
+   * @return list of task ids within the range which are greater than the given task id.
+   */
+  public List<String> getRelevantTaskIdsAfter(
+      String lastTaskId, String lowerBound, String upperBound, int limit) {
+    return ((TaskServiceImpl) taskanaEngine.getTaskService())
+        .findTaskIdsNotInEndState(lastTaskId, lowerBound, upperBound, limit);
   }
 
   public List<TaskSummary> getTaskSummariesByIds(List<String> taskIds) {
@@ -83,6 +124,29 @@ public class TaskUpdatePriorityWorker {
     return OptionalInt.empty();
   }
 
+  /**
+   * Calculates the priorities of the given tasks with one call of each PriorityServiceProvider.
+   *
+   * @param taskSummaries the tasks whose priority should be calculated
+   * @return the calculated priorities in the order of the given tasks. Empty for each task whose
+   *     priority can't be determined or hasn't changed.
+   */
+  public List<OptionalInt> getCalculatedPriorities(List<TaskSummary> taskSummaries) {
+    List<OptionalInt> computedPriorities =
+        priorityServiceManager.calculatePrioritiesOfTasks(taskSummaries);
+    List<OptionalInt> changedPriorities = new ArrayList<>(taskSummaries.size());
+    for (int i = 0; i < taskSummaries.size(); i++) {
+      OptionalInt computedPriority = computedPriorities.get(i);
+      if (computedPriority.isPresent()
+          && hasDifferentPriority(taskSummaries.get(i)).test(computedPriority.getAsInt())) {
+        changedPriorities.add(computedPriority);
+      } else {
+        changedPriorities.add(OptionalInt.empty());
+      }
+    }
+    return changedPriorities;
+  }
+
   public static IntPredicate hasDifferentPriority(TaskSummary taskSummary) {
     return prio -> nonNull(taskSummary) && prio != taskSummary.getPriority();
   }
@@ -31,6 +31,12 @@ public interface DistributionTargetMapper {
   int getNumberOfDistributionTargets(
       @Param("sourceId") String sourceId, @Param("targetId") String targetId);
 
+  @Select(
+      "<script>SELECT count(*) FROM DISTRIBUTION_TARGETS "
+          + "<if test=\"_databaseId == 'db2'\">with UR </if> "
+          + "</script>")
+  long countDistributionTargets();
+
   @Delete(
       "<script>DELETE FROM DISTRIBUTION_TARGETS WHERE SOURCE_ID = #{sourceId} AND TARGET_ID IN (<foreach item='target' collection='targetId' separator=',' > #{target} </foreach>)</script>")
   void deleteMultipleBySourceId(
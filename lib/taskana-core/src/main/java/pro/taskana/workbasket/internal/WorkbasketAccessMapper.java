@@ -1,5 +1,6 @@
 package pro.taskana.workbasket.internal;
 
+import java.util.Collection;
 import java.util.List;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
@@ -141,10 +142,8 @@ public interface WorkbasketAccessMapper {
 
   @SelectProvider(
       type = WorkbasketAccessSqlProvider.class,
-      method = "findByWorkbasketKeyDomainAndAccessId")
+      method = "findPermissionsByWorkbasketIdsAndAccessIds")
   @Result(property = "workbasketId", column = "WORKBASKET_ID")
-  @Result(property = "accessId", column = "ACCESS_ID")
-  @Result(property = "accessName", column = "ACCESS_NAME")
   @Result(property = "permRead", column = "PERM_READ")
   @Result(property = "permReadTasks", column = "PERM_READTASKS")
   @Result(property = "permEditTasks", column = "PERM_EDITTASKS")
@@ -164,8 +163,7 @@ public interface WorkbasketAccessMapper {
   @Result(property = "permCustom10", column = "PERM_CUSTOM_10")
   @Result(property = "permCustom11", column = "PERM_CUSTOM_11")
   @Result(property = "permCustom12", column = "PERM_CUSTOM_12")
-  WorkbasketAccessItemImpl findByWorkbasketKeyDomainAndAccessId(
-      @Param("workbasketKey") String workbasketKey,
-      @Param("domain") String domain,
+  List<WorkbasketAccessItemImpl> findPermissionsByWorkbasketIdsAndAccessIds(
+      @Param("workbasketIds") Collection<String> workbasketIds,
       @Param("accessIds") List<String> accessIds);
 }
@@ -3,6 +3,7 @@ package pro.taskana.workbasket.internal;
 import static pro.taskana.common.internal.util.SqlProviderUtil.CLOSING_SCRIPT_TAG;
 import static pro.taskana.common.internal.util.SqlProviderUtil.DB2_WITH_UR;
 import static pro.taskana.common.internal.util.SqlProviderUtil.OPENING_SCRIPT_TAG;
+import static pro.taskana.common.internal.util.SqlProviderUtil.bucketedInList;
 
 import java.util.Arrays;
 import java.util.List;
@@ -116,32 +117,34 @@ public class WorkbasketAccessSqlProvider {
         + "</choose>"
         + "FROM WORKBASKET_ACCESS_LIST "
         + "WHERE WORKBASKET_ID = #{workbasketId} AND ACCESS_ID IN"
-        + "(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>) "
+        + "(" + bucketedInList("accessIds") + ") "
         + DB2_WITH_UR
         + CLOSING_SCRIPT_TAG;
   }
 
-  public static String findByWorkbasketKeyDomainAndAccessId() {
+  public static String findPermissionsByWorkbasketIdsAndAccessIds() {
     return OPENING_SCRIPT_TAG
+        + "SELECT w.ID AS WORKBASKET_ID, "
         + "<choose>"
         + "<when test=\"_databaseId == 'db2' || _databaseId == 'oracle'\">"
-        + "SELECT "
-        + getMaximumPermissionStatement(false)
+        + getMaximumPermissionStatement("a.", false)
         + "</when>"
         + "<otherwise>"
-        + "SELECT "
-        + getMaximumPermissionStatement(true)
+        + getMaximumPermissionStatement("a.", true)
         + "</otherwise>"
         + "</choose>"
-        + "FROM WORKBASKET_ACCESS_LIST "
-        + "WHERE WORKBASKET_ID in ("
-        + "SELECT ID FROM WORKBASKET "
-        + "WHERE UPPER(KEY) = UPPER(#{workbasketKey}) "
-        + "AND UPPER(DOMAIN) = UPPER(#{domain}) "
-        + ")"
-        + "AND ACCESS_ID IN"
-        + "(<foreach item='item' collection='accessIds' separator=',' >#{item}</foreach>)"
-        + "<if test=\"_databaseId == 'db2'\">with UR</if>"
+        + "FROM WORKBASKET w "
+        + "LEFT JOIN WORKBASKET_ACCESS_LIST a ON a.WORKBASKET_ID = w.ID AND "
+        + "<choose>"
+        + "<when test='accessIds.isEmpty()'>1 = 0 </when>"
+        + "<otherwise>a.ACCESS_ID IN "
+        + "(" + bucketedInList("accessIds") + ") "
+        + "</otherwise>"
+        + "</choose>"
+        + "WHERE w.ID IN "
+        + "(<foreach item='item' collection='workbasketIds' separator=',' >#{item}</foreach>) "
+        + "GROUP BY w.ID "
+        + DB2_WITH_UR
         + CLOSING_SCRIPT_TAG;
   }
 
@@ -158,10 +161,15 @@ public class WorkbasketAccessSqlProvider {
   }
 
   private static String getMaximumPermissionStatement(boolean isNotDb2AndNotOracle) {
+    return getMaximumPermissionStatement("", isNotDb2AndNotOracle);
+  }
+
+  private static String getMaximumPermissionStatement(
+      String columnPrefix, boolean isNotDb2AndNotOracle) {
     return PERMISSIONS.stream()
         .map(
             perm -> {
-              String temp = "MAX(" + perm.getLeft();
+              String temp = "MAX(" + columnPrefix + perm.getLeft();
               if (isNotDb2AndNotOracle) {
                 temp += "::int";
               }
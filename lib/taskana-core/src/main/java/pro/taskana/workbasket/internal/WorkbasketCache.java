@@ -0,0 +1,131 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import pro.taskana.common.internal.AbstractVersionedCache;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.workbasket.internal.models.WorkbasketImpl;
+import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
+
+/**
+ * Cache for the workbaskets which are read by their id or by their key and domain, and for the
+ * distribution targets of workbaskets. The permissions of the current user are not part of this
+ * cache. They are still checked on every access.
+ *
+ * <p>The cache is invalidated by every change of workbaskets or distribution targets of the local
+ * TASKANA engine. Changes of other TASKANA engines are detected by comparing the change version of
+ * the WORKBASKET and DISTRIBUTION_TARGETS tables.
+ */
+public class WorkbasketCache extends AbstractVersionedCache {
+
+  private final Region<String, WorkbasketImpl> workbasketsById = createRegion();
+  private final Region<Pair<String, String>, WorkbasketImpl> workbasketsByKeyAndDomain =
+      createRegion();
+  private final Region<String, List<WorkbasketSummaryImpl>> distributionTargetsById =
+      createRegion();
+
+  public WorkbasketCache(Duration expiration) {
+    super(expiration);
+  }
+
+  /**
+   * Returns the cached workbasket with the given id.
+   *
+   * @param id the id of the requested workbasket
+   * @return a copy of the cached workbasket; null if there is no valid entry
+   */
+  public WorkbasketImpl get(String id) {
+    return copy(lookUp(workbasketsById, id));
+  }
+
+  /**
+   * Returns the cached workbasket with the given key and domain.
+   *
+   * @param key the key of the requested workbasket
+   * @param domain the domain of the requested workbasket
+   * @return a copy of the cached workbasket; null if there is no valid entry
+   */
+  public WorkbasketImpl get(String key, String domain) {
+    return copy(lookUp(workbasketsByKeyAndDomain, Pair.of(key, domain)));
+  }
+
+  /**
+   * Returns the cached distribution targets of the workbasket with the given id.
+   *
+   * @param sourceWorkbasketId the id of the source workbasket
+   * @return copies of the cached distribution targets; null if there is no valid entry
+   */
+  public List<WorkbasketSummaryImpl> getDistributionTargets(String sourceWorkbasketId) {
+    return copy(lookUp(distributionTargetsById, sourceWorkbasketId));
+  }
+
+  /**
+   * Caches a workbasket which has been read from the database by its id.
+   *
+   * @param readInGeneration the generation of the cache before the workbasket has been read
+   * @param workbasket the workbasket which has been read
+   */
+  public void put(long readInGeneration, WorkbasketImpl workbasket) {
+    put(readInGeneration, workbasket.getKey(), workbasket.getDomain(), workbasket);
+  }
+
+  /**
+   * Caches a workbasket which has been read from the database by a key and a domain.
+   *
+   * @param readInGeneration the generation of the cache before the workbasket has been read
+   * @param key the requested key; may differ in case from the key of the workbasket
+   * @param domain the requested domain; may differ in case from the domain of the workbasket
+   * @param workbasket the workbasket which has been read
+   */
+  public void put(long readInGeneration, String key, String domain, WorkbasketImpl workbasket) {
+    if (!isEnabled()) {
+      return;
+    }
+    WorkbasketImpl copy = copy(workbasket);
+    store(readInGeneration, workbasketsById, workbasket.getId(), copy);
+    store(readInGeneration, workbasketsByKeyAndDomain, Pair.of(key, domain), copy);
+  }
+
+  /**
+   * Caches the distribution targets of a workbasket which have been read from the database.
+   *
+   * @param readInGeneration the generation of the cache before the targets have been read
+   * @param sourceWorkbasketId the id of the source workbasket
+   * @param distributionTargets the distribution targets which have been read
+   */
+  public void putDistributionTargets(
+      long readInGeneration,
+      String sourceWorkbasketId,
+      List<WorkbasketSummaryImpl> distributionTargets) {
+    if (!isEnabled()) {
+      return;
+    }
+    store(readInGeneration, distributionTargetsById, sourceWorkbasketId, copy(distributionTargets));
+  }
+
+  private static WorkbasketImpl copy(WorkbasketImpl workbasket) {
+    if (workbasket == null) {
+      return null;
+    }
+    // the cached workbaskets must not be modified by the callers
+    WorkbasketImpl copy = workbasket.copy(workbasket.getKey());
+    copy.setId(workbasket.getId());
+    return copy;
+  }
+
+  private static List<WorkbasketSummaryImpl> copy(List<WorkbasketSummaryImpl> workbaskets) {
+    if (workbaskets == null) {
+      return null;
+    }
+    return workbaskets.stream()
+        .map(
+            workbasket -> {
+              WorkbasketSummaryImpl copy = workbasket.copy();
+              copy.setId(workbasket.getId());
+              copy.setKey(workbasket.getKey());
+              return copy;
+            })
+        .collect(Collectors.toList());
+  }
+}
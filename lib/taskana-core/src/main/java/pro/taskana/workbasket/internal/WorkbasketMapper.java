@@ -1,5 +1,6 @@
 package pro.taskana.workbasket.internal;
 
+import java.time.Instant;
 import java.util.List;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
@@ -131,6 +132,12 @@ public interface WorkbasketMapper {
   @Result(property = "custom8", column = "CUSTOM_8")
   List<WorkbasketSummaryImpl> findSummaryById(@Param("key") String id);
 
+  @SelectProvider(type = WorkbasketSqlProvider.class, method = "countWorkbaskets")
+  long countWorkbaskets();
+
+  @SelectProvider(type = WorkbasketSqlProvider.class, method = "findLatestModification")
+  Instant findLatestModification();
+
   @SelectProvider(type = WorkbasketSqlProvider.class, method = "findAll")
   @Result(property = "id", column = "ID")
   @Result(property = "key", column = "KEY")
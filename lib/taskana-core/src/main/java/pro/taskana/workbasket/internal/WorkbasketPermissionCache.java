@@ -0,0 +1,134 @@
+package pro.taskana.workbasket.internal;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import pro.taskana.common.internal.util.Pair;
+import pro.taskana.workbasket.api.WorkbasketPermission;
+
+/**
+ * Short-lived cache for the permissions which a set of access ids has on workbaskets.
+ *
+ * <p>An entry is keyed by the access ids and the id of the workbasket. An empty permission entry
+ * marks a workbasket which does not exist. Since the cache is only invalidated by changes of the
+ * local TASKANA engine, the entries expire after the configured duration. A duration of zero
+ * disables the cache.
+ *
+ * <p>Permissions which have been read while the cache has been invalidated are not cached. Since
+ * other transactions can still read the old access items until a change is committed, the cache
+ * has to be invalidated both when the access items are changed and after the change has been
+ * committed.
+ */
+public class WorkbasketPermissionCache {
+
+  private static final int MAX_ENTRIES = 10_000;
+
+  private final Duration expiration;
+  private final Map<Pair<Set<String>, String>, CachedPermissions> entries =
+      new ConcurrentHashMap<>();
+  private final AtomicLong generation = new AtomicLong();
+
+  public WorkbasketPermissionCache(Duration expiration) {
+    this.expiration = expiration;
+  }
+
+  public boolean isEnabled() {
+    return !expiration.isZero();
+  }
+
+  /**
+   * Returns the cached permissions of the access ids on the given workbaskets. Workbaskets without
+   * a valid entry are not contained in the result.
+   *
+   * @param accessIds the access ids of the current user
+   * @param workbasketIds the ids of the requested workbaskets
+   * @return the cached permissions by workbasket id; empty if the workbasket does not exist
+   */
+  public Map<String, Optional<Set<WorkbasketPermission>>> get(
+      List<String> accessIds, Collection<String> workbasketIds) {
+    Map<String, Optional<Set<WorkbasketPermission>>> result = new HashMap<>();
+    if (!isEnabled()) {
+      return result;
+    }
+    Set<String> accessIdSet = Set.copyOf(accessIds);
+    Instant now = Instant.now();
+    for (String workbasketId : workbasketIds) {
+      CachedPermissions cachedPermissions = entries.get(Pair.of(accessIdSet, workbasketId));
+      if (cachedPermissions != null && cachedPermissions.expires.isAfter(now)) {
+        result.put(workbasketId, cachedPermissions.permissions);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the current generation of the cache. It has to be retrieved before permissions are
+   * read from the database, so that they are not cached if the cache has been invalidated in the
+   * meantime.
+   *
+   * @return the current generation
+   */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * Caches the permissions of the access ids on a workbasket which have been read from the
+   * database.
+   *
+   * @param readInGeneration the generation of the cache before the permissions have been read
+   * @param accessIds the access ids of the current user
+   * @param workbasketId the id of the workbasket
+   * @param permissions the permissions which have been read; empty if the workbasket does not exist
+   */
+  public void put(
+      long readInGeneration,
+      List<String> accessIds,
+      String workbasketId,
+      Optional<Set<WorkbasketPermission>> permissions) {
+    if (!isEnabled() || readInGeneration != generation.get()) {
+      return;
+    }
+    Instant now = Instant.now();
+    if (entries.size() >= MAX_ENTRIES) {
+      entries.values().removeIf(cachedPermissions -> !cachedPermissions.expires.isAfter(now));
+      if (entries.size() >= MAX_ENTRIES) {
+        entries.clear();
+      }
+    }
+    Pair<Set<String>, String> key = Pair.of(Set.copyOf(accessIds), workbasketId);
+    CachedPermissions cachedPermissions = new CachedPermissions(permissions, now.plus(expiration));
+    entries.put(key, cachedPermissions);
+    // the cache may have been invalidated between the check above and the put
+    if (readInGeneration != generation.get()) {
+      entries.remove(key, cachedPermissions);
+    }
+  }
+
+  /**
+   * Removes all entries. Has to be called whenever workbaskets or access items change and again
+   * after the change has been committed.
+   */
+  public void invalidate() {
+    generation.incrementAndGet();
+    entries.clear();
+  }
+
+  private static class CachedPermissions {
+
+    private final Optional<Set<WorkbasketPermission>> permissions;
+    private final Instant expires;
+
+    private CachedPermissions(Optional<Set<WorkbasketPermission>> permissions, Instant expires) {
+      this.permissions = permissions;
+      this.expires = expires;
+    }
+  }
+}
@@ -5,11 +5,15 @@ import static pro.taskana.common.api.SharedConstants.MASTER_DOMAIN;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.slf4j.Logger;
@@ -23,6 +27,7 @@ import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.exceptions.NotAuthorizedException;
 import pro.taskana.common.api.exceptions.TaskanaException;
 import pro.taskana.common.internal.InternalTaskanaEngine;
+import pro.taskana.common.internal.util.CollectionUtil;
 import pro.taskana.common.internal.util.IdGenerator;
 import pro.taskana.common.internal.util.LogSanitizer;
 import pro.taskana.common.internal.util.ObjectAttributeChangeDetector;
@@ -60,24 +65,31 @@ import pro.taskana.workbasket.internal.models.WorkbasketSummaryImpl;
 public class WorkbasketServiceImpl implements WorkbasketService {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(WorkbasketServiceImpl.class);
+  private static final int MAX_WORKBASKET_IDS_PER_QUERY = 1000;
 
   private final InternalTaskanaEngine taskanaEngine;
   private final WorkbasketMapper workbasketMapper;
   private final DistributionTargetMapper distributionTargetMapper;
   private final WorkbasketAccessMapper workbasketAccessMapper;
   private final HistoryEventManager historyEventManager;
+  private final WorkbasketPermissionCache permissionCache;
+  private final WorkbasketCache workbasketCache;
 
   public WorkbasketServiceImpl(
       InternalTaskanaEngine taskanaEngine,
       HistoryEventManager historyEventManager,
       WorkbasketMapper workbasketMapper,
       DistributionTargetMapper distributionTargetMapper,
-      WorkbasketAccessMapper workbasketAccessMapper) {
+      WorkbasketAccessMapper workbasketAccessMapper,
+      WorkbasketPermissionCache permissionCache,
+      WorkbasketCache workbasketCache) {
     this.taskanaEngine = taskanaEngine;
     this.workbasketMapper = workbasketMapper;
     this.distributionTargetMapper = distributionTargetMapper;
     this.workbasketAccessMapper = workbasketAccessMapper;
     this.historyEventManager = historyEventManager;
+    this.permissionCache = permissionCache;
+    this.workbasketCache = workbasketCache;
   }
 
   @Override
@@ -86,7 +98,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     Workbasket result;
     try {
       taskanaEngine.openConnection();
-      result = workbasketMapper.findById(workbasketId);
+      result = findWorkbasketById(workbasketId);
 
       if (result == null) {
         throw new WorkbasketNotFoundException(workbasketId);
@@ -122,7 +134,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
     Workbasket workbasket =
         taskanaEngine.executeInDatabaseConnection(
-            () -> workbasketMapper.findByKeyAndDomain(workbasketKey, domain));
+            () -> findWorkbasketByKeyAndDomain(workbasketKey, domain));
     if (workbasket == null) {
       throw new WorkbasketNotFoundException(workbasketKey, domain);
     }
@@ -157,6 +169,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       validateWorkbasket(workbasket);
 
       workbasketMapper.insert(workbasket);
+      permissionCache.invalidate();
+      taskanaEngine.invalidateCache(workbasketCache);
 
       if (historyEventManager.isEnabled()) {
         String details =
@@ -175,7 +189,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
       return workbasket;
     } finally {
-      taskanaEngine.returnConnection();
+      returnConnectionAndInvalidatePermissionCache();
     }
   }
 
@@ -194,13 +208,19 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
+      // the workbasket is read from the database, since it is needed for the concurrency check
       Workbasket oldWorkbasket;
 
       if (workbasketImplToUpdate.getId() == null || workbasketImplToUpdate.getId().isEmpty()) {
         oldWorkbasket =
-            getWorkbasket(workbasketImplToUpdate.getKey(), workbasketImplToUpdate.getDomain());
+            workbasketMapper.findByKeyAndDomain(
+                workbasketImplToUpdate.getKey(), workbasketImplToUpdate.getDomain());
+        if (oldWorkbasket == null) {
+          throw new WorkbasketNotFoundException(
+              workbasketImplToUpdate.getKey(), workbasketImplToUpdate.getDomain());
+        }
       } else {
-        oldWorkbasket = getWorkbasket(workbasketImplToUpdate.getId());
+        oldWorkbasket = getWorkbasketFromDatabase(workbasketImplToUpdate.getId());
         // changing key or domain is not allowed
         if (!oldWorkbasket.getKey().equals(workbasketToUpdate.getKey())
             || !oldWorkbasket.getDomain().equals(workbasketToUpdate.getDomain())) {
@@ -217,6 +237,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       } else {
         workbasketMapper.update(workbasketImplToUpdate);
       }
+      taskanaEngine.invalidateCache(workbasketCache);
 
       if (historyEventManager.isEnabled()) {
         String details =
@@ -283,6 +304,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       accessItem.setWorkbasketKey(wb.getKey());
       try {
         workbasketAccessMapper.insert(accessItem);
+        permissionCache.invalidate();
 
         if (historyEventManager.isEnabled()) {
 
@@ -321,7 +343,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
       return accessItem;
     } finally {
-      taskanaEngine.returnConnection();
+      returnConnectionAndInvalidatePermissionCache();
     }
   }
 
@@ -344,6 +366,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.update(accessItem);
+      permissionCache.invalidate();
 
       if (historyEventManager.isEnabled()) {
 
@@ -366,7 +389,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
       return accessItem;
     } finally {
-      taskanaEngine.returnConnection();
+      returnConnectionAndInvalidatePermissionCache();
     }
   }
 
@@ -383,6 +406,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       }
 
       workbasketAccessMapper.delete(accessItemId);
+      permissionCache.invalidate();
 
       if (historyEventManager.isEnabled() && accessItem != null) {
 
@@ -404,7 +428,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
             accessItemId);
       }
     } finally {
-      taskanaEngine.returnConnection();
+      returnConnectionAndInvalidatePermissionCache();
     }
   }
 
@@ -414,7 +438,9 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findById(workbasketId) == null) {
+      Map<String, Set<WorkbasketPermission>> permissionsByWorkbasketId =
+          getPermissionsOfCurrentUser(List.of(workbasketId));
+      if (!permissionsByWorkbasketId.containsKey(workbasketId)) {
         throw new WorkbasketNotFoundException(workbasketId);
       }
 
@@ -422,16 +448,9 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         return;
       }
 
-      Optional<List<WorkbasketPermission>> grantedPermissions =
-          Optional.ofNullable(
-                  workbasketAccessMapper.findByWorkbasketAndAccessId(
-                      workbasketId,
-                      taskanaEngine.getEngine().getCurrentUserContext().getAccessIds()))
-              .map(this::getPermissionsFromWorkbasketAccessItem);
-
-      if (grantedPermissions.isEmpty()
-          || !new HashSet<>(grantedPermissions.get())
-              .containsAll(Arrays.asList(requestedPermissions))) {
+      if (!permissionsByWorkbasketId
+          .get(workbasketId)
+          .containsAll(Arrays.asList(requestedPermissions))) {
         throw new NotAuthorizedOnWorkbasketException(
             taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
             workbasketId,
@@ -442,6 +461,43 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  /**
+   * Checks whether the current user has all requested permissions on each of the given
+   * workbaskets. The permissions on all workbaskets are loaded with a single query. Workbaskets
+   * which don't exist are skipped.
+   *
+   * @param workbasketIds the ids of the workbaskets which should be checked
+   * @param requestedPermissions the permissions which the current user needs on each workbasket
+   * @throws NotAuthorizedOnWorkbasketException if the current user is missing a requested
+   *     permission on one of the workbaskets
+   */
+  public void checkAuthorization(
+      Collection<String> workbasketIds, WorkbasketPermission... requestedPermissions)
+      throws NotAuthorizedOnWorkbasketException {
+    if (skipAuthorizationCheck(requestedPermissions)) {
+      return;
+    }
+    try {
+      taskanaEngine.openConnection();
+
+      Map<String, Set<WorkbasketPermission>> permissionsByWorkbasketId =
+          getPermissionsOfCurrentUser(workbasketIds);
+      for (String workbasketId : workbasketIds) {
+        Set<WorkbasketPermission> grantedPermissions = permissionsByWorkbasketId.get(workbasketId);
+        if (grantedPermissions == null) {
+          LOGGER.warn("The workbasket with the ID ' {} ' does not exist.", workbasketId);
+        } else if (!grantedPermissions.containsAll(Arrays.asList(requestedPermissions))) {
+          throw new NotAuthorizedOnWorkbasketException(
+              taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
+              workbasketId,
+              requestedPermissions);
+        }
+      }
+    } finally {
+      taskanaEngine.returnConnection();
+    }
+  }
+
   @Override
   public void checkAuthorization(
       String workbasketKey, String domain, WorkbasketPermission... requestedPermissions)
@@ -449,24 +505,19 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
 
-      if (workbasketMapper.findByKeyAndDomain(workbasketKey, domain) == null) {
+      WorkbasketImpl workbasket = findWorkbasketByKeyAndDomain(workbasketKey, domain);
+      if (workbasket == null) {
         throw new WorkbasketNotFoundException(workbasketKey, domain);
       }
       if (skipAuthorizationCheck(requestedPermissions)) {
         return;
       }
 
-      Optional<List<WorkbasketPermission>> grantedPermissions =
-          Optional.ofNullable(
-                  workbasketAccessMapper.findByWorkbasketKeyDomainAndAccessId(
-                      workbasketKey,
-                      domain,
-                      taskanaEngine.getEngine().getCurrentUserContext().getAccessIds()))
-              .map(this::getPermissionsFromWorkbasketAccessItem);
-
-      if (grantedPermissions.isEmpty()
-          || !new HashSet<>(grantedPermissions.get())
-              .containsAll(Arrays.asList(requestedPermissions))) {
+      Set<WorkbasketPermission> grantedPermissions =
+          getPermissionsOfCurrentUser(List.of(workbasket.getId())).get(workbasket.getId());
+
+      if (grantedPermissions == null
+          || !grantedPermissions.containsAll(Arrays.asList(requestedPermissions))) {
         throw new NotAuthorizedOnWorkbasketException(
             taskanaEngine.getEngine().getCurrentUserContext().getUserid(),
             workbasketKey,
@@ -520,6 +571,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       // delete all current ones
       workbasketAccessMapper.deleteAllAccessItemsForWorkbasketId(workbasketId);
       accessItems.forEach(workbasketAccessMapper::insert);
+      permissionCache.invalidate();
 
       if (historyEventManager.isEnabled()) {
 
@@ -537,7 +589,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
                 details));
       }
     } finally {
-      taskanaEngine.returnConnection();
+      returnConnectionAndInvalidatePermissionCache();
     }
   }
 
@@ -581,9 +633,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
           .isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN, TaskanaRole.TASK_ADMIN)) {
         checkAuthorization(workbasketId, WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionTargets =
-          workbasketMapper.findDistributionTargets(workbasketId);
-      result.addAll(distributionTargets);
+      result.addAll(findDistributionTargets(workbasketId));
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -604,9 +654,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
           .isUserInRole(TaskanaRole.ADMIN, TaskanaRole.BUSINESS_ADMIN, TaskanaRole.TASK_ADMIN)) {
         checkAuthorization(workbasket.getId(), WorkbasketPermission.READ);
       }
-      List<WorkbasketSummaryImpl> distributionTargets =
-          workbasketMapper.findDistributionTargets(workbasket.getId());
-      result.addAll(distributionTargets);
+      result.addAll(findDistributionTargets(workbasket.getId()));
       return result;
     } finally {
       taskanaEngine.returnConnection();
@@ -623,7 +671,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       // check existence of source workbasket
-      WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
+      WorkbasketImpl sourceWorkbasket = getWorkbasketFromDatabase(sourceWorkbasketId);
 
       List<String> originalTargetWorkbasketIds = new ArrayList<>();
 
@@ -635,6 +683,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
       sourceWorkbasket.setModified(Instant.now());
       workbasketMapper.update(sourceWorkbasket);
+      taskanaEngine.invalidateCache(workbasketCache);
 
       if (targetWorkbasketIds != null) {
         for (String targetId : targetWorkbasketIds) {
@@ -686,7 +735,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     try {
       taskanaEngine.openConnection();
       // check existence of source workbasket
-      WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
+      WorkbasketImpl sourceWorkbasket = getWorkbasketFromDatabase(sourceWorkbasketId);
       // check existence of target workbasket
       getWorkbasket(targetWorkbasketId);
       // check whether the target is already set as target
@@ -722,6 +771,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
         sourceWorkbasket.setModified(Instant.now());
         workbasketMapper.update(sourceWorkbasket);
+        taskanaEngine.invalidateCache(workbasketCache);
       }
 
     } finally {
@@ -744,6 +794,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
               sourceWorkbasketId, targetWorkbasketId);
       if (numberOfDistTargets > 0) {
         distributionTargetMapper.delete(sourceWorkbasketId, targetWorkbasketId);
+        taskanaEngine.invalidateCache(workbasketCache);
 
         if (historyEventManager.isEnabled()) {
 
@@ -770,7 +821,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
 
         try {
-          WorkbasketImpl sourceWorkbasket = (WorkbasketImpl) getWorkbasket(sourceWorkbasketId);
+          WorkbasketImpl sourceWorkbasket = getWorkbasketFromDatabase(sourceWorkbasketId);
           sourceWorkbasket.setModified(Instant.now());
           workbasketMapper.update(sourceWorkbasket);
         } catch (WorkbasketNotFoundException e) {
@@ -835,6 +886,8 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       if (canBeDeletedNow) {
         workbasketMapper.delete(workbasketId);
         deleteReferencesToWorkbasket(workbasketId);
+        permissionCache.invalidate();
+        taskanaEngine.invalidateCache(workbasketCache);
 
         if (historyEventManager.isEnabled()) {
 
@@ -855,7 +908,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
 
       return canBeDeletedNow;
     } finally {
-      taskanaEngine.returnConnection();
+      returnConnectionAndInvalidatePermissionCache();
     }
   }
 
@@ -947,6 +1000,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         workbasketAccessItems = workbasketAccessMapper.findByAccessId(accessId);
       }
       workbasketAccessMapper.deleteAccessItemsForAccessId(accessId);
+      permissionCache.invalidate();
 
       if (historyEventManager.isEnabled()) {
 
@@ -967,7 +1021,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
         }
       }
     } finally {
-      taskanaEngine.returnConnection();
+      returnConnectionAndInvalidatePermissionCache();
     }
   }
 
@@ -1113,6 +1167,47 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     }
   }
 
+  /**
+   * Returns the permissions of the current user on the given workbaskets. Permissions which are
+   * not cached are loaded with a single query per chunk of workbaskets.
+   *
+   * @param workbasketIds the ids of the workbaskets
+   * @return the permissions by workbasket id; workbaskets which don't exist are not contained
+   */
+  private Map<String, Set<WorkbasketPermission>> getPermissionsOfCurrentUser(
+      Collection<String> workbasketIds) {
+    List<String> accessIds = taskanaEngine.getEngine().getCurrentUserContext().getAccessIds();
+    Map<String, Optional<Set<WorkbasketPermission>>> permissionsByWorkbasketId =
+        permissionCache.get(accessIds, workbasketIds);
+    Set<String> uncachedWorkbasketIds = new HashSet<>(workbasketIds);
+    uncachedWorkbasketIds.removeAll(permissionsByWorkbasketId.keySet());
+
+    for (List<String> chunk :
+        CollectionUtil.partitionBasedOnSize(uncachedWorkbasketIds, MAX_WORKBASKET_IDS_PER_QUERY)) {
+      long cacheGeneration = permissionCache.getGeneration();
+      Map<String, Set<WorkbasketPermission>> loadedPermissions =
+          workbasketAccessMapper
+              .findPermissionsByWorkbasketIdsAndAccessIds(chunk, accessIds)
+              .stream()
+              .collect(
+                  Collectors.toMap(
+                      WorkbasketAccessItemImpl::getWorkbasketId,
+                      item -> Set.copyOf(getPermissionsFromWorkbasketAccessItem(item))));
+      for (String workbasketId : chunk) {
+        Optional<Set<WorkbasketPermission>> permissions =
+            Optional.ofNullable(loadedPermissions.get(workbasketId));
+        permissionCache.put(cacheGeneration, accessIds, workbasketId, permissions);
+        permissionsByWorkbasketId.put(workbasketId, permissions);
+      }
+    }
+
+    Map<String, Set<WorkbasketPermission>> result = new HashMap<>();
+    permissionsByWorkbasketId.forEach(
+        (workbasketId, permissions) ->
+            permissions.ifPresent(granted -> result.put(workbasketId, granted)));
+    return result;
+  }
+
   private List<WorkbasketPermission> getPermissionsFromWorkbasketAccessItem(
       WorkbasketAccessItem workbasketAccessItem) {
     List<WorkbasketPermission> permissions = new ArrayList<>();
@@ -1127,6 +1222,87 @@ public class WorkbasketServiceImpl implements WorkbasketService {
     return permissions;
   }
 
+  private WorkbasketImpl findWorkbasketById(String workbasketId) {
+    if (!taskanaEngine.mayUseCache(workbasketCache)) {
+      return workbasketMapper.findById(workbasketId);
+    }
+    invalidateCacheIfWorkbasketsChanged();
+    WorkbasketImpl workbasket = workbasketCache.get(workbasketId);
+    if (workbasket == null) {
+      long cacheGeneration = workbasketCache.getGeneration();
+      workbasket = workbasketMapper.findById(workbasketId);
+      if (workbasket != null) {
+        workbasketCache.put(cacheGeneration, workbasket);
+      }
+    }
+    return workbasket;
+  }
+
+  private WorkbasketImpl findWorkbasketByKeyAndDomain(String workbasketKey, String domain) {
+    if (!taskanaEngine.mayUseCache(workbasketCache)) {
+      return workbasketMapper.findByKeyAndDomain(workbasketKey, domain);
+    }
+    invalidateCacheIfWorkbasketsChanged();
+    WorkbasketImpl workbasket = workbasketCache.get(workbasketKey, domain);
+    if (workbasket == null) {
+      long cacheGeneration = workbasketCache.getGeneration();
+      workbasket = workbasketMapper.findByKeyAndDomain(workbasketKey, domain);
+      if (workbasket != null) {
+        workbasketCache.put(cacheGeneration, workbasketKey, domain, workbasket);
+      }
+    }
+    return workbasket;
+  }
+
+  private List<WorkbasketSummaryImpl> findDistributionTargets(String sourceWorkbasketId) {
+    if (!taskanaEngine.mayUseCache(workbasketCache)) {
+      return workbasketMapper.findDistributionTargets(sourceWorkbasketId);
+    }
+    invalidateCacheIfWorkbasketsChanged();
+    List<WorkbasketSummaryImpl> distributionTargets =
+        workbasketCache.getDistributionTargets(sourceWorkbasketId);
+    if (distributionTargets == null) {
+      long cacheGeneration = workbasketCache.getGeneration();
+      distributionTargets = workbasketMapper.findDistributionTargets(sourceWorkbasketId);
+      workbasketCache.putDistributionTargets(
+          cacheGeneration, sourceWorkbasketId, distributionTargets);
+    }
+    return distributionTargets;
+  }
+
+  private WorkbasketImpl getWorkbasketFromDatabase(String workbasketId)
+      throws WorkbasketNotFoundException {
+    WorkbasketImpl workbasket = workbasketMapper.findById(workbasketId);
+    if (workbasket == null) {
+      throw new WorkbasketNotFoundException(workbasketId);
+    }
+    return workbasket;
+  }
+
+  /**
+   * Returns the connection and invalidates the permission cache again, because other transactions
+   * may have cached the old permissions until the change has been committed.
+   */
+  private void returnConnectionAndInvalidatePermissionCache() {
+    try {
+      taskanaEngine.returnConnection();
+    } finally {
+      permissionCache.invalidate();
+    }
+  }
+
+  private void invalidateCacheIfWorkbasketsChanged() {
+    if (workbasketCache.isVersionCheckDue()) {
+      // the number of distribution targets reveals changes of distribution targets even if
+      // MAX(MODIFIED) doesn't change, e.g. because the clocks of the nodes differ
+      workbasketCache.checkChangeVersion(
+          Arrays.asList(
+              workbasketMapper.countWorkbaskets(),
+              workbasketMapper.findLatestModification(),
+              distributionTargetMapper.countDistributionTargets()));
+    }
+  }
+
   private void markWorkbasketForDeletion(String workbasketId)
       throws InvalidArgumentException, NotAuthorizedException {
     taskanaEngine.getEngine().checkRoleMembership(TaskanaRole.BUSINESS_ADMIN, TaskanaRole.ADMIN);
@@ -1136,6 +1312,7 @@ public class WorkbasketServiceImpl implements WorkbasketService {
       WorkbasketImpl workbasket = workbasketMapper.findById(workbasketId);
       workbasket.setMarkedForDeletion(true);
       workbasketMapper.update(workbasket);
+      taskanaEngine.invalidateCache(workbasketCache);
       if (historyEventManager.isEnabled()) {
 
         historyEventManager.createEvent(
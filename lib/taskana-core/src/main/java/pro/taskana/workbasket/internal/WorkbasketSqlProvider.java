@@ -65,6 +65,20 @@ public class WorkbasketSqlProvider {
         + CLOSING_SCRIPT_TAG;
   }
 
+  public static String countWorkbaskets() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT COUNT(ID) FROM WORKBASKET "
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
+  public static String findLatestModification() {
+    return OPENING_SCRIPT_TAG
+        + "SELECT MAX(MODIFIED) FROM WORKBASKET "
+        + DB2_WITH_UR
+        + CLOSING_SCRIPT_TAG;
+  }
+
   public static String findDistributionTargets() {
     return OPENING_SCRIPT_TAG
         + "SELECT "
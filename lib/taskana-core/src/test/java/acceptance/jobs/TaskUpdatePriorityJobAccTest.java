@@ -67,6 +67,28 @@ class TaskUpdatePriorityJobAccTest extends AbstractAccTest {
         .contains(TaskUpdatePriorityJob.class.getName());
   }
 
+  @Test
+  @WithAccessId(user = "admin")
+  void should_ScheduleOneJobPerPartition_When_PartitionsAreConfigured() throws Exception {
+    // given
+    final Instant someTimeInTheFuture = Instant.now().plus(10, ChronoUnit.DAYS);
+    TaskanaConfiguration taskanaConfiguration =
+        new TaskanaConfiguration.Builder(AbstractAccTest.taskanaConfiguration)
+            .taskUpdatePriorityJobPartitions(4)
+            .build();
+    TaskanaEngine taskanaEngine =
+        TaskanaEngine.buildTaskanaEngine(taskanaConfiguration, ConnectionManagementMode.AUTOCOMMIT);
+
+    // when
+    AbstractTaskanaJob.initializeSchedule(taskanaEngine, TaskUpdatePriorityJob.class);
+
+    // then
+    assertThat(getJobMapper(taskanaEngine).findJobsToRun(someTimeInTheFuture))
+        .filteredOn(job -> TaskUpdatePriorityJob.class.getName().equals(job.getType()))
+        .extracting(job -> job.getArguments().get(TaskUpdatePriorityJob.PARTITION))
+        .containsExactlyInAnyOrder("0/4", "1/4", "2/4", "3/4");
+  }
+
   @Test
   @WithAccessId(user = "admin")
   void should_readConfigurationForBatchSize() throws Exception {
@@ -84,6 +106,25 @@ class TaskUpdatePriorityJobAccTest extends AbstractAccTest {
     assertThat(job.getBatchSize()).isEqualTo(20);
   }
 
+  @Test
+  @WithAccessId(user = "admin")
+  void should_readConfigurationForPoolSizeAndPartitions() throws Exception {
+    // given
+    TaskanaConfiguration taskanaConfiguration =
+        new TaskanaConfiguration.Builder(AbstractAccTest.taskanaConfiguration)
+            .taskUpdatePriorityJobPoolSize(4)
+            .taskUpdatePriorityJobPartitions(8)
+            .build();
+
+    // when
+    final TaskUpdatePriorityJob job =
+        new TaskUpdatePriorityJob(TaskanaEngine.buildTaskanaEngine(taskanaConfiguration));
+
+    // then
+    assertThat(job.getPoolSize()).isEqualTo(4);
+    assertThat(job.getPartitions()).isEqualTo(8);
+  }
+
   @Test
   void should_containInformation_When_convertedToString() throws Exception {
     // given
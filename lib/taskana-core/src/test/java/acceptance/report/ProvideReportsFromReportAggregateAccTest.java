@@ -0,0 +1,211 @@
+package acceptance.report;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.extension.ExtendWith;
+import pro.taskana.TaskanaConfiguration;
+import pro.taskana.common.api.TaskanaEngine;
+import pro.taskana.common.internal.TaskanaEngineImpl;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.monitor.api.MonitorService;
+import pro.taskana.monitor.api.TaskTimestamp;
+import pro.taskana.monitor.api.reports.Report;
+import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.row.Row;
+import pro.taskana.monitor.internal.ReportAggregate;
+import pro.taskana.task.api.TaskCustomField;
+import pro.taskana.task.api.TaskState;
+
+/** Acceptance test for the reports which are built from the report aggregate. */
+@ExtendWith(JaasExtension.class)
+class ProvideReportsFromReportAggregateAccTest extends AbstractReportAccTest {
+
+  private static final String CLASSIFICATION_ID = "CLI:000000000000000000000000000000000001";
+  private static final String WORKBASKET_ID = "WBI:000000000000000000000000000000000001";
+
+  private static ReportAggregate reportAggregate;
+  private static MonitorService aggregatingMonitorService;
+
+  @BeforeAll
+  static void setupAggregatingTaskanaEngine() throws Exception {
+    TaskanaEngineImpl aggregatingTaskanaEngine = createAggregatingTaskanaEngine();
+    reportAggregate = aggregatingTaskanaEngine.getReportAggregate();
+    aggregatingMonitorService = aggregatingTaskanaEngine.getMonitorService();
+  }
+
+  @WithAccessId(user = "monitor")
+  @TestFactory
+  Stream<DynamicTest> should_BuildSameReportAsFromTasks_When_ReportAggregateIsEnabled() {
+    Map<String, ReportBuilder> reportBuilders = new LinkedHashMap<>();
+    reportBuilders.put(
+        "WorkbasketReport",
+        (monitorService, timestamp) ->
+            monitorService
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(getListOfColumnHeaders())
+                .buildReport(timestamp));
+    reportBuilders.put(
+        "WorkbasketReport in working days with state filter",
+        (monitorService, timestamp) ->
+            monitorService
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(getListOfColumnHeaders())
+                .stateIn(List.of(TaskState.READY))
+                .inWorkingDays()
+                .buildReport(timestamp));
+    reportBuilders.put(
+        "WorkbasketReport with workbasket and classification filter",
+        (monitorService, timestamp) ->
+            monitorService
+                .createWorkbasketReportBuilder()
+                .withColumnHeaders(getListOfColumnHeaders())
+                .workbasketIdIn(List.of(WORKBASKET_ID))
+                .classificationIdIn(List.of(CLASSIFICATION_ID))
+                .buildReport(timestamp));
+    reportBuilders.put(
+        "ClassificationCategoryReport",
+        (monitorService, timestamp) ->
+            monitorService
+                .createClassificationCategoryReportBuilder()
+                .withColumnHeaders(getListOfColumnHeaders())
+                .buildReport(timestamp));
+    reportBuilders.put(
+        "ClassificationCategoryReport with domain filter",
+        (monitorService, timestamp) ->
+            monitorService
+                .createClassificationCategoryReportBuilder()
+                .withColumnHeaders(getListOfColumnHeaders())
+                .domainIn(List.of("DOMAIN_A"))
+                .buildReport(timestamp));
+    reportBuilders.put(
+        "ClassificationReport",
+        (monitorService, timestamp) ->
+            monitorService
+                .createClassificationReportBuilder()
+                .withColumnHeaders(getListOfColumnHeaders())
+                .buildReport(timestamp));
+    reportBuilders.put(
+        "ClassificationReport with category and excluded classification filter",
+        (monitorService, timestamp) ->
+            monitorService
+                .createClassificationReportBuilder()
+                .withColumnHeaders(getListOfColumnHeaders())
+                .classificationCategoryIn(List.of("AUTOMATIC", "MANUAL"))
+                .excludedClassificationIdIn(List.of(CLASSIFICATION_ID))
+                .inWorkingDays()
+                .buildReport(timestamp));
+
+    List<DynamicTest> tests = new ArrayList<>();
+    for (Map.Entry<String, ReportBuilder> reportBuilder : reportBuilders.entrySet()) {
+      for (TaskTimestamp timestamp : TaskTimestamp.values()) {
+        tests.add(
+            DynamicTest.dynamicTest(
+                reportBuilder.getKey() + " for TaskTimestamp " + timestamp,
+                () -> assertSameReport(reportBuilder.getValue(), timestamp)));
+      }
+    }
+    return tests.stream();
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_ReadAggregateOnce_When_SeveralReportsAreBuilt() throws Exception {
+    // the aggregate is refreshed based on time only, so a new engine is needed to start empty
+    TaskanaEngineImpl aggregatingTaskanaEngine = createAggregatingTaskanaEngine();
+    ReportAggregate newReportAggregate = aggregatingTaskanaEngine.getReportAggregate();
+    MonitorService monitorService = aggregatingTaskanaEngine.getMonitorService();
+
+    monitorService.createWorkbasketReportBuilder().buildReport();
+    monitorService.createClassificationCategoryReportBuilder().buildReport();
+    monitorService.createClassificationReportBuilder().buildReport();
+
+    assertThat(newReportAggregate.getRefreshes()).isEqualTo(1);
+    assertThat(newReportAggregate.getHits()).isEqualTo(2);
+  }
+
+  @WithAccessId(user = "monitor")
+  @Test
+  void should_BuildReportFromTasks_When_CustomAttributeFilterIsSet() throws Exception {
+    long refreshes = reportAggregate.getRefreshes();
+    long hits = reportAggregate.getHits();
+
+    Report<?, ?> report =
+        aggregatingMonitorService
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(getListOfColumnHeaders())
+            .customAttributeIn(TaskCustomField.CUSTOM_1, "Geschaeftsstelle A")
+            .buildReport();
+    Report<?, ?> expectedReport =
+        taskanaEngine
+            .getMonitorService()
+            .createWorkbasketReportBuilder()
+            .withColumnHeaders(getListOfColumnHeaders())
+            .customAttributeIn(TaskCustomField.CUSTOM_1, "Geschaeftsstelle A")
+            .buildReport();
+
+    assertThat(toCells(report)).isEqualTo(toCells(expectedReport));
+    assertThat(reportAggregate.getRefreshes()).isEqualTo(refreshes);
+    assertThat(reportAggregate.getHits()).isEqualTo(hits);
+  }
+
+  private static TaskanaEngineImpl createAggregatingTaskanaEngine() throws Exception {
+    TaskanaConfiguration configuration =
+        new TaskanaConfiguration.Builder(taskanaConfiguration)
+            .reportAggregateRefreshInterval(Duration.ofHours(1))
+            .build();
+    TaskanaEngineImpl aggregatingTaskanaEngine =
+        (TaskanaEngineImpl) TaskanaEngine.buildTaskanaEngine(configuration);
+    aggregatingTaskanaEngine.setConnectionManagementMode(
+        TaskanaEngine.ConnectionManagementMode.AUTOCOMMIT);
+    return aggregatingTaskanaEngine;
+  }
+
+  private static void assertSameReport(ReportBuilder reportBuilder, TaskTimestamp timestamp)
+      throws Exception {
+    Report<?, ?> expectedReport = reportBuilder.build(taskanaEngine.getMonitorService(), timestamp);
+    Report<?, ?> report = reportBuilder.build(aggregatingMonitorService, timestamp);
+
+    assertThat(toCells(report)).isEqualTo(toCells(expectedReport));
+    assertThat(report.getSumRow().getCells()).isEqualTo(expectedReport.getSumRow().getCells());
+  }
+
+  private static Map<String, List<Integer>> toCells(Report<?, ?> report) {
+    return report.getRows().entrySet().stream()
+        .collect(Collectors.toMap(Map.Entry::getKey, entry -> toList(entry.getValue())));
+  }
+
+  private static List<Integer> toList(Row<?> row) {
+    return Arrays.stream(row.getCells()).boxed().toList();
+  }
+
+  private static List<TimeIntervalColumnHeader> getListOfColumnHeaders() {
+    List<TimeIntervalColumnHeader> columnHeaders = new ArrayList<>();
+    columnHeaders.add(new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11));
+    columnHeaders.add(new TimeIntervalColumnHeader(-10, -6));
+    columnHeaders.add(new TimeIntervalColumnHeader(-5, -2));
+    columnHeaders.add(new TimeIntervalColumnHeader(-1));
+    columnHeaders.add(new TimeIntervalColumnHeader(0));
+    columnHeaders.add(new TimeIntervalColumnHeader(1));
+    columnHeaders.add(new TimeIntervalColumnHeader(2, 5));
+    columnHeaders.add(new TimeIntervalColumnHeader(6, 10));
+    columnHeaders.add(new TimeIntervalColumnHeader(11, Integer.MAX_VALUE));
+    return columnHeaders;
+  }
+
+  private interface ReportBuilder {
+    Report<?, ?> build(MonitorService monitorService, TaskTimestamp timestamp) throws Exception;
+  }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import pro.taskana.monitor.api.reports.Report;
 import pro.taskana.monitor.api.reports.header.TimeIntervalColumnHeader;
+import pro.taskana.monitor.api.reports.item.AgeQueryItem;
 import pro.taskana.monitor.api.reports.item.MonitorQueryItem;
 import pro.taskana.monitor.api.reports.item.QueryItemPreprocessor;
 import pro.taskana.monitor.api.reports.row.FoldableRow;
@@ -233,6 +234,53 @@ class ReportTest {
     assertThat(sumRow.getTotalValue()).isEqualTo(2 * item.getValue());
   }
 
+  @Test
+  void should_InsertItemIntoFittingColumn_When_HeadersAreUnsortedAndHaveGaps() {
+    // given
+    List<TimeIntervalColumnHeader> headers =
+        List.of(
+            new TimeIntervalColumnHeader(11, Integer.MAX_VALUE),
+            new TimeIntervalColumnHeader(Integer.MIN_VALUE, -11),
+            new TimeIntervalColumnHeader(0),
+            new TimeIntervalColumnHeader(2, 5));
+    report = new MonitorQueryItemTimeIntervalColumnHeaderReport(headers, new String[] {"rowDesc"});
+
+    // when
+    for (int ageInDays : new int[] {Integer.MIN_VALUE, -11, -10, -1, 0, 1, 5, 6, 11, 400}) {
+      MonitorQueryItem ageItem = new MonitorQueryItem();
+      ageItem.setKey("key");
+      ageItem.setAgeInDays(ageInDays);
+      ageItem.setNumberOfTasks(1);
+      report.addItem(ageItem);
+    }
+
+    // then
+    assertThat(report.getRow("key").getCells()).isEqualTo(new int[] {2, 2, 1, 1});
+    assertThat(report.getSumRow().getCells()).isEqualTo(new int[] {2, 2, 1, 1});
+  }
+
+  @Test
+  void should_AskHeaderIfItemFits_When_HeaderOverridesFits() {
+    // given
+    List<TimeIntervalColumnHeader> headers =
+        List.of(
+            new TimeIntervalColumnHeader(0),
+            new TimeIntervalColumnHeader(1) {
+              @Override
+              public boolean fits(AgeQueryItem item) {
+                return true;
+              }
+            });
+    report = new MonitorQueryItemTimeIntervalColumnHeaderReport(headers, new String[] {"rowDesc"});
+
+    // when
+    report.addItem(item);
+
+    // then
+    assertThat(report.getRow("key").getCells())
+        .isEqualTo(new int[] {item.getValue(), item.getValue()});
+  }
+
   @Test
   void should_FallBackToKey_When_DisplayMapDoesNotContainName() {
     report.augmentDisplayNames(new HashMap<>());
@@ -1,6 +1,7 @@
 package acceptance.task.claim;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
 import java.security.PrivilegedAction;
@@ -13,6 +14,7 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.security.auth.Subject;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.function.ThrowingConsumer;
 import pro.taskana.common.api.BaseQuery.SortDirection;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.api.security.UserPrincipal;
 import pro.taskana.common.internal.util.CheckedConsumer;
 import pro.taskana.common.internal.util.Pair;
@@ -116,6 +119,38 @@ class SelectAndClaimTaskAccTest extends AbstractAccTest {
     assertThat(task).isEmpty();
   }
 
+  @Test
+  @WithAccessId(user = "admin")
+  void should_ClaimMultipleTasks_When_SelectingAndClaimingBatchOfTasks() throws Exception {
+    Workbasket workbasket = createWorkBasket();
+    Task first = createTask(workbasket);
+    Task second = createTask(workbasket);
+    Task third = createTask(workbasket);
+
+    List<Task> claimedTasks =
+        taskService.selectAndClaim(
+            taskService.createTaskQuery().workbasketIdIn(workbasket.getId()), 2);
+    List<Task> remainingClaimedTasks =
+        taskService.selectAndClaim(
+            taskService.createTaskQuery().workbasketIdIn(workbasket.getId()), 2);
+
+    assertThat(claimedTasks).hasSize(2).extracting(Task::getOwner).containsOnly("admin");
+    assertThat(remainingClaimedTasks).hasSize(1).extracting(Task::getOwner).containsOnly("admin");
+    assertThat(Stream.concat(claimedTasks.stream(), remainingClaimedTasks.stream()))
+        .extracting(Task::getId)
+        .containsExactlyInAnyOrder(first.getId(), second.getId(), third.getId());
+  }
+
+  @Test
+  @WithAccessId(user = "admin")
+  void should_ThrowException_When_SelectingAndClaimingNoTasks() {
+    TaskQuery query = taskService.createTaskQuery();
+
+    ThrowingCallable call = () -> taskService.selectAndClaim(query, 0);
+
+    assertThatThrownBy(call).isInstanceOf(InvalidArgumentException.class);
+  }
+
   private Runnable getRunnableTest(List<Task> selectedAndClaimedTasks, List<String> accessIds) {
     return () -> {
       Subject subject = new Subject();
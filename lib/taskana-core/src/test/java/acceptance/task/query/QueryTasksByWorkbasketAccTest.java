@@ -1,5 +1,6 @@
 package acceptance.task.query;
 
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import acceptance.AbstractAccTest;
@@ -49,5 +50,33 @@ class QueryTasksByWorkbasketAccTest extends AbstractAccTest {
                   .list();
       assertThatThrownBy(call).isInstanceOf(NotAuthorizedToQueryWorkbasketException.class);
     }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_ThrowException_When_NoOpenerPermissionOnOneOfMultipleQueriedWorkbasketIds() {
+      TaskService taskService = taskanaEngine.getTaskService();
+      ThrowingCallable call =
+          () ->
+              taskService
+                  .createTaskQuery()
+                  .workbasketIdIn(
+                      "WBI:100000000000000000000000000000000006",
+                      "WBI:100000000000000000000000000000000008")
+                  .list();
+      assertThatThrownBy(call).isInstanceOf(NotAuthorizedToQueryWorkbasketException.class);
+    }
+
+    @WithAccessId(user = "user-1-1")
+    @Test
+    void should_NotThrowException_When_QueryingOwnAndNonExistingWorkbasketIds() {
+      TaskService taskService = taskanaEngine.getTaskService();
+      ThrowingCallable call =
+          () ->
+              taskService
+                  .createTaskQuery()
+                  .workbasketIdIn("WBI:100000000000000000000000000000000006", "WBI:non-existing")
+                  .list();
+      assertThatCode(call).doesNotThrowAnyException();
+    }
   }
 }
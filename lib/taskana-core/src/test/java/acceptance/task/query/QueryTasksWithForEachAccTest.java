@@ -0,0 +1,75 @@
+package acceptance.task.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.common.api.BaseQuery.SortDirection.ASCENDING;
+
+import acceptance.AbstractAccTest;
+import java.util.ArrayList;
+import java.util.List;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.test.security.JaasExtension;
+import pro.taskana.common.test.security.WithAccessId;
+import pro.taskana.task.api.TaskService;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.workbasket.api.exceptions.NotAuthorizedToQueryWorkbasketException;
+
+/** Acceptance test for reading the results of a task query one by one. */
+@ExtendWith(JaasExtension.class)
+class QueryTasksWithForEachAccTest extends AbstractAccTest {
+
+  @WithAccessId(user = "admin")
+  @Test
+  void should_PassSameTasksAsList_When_IteratingOverQueryResult() {
+    TaskService taskService = taskanaEngine.getTaskService();
+    List<TaskSummary> expectedTasks = taskService.createTaskQuery().orderByTaskId(ASCENDING).list();
+
+    List<TaskSummary> tasks = new ArrayList<>();
+    taskService.createTaskQuery().orderByTaskId(ASCENDING).forEach(tasks::add);
+
+    assertThat(tasks).containsExactlyElementsOf(expectedTasks);
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_PassOnlyFilteredTasks_When_IteratingOverQueryResult() {
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    List<TaskSummary> tasks = new ArrayList<>();
+    taskService
+        .createTaskQuery()
+        .workbasketKeyDomainIn(new KeyDomain("USER-1-1", "DOMAIN_A"))
+        .forEach(tasks::add);
+
+    assertThat(tasks)
+        .isNotEmpty()
+        .containsExactlyInAnyOrderElementsOf(
+            taskService
+                .createTaskQuery()
+                .workbasketKeyDomainIn(new KeyDomain("USER-1-1", "DOMAIN_A"))
+                .list())
+        .allSatisfy(
+            task -> {
+              assertThat(task.getWorkbasketSummary().getName()).isNotNull();
+              assertThat(task.getClassificationSummary().getName()).isNotNull();
+            });
+  }
+
+  @WithAccessId(user = "user-1-1")
+  @Test
+  void should_ThrowException_When_IteratingOverTasksOfUnauthorizedWorkbasket() {
+    TaskService taskService = taskanaEngine.getTaskService();
+
+    ThrowingCallable call =
+        () ->
+            taskService
+                .createTaskQuery()
+                .workbasketKeyDomainIn(new KeyDomain("USER-2-1", "DOMAIN_A"))
+                .forEach(task -> {});
+
+    assertThatThrownBy(call).isInstanceOf(NotAuthorizedToQueryWorkbasketException.class);
+  }
+}
@@ -1,9 +1,12 @@
 package acceptance.task.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pro.taskana.common.api.BaseQuery.SortDirection.ASCENDING;
 import static pro.taskana.common.api.BaseQuery.SortDirection.DESCENDING;
 
 import acceptance.AbstractAccTest;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
@@ -12,6 +15,7 @@ import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExtendWith;
 import pro.taskana.common.api.KeyDomain;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
 import pro.taskana.common.test.security.JaasExtension;
 import pro.taskana.common.test.security.WithAccessId;
 import pro.taskana.task.api.TaskQuery;
@@ -171,6 +175,86 @@ class QueryTasksWithPaginationAccTest extends AbstractAccTest {
       }
     }
 
+    @Nested
+    @TestInstance(Lifecycle.PER_CLASS)
+    class ListAfter {
+      @WithAccessId(user = "admin")
+      @Test
+      void should_ReturnAllTasksInSortOrder_When_PagingWithCursor() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<String> expectedIds =
+            taskService
+                .createTaskQuery()
+                .orderByDue(DESCENDING)
+                .orderByPriority(ASCENDING)
+                .orderByTaskId(ASCENDING)
+                .list()
+                .stream()
+                .map(TaskSummary::getId)
+                .toList();
+
+        TaskQuery query =
+            taskService.createTaskQuery().orderByDue(DESCENDING).orderByPriority(ASCENDING);
+        List<String> pagedIds = new ArrayList<>();
+        String cursor = null;
+        List<TaskSummary> page;
+        do {
+          page = query.listAfter(cursor, 7);
+          assertThat(page).hasSizeLessThanOrEqualTo(7);
+          page.stream().map(TaskSummary::getId).forEach(pagedIds::add);
+          cursor = page.isEmpty() ? cursor : query.createCursor(page.get(page.size() - 1));
+        } while (page.size() == 7);
+
+        assertThat(pagedIds).containsExactlyElementsOf(expectedIds);
+      }
+
+      @WithAccessId(user = "teamlead-1")
+      @Test
+      void should_ReturnNextTasks_When_CursorOfLastTaskIsGiven() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        List<TaskSummary> tasks =
+            taskService
+                .createTaskQuery()
+                .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+                .orderByTaskId(DESCENDING)
+                .list();
+        TaskQuery query =
+            taskService
+                .createTaskQuery()
+                .workbasketKeyDomainIn(new KeyDomain("GPK_KSC", "DOMAIN_A"))
+                .orderByTaskId(DESCENDING);
+
+        List<TaskSummary> results = query.listAfter(query.createCursor(tasks.get(9)), 5);
+
+        assertThat(results)
+            .extracting(TaskSummary::getId)
+            .containsExactlyElementsOf(
+                tasks.subList(10, 15).stream().map(TaskSummary::getId).toList());
+      }
+
+      @WithAccessId(user = "admin")
+      @Test
+      void should_ThrowException_When_SortCriterionIsNotSupported() {
+        TaskQuery query =
+            taskanaEngine.getTaskService().createTaskQuery().orderByClassificationName(ASCENDING);
+
+        assertThatThrownBy(() -> query.listAfter(null, 10))
+            .isInstanceOf(InvalidArgumentException.class);
+      }
+
+      @WithAccessId(user = "admin")
+      @Test
+      void should_ThrowException_When_CursorBelongsToOtherSortOrder() {
+        TaskService taskService = taskanaEngine.getTaskService();
+        TaskQuery query = taskService.createTaskQuery().orderByDue(ASCENDING);
+        String cursor = query.createCursor(query.listAfter(null, 1).get(0));
+
+        assertThatThrownBy(
+                () -> taskService.createTaskQuery().orderByPlanned(ASCENDING).listAfter(cursor, 10))
+            .isInstanceOf(InvalidArgumentException.class);
+      }
+    }
+
     @Nested
     @TestInstance(Lifecycle.PER_CLASS)
     class Count {
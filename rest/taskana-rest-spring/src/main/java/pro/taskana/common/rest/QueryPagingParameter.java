@@ -21,16 +21,25 @@ public class QueryPagingParameter<T, Q extends BaseQuery<T, ?>>
   @Min(1)
   private final Integer pageSize;
 
+  /**
+   * Defines whether the total number of elements is counted for a requested 'page'. Counting can
+   * be expensive for large result sets. If it is disabled, 'totalElements' and 'totalPages' only
+   * cover the elements up to the next page. The default is true.
+   */
+  @JsonProperty("count")
+  private final Boolean count;
+
   @JsonIgnore private PageMetadata pageMetadata;
 
-  @ConstructorProperties({"page", "page-size"})
-  public QueryPagingParameter(Integer page, Integer pageSize) {
+  @ConstructorProperties({"page", "page-size", "count"})
+  public QueryPagingParameter(Integer page, Integer pageSize, Boolean count) {
     // TODO: do we really want this? Personally I would throw an InvalidArgumentException
     if (pageSize == null) {
       pageSize = Integer.MAX_VALUE;
     }
     this.page = page;
     this.pageSize = pageSize;
+    this.count = count;
   }
 
   public PageMetadata getPageMetadata() {
@@ -39,6 +48,9 @@ public class QueryPagingParameter<T, Q extends BaseQuery<T, ?>>
 
   @Override
   public List<T> apply(Q query) {
+    if (page != null && Boolean.FALSE.equals(count)) {
+      return listPageWithoutCount(query);
+    }
     initPageMetaData(query);
     List<T> resultList;
     if (pageMetadata != null) {
@@ -51,6 +63,25 @@ public class QueryPagingParameter<T, Q extends BaseQuery<T, ?>>
     return resultList;
   }
 
+  protected Integer getPage() {
+    return page;
+  }
+
+  protected Integer getPageSize() {
+    return pageSize;
+  }
+
+  private List<T> listPageWithoutCount(Q query) {
+    // one more element is read to find out whether there is a next page
+    long offset = page < 1 ? 0 : (page - 1L) * pageSize;
+    int limit = pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1;
+    List<T> resultList = query.list(Math.toIntExact(offset), limit);
+    long knownElements = offset + resultList.size();
+    long knownPages = (long) Math.ceil(knownElements / pageSize.doubleValue());
+    pageMetadata = new PageMetadata(pageSize, knownElements, knownPages, page);
+    return resultList.size() > pageSize ? resultList.subList(0, pageSize) : resultList;
+  }
+
   private void initPageMetaData(Q query) {
     if (page != null) {
       long totalElements = query.count();
@@ -0,0 +1,30 @@
+package pro.taskana.common.rest.models;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.hateoas.RepresentationModel;
+import org.springframework.lang.NonNull;
+
+/** EntityModel class for the result of an operation on multiple entities. */
+public class BulkOperationResultsRepresentationModel
+    extends RepresentationModel<BulkOperationResultsRepresentationModel> {
+
+  /**
+   * The ids of the entities for which the operation failed, mapped to the error key of the
+   * respective failure.
+   */
+  private Map<String, String> failedIds = new HashMap<>();
+
+  public Map<String, String> getFailedIds() {
+    return failedIds;
+  }
+
+  public void setFailedIds(Map<String, String> failedIds) {
+    this.failedIds = failedIds;
+  }
+
+  @Override
+  public @NonNull String toString() {
+    return "BulkOperationResultsRepresentationModel [failedIds=" + failedIds + "]";
+  }
+}
@@ -2,8 +2,16 @@ package pro.taskana.task.rest;
 
 import static java.util.function.Predicate.not;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.beans.ConstructorProperties;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -35,6 +43,7 @@ import pro.taskana.common.rest.QueryPagingParameter;
 import pro.taskana.common.rest.QuerySortBy;
 import pro.taskana.common.rest.QuerySortParameter;
 import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.models.BulkOperationResultsRepresentationModel;
 import pro.taskana.common.rest.util.QueryParamsValidator;
 import pro.taskana.task.api.TaskCustomField;
 import pro.taskana.task.api.TaskQuery;
@@ -65,15 +74,18 @@ public class TaskController {
   private final TaskService taskService;
   private final TaskRepresentationModelAssembler taskRepresentationModelAssembler;
   private final TaskSummaryRepresentationModelAssembler taskSummaryRepresentationModelAssembler;
+  private final ObjectMapper objectMapper;
 
   @Autowired
   TaskController(
       TaskService taskService,
       TaskRepresentationModelAssembler taskRepresentationModelAssembler,
-      TaskSummaryRepresentationModelAssembler taskSummaryRepresentationModelAssembler) {
+      TaskSummaryRepresentationModelAssembler taskSummaryRepresentationModelAssembler,
+      ObjectMapper objectMapper) {
     this.taskService = taskService;
     this.taskRepresentationModelAssembler = taskRepresentationModelAssembler;
     this.taskSummaryRepresentationModelAssembler = taskSummaryRepresentationModelAssembler;
+    this.objectMapper = objectMapper;
   }
 
   // region CREATE
@@ -149,7 +161,7 @@ public class TaskController {
       TaskQueryFilterCustomIntFields filterCustomIntFields,
       TaskQueryGroupByParameter groupByParameter,
       TaskQuerySortParameter sortParameter,
-      QueryPagingParameter<TaskSummary, TaskQuery> pagingParameter) {
+      TaskQueryPagingParameter pagingParameter) {
     QueryParamsValidator.validateParams(
         request,
         TaskQueryFilterParameter.class,
@@ -157,7 +169,8 @@ public class TaskController {
         TaskQueryFilterCustomIntFields.class,
         TaskQueryGroupByParameter.class,
         QuerySortParameter.class,
-        QueryPagingParameter.class);
+        QueryPagingParameter.class,
+        TaskQueryPagingParameter.class);
     TaskQuery query = taskService.createTaskQuery();
 
     filterParameter.apply(query);
@@ -170,10 +183,72 @@ public class TaskController {
 
     TaskSummaryPagedRepresentationModel pagedModels =
         taskSummaryRepresentationModelAssembler.toPagedModel(
-            taskSummaries, pagingParameter.getPageMetadata());
+            taskSummaries, pagingParameter.getPageMetadata(), pagingParameter.getNextCursor());
     return ResponseEntity.ok(pagedModels);
   }
 
+  /**
+   * This endpoint exports all Tasks with the given filter and sort options. The Tasks are read
+   * one by one and written directly to the response, so that even a large export doesn't have to
+   * be kept in memory.
+   *
+   * @title Export Tasks
+   * @param request the HTTP request
+   * @param response the HTTP response to which the Tasks are written
+   * @param filterParameter the filter parameters
+   * @param filterCustomFields the filter parameters regarding TaskCustomFields
+   * @param filterCustomIntFields the filter parameters regarding TaskCustomIntFields
+   * @param sortParameter the sort parameters
+   * @param exportParameter the format of the export
+   * @throws IOException if the Tasks can't be written to the response
+   */
+  @GetMapping(path = RestEndpoints.URL_TASKS_EXPORT)
+  @Transactional(readOnly = true, rollbackFor = Exception.class)
+  public void exportTasks(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      TaskQueryFilterParameter filterParameter,
+      TaskQueryFilterCustomFields filterCustomFields,
+      TaskQueryFilterCustomIntFields filterCustomIntFields,
+      TaskQuerySortParameter sortParameter,
+      TaskQueryExportParameter exportParameter)
+      throws IOException {
+    QueryParamsValidator.validateParams(
+        request,
+        TaskQueryFilterParameter.class,
+        TaskQueryFilterCustomFields.class,
+        TaskQueryFilterCustomIntFields.class,
+        QuerySortParameter.class,
+        TaskQueryExportParameter.class);
+    TaskQuery query = taskService.createTaskQuery();
+
+    filterParameter.apply(query);
+    filterCustomFields.apply(query);
+    filterCustomIntFields.apply(query);
+    sortParameter.apply(query);
+
+    response.setContentType(exportParameter.getFormat().getContentType());
+    response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    // the response is written in this thread, because the query needs the transaction and the
+    // security context of the request
+    Writer writer =
+        new BufferedWriter(
+            new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+    TaskSummaryExportWriter exportWriter =
+        new TaskSummaryExportWriter(
+            writer,
+            exportParameter.getFormat(),
+            objectMapper,
+            taskSummaryRepresentationModelAssembler);
+    exportWriter.writeHeader();
+    try {
+      query.forEach(exportWriter::write);
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+  }
+
   /**
    * This endpoint retrieves a specific Task.
    *
@@ -728,6 +803,45 @@ public class TaskController {
             successfullyDeletedTaskSummaries));
   }
 
+  /**
+   * This endpoint deletes an aggregation of Tasks and returns the ids of the Tasks which couldn't
+   * be deleted, e.g. because they aren't in an end state. Filters can be applied. Unlike the
+   * endpoint which returns the deleted Tasks, the Tasks aren't loaded, so any number of Tasks can
+   * be deleted with constant memory.
+   *
+   * @title Delete multiple Tasks without returning them
+   * @param filterParameter the filter parameters
+   * @param filterCustomFields the filter parameters regarding TaskCustomFields
+   * @param filterCustomIntFields the filter parameters regarding TaskCustomIntFields
+   * @return the ids of the Tasks which couldn't be deleted with the key of the respective error
+   * @throws InvalidArgumentException TODO: this is never thrown
+   * @throws NotAuthorizedException if the current user is not authorized to delete the requested
+   *     Tasks.
+   */
+  @DeleteMapping(path = RestEndpoints.URL_TASKS_BULK)
+  @Transactional(rollbackFor = Exception.class)
+  public ResponseEntity<BulkOperationResultsRepresentationModel> bulkDeleteTasks(
+      TaskQueryFilterParameter filterParameter,
+      TaskQueryFilterCustomFields filterCustomFields,
+      TaskQueryFilterCustomIntFields filterCustomIntFields)
+      throws InvalidArgumentException, NotAuthorizedException {
+    TaskQuery query = taskService.createTaskQuery();
+    filterParameter.apply(query);
+    filterCustomFields.apply(query);
+    filterCustomIntFields.apply(query);
+
+    BulkOperationResults<String, TaskanaException> result = taskService.deleteTasks(query);
+
+    BulkOperationResultsRepresentationModel repModel =
+        new BulkOperationResultsRepresentationModel();
+    result
+        .getErrorMap()
+        .forEach(
+            (taskId, exception) ->
+                repModel.getFailedIds().put(taskId, exception.getErrorCode().getKey()));
+    return ResponseEntity.ok(repModel);
+  }
+
   // endregion
 
   // region TaskQuery
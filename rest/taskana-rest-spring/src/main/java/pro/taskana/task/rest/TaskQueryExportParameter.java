@@ -0,0 +1,38 @@
+package pro.taskana.task.rest;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.beans.ConstructorProperties;
+
+public class TaskQueryExportParameter {
+
+  public enum TaskExportFormat {
+    NDJSON("application/x-ndjson"),
+    CSV("text/csv");
+
+    private final String contentType;
+
+    TaskExportFormat(String contentType) {
+      this.contentType = contentType;
+    }
+
+    public String getContentType() {
+      return contentType;
+    }
+  }
+
+  /**
+   * The format of the exported Tasks. NDJSON writes one Task as JSON object per line, CSV writes
+   * one Task per row after a header row. Defaults to NDJSON.
+   */
+  @JsonProperty("format")
+  private final TaskExportFormat format;
+
+  @ConstructorProperties({"format"})
+  public TaskQueryExportParameter(TaskExportFormat format) {
+    this.format = format == null ? TaskExportFormat.NDJSON : format;
+  }
+
+  public TaskExportFormat getFormat() {
+    return format;
+  }
+}
@@ -0,0 +1,57 @@
+package pro.taskana.task.rest;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.beans.ConstructorProperties;
+import java.util.List;
+import pro.taskana.common.api.exceptions.InvalidArgumentException;
+import pro.taskana.common.rest.QueryPagingParameter;
+import pro.taskana.task.api.TaskQuery;
+import pro.taskana.task.api.models.TaskSummary;
+
+public class TaskQueryPagingParameter extends QueryPagingParameter<TaskSummary, TaskQuery> {
+
+  /**
+   * Request the Tasks after the given continuation token. The token is returned as 'nextCursor'
+   * of the previous page. Use the parameter without a value to request the first page. Unlike a
+   * requested 'page', the Tasks aren't counted and the response time doesn't depend on the depth
+   * of the page. Only the sort-by values ID, CREATED, MODIFIED, PLANNED, DUE, PRIORITY, STATE,
+   * DOMAIN, WORKBASKET_ID, WORKBASKET_KEY, CLASSIFICATION_KEY, POR_COMPANY, POR_TYPE and POR_VALUE
+   * are supported. This can't be combined with a requested 'page'.
+   */
+  @JsonProperty("cursor")
+  private final String cursor;
+
+  @JsonIgnore private String nextCursor;
+
+  @ConstructorProperties({"page", "page-size", "count", "cursor"})
+  public TaskQueryPagingParameter(Integer page, Integer pageSize, Boolean count, String cursor) {
+    super(page, pageSize, count);
+    this.cursor = cursor;
+    validatePagingParameters();
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  @Override
+  public List<TaskSummary> apply(TaskQuery query) {
+    if (cursor == null) {
+      return super.apply(query);
+    }
+    List<TaskSummary> taskSummaries =
+        query.listAfter(cursor.isEmpty() ? null : cursor, getPageSize());
+    if (!taskSummaries.isEmpty() && taskSummaries.size() == getPageSize()) {
+      nextCursor = query.createCursor(taskSummaries.get(taskSummaries.size() - 1));
+    }
+    return taskSummaries;
+  }
+
+  private void validatePagingParameters() {
+    if (getPage() != null && cursor != null) {
+      throw new InvalidArgumentException(
+          "Only one of the following can be provided: Either page or cursor");
+    }
+  }
+}
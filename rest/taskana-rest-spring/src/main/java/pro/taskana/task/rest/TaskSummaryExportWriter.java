@@ -0,0 +1,123 @@
+package pro.taskana.task.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import pro.taskana.task.api.models.TaskSummary;
+import pro.taskana.task.rest.TaskQueryExportParameter.TaskExportFormat;
+import pro.taskana.task.rest.assembler.TaskSummaryRepresentationModelAssembler;
+
+/** Writes Tasks one by one in the requested {@linkplain TaskExportFormat}. */
+class TaskSummaryExportWriter {
+
+  private static final String LINE_SEPARATOR = "\n";
+  private static final String CSV_SEPARATOR = ",";
+  // spreadsheet applications evaluate cells which start with one of these characters as formula
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private final Writer writer;
+  private final TaskExportFormat format;
+  private final ObjectMapper objectMapper;
+  private final TaskSummaryRepresentationModelAssembler assembler;
+
+  TaskSummaryExportWriter(
+      Writer writer,
+      TaskExportFormat format,
+      ObjectMapper objectMapper,
+      TaskSummaryRepresentationModelAssembler assembler) {
+    this.writer = writer;
+    this.format = format;
+    this.objectMapper = objectMapper;
+    this.assembler = assembler;
+  }
+
+  void writeHeader() throws IOException {
+    if (format == TaskExportFormat.CSV) {
+      writer.write(
+          Arrays.stream(CsvColumn.values())
+              .map(CsvColumn::getHeader)
+              .collect(Collectors.joining(CSV_SEPARATOR)));
+      writer.write(LINE_SEPARATOR);
+    }
+  }
+
+  /**
+   * Writes the given Task as one line.
+   *
+   * @param taskSummary the Task to write
+   * @throws UncheckedIOException if the Task can't be written
+   */
+  void write(TaskSummary taskSummary) {
+    try {
+      if (format == TaskExportFormat.CSV) {
+        writer.write(
+            Arrays.stream(CsvColumn.values())
+                .map(column -> column.extractor.apply(taskSummary))
+                .map(value -> value == null ? "" : escapeCsvValue(value))
+                .collect(Collectors.joining(CSV_SEPARATOR)));
+      } else {
+        writer.write(objectMapper.writeValueAsString(assembler.toModel(taskSummary)));
+      }
+      writer.write(LINE_SEPARATOR);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String escapeCsvValue(Object value) {
+    String text = value.toString();
+    // only texts can be entered by users; numbers like negative priorities stay numbers
+    if (value instanceof String
+        && !text.isEmpty()
+        && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+      text = "'" + text;
+    }
+    if (text.contains(CSV_SEPARATOR)
+        || text.contains("\"")
+        || text.contains("\n")
+        || text.contains("\r")) {
+      return "\"" + text.replace("\"", "\"\"") + "\"";
+    }
+    return text;
+  }
+
+  private enum CsvColumn {
+    TASK_ID("taskId", TaskSummary::getId),
+    EXTERNAL_ID("externalId", TaskSummary::getExternalId),
+    NAME("name", TaskSummary::getName),
+    STATE("state", TaskSummary::getState),
+    PRIORITY("priority", TaskSummary::getPriority),
+    CREATED("created", TaskSummary::getCreated),
+    MODIFIED("modified", TaskSummary::getModified),
+    PLANNED("planned", TaskSummary::getPlanned),
+    DUE("due", TaskSummary::getDue),
+    COMPLETED("completed", TaskSummary::getCompleted),
+    OWNER("owner", TaskSummary::getOwner),
+    WORKBASKET_KEY("workbasketKey", task -> task.getWorkbasketSummary().getKey()),
+    DOMAIN("domain", TaskSummary::getDomain),
+    CLASSIFICATION_KEY("classificationKey", task -> task.getClassificationSummary().getKey()),
+    BUSINESS_PROCESS_ID("businessProcessId", TaskSummary::getBusinessProcessId),
+    PARENT_BUSINESS_PROCESS_ID("parentBusinessProcessId", TaskSummary::getParentBusinessProcessId),
+    POR_COMPANY("porCompany", task -> task.getPrimaryObjRef().getCompany()),
+    POR_SYSTEM("porSystem", task -> task.getPrimaryObjRef().getSystem()),
+    POR_INSTANCE("porInstance", task -> task.getPrimaryObjRef().getSystemInstance()),
+    POR_TYPE("porType", task -> task.getPrimaryObjRef().getType()),
+    POR_VALUE("porValue", task -> task.getPrimaryObjRef().getValue());
+
+    private final String header;
+    private final Function<TaskSummary, Object> extractor;
+
+    CsvColumn(String header, Function<TaskSummary, Object> extractor) {
+      this.header = header;
+      this.extractor = extractor;
+    }
+
+    private String getHeader() {
+      return header;
+    }
+  }
+}
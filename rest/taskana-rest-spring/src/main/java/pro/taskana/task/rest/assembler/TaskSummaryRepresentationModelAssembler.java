@@ -2,9 +2,13 @@ package pro.taskana.task.rest.assembler;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.StreamSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import pro.taskana.classification.rest.assembler.ClassificationSummaryRepresentationModelAssembler;
 import pro.taskana.common.rest.assembler.CollectionRepresentationModelAssembler;
 import pro.taskana.common.rest.assembler.PagedRepresentationModelAssembler;
@@ -178,6 +182,34 @@ public class TaskSummaryRepresentationModelAssembler
     return taskSummary;
   }
 
+  /**
+   * Creates the paged model of a page which was requested with a cursor. If there may be more
+   * Tasks, the model contains the continuation token and a link to the next page.
+   *
+   * @param taskSummaries the Tasks of the page
+   * @param pageMetadata the page meta data
+   * @param nextCursor the continuation token of the next page or null
+   * @return the paged model
+   */
+  public TaskSummaryPagedRepresentationModel toPagedModel(
+      Iterable<TaskSummary> taskSummaries, PageMetadata pageMetadata, String nextCursor) {
+    if (nextCursor == null) {
+      return toPagedModel(taskSummaries, pageMetadata);
+    }
+    List<TaskSummaryRepresentationModel> content =
+        StreamSupport.stream(taskSummaries.spliterator(), false).map(this::toModel).toList();
+    TaskSummaryPagedRepresentationModel pagedModel =
+        addLinksToPagedModel(
+            new TaskSummaryPagedRepresentationModel(content, pageMetadata, nextCursor));
+    pagedModel.add(
+        Link.of(
+                ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .toUriString())
+            .withRel(IanaLinkRelations.NEXT));
+    return pagedModel;
+  }
+
   @Override
   public TaskSummaryPagedRepresentationModel buildPageableEntity(
       Collection<TaskSummaryRepresentationModel> content, PageMetadata pageMetadata) {
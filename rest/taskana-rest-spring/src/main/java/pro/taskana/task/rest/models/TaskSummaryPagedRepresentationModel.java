@@ -9,10 +9,29 @@ import pro.taskana.common.rest.models.PagedRepresentationModel;
 public class TaskSummaryPagedRepresentationModel
     extends PagedRepresentationModel<TaskSummaryRepresentationModel> {
 
-  @ConstructorProperties({"tasks", "page"})
+  /**
+   * The continuation token of the next page. It is only returned for a requested cursor if there
+   * may be more Tasks.
+   */
+  @JsonProperty("nextCursor")
+  private final String nextCursor;
+
   public TaskSummaryPagedRepresentationModel(
       Collection<TaskSummaryRepresentationModel> content, PageMetadata pageMetadata) {
+    this(content, pageMetadata, null);
+  }
+
+  @ConstructorProperties({"tasks", "page", "nextCursor"})
+  public TaskSummaryPagedRepresentationModel(
+      Collection<TaskSummaryRepresentationModel> content,
+      PageMetadata pageMetadata,
+      String nextCursor) {
     super(content, pageMetadata);
+    this.nextCursor = nextCursor;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
   }
 
   /** The embedded tasks. */
@@ -3,6 +3,7 @@ package pro.taskana.task.rest;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static pro.taskana.rest.test.RestHelper.TEMPLATE;
 
 import java.io.BufferedWriter;
@@ -13,6 +14,7 @@ import java.net.URL;
 import java.net.URLEncoder;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -32,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -42,6 +45,8 @@ import pro.taskana.TaskanaConfiguration;
 import pro.taskana.classification.rest.models.ClassificationSummaryRepresentationModel;
 import pro.taskana.common.internal.util.Pair;
 import pro.taskana.common.rest.RestEndpoints;
+import pro.taskana.common.rest.models.BulkOperationResultsRepresentationModel;
+import pro.taskana.common.rest.models.PageMetadata;
 import pro.taskana.rest.test.RestHelper;
 import pro.taskana.rest.test.TaskanaSpringBootTest;
 import pro.taskana.sampledata.SampleDataGenerator;
@@ -66,6 +71,9 @@ class TaskControllerIntTest {
       TASK_SUMMARY_PAGE_MODEL_TYPE = new ParameterizedTypeReference<>() {};
   private static final ParameterizedTypeReference<TaskSummaryCollectionRepresentationModel>
       TASK_SUMMARY_COLLECTION_MODEL_TYPE = new ParameterizedTypeReference<>() {};
+  private static final ParameterizedTypeReference<BulkOperationResultsRepresentationModel>
+      BULK_OPERATION_RESULTS_MODEL_TYPE =
+          ParameterizedTypeReference.forType(BulkOperationResultsRepresentationModel.class);
   private static final ParameterizedTypeReference<TaskRepresentationModel> TASK_MODEL_TYPE =
       ParameterizedTypeReference.forType(TaskRepresentationModel.class);
   private final RestHelper restHelper;
@@ -204,6 +212,135 @@ class TaskControllerIntTest {
       assertThat(response.getBody().getContent()).hasSize(22);
     }
 
+    @Test
+    void should_GetAllTasksPageByPage_When_FollowingTheNextCursor() {
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS)
+              + "?workbasket-id=WBI:100000000000000000000000000000000001"
+              + "&sort-by=DUE&order=DESCENDING&page-size=5&cursor";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      List<String> taskIds = new ArrayList<>();
+      TaskSummaryPagedRepresentationModel page;
+      do {
+        ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+            TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+        page = response.getBody();
+        assertThat(page).isNotNull();
+        assertThat(page.getPageMetadata()).isNull();
+        page.getContent().stream()
+            .map(TaskSummaryRepresentationModel::getTaskId)
+            .forEach(taskIds::add);
+        url = page.getLink(IanaLinkRelations.NEXT).map(Link::getHref).orElse(null);
+      } while (page.getNextCursor() != null);
+
+      assertThat(url).isNull();
+      assertThat(taskIds).hasSize(22).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void should_NotCountAllTasks_When_CountIsDisabled() {
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS)
+              + "?workbasket-id=WBI:100000000000000000000000000000000001"
+              + "&sort-by=DUE&page-size=5&page=2&count=false";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      ResponseEntity<TaskSummaryPagedRepresentationModel> response =
+          TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getContent()).hasSize(5);
+      assertThat(response.getBody().getPageMetadata())
+          .isEqualTo(new PageMetadata(5, 11, 3, 2));
+      assertThat(response.getBody().getLink(IanaLinkRelations.NEXT)).isPresent();
+    }
+
+    @Test
+    void should_ThrowException_When_PageAndCursorAreRequested() {
+      String url = restHelper.toUrl(RestEndpoints.URL_TASKS) + "?page-size=5&page=2&cursor";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      ThrowingCallable httpCall =
+          () -> TEMPLATE.exchange(url, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+
+      assertThatThrownBy(httpCall)
+          .isInstanceOf(HttpStatusCodeException.class)
+          .extracting(HttpStatusCodeException.class::cast)
+          .extracting(HttpStatusCodeException::getStatusCode)
+          .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void should_ExportAllTasksAsNdjson_When_FormatIsNotSpecified() {
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS_EXPORT)
+              + "?workbasket-id=WBI:100000000000000000000000000000000001";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      ResponseEntity<String> response = TEMPLATE.exchange(url, HttpMethod.GET, auth, String.class);
+
+      assertThat(response.getHeaders().getContentType())
+          .hasToString("application/x-ndjson;charset=UTF-8");
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().split("\n"))
+          .hasSize(22)
+          .allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+    }
+
+    @Test
+    void should_ExportAllTasksAsCsv_When_FormatIsCsv() {
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS_EXPORT)
+              + "?workbasket-id=WBI:100000000000000000000000000000000001&sort-by=DUE&format=CSV";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      ResponseEntity<String> response = TEMPLATE.exchange(url, HttpMethod.GET, auth, String.class);
+
+      assertThat(response.getHeaders().getContentType()).hasToString("text/csv;charset=UTF-8");
+      assertThat(response.getBody()).isNotNull();
+      String[] lines = response.getBody().split("\n");
+      assertThat(lines).hasSize(23);
+      assertThat(lines[0]).startsWith("taskId,externalId,name,state,priority");
+      assertThat(lines[1]).startsWith("TKI:");
+    }
+
+    @Test
+    void should_PrefixFormulasWithQuote_When_ExportingTasksAsCsv() {
+      TaskRepresentationModel taskRepresentationModel = getTaskResourceSample();
+      taskRepresentationModel.setName("=HYPERLINK(\"http://example.com\")");
+      ResponseEntity<TaskRepresentationModel> responseCreate =
+          TEMPLATE.exchange(
+              restHelper.toUrl(RestEndpoints.URL_TASKS),
+              HttpMethod.POST,
+              new HttpEntity<>(
+                  taskRepresentationModel, RestHelper.generateHeadersForUser("teamlead-1")),
+              TASK_MODEL_TYPE);
+      assertThat(responseCreate.getBody()).isNotNull();
+      String taskId = responseCreate.getBody().getTaskId();
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS_EXPORT)
+              + "?task-id="
+              + taskId
+              + "&format=CSV";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("teamlead-1"));
+
+      ResponseEntity<String> response = TEMPLATE.exchange(url, HttpMethod.GET, auth, String.class);
+
+      assertThat(response.getBody()).isNotNull();
+      String[] lines = response.getBody().split("\n");
+      assertThat(lines).hasSize(2);
+      assertThat(lines[1])
+          .startsWith(taskId + ",")
+          .contains(",\"'=HYPERLINK(\"\"http://example.com\"\")\",READY,");
+
+      TEMPLATE.exchange(
+          restHelper.toUrl(RestEndpoints.URL_TASKS_ID_FORCE, taskId),
+          HttpMethod.DELETE,
+          new HttpEntity<>(RestHelper.generateHeadersForUser("admin")),
+          ParameterizedTypeReference.forType(Void.class));
+    }
+
     @Test
     void should_GetAllTasks_For_SpecifiedWorkbasketIdWithinMultiplePlannedTimeIntervals() {
       Instant firstInstant = Instant.now().minus(7, ChronoUnit.DAYS);
@@ -1897,6 +2034,34 @@ class TaskControllerIntTest {
       assertThat((response.getBody()).getLink(IanaLinkRelations.SELF)).isNotNull();
       assertThat(response.getBody().getContent()).hasSize(3);
     }
+
+    @Test
+    void should_ReturnFailedIds_When_BulkDeletingTasks() {
+      String url =
+          restHelper.toUrl(RestEndpoints.URL_TASKS_BULK)
+              + "?task-id=TKI:000000000000000000000000000000000001"
+              + "&task-id=TKI:000000000000000000000000000000000040";
+      HttpEntity<Object> auth = new HttpEntity<>(RestHelper.generateHeadersForUser("admin"));
+
+      ResponseEntity<BulkOperationResultsRepresentationModel> response =
+          TEMPLATE.exchange(url, HttpMethod.DELETE, auth, BULK_OPERATION_RESULTS_MODEL_TYPE);
+
+      assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+      assertThat(response.getBody()).isNotNull();
+      assertThat(response.getBody().getFailedIds())
+          .containsExactly(
+              entry("TKI:000000000000000000000000000000000001", "TASK_INVALID_STATE"));
+      String remainingTasksUrl =
+          restHelper.toUrl(RestEndpoints.URL_TASKS)
+              + "?task-id=TKI:000000000000000000000000000000000001"
+              + "&task-id=TKI:000000000000000000000000000000000040";
+      ResponseEntity<TaskSummaryPagedRepresentationModel> remainingTasks =
+          TEMPLATE.exchange(remainingTasksUrl, HttpMethod.GET, auth, TASK_SUMMARY_PAGE_MODEL_TYPE);
+      assertThat(remainingTasks.getBody()).isNotNull();
+      assertThat(remainingTasks.getBody().getContent())
+          .extracting(TaskSummaryRepresentationModel::getTaskId)
+          .containsExactly("TKI:000000000000000000000000000000000001");
+    }
   }
 
   @Nested
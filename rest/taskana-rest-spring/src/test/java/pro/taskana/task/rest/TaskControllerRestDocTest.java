@@ -61,6 +61,17 @@ class TaskControllerRestDocTest extends BaseRestDocTest {
         .andExpect(MockMvcResultMatchers.status().isOk());
   }
 
+  @Test
+  void bulkDeleteTasksDocTest() throws Exception {
+    mockMvc
+        .perform(
+            delete(
+                RestEndpoints.URL_TASKS_BULK
+                    + "?task-id=TKI:000000000000000000000000000000000001"
+                    + "&task-id=TKI:000000000000000000000000000000000040"))
+        .andExpect(MockMvcResultMatchers.status().isOk());
+  }
+
   @Test
   void getSpecificTaskDocTest() throws Exception {
     mockMvc
@@ -2,11 +2,24 @@ package pro.taskana.routing.dmn;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnDecisionRuleResult;
 import org.camunda.bpm.dmn.engine.DmnDecisionTableResult;
 import org.camunda.bpm.dmn.engine.DmnEngine;
 import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
@@ -28,43 +41,77 @@ import pro.taskana.workbasket.api.WorkbasketService;
 import pro.taskana.workbasket.api.exceptions.NotAuthorizedOnWorkbasketException;
 import pro.taskana.workbasket.api.exceptions.WorkbasketNotFoundException;
 
+/**
+ * This TaskRoutingProvider determines the workbasket of a task with the decision table {@value
+ * #DECISION_ID} of the DMN file which is configured with {@value #DMN_TABLE_PROPERTY}.
+ *
+ * <p>The routing can be tuned with the following optional properties:
+ *
+ * <ul>
+ *   <li>{@value #RELOAD_INTERVAL_PROPERTY}: the DMN file is read again after this interval (e.g.
+ *       PT30S). If its content has changed, the new decision table is used without a restart of
+ *       the TASKANA engine.
+ *   <li>{@value #RESULT_CACHE_ATTRIBUTES_PROPERTY}: the task attributes which are used by the
+ *       decision table, separated by '|' (e.g. primaryObjRef.value | primaryObjRef.type). If they
+ *       are configured, the decision table is evaluated only once per combination of their values.
+ *       All attributes which are used by the decision table have to be listed here.
+ * </ul>
+ *
+ * <p>The workbasket which belongs to the resulting key and domain is still read from the
+ * {@linkplain WorkbasketService}, so that the permissions of the current user are checked for every
+ * task. Configure taskana.workbasket.cacheExpiration to avoid a database access per task.
+ */
 public class DmnTaskRouter implements TaskRoutingProvider {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DmnTaskRouter.class);
   private static final String DMN_TABLE_PROPERTY = "taskana.routing.dmn";
+  private static final String RELOAD_INTERVAL_PROPERTY = "taskana.routing.dmn.reloadInterval";
+  private static final String RESULT_CACHE_ATTRIBUTES_PROPERTY =
+      "taskana.routing.dmn.resultCache.attributes";
+  private static final String ATTRIBUTE_SEPARATOR = "|";
+  private static final int MAX_CACHED_RESULTS = 10_000;
+  private static final Pair<String, String> NO_RESULT = Pair.of(null, null);
 
   private static final String DECISION_ID = "workbasketRouting";
   private static final String DECISION_VARIABLE_MAP_NAME = "task";
   private static final String OUTPUT_WORKBASKET_KEY = "workbasketKey";
   private static final String OUTPUT_DOMAIN = "domain";
+  private final Map<Pair<Class<?>, String>, Method> getters = new ConcurrentHashMap<>();
+  private final AtomicReference<Instant> nextReloadCheck = new AtomicReference<>(Instant.MAX);
+  private final LongAdder decisionTableEvaluations = new LongAdder();
   private TaskanaEngine taskanaEngine;
   private DmnEngine dmnEngine;
-  private DmnDecision decision;
+  private Duration reloadInterval;
+  private List<String[]> resultCacheAttributes;
+  private volatile RoutingModel routingModel;
 
   @Override
   public void initialize(TaskanaEngine taskanaEngine) {
     this.taskanaEngine = taskanaEngine;
     dmnEngine = DmnEngineConfiguration.createDefaultDmnEngineConfiguration().buildEngine();
+    Map<String, String> properties = taskanaEngine.getConfiguration().getProperties();
+    reloadInterval = parseReloadInterval(properties.get(RELOAD_INTERVAL_PROPERTY));
+    resultCacheAttributes =
+        parseResultCacheAttributes(properties.get(RESULT_CACHE_ATTRIBUTES_PROPERTY));
 
-    DmnModelInstance dmnModel = readModelFromDmnTable();
+    routingModel = createRoutingModel(readModelFromDmnTable());
+    decisionTableEvaluations.reset();
 
-    decision = dmnEngine.parseDecision(DECISION_ID, dmnModel);
-
-    validateOutputs(dmnModel);
+    nextReloadCheck.set(reloadInterval == null ? Instant.MAX : Instant.now().plus(reloadInterval));
   }
 
   @Override
   public String determineWorkbasketId(Task task) {
-    VariableMap variables = Variables.putValue(DECISION_VARIABLE_MAP_NAME, task);
+    reloadDmnTableIfChanged();
 
-    DmnDecisionTableResult result = dmnEngine.evaluateDecisionTable(decision, variables);
+    Pair<String, String> workbasketKeyAndDomain = evaluateDecision(routingModel, task);
 
-    if (result.getSingleResult() == null) {
+    if (workbasketKeyAndDomain == NO_RESULT) {
       return null;
     }
 
-    String workbasketKey = result.getSingleResult().getEntry(OUTPUT_WORKBASKET_KEY);
-    String domain = result.getSingleResult().getEntry(OUTPUT_DOMAIN);
+    String workbasketKey = workbasketKeyAndDomain.getLeft();
+    String domain = workbasketKeyAndDomain.getRight();
 
     try {
 
@@ -108,6 +155,109 @@ public class DmnTaskRouter implements TaskRoutingProvider {
     }
   }
 
+  /**
+   * Returns how often the decision table has been evaluated since the last initialization.
+   * Decisions which are taken from the result cache are not counted.
+   *
+   * @return the number of evaluations of the decision table
+   */
+  long getDecisionTableEvaluations() {
+    return decisionTableEvaluations.sum();
+  }
+
+  private RoutingModel createRoutingModel(DmnModelInstance dmnModel) {
+    DmnDecision decision = dmnEngine.parseDecision(DECISION_ID, dmnModel);
+
+    validateOutputs(dmnModel);
+
+    return new RoutingModel(Dmn.convertToString(dmnModel), decision);
+  }
+
+  private void reloadDmnTableIfChanged() {
+    Instant now = Instant.now();
+    Instant next = nextReloadCheck.get();
+    if (next.isAfter(now) || !nextReloadCheck.compareAndSet(next, now.plus(reloadInterval))) {
+      return;
+    }
+    try {
+      DmnModelInstance dmnModel = readModelFromDmnTable();
+      if (!Dmn.convertToString(dmnModel).equals(routingModel.dmnTable)) {
+        routingModel = createRoutingModel(dmnModel);
+        LOGGER.info("Reloaded the changed dmn file for the task routing.");
+      }
+    } catch (RuntimeException e) {
+      // the routing has to go on with the last valid decision table
+      LOGGER.error("Could not reload the dmn file. The previous decision table is still used.", e);
+    }
+  }
+
+  private Pair<String, String> evaluateDecision(RoutingModel routingModel, Task task) {
+    if (resultCacheAttributes.isEmpty()) {
+      return evaluateDecisionTable(routingModel.decision, task);
+    }
+    List<Object> attributeValues =
+        resultCacheAttributes.stream()
+            .map(attribute -> readAttribute(task, attribute))
+            .collect(Collectors.toCollection(ArrayList::new));
+    Pair<String, String> result = routingModel.results.get(attributeValues);
+    if (result == null) {
+      result = evaluateDecisionTable(routingModel.decision, task);
+      if (routingModel.results.size() >= MAX_CACHED_RESULTS) {
+        routingModel.results.clear();
+      }
+      routingModel.results.put(attributeValues, result);
+    }
+    return result;
+  }
+
+  private Pair<String, String> evaluateDecisionTable(DmnDecision decision, Task task) {
+    VariableMap variables = Variables.putValue(DECISION_VARIABLE_MAP_NAME, task);
+
+    DmnDecisionTableResult result = dmnEngine.evaluateDecisionTable(decision, variables);
+    decisionTableEvaluations.increment();
+
+    DmnDecisionRuleResult singleResult = result.getSingleResult();
+    if (singleResult == null) {
+      return NO_RESULT;
+    }
+    return Pair.of(
+        singleResult.getEntry(OUTPUT_WORKBASKET_KEY), singleResult.getEntry(OUTPUT_DOMAIN));
+  }
+
+  private Object readAttribute(Task task, String[] attribute) {
+    Object value = task;
+    for (int i = 0; i < attribute.length && value != null; i++) {
+      Method getter =
+          getters.computeIfAbsent(Pair.of(value.getClass(), attribute[i]), this::findGetter);
+      try {
+        value = getter.invoke(value);
+      } catch (IllegalAccessException | InvocationTargetException e) {
+        throw new SystemException(
+            String.format(
+                "Could not read the attribute '%s' of the task for the routing.",
+                String.join(".", attribute)),
+            e);
+      }
+    }
+    return value;
+  }
+
+  private Method findGetter(Pair<Class<?>, String> classAndProperty) {
+    String property = classAndProperty.getRight();
+    String capitalizedProperty = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    for (String prefix : List.of("get", "is")) {
+      try {
+        return classAndProperty.getLeft().getMethod(prefix + capitalizedProperty);
+      } catch (NoSuchMethodException e) {
+        // try the next prefix
+      }
+    }
+    throw new SystemException(
+        String.format(
+            "The attribute '%s' configured in %s does not exist in %s.",
+            property, RESULT_CACHE_ATTRIBUTES_PROPERTY, classAndProperty.getLeft().getName()));
+  }
+
   private void validateOutputs(DmnModelInstance dmnModel) {
     Set<Pair<String, String>> allWorkbasketAndDomainOutputs =
         getAllWorkbasketAndDomainOutputs(dmnModel);
@@ -139,4 +289,41 @@ public class DmnTaskRouter implements TaskRoutingProvider {
           });
     }
   }
+
+  private static Duration parseReloadInterval(String reloadInterval) {
+    if (reloadInterval == null || reloadInterval.isBlank()) {
+      return null;
+    }
+    Duration duration = Duration.parse(reloadInterval.trim());
+    if (duration.isNegative() || duration.isZero()) {
+      throw new SystemException(
+          String.format("%s must be a positive duration.", RELOAD_INTERVAL_PROPERTY));
+    }
+    return duration;
+  }
+
+  private static List<String[]> parseResultCacheAttributes(String resultCacheAttributes) {
+    if (resultCacheAttributes == null || resultCacheAttributes.isBlank()) {
+      return Collections.emptyList();
+    }
+    return Arrays.stream(resultCacheAttributes.split(Pattern.quote(ATTRIBUTE_SEPARATOR)))
+        .map(String::trim)
+        .filter(attribute -> !attribute.isEmpty())
+        .map(attribute -> attribute.split(Pattern.quote(".")))
+        .collect(Collectors.toList());
+  }
+
+  /** The parsed decision table and the decisions which have been cached for it. */
+  private static class RoutingModel {
+
+    private final String dmnTable;
+    private final DmnDecision decision;
+    // the keys may contain null values. Therefore, List.of can't be used
+    private final Map<List<Object>, Pair<String, String>> results = new ConcurrentHashMap<>();
+
+    private RoutingModel(String dmnTable, DmnDecision decision) {
+      this.dmnTable = dmnTable;
+      this.decision = decision;
+    }
+  }
 }
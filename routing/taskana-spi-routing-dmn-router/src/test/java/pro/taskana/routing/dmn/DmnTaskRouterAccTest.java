@@ -5,13 +5,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestClassification;
 import static pro.taskana.testapi.DefaultTestEntities.defaultTestWorkbasket;
 
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import pro.taskana.TaskanaConfiguration;
 import pro.taskana.classification.api.ClassificationService;
 import pro.taskana.classification.api.models.ClassificationSummary;
@@ -49,6 +54,7 @@ class DmnTaskRouterAccTest {
   @TaskanaInject UserService userService;
   @TaskanaInject TaskanaEngine taskanaEngine;
   @TaskanaInject InternalTaskanaEngine internalTaskanaEngine;
+  @TempDir Path tempDir;
 
   ClassificationSummary defaultClassificationSummary;
   WorkbasketSummary defaultWorkbasketSummary;
@@ -114,6 +120,70 @@ class DmnTaskRouterAccTest {
         .isEqualTo("Cannot create a Task outside a Workbasket");
   }
 
+  @WithAccessId(user = "taskadmin")
+  @Test
+  void should_RouteTaskWithChangedDmnTable_When_DmnFileIsReloaded() throws Exception {
+    Path dmnFile = tempDir.resolve("routing.dmn");
+    String dmnTable = readDmnTable("/dmn-table.dmn");
+    Files.writeString(dmnFile, dmnTable);
+    changeRoutingProperties(
+        Map.of(
+            "taskana.routing.dmn", dmnFile.toString(),
+            "taskana.routing.dmn.reloadInterval", "PT0.001S"));
+    try {
+      reinitializeTaskRoutingProviders();
+      Task routedTask = taskService.createTask(createTaskToRoute("00000001", "MyType1"));
+      assertThat(routedTask.getWorkbasketKey()).isEqualTo("GPK_KSC");
+
+      Files.writeString(dmnFile, dmnTable.replace("\"GPK_KSC\"", "\"GPK_KSC_2\""));
+      Thread.sleep(10);
+
+      routedTask = taskService.createTask(createTaskToRoute("00000001", "MyType1"));
+      assertThat(routedTask.getWorkbasketKey()).isEqualTo("GPK_KSC_2");
+    } finally {
+      changeDmnTable("/dmn-table.dmn");
+      reinitializeTaskRoutingProviders();
+    }
+  }
+
+  @WithAccessId(user = "taskadmin")
+  @Test
+  void should_RouteTasksToCorrectWorkbaskets_When_DecisionsAreCached() throws Exception {
+    changeRoutingProperties(
+        Map.of(
+            "taskana.routing.dmn", "/dmn-table.dmn",
+            "taskana.routing.dmn.resultCache.attributes",
+            "primaryObjRef.value | primaryObjRef.type"));
+    try {
+      reinitializeTaskRoutingProviders();
+
+      Task routedTask = taskService.createTask(createTaskToRoute("00000001", "MyType1"));
+      Task routedTaskWithCachedDecision =
+          taskService.createTask(createTaskToRoute("00000001", "MyType1"));
+      Task routedTaskWithOtherType =
+          taskService.createTask(createTaskToRoute("00000001", "MyType2"));
+      Task routedTaskWithOtherValue =
+          taskService.createTask(createTaskToRoute("00000002", "MyType1"));
+
+      assertThat(routedTask.getWorkbasketKey()).isEqualTo("GPK_KSC");
+      assertThat(routedTaskWithCachedDecision.getWorkbasketKey()).isEqualTo("GPK_KSC");
+      assertThat(routedTaskWithOtherType.getWorkbasketKey()).isEqualTo("GPK_KSC_1");
+      assertThat(routedTaskWithOtherValue.getWorkbasketKey()).isEqualTo("GPK_KSC_2");
+      assertThat(getDmnTaskRouter().getDecisionTableEvaluations()).isEqualTo(3);
+    } finally {
+      changeDmnTable("/dmn-table.dmn");
+      reinitializeTaskRoutingProviders();
+    }
+  }
+
+  Task createTaskToRoute(String objectReferenceValue, String objectReferenceType) {
+    Task taskToRoute = taskService.newTask();
+    taskToRoute.setClassificationKey(defaultClassificationSummary.getKey());
+    taskToRoute.setPrimaryObjRef(
+        createObjectReference("company", null, null, objectReferenceType, objectReferenceValue));
+    return taskToRoute;
+  }
+
   ObjectReference createObjectReference(
       String company, String system, String systemInstance, String type, String value) {
     return ObjectReferenceBuilder.newObjectReference()
@@ -126,15 +196,24 @@ class DmnTaskRouterAccTest {
   }
 
   private void changeDmnTable(String newPath) throws Exception {
-    Map<String, String> mutableProperties = new HashMap<>();
     String dmnTableProperty = "taskana.routing.dmn";
-    mutableProperties.put(dmnTableProperty, newPath);
+    changeRoutingProperties(Map.of(dmnTableProperty, newPath));
+  }
+
+  private void changeRoutingProperties(Map<String, String> routingProperties) throws Exception {
+    Map<String, String> mutableProperties = new HashMap<>(routingProperties);
     Field property = taskanaConfiguration.getClass().getDeclaredField("properties");
     property.setAccessible(true);
     property.set(taskanaConfiguration, mutableProperties);
     property.setAccessible(false);
   }
 
+  private String readDmnTable(String path) throws Exception {
+    try (InputStream stream = getClass().getResourceAsStream(path)) {
+      return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
   private Object getProperty(String declaredField, Object object) throws Exception {
     Field property = object.getClass().getDeclaredField(declaredField);
     property.setAccessible(true);
@@ -152,6 +231,13 @@ class DmnTaskRouterAccTest {
     }
   }
 
+  private DmnTaskRouter getDmnTaskRouter() throws Exception {
+    TaskRoutingManager taskRoutingManager = internalTaskanaEngine.getTaskRoutingManager();
+    List<TaskRoutingProvider> taskRoutingProviders =
+        (List<TaskRoutingProvider>) getProperty("taskRoutingProviders", taskRoutingManager);
+    return (DmnTaskRouter) taskRoutingProviders.get(0);
+  }
+
   private WorkbasketBuilder createWorkbasketWithDomainA(String key) {
     return WorkbasketBuilder.newWorkbasket()
         .key(key)